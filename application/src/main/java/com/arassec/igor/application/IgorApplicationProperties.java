@@ -1,5 +1,6 @@
 package com.arassec.igor.application;
 
+import com.arassec.igor.core.model.job.concurrent.ThreadType;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -17,6 +18,16 @@ public class IgorApplicationProperties {
      */
     private int jobQueueSize = 5;
 
+    /**
+     * The type of threads jobs and their actions are executed with.
+     */
+    private ThreadType threadType = ThreadType.PLATFORM;
+
+    /**
+     * Deletes old job-executions in the background instead of while enqueueing jobs.
+     */
+    private boolean asyncHistoryCleanup = false;
+
     /**
      * Type ID of the default trigger to use for new jobs.
      */
@@ -7,7 +7,6 @@ import com.arassec.igor.core.model.job.execution.JobExecutionState;
 import com.arassec.igor.core.model.trigger.EventTrigger;
 import com.arassec.igor.core.repository.JobExecutionRepository;
 import com.arassec.igor.core.repository.JobRepository;
-import com.arassec.igor.core.util.ModelPage;
 import com.arassec.igor.core.util.event.JobEvent;
 import com.arassec.igor.core.util.event.JobEventType;
 import com.arassec.igor.core.util.event.JobTriggerEvent;
@@ -18,23 +17,34 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Executes jobs and keeps track of their state. Prevents parallel execution of the same job and limits the total number of jobs
  * running in parallel.
+ * <p>
+ * Waiting job-executions are kept in memory and started as soon as they are enqueued or a running job finishes. The database
+ * only stores them for durability, see {@link com.arassec.igor.application.manager.JobManager}.
+ * <p>
+ * The lock only guards the in-memory bookkeeping. Repositories are accessed and events are published after it has been released,
+ * so that slow database access doesn't block enqueueing, cancelling or finishing other jobs.
  */
 @Slf4j
 @Component
 public class JobExecutor {
 
+    /**
+     * Orders waiting job-executions by their creation time, i.e. jobs are started in the order they have been enqueued.
+     */
+    private static final Comparator<JobExecution> WAITING_ORDER = Comparator.comparing(JobExecution::getCreated,
+            Comparator.nullsLast(Comparator.naturalOrder())).thenComparing(JobExecution::getId,
+            Comparator.nullsLast(Comparator.naturalOrder()));
+
     /**
      * Igor's application configuration properties.
      */
@@ -51,9 +61,9 @@ public class JobExecutor {
     private final JobExecutionRepository jobExecutionRepository;
 
     /**
-     * The {@link ThreadPoolExecutor} to run the jobs.
+     * The {@link ExecutorService} to run the jobs.
      */
-    private final ThreadPoolExecutor threadPoolExecutor;
+    private final ExecutorService executorService;
 
     /**
      * Contains the futures of currently running or active jobs.
@@ -65,6 +75,23 @@ public class JobExecutor {
      */
     private final Map<String, Job> currentlyProcessedJobs = new HashMap<>();
 
+    /**
+     * Contains the job-executions waiting for a free slot.
+     */
+    private final Queue<JobExecution> waitingJobExecutions = new PriorityQueue<>(WAITING_ORDER);
+
+    /**
+     * Contains the job-executions that have been assigned a slot and whose jobs are being loaded, indexed by their job's ID.
+     * Removing an execution from this map prevents it from being started.
+     */
+    private final Map<String, JobExecution> startingJobExecutions = new HashMap<>();
+
+    /**
+     * Guards the waiting and currently processed jobs, which are modified by the scheduler, by callers enqueueing jobs and by
+     * finishing jobs.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
     /**
      * Publisher for events based on job changes.
      */
@@ -84,57 +111,83 @@ public class JobExecutor {
         this.jobRepository = jobRepository;
         this.jobExecutionRepository = jobExecutionRepository;
         this.applicationEventPublisher = applicationEventPublisher;
-        threadPoolExecutor = (ThreadPoolExecutor) Executors
-                .newFixedThreadPool(igorApplicationProperties.getJobQueueSize(), runnable -> new Thread(runnable, "job-executor-thread"));
+        executorService = igorApplicationProperties.getThreadType()
+                .createExecutor(igorApplicationProperties.getJobQueueSize(), "job-executor-thread", null);
+    }
+
+    /**
+     * Adds the supplied job-execution to the waiting job-executions and starts it immediately, if a slot is available.
+     *
+     * @param jobExecution The job-execution in state {@link JobExecutionState#WAITING}.
+     */
+    public void enqueue(JobExecution jobExecution) {
+        if (jobExecution == null || jobExecution.getJobId() == null) {
+            throw new IllegalArgumentException("Cannot enqueue a job-execution without a job ID!");
+        }
+        lock.lock();
+        try {
+            waitingJobExecutions.add(jobExecution);
+        } finally {
+            lock.unlock();
+        }
+        startWaitingJobs();
+    }
+
+    /**
+     * Removes a waiting job-execution, so that it won't be started.
+     *
+     * @param jobExecutionId The job-execution's ID.
+     *
+     * @return {@code true}, if the job-execution was waiting, {@code false} otherwise.
+     */
+    public boolean dequeue(Long jobExecutionId) {
+        lock.lock();
+        try {
+            return waitingJobExecutions.removeIf(jobExecution -> Objects.equals(jobExecutionId, jobExecution.getId()))
+                    || startingJobExecutions.values().removeIf(jobExecution -> Objects.equals(jobExecutionId, jobExecution.getId()));
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
-     * Polls the job execution queue every second and handles job states.
+     * Handles job states every second. Sends updates on running and waiting jobs to clients, and serves as safety net to start
+     * waiting jobs.
      */
     @Scheduled(fixedDelay = 1000)
     public void update() {
-
         // First check the state of the running jobs:
-        currentlyProcessedJobFutures.removeIf(this::processFinished);
+        processFinishedJobs();
 
         // Send updates on running jobs to clients:
-        currentlyProcessedJobs.forEach((key, value) -> applicationEventPublisher.publishEvent(
-                new JobEvent(JobEventType.STATE_REFRESH, value)));
-
-        // Check if we can run another job:
-        int freeSlots = igorApplicationProperties.getJobQueueSize() - currentlyProcessedJobs.size();
-
-        ModelPage<JobExecution> waitingJobExecutions = jobExecutionRepository
-                .findInState(JobExecutionState.WAITING, 0, Integer.MAX_VALUE);
+        List<Job> processedJobs;
+        lock.lock();
+        try {
+            processedJobs = new ArrayList<>(currentlyProcessedJobs.values());
+        } finally {
+            lock.unlock();
+        }
+        processedJobs.forEach(job -> applicationEventPublisher.publishEvent(new JobEvent(JobEventType.STATE_REFRESH, job)));
 
-        for (JobExecution jobExecution : waitingJobExecutions.getItems()) {
-            var job = jobRepository.findById(jobExecution.getJobId());
-            if (job == null) {
-                continue;
-            }
-            if (freeSlots > 0 && !currentlyProcessedJobs.containsKey(jobExecution.getJobId())) {
+        startWaitingJobs();
 
-                if (job.getTrigger() instanceof EventTrigger) {
-                    jobExecution.setExecutionState(JobExecutionState.ACTIVE);
-                } else {
-                    jobExecution.setExecutionState(JobExecutionState.RUNNING);
-                }
-
-                jobExecution.setStarted(Instant.now());
-                currentlyProcessedJobs.put(job.getId(), job);
-                currentlyProcessedJobFutures.add(threadPoolExecutor.submit(new JobRunningCallable(job, jobExecution)));
-                jobExecutionRepository.upsert(jobExecution);
-                applicationEventPublisher.publishEvent(new JobEvent(JobEventType.STATE_CHANGE, job));
-                freeSlots--;
-            } else {
-                // Send updates on waiting jobs to clients:
-                applicationEventPublisher.publishEvent(new JobEvent(JobEventType.STATE_REFRESH, job));
-            }
+        // Send updates on waiting jobs to clients:
+        Set<String> waitingJobIds = new LinkedHashSet<>();
+        lock.lock();
+        try {
+            waitingJobExecutions.stream().sorted(WAITING_ORDER).forEach(jobExecution -> waitingJobIds.add(jobExecution.getJobId()));
+        } finally {
+            lock.unlock();
         }
+        waitingJobIds.stream()
+                .map(jobRepository::findById)
+                .filter(Objects::nonNull)
+                .forEach(job -> applicationEventPublisher.publishEvent(new JobEvent(JobEventType.STATE_REFRESH, job)));
     }
 
     /**
-     * Cancels a running job.
+     * Cancels a running job and removes waiting executions of the job. The removed executions are marked as cancelled in the
+     * database, so that the job can be enqueued again.
      *
      * @param jobId The job's ID.
      */
@@ -142,8 +195,28 @@ public class JobExecutor {
         if (jobId == null) {
             throw new IllegalArgumentException("Cannot cancel a job without a job ID!");
         }
-        if (currentlyProcessedJobs.containsKey(jobId)) {
-            var job = currentlyProcessedJobs.get(jobId);
+        List<JobExecution> cancelledJobExecutions = new LinkedList<>();
+        Job job;
+        lock.lock();
+        try {
+            waitingJobExecutions.removeIf(jobExecution -> jobId.equals(jobExecution.getJobId())
+                    && cancelledJobExecutions.add(jobExecution));
+            var startingJobExecution = startingJobExecutions.remove(jobId);
+            if (startingJobExecution != null) {
+                cancelledJobExecutions.add(startingJobExecution);
+            }
+            job = currentlyProcessedJobs.get(jobId);
+        } finally {
+            lock.unlock();
+        }
+        // The database is updated outside the lock, to not block the scheduler and finishing jobs:
+        cancelledJobExecutions.forEach(jobExecution -> {
+            jobExecution.setExecutionState(JobExecutionState.CANCELLED);
+            jobExecution.setFinished(Instant.now());
+            jobExecutionRepository.upsert(jobExecution);
+        });
+        // Cancelling waits for the job to finish, which requires the lock:
+        if (job != null) {
             job.cancel();
             applicationEventPublisher.publishEvent(new JobEvent(JobEventType.STATE_CHANGE, job));
         }
@@ -156,12 +229,18 @@ public class JobExecutor {
      */
     @EventListener
     public void onJobTriggerEvent(JobTriggerEvent jobTriggerEvent) {
-        currentlyProcessedJobs.values().stream()
-                .filter(job -> job.getId().equals(jobTriggerEvent.jobId()))
-                .filter(job -> job.getTrigger() instanceof EventTrigger)
-                .filter(job -> ((EventTrigger) job.getTrigger()).getSupportedEventType().equals(jobTriggerEvent.eventType()))
-                .findFirst()
-                .ifPresent(job -> ((EventTrigger) job.getTrigger()).processEvent(jobTriggerEvent.eventData()));
+        Optional<Job> triggeredJob;
+        lock.lock();
+        try {
+            triggeredJob = currentlyProcessedJobs.values().stream()
+                    .filter(job -> job.getId().equals(jobTriggerEvent.jobId()))
+                    .filter(job -> job.getTrigger() instanceof EventTrigger)
+                    .filter(job -> ((EventTrigger) job.getTrigger()).getSupportedEventType().equals(jobTriggerEvent.eventType()))
+                    .findFirst();
+        } finally {
+            lock.unlock();
+        }
+        triggeredJob.ifPresent(job -> ((EventTrigger) job.getTrigger()).processEvent(jobTriggerEvent.eventData()));
     }
 
     /**
@@ -172,40 +251,162 @@ public class JobExecutor {
      * @return The {@link JobExecution} or {@code null}, if none could be found.
      */
     public JobExecution getJobExecution(String jobId) {
-        if (currentlyProcessedJobs.containsKey(jobId)) {
-            return currentlyProcessedJobs.get(jobId).getCurrentJobExecution();
+        lock.lock();
+        try {
+            if (currentlyProcessedJobs.containsKey(jobId)) {
+                return currentlyProcessedJobs.get(jobId).getCurrentJobExecution();
+            }
+            return null;
+        } finally {
+            lock.unlock();
         }
-        return null;
     }
 
     /**
-     * Checks whether the supplied job finished its work or not.
-     *
-     * @param jobFuture The future containing the running job.
+     * Starts waiting jobs in the order they have been enqueued, as long as slots are available. Executions of jobs that are
+     * currently processed remain waiting. Must be called without holding the lock.
+     */
+    private void startWaitingJobs() {
+        boolean slotReleased;
+        do {
+            List<JobExecution> startableJobExecutions = reserveSlots();
+            slotReleased = false;
+            for (JobExecution jobExecution : startableJobExecutions) {
+                var job = jobRepository.findById(jobExecution.getJobId());
+                if (!start(job, jobExecution)) {
+                    // The job has been deleted or cancelled in the meantime, and its slot can be used by another job:
+                    slotReleased = true;
+                }
+            }
+        } while (slotReleased);
+    }
+
+    /**
+     * Assigns free slots to waiting job-executions, in the order they have been enqueued. Executions of jobs that are currently
+     * processed or started remain waiting.
      *
-     * @return {@code true}, if the job has finished, {@code false} otherwise.
+     * @return The job-executions that can be started.
      */
-    private boolean processFinished(Future<Job> jobFuture) {
+    private List<JobExecution> reserveSlots() {
+        List<JobExecution> result = new LinkedList<>();
+        lock.lock();
         try {
-            if (jobFuture.isDone()) {
-                var job = jobFuture.get();
-                var jobExecution = job.getCurrentJobExecution();
-                if (JobExecutionState.FINISHED.equals(jobExecution.getExecutionState())
-                        && job.isFaultTolerant()) {
-                    jobExecutionRepository.updateAllJobExecutionsOfJob(job.getId(), JobExecutionState.FAILED, JobExecutionState.RESOLVED);
+            int freeSlots = igorApplicationProperties.getJobQueueSize() - currentlyProcessedJobs.size()
+                    - startingJobExecutions.size();
+
+            List<JobExecution> blockedJobExecutions = new LinkedList<>();
+            while (freeSlots > 0 && !waitingJobExecutions.isEmpty()) {
+                var jobExecution = waitingJobExecutions.poll();
+                if (currentlyProcessedJobs.containsKey(jobExecution.getJobId())
+                        || startingJobExecutions.containsKey(jobExecution.getJobId())) {
+                    blockedJobExecutions.add(jobExecution);
+                    continue;
                 }
-                jobExecutionRepository.upsert(jobExecution);
+                startingJobExecutions.put(jobExecution.getJobId(), jobExecution);
+                result.add(jobExecution);
+                freeSlots--;
+            }
+            waitingJobExecutions.addAll(blockedJobExecutions);
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Starts the supplied job in its reserved slot. When the job finishes, its slot is released and waiting jobs are started.
+     *
+     * @param job          The job to start. {@code null}, if the job has been deleted in the meantime.
+     * @param jobExecution The job's execution.
+     *
+     * @return {@code true}, if the job has been started, {@code false} if the job-execution has been cancelled or the job
+     * has been deleted in the meantime.
+     */
+    private boolean start(Job job, JobExecution jobExecution) {
+        lock.lock();
+        try {
+            if (!startingJobExecutions.remove(jobExecution.getJobId(), jobExecution) || job == null) {
+                return false;
+            }
+            if (job.getTrigger() instanceof EventTrigger) {
+                jobExecution.setExecutionState(JobExecutionState.ACTIVE);
+            } else {
+                jobExecution.setExecutionState(JobExecutionState.RUNNING);
+            }
+            jobExecution.setStarted(Instant.now());
+            currentlyProcessedJobs.put(job.getId(), job);
+        } finally {
+            lock.unlock();
+        }
+
+        // The new state is persisted before the job runs. Otherwise, it could overwrite the state of an already finished job:
+        jobExecutionRepository.upsert(jobExecution);
+
+        CompletableFuture<Job> jobFuture;
+        lock.lock();
+        try {
+            var jobRunningCallable = new JobRunningCallable(job, jobExecution, igorApplicationProperties.getThreadType());
+            jobFuture = CompletableFuture.supplyAsync(jobRunningCallable::call, executorService);
+            currentlyProcessedJobFutures.add(jobFuture);
+        } finally {
+            lock.unlock();
+        }
+        jobFuture.whenComplete((finishedJob, throwable) -> jobFinished());
+
+        applicationEventPublisher.publishEvent(new JobEvent(JobEventType.STATE_CHANGE, job));
+        return true;
+    }
+
+    /**
+     * Called after a job finished. Releases the job's slot and starts waiting jobs.
+     */
+    private void jobFinished() {
+        processFinishedJobs();
+        startWaitingJobs();
+    }
+
+    /**
+     * Persists the executions of finished jobs and releases their slots.
+     */
+    private void processFinishedJobs() {
+        List<Future<Job>> finishedJobFutures = new LinkedList<>();
+        lock.lock();
+        try {
+            currentlyProcessedJobFutures.removeIf(jobFuture -> jobFuture.isDone() && finishedJobFutures.add(jobFuture));
+        } finally {
+            lock.unlock();
+        }
+        finishedJobFutures.forEach(this::processFinished);
+    }
+
+    /**
+     * Persists the execution of a finished job and releases the job's slot. The slot is released after the execution has been
+     * persisted, so that another execution of the job isn't started before.
+     *
+     * @param jobFuture The future containing the finished job.
+     */
+    private void processFinished(Future<Job> jobFuture) {
+        try {
+            var job = jobFuture.get();
+            var jobExecution = job.getCurrentJobExecution();
+            if (JobExecutionState.FINISHED.equals(jobExecution.getExecutionState())
+                    && job.isFaultTolerant()) {
+                jobExecutionRepository.updateAllJobExecutionsOfJob(job.getId(), JobExecutionState.FAILED, JobExecutionState.RESOLVED);
+            }
+            jobExecutionRepository.upsert(jobExecution);
+            lock.lock();
+            try {
                 currentlyProcessedJobs.remove(job.getId());
-                applicationEventPublisher.publishEvent(new JobEvent(JobEventType.STATE_CHANGE, job));
-                return true;
+            } finally {
+                lock.unlock();
             }
+            applicationEventPublisher.publishEvent(new JobEvent(JobEventType.STATE_CHANGE, job));
         } catch (InterruptedException e) {
             log.error("Interrupted during job execution!", e);
             Thread.currentThread().interrupt();
         } catch (ExecutionException e) {
             log.warn("Exception during job execution!", e);
         }
-        return false;
     }
 
 }
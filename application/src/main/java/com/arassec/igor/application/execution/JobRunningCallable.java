@@ -1,6 +1,7 @@
 package com.arassec.igor.application.execution;
 
 import com.arassec.igor.core.model.job.Job;
+import com.arassec.igor.core.model.job.concurrent.ThreadType;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 
 import java.util.concurrent.Callable;
@@ -20,15 +21,22 @@ public class JobRunningCallable implements Callable<Job> {
      */
     private final JobExecution jobExecution;
 
+    /**
+     * The type of threads the job's actions are executed with.
+     */
+    private final ThreadType threadType;
+
     /**
      * Creates a new JobRunningCallable instance.
      *
      * @param job          The job.
      * @param jobExecution The job's execution.
+     * @param threadType   The type of threads the job's actions are executed with.
      */
-    JobRunningCallable(Job job, JobExecution jobExecution) {
+    JobRunningCallable(Job job, JobExecution jobExecution, ThreadType threadType) {
         this.job = job;
         this.jobExecution = jobExecution;
+        this.threadType = threadType;
     }
 
     /**
@@ -38,7 +46,7 @@ public class JobRunningCallable implements Callable<Job> {
      */
     @Override
     public Job call() {
-        job.start(jobExecution);
+        job.start(jobExecution, threadType);
         return job;
     }
 
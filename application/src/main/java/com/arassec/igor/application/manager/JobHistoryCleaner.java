@@ -0,0 +1,86 @@
+package com.arassec.igor.application.manager;
+
+import com.arassec.igor.application.IgorApplicationProperties;
+import com.arassec.igor.core.model.job.concurrent.ThreadType;
+import com.arassec.igor.core.repository.JobExecutionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Deletes old job-executions, so that only the configured number of executions is kept per job.
+ * <p>
+ * If configured, the cleanup runs in the background. Cleanups of the same job, that are requested while a previous request is
+ * still pending, are merged into one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobHistoryCleaner implements DisposableBean {
+
+    /**
+     * Igor's application configuration properties.
+     */
+    private final IgorApplicationProperties igorApplicationProperties;
+
+    /**
+     * Repository for job-executions.
+     */
+    private final JobExecutionRepository jobExecutionRepository;
+
+    /**
+     * Pending cleanups: the number of executions to keep by the job's ID.
+     */
+    private final Map<String, Integer> pendingCleanups = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the cleanups in the background. The thread is only started with the first cleanup.
+     */
+    private final ExecutorService cleanupExecutor = ThreadType.PLATFORM.createExecutor(1, "job-history-cleaner", null);
+
+    /**
+     * Deletes old job-executions of the specified job, either immediately or in the background.
+     *
+     * @param jobId     The job's ID.
+     * @param numToKeep The number of job-executions to keep.
+     */
+    public void cleanup(String jobId, int numToKeep) {
+        if (!igorApplicationProperties.isAsyncHistoryCleanup()) {
+            jobExecutionRepository.cleanup(jobId, numToKeep);
+            return;
+        }
+        if (pendingCleanups.put(jobId, numToKeep) == null) {
+            cleanupExecutor.execute(() -> runPendingCleanup(jobId));
+        }
+    }
+
+    /**
+     * Stops the background cleanup. Pending cleanups are skipped and will be performed with the next execution of their job.
+     */
+    @Override
+    public void destroy() {
+        cleanupExecutor.shutdownNow();
+    }
+
+    /**
+     * Runs the pending cleanup of the specified job.
+     *
+     * @param jobId The job's ID.
+     */
+    private void runPendingCleanup(String jobId) {
+        Integer numToKeep = pendingCleanups.remove(jobId);
+        if (numToKeep != null) {
+            try {
+                jobExecutionRepository.cleanup(jobId, numToKeep);
+            } catch (RuntimeException e) {
+                log.error("Could not delete old executions of job: {}", jobId, e);
+            }
+        }
+    }
+
+}
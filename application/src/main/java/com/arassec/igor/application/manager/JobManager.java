@@ -64,6 +64,11 @@ public class JobManager implements ApplicationListener<ContextRefreshedEvent>, D
      */
     private final PersistentValueRepository persistentValueRepository;
 
+    /**
+     * Deletes old job-executions.
+     */
+    private final JobHistoryCleaner jobHistoryCleaner;
+
     /**
      * The task scheduler that starts the jobs according to their trigger.
      */
@@ -112,6 +117,12 @@ public class JobManager implements ApplicationListener<ContextRefreshedEvent>, D
                 jobExecutionRepository.upsert(jobExecution);
             });
         }
+        // Job-executions that were waiting before the restart are handed to the executor again:
+        jobExecutions = jobExecutionRepository
+            .findInState(JobExecutionState.WAITING, 0, Integer.MAX_VALUE);
+        if (jobExecutions != null && jobExecutions.getItems() != null) {
+            jobExecutions.getItems().forEach(jobExecutor::enqueue);
+        }
         jobRepository.findAll().forEach(this::activate);
     }
 
@@ -163,7 +174,7 @@ public class JobManager implements ApplicationListener<ContextRefreshedEvent>, D
 
     /**
      * Enqueues the provided job to the execution list if no previously enqueued execution of the same job currently exists. The
-     * job will be run as soon as an execution slot is available
+     * job will be run as soon as an execution slot is available.
      * <p>
      * This method should be called if the job should run immediately and only once. If the job should run regularly according to
      * its trigger configuration, {@link JobManager#activate(Job)} should be used.
@@ -190,8 +201,9 @@ public class JobManager implements ApplicationListener<ContextRefreshedEvent>, D
             jobExecution.setCreated(Instant.now());
             jobExecution.setExecutionState(JobExecutionState.WAITING);
             jobExecutionRepository.upsert(jobExecution);
-            jobExecutionRepository.cleanup(job.getId(), job.getHistoryLimit());
+            jobHistoryCleaner.cleanup(job.getId(), job.getHistoryLimit());
             applicationEventPublisher.publishEvent(new JobEvent(JobEventType.STATE_CHANGE, job));
+            jobExecutor.enqueue(jobExecution);
         } else {
             log.info("Job '{}' ({}) already executing or waiting for execution. Skipped execution until next time.",
                 job.getName(), job.getId());
@@ -211,6 +223,7 @@ public class JobManager implements ApplicationListener<ContextRefreshedEvent>, D
         var jobExecution = jobExecutionRepository.findById(jobExecutionId);
         if (jobExecution != null) {
             if (JobExecutionState.WAITING.equals(jobExecution.getExecutionState())) {
+                jobExecutor.dequeue(jobExecutionId);
                 jobExecution.setExecutionState(JobExecutionState.CANCELLED);
                 jobExecution.setFinished(Instant.now());
                 jobExecutionRepository.upsert(jobExecution);
@@ -316,6 +329,7 @@ public class JobManager implements ApplicationListener<ContextRefreshedEvent>, D
             var runningJobExecution = jobExecutor.getJobExecution(jobExecution.getJobId());
             if (runningJobExecution != null) {
                 runningJobExecution.getWorkInProgress().forEach(jobExecution::addWorkInProgress);
+                runningJobExecution.getQueueMetrics().forEach(jobExecution::addQueueMetrics);
                 jobExecution.setProcessedEvents(runningJobExecution.getProcessedEvents());
             }
         }
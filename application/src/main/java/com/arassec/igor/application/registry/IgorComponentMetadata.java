@@ -0,0 +1,170 @@
+package com.arassec.igor.application.registry;
+
+import com.arassec.igor.core.model.annotation.IgorParam;
+import com.arassec.igor.core.util.IgorException;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precomputed metadata of an igor component class. Contains the component's fields with method handles to read and write their
+ * values, so that parameters can be applied to new component instances without searching the class hierarchy again.
+ * <p>
+ * The metadata of a class is computed once and then reused for all instances of that class.
+ */
+public final class IgorComponentMetadata {
+
+    /**
+     * Computes the metadata of a class on first access.
+     */
+    private static final ClassValue<IgorComponentMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected IgorComponentMetadata computeValue(Class<?> type) {
+            return new IgorComponentMetadata(type);
+        }
+    };
+
+    /**
+     * Method type of the adapted getter method handles.
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Method type of the adapted setter method handles.
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * All instance fields of the class and its superclasses.
+     */
+    @Getter
+    private final List<ComponentField> fields;
+
+    /**
+     * The fields annotated with {@link IgorParam}.
+     */
+    @Getter
+    private final List<ComponentField> parameterFields;
+
+    /**
+     * Creates the metadata of the supplied class.
+     *
+     * @param type The component's class.
+     */
+    private IgorComponentMetadata(Class<?> type) {
+        List<ComponentField> allFields = new ArrayList<>();
+        var current = type;
+        while (current != null && !current.equals(Object.class)) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    allFields.add(new ComponentField(field));
+                }
+            }
+            current = current.getSuperclass();
+        }
+        this.fields = List.copyOf(allFields);
+        this.parameterFields = allFields.stream().filter(ComponentField::isIgorParam).toList();
+    }
+
+    /**
+     * Returns the metadata of the supplied component class.
+     *
+     * @param type The component's class.
+     *
+     * @return The class's metadata.
+     */
+    public static IgorComponentMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * A field of an igor component.
+     */
+    @Getter
+    public static final class ComponentField {
+
+        /**
+         * The field's name.
+         */
+        private final String name;
+
+        /**
+         * The field's type.
+         */
+        private final Class<?> type;
+
+        /**
+         * {@code true}, if the field is annotated with {@link IgorParam}, {@code false} otherwise.
+         */
+        private final boolean igorParam;
+
+        /**
+         * Reads the field's value.
+         */
+        @Getter(AccessLevel.NONE)
+        private final MethodHandle getter;
+
+        /**
+         * Writes the field's value.
+         */
+        @Getter(AccessLevel.NONE)
+        private final MethodHandle setter;
+
+        /**
+         * Creates the method handles for the supplied field.
+         *
+         * @param field The field.
+         */
+        private ComponentField(Field field) {
+            this.name = field.getName();
+            this.type = field.getType();
+            this.igorParam = field.isAnnotationPresent(IgorParam.class);
+            try {
+                field.setAccessible(true); //NOSONAR - @IgorParam-fields must not necessarily be accessible!
+                var lookup = MethodHandles.lookup();
+                this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IgorException("Could not access field: " + field, e);
+            }
+        }
+
+        /**
+         * Returns the field's value.
+         *
+         * @param instance The component instance.
+         *
+         * @return The field's value.
+         */
+        public Object get(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Throwable e) { //NOSONAR - MethodHandle invocations declare Throwable.
+                throw new IgorException("Could not read field: " + name, e);
+            }
+        }
+
+        /**
+         * Sets the field's value.
+         *
+         * @param instance The component instance.
+         * @param value    The new value.
+         */
+        public void set(Object instance, Object value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) { //NOSONAR - MethodHandle invocations declare Throwable.
+                throw new IgorException("Could not set field: " + name, e);
+            }
+        }
+
+    }
+
+}
@@ -1,11 +1,11 @@
 package com.arassec.igor.application.registry;
 
 import com.arassec.igor.application.IgorApplicationProperties;
+import com.arassec.igor.application.registry.IgorComponentMetadata.ComponentField;
 import com.arassec.igor.application.util.IgorComponentUtil;
 import com.arassec.igor.core.model.IgorComponent;
 import com.arassec.igor.core.model.action.Action;
 import com.arassec.igor.core.model.action.MissingComponentAction;
-import com.arassec.igor.core.model.annotation.IgorParam;
 import com.arassec.igor.core.model.connector.Connector;
 import com.arassec.igor.core.model.connector.MissingComponentConnector;
 import com.arassec.igor.core.model.job.Job;
@@ -22,9 +22,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ReflectionUtils;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 
@@ -93,14 +91,29 @@ public class IgorComponentRegistry implements InitializingBean, ApplicationConte
      */
     private final Map<String, Set<String>> connectorTypesByCategoryKey = new HashMap<>();
 
+    /**
+     * Contains the classes of all available actions by their type IDs.
+     */
+    private final Map<String, Class<? extends Action>> actionClassesByTypeId = new HashMap<>();
+
+    /**
+     * Contains the classes of all available triggers by their type IDs.
+     */
+    private final Map<String, Class<? extends Trigger>> triggerClassesByTypeId = new HashMap<>();
+
+    /**
+     * Contains the classes of all available connectors by their type IDs.
+     */
+    private final Map<String, Class<? extends Connector>> connectorClassesByTypeId = new HashMap<>();
+
     /**
      * Initializes the component registry.
      */
     @Override
     public void afterPropertiesSet() {
-        initializeComponent(Action.class, actions, actionTypesByCategoryKey);
-        initializeComponent(Trigger.class, triggers, triggerTypesByCategoryKey);
-        initializeComponent(Connector.class, connectors, connectorTypesByCategoryKey);
+        initializeComponent(Action.class, actions, actionTypesByCategoryKey, actionClassesByTypeId);
+        initializeComponent(Trigger.class, triggers, triggerTypesByCategoryKey, triggerClassesByTypeId);
+        initializeComponent(Connector.class, connectors, connectorTypesByCategoryKey, connectorClassesByTypeId);
     }
 
     /**
@@ -212,9 +225,9 @@ public class IgorComponentRegistry implements InitializingBean, ApplicationConte
      * @return The new {@link Action} instance.
      */
     public Action createActionInstance(String typeId, Map<String, Object> parameters) {
-        Optional<Action> optional = actions.stream().filter(action -> igorComponentUtil.getTypeId(action).equals(typeId)).findFirst();
-        if (optional.isPresent()) {
-            var action = applicationContext.getBean(optional.get().getClass());
+        Class<? extends Action> actionClass = actionClassesByTypeId.get(typeId);
+        if (actionClass != null) {
+            var action = applicationContext.getBean(actionClass);
             applyParameters(action, parameters);
             return action;
         }
@@ -230,10 +243,9 @@ public class IgorComponentRegistry implements InitializingBean, ApplicationConte
      * @return The new {@link Connector} instance.
      */
     public Connector createConnectorInstance(String typeId, Map<String, Object> parameters) {
-        Optional<Connector> optional =
-            connectors.stream().filter(connector -> igorComponentUtil.getTypeId(connector).equals(typeId)).findFirst();
-        if (optional.isPresent()) {
-            Connector connector = applicationContext.getBean(optional.get().getClass());
+        Class<? extends Connector> connectorClass = connectorClassesByTypeId.get(typeId);
+        if (connectorClass != null) {
+            Connector connector = applicationContext.getBean(connectorClass);
             applyParameters(connector, parameters);
             return connector;
         }
@@ -249,10 +261,9 @@ public class IgorComponentRegistry implements InitializingBean, ApplicationConte
      * @return The new {@link Trigger} instance.
      */
     public Trigger createTriggerInstance(String typeId, Map<String, Object> parameters) {
-        Optional<Trigger> optional =
-            triggers.stream().filter(trigger -> igorComponentUtil.getTypeId(trigger).equals(typeId)).findFirst();
-        if (optional.isPresent()) {
-            Trigger trigger = applicationContext.getBean(optional.get().getClass());
+        Class<? extends Trigger> triggerClass = triggerClassesByTypeId.get(typeId);
+        if (triggerClass != null) {
+            Trigger trigger = applicationContext.getBean(triggerClass);
             applyParameters(trigger, parameters);
             return trigger;
         }
@@ -284,20 +295,30 @@ public class IgorComponentRegistry implements InitializingBean, ApplicationConte
     }
 
     /**
-     * Initializes categories and types of a specific igor component, e.g. {@link Connector}.
+     * Initializes categories and types of a specific igor component, e.g. {@link Connector}. The metadata of the components'
+     * classes is computed here once, so that new instances can be created without searching their fields again.
      *
      * @param componentType       The type of the component to initialize.
      * @param components          List of components of that type (e.g. all Actions on the classpath).
      * @param typeByCategoryStore Map to store all component type IDs, indexed by category.
+     * @param classByTypeIdStore  Map to store all component classes, indexed by type ID.
+     * @param <T>                 The type of the component.
      */
-    private void initializeComponent(Class<? extends IgorComponent> componentType, List<? extends IgorComponent> components,
-                                     Map<String, Set<String>> typeByCategoryStore) {
+    @SuppressWarnings("unchecked")
+    private <T extends IgorComponent> void initializeComponent(Class<T> componentType, List<? extends T> components,
+                                                               Map<String, Set<String>> typeByCategoryStore,
+                                                               Map<String, Class<? extends T>> classByTypeIdStore) {
         categoriesByComponentType.put(componentType, new HashSet<>());
-        for (IgorComponent component : components) {
+        for (T component : components) {
             String categoryId = igorComponentUtil.getCategoryId(component);
+            String typeId = igorComponentUtil.getTypeId(component);
             categoriesByComponentType.get(componentType).add(categoryId);
             typeByCategoryStore.computeIfAbsent(categoryId, s -> new HashSet<>());
-            typeByCategoryStore.get(categoryId).add(igorComponentUtil.getTypeId(component));
+            typeByCategoryStore.get(categoryId).add(typeId);
+            // If multiple components share a type ID, the first one is used:
+            classByTypeIdStore.putIfAbsent(typeId, (Class<? extends T>) component.getClass());
+            // Computes the metadata at startup instead of during the first job deserialization:
+            IgorComponentMetadata.of(component.getClass());
         }
     }
 
@@ -308,21 +329,20 @@ public class IgorComponentRegistry implements InitializingBean, ApplicationConte
      * @param parameters The parameters to set.
      */
     private void applyParameters(Object instance, Map<String, Object> parameters) {
-        if (instance != null) {
-            ReflectionUtils.doWithFields(instance.getClass(), field -> {
-                ReflectionUtils.makeAccessible(field);
-                if (parameters != null && parameters.containsKey(field.getName())) {
+        if (instance != null && parameters != null) {
+            for (ComponentField field : IgorComponentMetadata.of(instance.getClass()).getFields()) {
+                if (parameters.containsKey(field.getName())) {
                     Object parameterValue = parameters.get(field.getName());
                     if (parameterValue instanceof MissingComponentConnector) {
-                        parameterValue = handleMissingConnector(field);
+                        parameterValue = handleMissingConnector(field.getType());
                     }
-                    ReflectionUtils.setField(field, instance, parameterValue);
-                } else if (field.isAnnotationPresent(IgorParam.class) && parameters != null && !parameters.containsKey(field.getName())) {
+                    field.set(instance, parameterValue);
+                } else if (field.isIgorParam()) {
                     // In this case the user didn't configure the property. If it is a primitive type, the default value is used.
                     // If it is an object type, the value is set to null.
                     clearFieldValue(instance, field);
                 }
-            });
+            }
         }
     }
 
@@ -331,19 +351,19 @@ public class IgorComponentRegistry implements InitializingBean, ApplicationConte
      * to a deleted plugin), this method returns a fitting connector mock, so that igor can display the problem to the user
      * instead of throwing an exception during startup.
      *
-     * @param field The field that the replacement connector is used for.
+     * @param fieldType The type of the field that the replacement connector is used for.
      *
      * @return A proxy to fill the missing connector.
      */
     @SuppressWarnings("resource")
-    private Object handleMissingConnector(Field field) {
+    private Object handleMissingConnector(Class<?> fieldType) {
         try {
             List<Class<?>> implementations = new LinkedList<>();
-            if (!field.getType().equals(Connector.class)) {
+            if (!fieldType.equals(Connector.class)) {
                 implementations.add(Connector.class);
             }
             return new ByteBuddy()
-                .subclass(field.getType())
+                .subclass(fieldType)
                 .implement(implementations)
                 .method(ElementMatchers.any())
                 .intercept(InvocationHandlerAdapter.of((proxy, method, args) -> switch (method.getName()) {
@@ -368,9 +388,9 @@ public class IgorComponentRegistry implements InitializingBean, ApplicationConte
      * @param instance The target object to clear the field value on.
      * @param field    The property to set to {@code null}.
      */
-    private void clearFieldValue(Object instance, Field field) {
+    private void clearFieldValue(Object instance, ComponentField field) {
         if (javaObjectTypes.contains(field.getType())) {
-            ReflectionUtils.setField(field, instance, null);
+            field.set(instance, null);
         }
     }
 
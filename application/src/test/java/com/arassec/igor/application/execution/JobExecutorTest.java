@@ -2,13 +2,13 @@ package com.arassec.igor.application.execution;
 
 import com.arassec.igor.application.IgorApplicationProperties;
 import com.arassec.igor.core.model.job.Job;
+import com.arassec.igor.core.model.job.concurrent.ThreadType;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.execution.JobExecutionState;
 import com.arassec.igor.core.model.trigger.EventTrigger;
 import com.arassec.igor.core.model.trigger.EventType;
 import com.arassec.igor.core.repository.JobExecutionRepository;
 import com.arassec.igor.core.repository.JobRepository;
-import com.arassec.igor.core.util.ModelPage;
 import com.arassec.igor.core.util.event.JobEvent;
 import com.arassec.igor.core.util.event.JobEventType;
 import com.arassec.igor.core.util.event.JobTriggerEvent;
@@ -20,12 +20,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -72,6 +78,7 @@ class JobExecutorTest {
     @BeforeEach
     void initialize() {
         when(igorApplicationProperties.getJobQueueSize()).thenReturn(1);
+        when(igorApplicationProperties.getThreadType()).thenReturn(ThreadType.PLATFORM);
         jobExecutor = new JobExecutor(igorApplicationProperties, jobRepository, jobExecutionRepository, applicationEventPublisher);
     }
 
@@ -99,10 +106,6 @@ class JobExecutorTest {
         ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobFutures", runningJobFutures);
         runningJobs.put("running-job-id", runningJob);
 
-        when(jobExecutionRepository
-                .findInState(JobExecutionState.WAITING, 0, Integer.MAX_VALUE))
-                .thenReturn(new ModelPage<>(1, 0, 1, List.of()));
-
         jobExecutor.update();
 
         // The finished job must have been removed:
@@ -137,11 +140,9 @@ class JobExecutorTest {
         ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobs", runningJobs);
 
         // Another job is waiting for execution:
-        when(jobExecutionRepository.findInState(JobExecutionState.WAITING, 0, Integer.MAX_VALUE)).thenReturn(
-                new ModelPage<>(0, 1, 1, List.of(JobExecution.builder().id(1L).jobId("job-id").build()))
-        );
+        jobExecutor.enqueue(JobExecution.builder().id(1L).jobId("waiting-job-id").build());
         Job waitingJob = Job.builder().id("waiting-job-id").name("waiting-job-name").build();
-        when(jobRepository.findById("job-id")).thenReturn(waitingJob);
+        when(jobRepository.findById("waiting-job-id")).thenReturn(waitingJob);
 
         // update has to check the number of available slots;
         jobExecutor.update();
@@ -159,34 +160,47 @@ class JobExecutorTest {
     }
 
     /**
-     * Tests executing a waiting job and delaying another one due to the configured job queue capacity.
+     * Tests executing enqueued jobs and delaying another one due to the configured job queue capacity.
      */
     @Test
-    @DisplayName("Tests executing waiting jobs.")
-    void testUpdateExecute() {
+    @DisplayName("Tests executing enqueued jobs.")
+    void testEnqueue() throws InterruptedException {
+        assertThrows(IllegalArgumentException.class, () -> jobExecutor.enqueue(null));
+        assertThrows(IllegalArgumentException.class, () -> jobExecutor.enqueue(new JobExecution()));
+
         // First execution: No job found because it has been deleted this very moment:
-        JobExecution ignoredExecution = JobExecution.builder().build();
+        JobExecution ignoredExecution = JobExecution.builder().id(1L).jobId("deleted-job-id").build();
         // Second execution: executed because the slot is free:
-        JobExecution executedExecution = JobExecution.builder().jobId("job-id").build();
-        Job job = new Job();
-        job.setCurrentJobExecution(executedExecution);
+        JobExecution executedExecution = JobExecution.builder().id(2L).jobId("job-id").build();
+        // Third execution: delayed until the second one finished, due to slot capacity:
+        JobExecution delayedExecution = JobExecution.builder().id(3L).jobId("delayed-job-id").build();
+
+        CountDownLatch finishJob = new CountDownLatch(1);
+        Job job = new Job() {
+            @Override
+            public void start(JobExecution jobExecution, ThreadType threadType) {
+                setCurrentJobExecution(jobExecution);
+                try {
+                    assertTrue(finishJob.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                jobExecution.setExecutionState(JobExecutionState.FINISHED);
+            }
+        };
         job.setId("job-id");
-        lenient().when(jobRepository.findById("job-id")).thenReturn(job);
-        // Third execution: delayed due to slot capacity:
-        JobExecution delayedExecution = JobExecution.builder().build();
+        when(jobRepository.findById("deleted-job-id")).thenReturn(null);
+        when(jobRepository.findById("job-id")).thenReturn(job);
+        when(jobRepository.findById("delayed-job-id")).thenReturn(Job.builder().id("delayed-job-id").build());
 
-        when(jobExecutionRepository.findInState(JobExecutionState.WAITING, 0, Integer.MAX_VALUE))
-                .thenReturn(new ModelPage<>(0, 3, 1, List.of(ignoredExecution, executedExecution, delayedExecution)));
-
-        jobExecutor.update();
+        jobExecutor.enqueue(ignoredExecution);
+        jobExecutor.enqueue(executedExecution);
+        jobExecutor.enqueue(delayedExecution);
 
         verify(jobExecutionRepository, times(0)).upsert(ignoredExecution);
         verify(jobExecutionRepository, times(1)).upsert(executedExecution);
         verify(jobExecutionRepository, times(0)).upsert(delayedExecution);
-
-        // The job might finished before the test checks the execution state. Thus both states are valid results!
-        assertTrue((JobExecutionState.RUNNING.equals(executedExecution.getExecutionState())) ||
-                (JobExecutionState.FINISHED.equals(executedExecution.getExecutionState())));
+        assertEquals(JobExecutionState.RUNNING, executedExecution.getExecutionState());
         assertNotNull(executedExecution.getStarted());
 
         // An update event must be sent:
@@ -194,30 +208,76 @@ class JobExecutorTest {
         verify(applicationEventPublisher, times(1)).publishEvent(argCap.capture());
         assertEquals(JobEventType.STATE_CHANGE, argCap.getValue().type());
         assertEquals(job, argCap.getValue().job());
+
+        // The delayed job starts as soon as the running job finished, without waiting for the next update:
+        finishJob.countDown();
+        verify(jobExecutionRepository, timeout(5000).atLeastOnce()).upsert(delayedExecution);
+        assertNotNull(delayedExecution.getStarted());
     }
 
     /**
-     * Tests updating an active job.
+     * Tests that waiting jobs are started in the order they have been enqueued.
      */
     @Test
-    @DisplayName("Tests updating an active job.")
-    void testUpdateActiveJob() {
-        // Save the "running jobs" map for later verification:
-        Map<String, Job> runningJobs = new HashMap<>();
-        ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobs", runningJobs);
+    @DisplayName("Tests the order of waiting jobs.")
+    void testEnqueueOrder() {
+        Job runningJob = Job.builder().id("running-job-id").build();
+        ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobs", new HashMap<>(Map.of("running-job-id", runningJob)));
 
-        JobExecution jobExecution = JobExecution.builder().jobId("job-id").build();
+        Instant now = Instant.now();
+        JobExecution laterExecution = JobExecution.builder().id(1L).jobId("later-job-id").created(now.plusSeconds(1)).build();
+        JobExecution earlierExecution = JobExecution.builder().id(2L).jobId("earlier-job-id").created(now).build();
+
+        jobExecutor.enqueue(laterExecution);
+        jobExecutor.enqueue(earlierExecution);
+
+        // Both executions wait, until the running job finished:
+        ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobs", new HashMap<>());
+        when(jobRepository.findById("earlier-job-id")).thenReturn(Job.builder().id("earlier-job-id").build());
+        // The later execution is started asynchronously after the earlier job finished:
+        lenient().when(jobRepository.findById("later-job-id")).thenReturn(null);
+
+        jobExecutor.update();
+
+        verify(jobExecutionRepository, times(1)).upsert(earlierExecution);
+        verify(jobExecutionRepository, times(0)).upsert(laterExecution);
+    }
+
+    /**
+     * Tests removing waiting job-executions.
+     */
+    @Test
+    @DisplayName("Tests removing waiting jobs.")
+    void testDequeue() {
+        Job runningJob = Job.builder().id("job-id").build();
+        ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobs", new HashMap<>(Map.of("job-id", runningJob)));
 
-        when(jobExecutionRepository.findInState(JobExecutionState.WAITING, 0,
-                Integer.MAX_VALUE)).thenReturn(new ModelPage<>(0, 1, 1,
-                List.of(jobExecution)));
+        jobExecutor.enqueue(JobExecution.builder().id(1L).jobId("waiting-job-id").build());
+
+        assertFalse(jobExecutor.dequeue(2L));
+        assertTrue(jobExecutor.dequeue(1L));
+        assertFalse(jobExecutor.dequeue(1L));
+
+        ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobs", new HashMap<>());
+        jobExecutor.update();
+
+        verify(jobRepository, times(0)).findById(anyString());
+    }
+
+    /**
+     * Tests starting an active job.
+     */
+    @Test
+    @DisplayName("Tests starting an active job.")
+    void testEnqueueActiveJob() {
+        JobExecution jobExecution = JobExecution.builder().jobId("job-id").build();
 
         EventTrigger eventTriggerMock = mock(EventTrigger.class);
 
         when(jobRepository.findById("job-id")).thenReturn(
                 Job.builder().trigger(eventTriggerMock).build());
 
-        jobExecutor.update();
+        jobExecutor.enqueue(jobExecution);
 
         assertEquals(JobExecutionState.ACTIVE, jobExecution.getExecutionState());
     }
@@ -248,6 +308,79 @@ class JobExecutorTest {
         assertEquals(job, argCap.getValue().job());
     }
 
+    /**
+     * Tests that cancelling a job marks its waiting executions as cancelled, and that the job can be enqueued again afterwards.
+     */
+    @Test
+    @DisplayName("Tests cancelling waiting executions and enqueueing the job again.")
+    void testCancelWaitingAndEnqueueAgain() {
+        Job runningJob = Job.builder().id("running-job-id").build();
+        ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobs", new HashMap<>(Map.of("running-job-id", runningJob)));
+
+        // The execution waits, since the only slot is taken:
+        JobExecution waitingExecution = JobExecution.builder().id(1L).jobId("job-id")
+                .executionState(JobExecutionState.WAITING).build();
+        jobExecutor.enqueue(waitingExecution);
+
+        jobExecutor.cancel("job-id");
+
+        verify(jobExecutionRepository, times(1)).upsert(waitingExecution);
+        assertEquals(JobExecutionState.CANCELLED, waitingExecution.getExecutionState());
+        assertNotNull(waitingExecution.getFinished());
+
+        // The job is enqueued again and started, as soon as the slot is free. The cancelled execution is not started:
+        JobExecution newExecution = JobExecution.builder().id(2L).jobId("job-id")
+                .executionState(JobExecutionState.WAITING).build();
+        jobExecutor.enqueue(newExecution);
+
+        ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobs", new HashMap<>());
+        when(jobRepository.findById("job-id")).thenReturn(Job.builder().id("job-id").build());
+
+        jobExecutor.update();
+
+        verify(jobExecutionRepository, atLeastOnce()).upsert(newExecution);
+        assertNotNull(newExecution.getStarted());
+        verify(jobExecutionRepository, times(1)).upsert(waitingExecution);
+        assertEquals(JobExecutionState.CANCELLED, waitingExecution.getExecutionState());
+    }
+
+    /**
+     * Tests that repositories are accessed and events are published without holding the lock.
+     */
+    @Test
+    @DisplayName("Tests that repositories are accessed and events are published without holding the lock.")
+    void testNoIoWhileLocked() {
+        ReentrantLock lock = (ReentrantLock) ReflectionTestUtils.getField(jobExecutor, "lock");
+        assertNotNull(lock);
+        AtomicBoolean accessedWhileLocked = new AtomicBoolean();
+        Answer<Object> checkLock = invocation -> {
+            if (lock.isHeldByCurrentThread()) {
+                accessedWhileLocked.set(true);
+            }
+            return null;
+        };
+
+        Job job = Job.builder().id("job-id").build();
+        when(jobRepository.findById("job-id")).thenAnswer(invocation -> {
+            checkLock.answer(invocation);
+            return job;
+        });
+        doAnswer(checkLock).when(jobExecutionRepository).upsert(any(JobExecution.class));
+        doAnswer(checkLock).when(applicationEventPublisher).publishEvent(any(JobEvent.class));
+
+        jobExecutor.enqueue(JobExecution.builder().id(1L).jobId("job-id").build());
+
+        // The job is started, finishes asynchronously and is persisted twice:
+        verify(jobExecutionRepository, timeout(5000).times(2)).upsert(any(JobExecution.class));
+        verify(applicationEventPublisher, timeout(5000).times(2)).publishEvent(any(JobEvent.class));
+
+        jobExecutor.enqueue(JobExecution.builder().id(2L).jobId("job-id").build());
+        jobExecutor.cancel("job-id");
+        jobExecutor.update();
+
+        assertFalse(accessedWhileLocked.get());
+    }
+
     /**
      * Tests getting a job execution.
      */
@@ -293,10 +426,6 @@ class JobExecutorTest {
         ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobs", runningJobs);
         ReflectionTestUtils.setField(jobExecutor, "currentlyProcessedJobFutures", runningJobFutures);
 
-        when(jobExecutionRepository
-                .findInState(JobExecutionState.WAITING, 0, Integer.MAX_VALUE))
-                .thenReturn(new ModelPage<>(1, 0, 1, List.of()));
-
         jobExecutor.update();
 
         verify(jobExecutionRepository, times(1)).updateAllJobExecutionsOfJob("job-id",
@@ -331,9 +460,6 @@ class JobExecutorTest {
     @SneakyThrows
     @SuppressWarnings("unchecked")
     void testProcessFinishedErrorHandling() {
-        when(jobExecutionRepository.findInState(JobExecutionState.WAITING, 0, Integer.MAX_VALUE))
-                .thenReturn(new ModelPage<>(1,0,1, List.of()));
-
         // Test InterruptedException:
         Future<Job> futureMock = mock(Future.class);
         when(futureMock.isDone()).thenReturn(true);
@@ -1,6 +1,7 @@
 package com.arassec.igor.application.execution;
 
 import com.arassec.igor.core.model.job.Job;
+import com.arassec.igor.core.model.job.concurrent.ThreadType;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,12 +24,12 @@ class JobRunningCallableTest {
         Job jobMock = mock(Job.class);
         JobExecution jobExecution = new JobExecution();
 
-        JobRunningCallable jobRunningCallable = new JobRunningCallable(jobMock, jobExecution);
+        JobRunningCallable jobRunningCallable = new JobRunningCallable(jobMock, jobExecution, ThreadType.VIRTUAL);
 
         Job calledJob = jobRunningCallable.call();
 
         assertEquals(jobMock, calledJob);
-        verify(jobMock, times(1)).start(jobExecution);
+        verify(jobMock, times(1)).start(jobExecution, ThreadType.VIRTUAL);
     }
 
 }
@@ -0,0 +1,102 @@
+package com.arassec.igor.application.manager;
+
+import com.arassec.igor.application.IgorApplicationProperties;
+import com.arassec.igor.core.repository.JobExecutionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link JobHistoryCleaner}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Job-History-Cleaner Tests")
+class JobHistoryCleanerTest {
+
+    /**
+     * The class under test.
+     */
+    private JobHistoryCleaner jobHistoryCleaner;
+
+    /**
+     * Igor's application configuration properties.
+     */
+    private IgorApplicationProperties igorApplicationProperties;
+
+    /**
+     * Repository for job-executions.
+     */
+    @Mock
+    private JobExecutionRepository jobExecutionRepository;
+
+    /**
+     * Initializes the test environment.
+     */
+    @BeforeEach
+    void initialize() {
+        igorApplicationProperties = new IgorApplicationProperties();
+        jobHistoryCleaner = new JobHistoryCleaner(igorApplicationProperties, jobExecutionRepository);
+    }
+
+    /**
+     * Stops the background cleanup.
+     */
+    @AfterEach
+    void teardown() {
+        jobHistoryCleaner.destroy();
+    }
+
+    /**
+     * Tests cleaning up the job history immediately.
+     */
+    @Test
+    @DisplayName("Tests cleaning up the job history immediately.")
+    void testCleanup() {
+        jobHistoryCleaner.cleanup("job-id", 5);
+        verify(jobExecutionRepository, times(1)).cleanup("job-id", 5);
+    }
+
+    /**
+     * Tests cleaning up the job history in the background.
+     *
+     * @throws InterruptedException If the test is interrupted while waiting for the cleanup.
+     */
+    @Test
+    @DisplayName("Tests cleaning up the job history in the background.")
+    void testAsyncCleanup() throws InterruptedException {
+        igorApplicationProperties.setAsyncHistoryCleanup(true);
+
+        // The first cleanup blocks the background thread, so that the following requests are pending:
+        var cleanupStarted = new CountDownLatch(1);
+        var blockCleanup = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cleanupStarted.countDown();
+            blockCleanup.await();
+            return null;
+        }).when(jobExecutionRepository).cleanup("blocking-job-id", 1);
+
+        jobHistoryCleaner.cleanup("blocking-job-id", 1);
+        assertTrue(cleanupStarted.await(5, TimeUnit.SECONDS));
+
+        jobHistoryCleaner.cleanup("job-id", 5);
+        jobHistoryCleaner.cleanup("job-id", 3);
+
+        verify(jobExecutionRepository, never()).cleanup(eq("job-id"), anyInt());
+        blockCleanup.countDown();
+
+        // Pending cleanups of the same job are merged, the most recent limit is used:
+        verify(jobExecutionRepository, timeout(5000).times(1)).cleanup("job-id", 3);
+        verify(jobExecutionRepository, never()).cleanup("job-id", 5);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.arassec.igor.application.manager;
 import com.arassec.igor.application.IgorApplicationProperties;
 import com.arassec.igor.application.execution.JobExecutor;
 import com.arassec.igor.core.model.job.Job;
+import com.arassec.igor.core.model.job.concurrent.QueueMetrics;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.execution.JobExecutionState;
 import com.arassec.igor.core.model.job.execution.WorkInProgressMonitor;
@@ -72,6 +73,12 @@ class JobManagerTest {
     @Mock
     private PersistentValueRepository persistentValueRepository;
 
+    /**
+     * Deletes old job-executions.
+     */
+    @Mock
+    private JobHistoryCleaner jobHistoryCleaner;
+
     /**
      * The task scheduler that starts the jobs according to their trigger.
      */
@@ -96,7 +103,7 @@ class JobManagerTest {
     @BeforeEach
     void initialize() {
         jobManager = new JobManager(igorApplicationProperties, jobRepository, jobExecutionRepository,
-                persistentValueRepository, taskScheduler, jobExecutor, applicationEventPublisher);
+                persistentValueRepository, jobHistoryCleaner, taskScheduler, jobExecutor, applicationEventPublisher);
     }
 
     /**
@@ -111,12 +118,15 @@ class JobManagerTest {
 
         JobExecution runningJobExecution = new JobExecution();
         JobExecution activeJobExecution = new JobExecution();
+        JobExecution waitingJobExecution = new JobExecution();
 
         ModelPage<JobExecution> runningModelPage = new ModelPage<>(0, Integer.MAX_VALUE, 1, List.of(runningJobExecution));
         ModelPage<JobExecution> activeModelPage = new ModelPage<>(0, Integer.MAX_VALUE, 1, List.of(activeJobExecution));
+        ModelPage<JobExecution> waitingModelPage = new ModelPage<>(0, Integer.MAX_VALUE, 1, List.of(waitingJobExecution));
 
         when(jobExecutionRepository.findInState(JobExecutionState.RUNNING, 0, Integer.MAX_VALUE)).thenReturn(runningModelPage);
         when(jobExecutionRepository.findInState(JobExecutionState.ACTIVE, 0, Integer.MAX_VALUE)).thenReturn(activeModelPage);
+        when(jobExecutionRepository.findInState(JobExecutionState.WAITING, 0, Integer.MAX_VALUE)).thenReturn(waitingModelPage);
 
         jobManager.onApplicationEvent(mock(ContextRefreshedEvent.class));
 
@@ -130,6 +140,9 @@ class JobManagerTest {
         assertEquals(JobExecutionState.FINISHED, argCap.getAllValues().get(1).getExecutionState());
         assertNotNull(argCap.getAllValues().get(1).getFinished());
         assertNull(argCap.getAllValues().get(1).getErrorCause());
+
+        // Waiting job-executions are handed to the executor again:
+        verify(jobExecutor, times(1)).enqueue(waitingJobExecution);
     }
 
     /**
@@ -275,7 +288,10 @@ class JobManagerTest {
         assertNotNull(jobExecution.getCreated());
         assertEquals(JobExecutionState.WAITING, jobExecution.getExecutionState());
 
-        verify(jobExecutionRepository, times(1)).cleanup("job-id",666);
+        verify(jobHistoryCleaner, times(1)).cleanup("job-id", 666);
+
+        // The job-execution must be handed to the executor:
+        verify(jobExecutor, times(1)).enqueue(jobExecution);
 
         // A job event must be sent:
         ArgumentCaptor<JobEvent> jobEventArgCap = ArgumentCaptor.forClass(JobEvent.class);
@@ -366,6 +382,7 @@ class JobManagerTest {
 
         jobManager.cancelExecution(666L);
 
+        verify(jobExecutor, times(1)).dequeue(666L);
         verify(jobExecutionRepository, times(1)).upsert(jobExecutionMock);
         verify(jobExecutionMock, times(1)).setExecutionState(JobExecutionState.CANCELLED);
         verify(jobExecutionMock, times(1)).setFinished(any(Instant.class));
@@ -526,10 +543,12 @@ class JobManagerTest {
 
         JobExecution executorJobExecution = new JobExecution();
         executorJobExecution.addWorkInProgress(new WorkInProgressMonitor());
+        executorJobExecution.addQueueMetrics("group-id", new QueueMetrics());
         when(jobExecutor.getJobExecution("job-id")).thenReturn(executorJobExecution);
 
         assertEquals(jobExecution, jobManager.getJobExecution(1L));
         assertEquals(executorJobExecution.getWorkInProgress(), jobExecution.getWorkInProgress());
+        assertEquals(executorJobExecution.getQueueMetrics(), jobExecution.getQueueMetrics());
     }
 
     /**
@@ -0,0 +1,115 @@
+package com.arassec.igor.application.registry;
+
+import com.arassec.igor.application.registry.IgorComponentMetadata.ComponentField;
+import com.arassec.igor.core.model.annotation.IgorParam;
+import com.arassec.igor.core.util.IgorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link IgorComponentMetadata}.
+ */
+@DisplayName("IgorComponent-Metadata Tests")
+class IgorComponentMetadataTest {
+
+    /**
+     * Tests collecting the fields of a component class.
+     */
+    @Test
+    @DisplayName("Tests collecting the fields of a component class.")
+    void testFields() {
+        IgorComponentMetadata metadata = IgorComponentMetadata.of(TestComponent.class);
+
+        assertSame(metadata, IgorComponentMetadata.of(TestComponent.class));
+
+        List<String> fieldNames = metadata.getFields().stream().map(ComponentField::getName).toList();
+        assertEquals(List.of("intParam", "internalState", "superParam"), fieldNames);
+
+        List<String> parameterNames = metadata.getParameterFields().stream().map(ComponentField::getName).toList();
+        assertEquals(List.of("intParam", "superParam"), parameterNames);
+
+        assertEquals(int.class, metadata.getParameterFields().getFirst().getType());
+    }
+
+    /**
+     * Tests reading and writing field values.
+     */
+    @Test
+    @DisplayName("Tests reading and writing field values.")
+    void testGetAndSet() {
+        TestComponent component = new TestComponent();
+
+        for (ComponentField field : IgorComponentMetadata.of(TestComponent.class).getFields()) {
+            switch (field.getName()) {
+                case "intParam" -> {
+                    assertEquals(23, field.get(component));
+                    field.set(component, 42);
+                }
+                case "internalState" -> field.set(component, "changed");
+                case "superParam" -> {
+                    assertEquals("super", field.get(component));
+                    field.set(component, null);
+                }
+                default -> fail("Unexpected field: " + field.getName());
+            }
+        }
+
+        assertEquals(42, component.intParam);
+        assertEquals("changed", component.internalState);
+        assertNull(component.superParam);
+    }
+
+    /**
+     * Tests setting values of the wrong type.
+     */
+    @Test
+    @DisplayName("Tests setting values of the wrong type.")
+    void testSetInvalidValue() {
+        TestComponent component = new TestComponent();
+        ComponentField intParam = IgorComponentMetadata.of(TestComponent.class).getParameterFields().getFirst();
+        assertThrows(IgorException.class, () -> intParam.set(component, "invalid"));
+        assertThrows(IgorException.class, () -> intParam.set(component, null));
+    }
+
+    /**
+     * Base class for testing inherited fields.
+     */
+    private static class TestSuperComponent {
+
+        /**
+         * Inherited parameter.
+         */
+        @IgorParam
+        String superParam = "super";
+
+    }
+
+    /**
+     * Component for testing.
+     */
+    private static class TestComponent extends TestSuperComponent {
+
+        /**
+         * Static fields are ignored.
+         */
+        @SuppressWarnings("unused")
+        private static final String CONSTANT = "constant";
+
+        /**
+         * A parameter.
+         */
+        @IgorParam
+        private int intParam = 23;
+
+        /**
+         * A field without annotation.
+         */
+        private String internalState = "initial";
+
+    }
+
+}
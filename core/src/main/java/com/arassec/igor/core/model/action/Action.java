@@ -4,11 +4,12 @@ import com.arassec.igor.core.model.IgorComponent;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.misc.ProcessingFinishedCallback;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Defines an action, used by jobs. Actions take a single piece of data and process it.
+ * Defines an action, used by jobs. Actions take a single piece of data, or a batch of data items, and process it.
  */
 public interface Action extends IgorComponent {
 
@@ -22,6 +23,28 @@ public interface Action extends IgorComponent {
      */
     List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution);
 
+    /**
+     * Executes the action for a batch of data items.
+     * <p>
+     * The default implementation calls {@link #process(Map, JobExecution)} for every data item. Actions that can process
+     * multiple data items more efficiently, e.g. with a single round trip to a remote system, should override this method.
+     *
+     * @param data         The data items the action will work with.
+     * @param jobExecution The job's execution log.
+     *
+     * @return A list of data items that should further be processed. Might be empty, if there is no further data to process.
+     */
+    default List<Map<String, Object>> processBatch(List<Map<String, Object>> data, JobExecution jobExecution) {
+        List<Map<String, Object>> result = new ArrayList<>(data.size());
+        for (Map<String, Object> dataItem : data) {
+            List<Map<String, Object>> partialResult = process(dataItem, jobExecution);
+            if (partialResult != null && !partialResult.isEmpty()) {
+                result.addAll(partialResult);
+            }
+        }
+        return result;
+    }
+
     /**
      * Finalizes the action after all data items have been processed.
      *
@@ -63,11 +86,37 @@ public interface Action extends IgorComponent {
      * Returns whether the action must be executed by a single thread ({@code true} or not {@code false}.
      *
      * @return {@code true} if the action is required to run single threaded, {@code false} if multi-threading is supported.
+     *
+     * @see #requiredOrder()
      */
     default boolean enforceSingleThread() {
         return false;
     }
 
+    /**
+     * Returns the order in which the action requires its data items to be processed.
+     * <p>
+     * The default implementation requires a {@link ExecutionOrder#GLOBAL} order for actions that enforce single-threaded
+     * execution, and no order otherwise.
+     *
+     * @return The required {@link ExecutionOrder}.
+     */
+    default ExecutionOrder requiredOrder() {
+        return enforceSingleThread() ? ExecutionOrder.GLOBAL : ExecutionOrder.NONE;
+    }
+
+    /**
+     * Returns the partition key of the supplied data item. Only used for actions requiring an {@link ExecutionOrder#PER_KEY}
+     * order. Data items with equal keys are processed by the same thread, in the order they arrive.
+     *
+     * @param data The data item.
+     *
+     * @return The data item's partition key. Might be {@code null}.
+     */
+    default Object partitionKey(Map<String, Object> data) {
+        return null;
+    }
+
     /**
      * Returns whether the action is active or not.
      *
@@ -0,0 +1,32 @@
+package com.arassec.igor.core.model.action;
+
+/**
+ * Defines the order in which an {@link Action} requires its data items to be processed. Jobs use this to decide how many
+ * threads execute an action, and how data items are distributed among those threads.
+ */
+public enum ExecutionOrder {
+
+    /**
+     * The action doesn't require any order and is thread-safe. It is executed with the job's number of threads.
+     */
+    NONE,
+
+    /**
+     * The action is thread-safe, but processes data items in the order they arrive, e.g. to count them. It is executed with the
+     * same threads as the preceding action. Thus, the order of the data items is kept, if the preceding actions keep it.
+     */
+    INHERITED,
+
+    /**
+     * Data items with the same partition key, see {@link Action#partitionKey(java.util.Map)}, must be processed in order. The
+     * action is executed with the job's number of threads, and all data items with the same key are processed by the same
+     * thread.
+     */
+    PER_KEY,
+
+    /**
+     * All data items must be processed in order. The action is executed by a single thread.
+     */
+    GLOBAL
+
+}
@@ -0,0 +1,41 @@
+package com.arassec.igor.core.model.action;
+
+import com.arassec.igor.core.model.job.execution.JobExecution;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * An {@link Action} that hands its resulting data items over to the following actions in chunks, while it is still processing
+ * its input, e.g. while reading a large result from a remote system. Thus, the complete result doesn't have to fit into memory.
+ */
+public interface StreamingAction extends Action {
+
+    /**
+     * Executes the action for a batch of data items. Resulting data items are handed over to the supplied consumer as soon as
+     * they are available. The consumer processes them with the following actions, before it returns.
+     *
+     * @param data           The data items the action will work with.
+     * @param jobExecution   The job's execution log.
+     * @param resultConsumer Consumes chunks of resulting data items.
+     */
+    void processBatch(List<Map<String, Object>> data, JobExecution jobExecution,
+                      Consumer<List<Map<String, Object>>> resultConsumer);
+
+    /**
+     * Finalizes the action after all data items have been processed. Final data items are handed over to the supplied consumer
+     * in chunks. The consumer processes them with the following actions, before it returns.
+     * <p>
+     * By default, the result of {@link #complete()} is handed over as one chunk.
+     *
+     * @param resultConsumer Consumes chunks of final data items.
+     */
+    default void complete(Consumer<List<Map<String, Object>>> resultConsumer) {
+        List<Map<String, Object>> result = complete();
+        if (result != null && !result.isEmpty()) {
+            resultConsumer.accept(result);
+        }
+    }
+
+}
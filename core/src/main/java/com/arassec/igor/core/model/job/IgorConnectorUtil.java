@@ -8,9 +8,15 @@ import com.arassec.igor.core.model.job.execution.JobExecution;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * Utility class for {@link Connector} handling when working with {@link IgorComponent}s.
+ * <p>
+ * Components of the same job can share a connector instance. Such connectors are initialized and shut down only once, if the
+ * same set of processed connectors is supplied for all components of the job.
  */
 public class IgorConnectorUtil {
 
@@ -27,15 +33,19 @@ public class IgorConnectorUtil {
      * @param jobExecution  Contains information about the job execution.
      */
     public static void initializeConnectors(IgorComponent igorComponent, JobExecution jobExecution) {
-        if (igorComponent == null) {
-            return;
-        }
-        Class<?> current = igorComponent.getClass();
-        do {
-            Arrays.stream(current.getDeclaredFields()).forEach(field -> processField(igorComponent, jobExecution, field,
-                    true));
-            current = current.getSuperclass();
-        } while (current != null && !current.equals(Object.class));
+        initializeConnectors(igorComponent, jobExecution, createProcessedConnectorsSet());
+    }
+
+    /**
+     * Initializes {@link Connector}s used by the supplied {@link IgorComponent}, that haven't been initialized before.
+     *
+     * @param igorComponent       The component.
+     * @param jobExecution        Contains information about the job execution.
+     * @param processedConnectors The already initialized connectors. Newly initialized connectors are added.
+     */
+    public static void initializeConnectors(IgorComponent igorComponent, JobExecution jobExecution,
+                                            Set<Connector> processedConnectors) {
+        processConnectors(igorComponent, jobExecution, processedConnectors, true);
     }
 
     /**
@@ -45,13 +55,47 @@ public class IgorConnectorUtil {
      * @param jobExecution  Contains information about the job execution.
      */
     public static void shutdownConnectors(IgorComponent igorComponent, JobExecution jobExecution) {
+        shutdownConnectors(igorComponent, jobExecution, createProcessedConnectorsSet());
+    }
+
+    /**
+     * Shuts {@link Connector}s used by the supplied {@link IgorComponent} down, that haven't been shut down before.
+     *
+     * @param igorComponent       The component.
+     * @param jobExecution        Contains information about the job execution.
+     * @param processedConnectors The connectors that are already shut down. Newly shut down connectors are added.
+     */
+    public static void shutdownConnectors(IgorComponent igorComponent, JobExecution jobExecution,
+                                          Set<Connector> processedConnectors) {
+        processConnectors(igorComponent, jobExecution, processedConnectors, false);
+    }
+
+    /**
+     * Creates a set for connectors that have already been initialized or shut down. Connectors are compared by identity.
+     *
+     * @return A new, empty set.
+     */
+    public static Set<Connector> createProcessedConnectorsSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Initializes or shuts down all connectors of the supplied component.
+     *
+     * @param igorComponent       The component.
+     * @param jobExecution        Contains information about the job execution.
+     * @param processedConnectors Connectors that have already been processed and are skipped.
+     * @param initialize          Set to {@code true} to initialize the connectors or to {@code false} to shut them down.
+     */
+    private static void processConnectors(IgorComponent igorComponent, JobExecution jobExecution,
+                                          Set<Connector> processedConnectors, boolean initialize) {
         if (igorComponent == null) {
             return;
         }
         Class<?> current = igorComponent.getClass();
         do {
             Arrays.stream(current.getDeclaredFields()).forEach(field -> processField(igorComponent, jobExecution, field,
-                    false));
+                    processedConnectors, initialize));
             current = current.getSuperclass();
         } while (current != null && !current.equals(Object.class));
     }
@@ -59,13 +103,14 @@ public class IgorConnectorUtil {
     /**
      * Initializes or shuts down a connector if the supplied field contains one.
      *
-     * @param igorComponent The component.
-     * @param jobExecution  Contains information about the job execution.
-     * @param field         The field possibly containing a connector.
-     * @param initialize    Set to {@code true} to initialize the connector or to {@code false} to shut it down.
+     * @param igorComponent       The component.
+     * @param jobExecution        Contains information about the job execution.
+     * @param field               The field possibly containing a connector.
+     * @param processedConnectors Connectors that have already been processed and are skipped.
+     * @param initialize          Set to {@code true} to initialize the connector or to {@code false} to shut it down.
      */
     private static void processField(IgorComponent igorComponent, JobExecution jobExecution,
-                                     Field field, boolean initialize) {
+                                     Field field, Set<Connector> processedConnectors, boolean initialize) {
         if (field.isAnnotationPresent(IgorParam.class)) {
             try {
                 if ((!Modifier.isPublic(field.getModifiers()) ||
@@ -74,7 +119,7 @@ public class IgorConnectorUtil {
                     field.setAccessible(true); //NOSONAR - @IgorParam-fields must not necessarily be accessible!
                 }
                 Object value = field.get(igorComponent);
-                if (value instanceof Connector connector) {
+                if (value instanceof Connector connector && processedConnectors.add(connector)) {
                     if (initialize) {
                         connector.initialize(jobExecution);
                     } else {
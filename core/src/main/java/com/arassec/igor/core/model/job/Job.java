@@ -3,6 +3,9 @@ package com.arassec.igor.core.model.job;
 import com.arassec.igor.core.model.action.Action;
 import com.arassec.igor.core.model.annotation.validation.UniqueJobName;
 import com.arassec.igor.core.model.job.concurrent.ConcurrencyGroup;
+import com.arassec.igor.core.model.job.concurrent.ConcurrencySettings;
+import com.arassec.igor.core.model.job.concurrent.QueueType;
+import com.arassec.igor.core.model.job.concurrent.ThreadType;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.execution.JobExecutionState;
 import com.arassec.igor.core.model.job.starter.DefaultJobStarter;
@@ -12,21 +15,29 @@ import com.arassec.igor.core.model.trigger.EventTrigger;
 import com.arassec.igor.core.model.trigger.Trigger;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Defines an igor job.
@@ -89,6 +100,35 @@ public class Job {
     @Positive
     private int numThreads = 1;
 
+    /**
+     * The maximum number of data items a thread takes from its input queue and hands to the actions at once.
+     */
+    @Builder.Default
+    @Positive
+    private int batchSize = 1;
+
+    /**
+     * The maximum number of data items waiting in a queue between two concurrency groups. Threads putting data items into a full
+     * queue block until there is space available again. A value of '0' means unbounded, which is the default.
+     */
+    @Builder.Default
+    @PositiveOrZero
+    private int queueCapacity = 0;
+
+    /**
+     * Capacities of the input queues of individual concurrency groups, by the ID of the action that starts the group. Overrides
+     * the {@link #queueCapacity} for these groups. A value of '0' means unbounded.
+     */
+    @Builder.Default
+    private Map<String, @PositiveOrZero Integer> queueCapacities = new HashMap<>();
+
+    /**
+     * The implementation of the queues between concurrency groups.
+     */
+    @Builder.Default
+    @NotNull
+    private QueueType queueType = QueueType.LINKED;
+
     /**
      * A trigger for the job.
      */
@@ -119,6 +159,31 @@ public class Job {
     @Builder.Default
     private boolean faultTolerant = true;
 
+    /**
+     * The starter processing the data items of the current job run.
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicReference<JobStarter> currentJobStarter = new AtomicReference<>();
+
+    /**
+     * Lock to wait for the end of the current job run. A {@link ReentrantLock} doesn't pin virtual threads to their carrier
+     * thread while waiting.
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final ReentrantLock runningLock = new ReentrantLock();
+
+    /**
+     * Signalled when the current job run has finished.
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Condition runningFinished = runningLock.newCondition();
+
     /**
      * Starts the job. Depending on the trigger type (scheduled vs event based) the job will either run once and will be finished
      * after the last data item has been processed, or it will remain in state {@link JobExecutionState#ACTIVE} until it is
@@ -127,6 +192,18 @@ public class Job {
      * @param jobExecution The container for job execution information.
      */
     public void start(JobExecution jobExecution) {
+        start(jobExecution, ThreadType.PLATFORM);
+    }
+
+    /**
+     * Starts the job and executes its actions with threads of the given type.
+     *
+     * @param jobExecution The container for job execution information.
+     * @param threadType   The type of threads to execute the actions with.
+     *
+     * @see #start(JobExecution)
+     */
+    public void start(JobExecution jobExecution, ThreadType threadType) {
         log.debug("Starting job: {} ({})", name, id);
 
         currentJobExecution = Objects.requireNonNullElseGet(jobExecution, () -> JobExecution.builder().build());
@@ -141,19 +218,28 @@ public class Job {
         running = true;
         try {
             // Starts processing data items:
+            var concurrencySettings = ConcurrencySettings.builder()
+                .numThreads(numThreads)
+                .batchSize(batchSize)
+                .queueCapacity(queueCapacity)
+                .queueCapacities(queueCapacities)
+                .queueType(queueType)
+                .threadType(threadType)
+                .build();
             JobStarter jobStarter;
             if (trigger instanceof EventTrigger) {
-                jobStarter = new EventTriggeredJobStarter(trigger, actions, currentJobExecution, numThreads);
+                jobStarter = new EventTriggeredJobStarter(trigger, actions, currentJobExecution, concurrencySettings);
             } else {
-                jobStarter = new DefaultJobStarter(trigger, actions, currentJobExecution, numThreads);
+                jobStarter = new DefaultJobStarter(trigger, actions, currentJobExecution, concurrencySettings);
             }
+            currentJobStarter.set(jobStarter);
             List<ConcurrencyGroup> concurrencyGroups = jobStarter.process();
 
-            // Completes each action inside each concurrency group:
-            concurrencyGroups.forEach(ConcurrencyGroup::complete);
-
-            // Shuts the concurrency group down:
-            concurrencyGroups.forEach(ConcurrencyGroup::shutdown);
+            // Signals the end of the input to the first concurrency group. Each group completes its actions after processing
+            // all data items and passes the signal on to the following group:
+            if (!concurrencyGroups.isEmpty()) {
+                concurrencyGroups.getFirst().shutdown();
+            }
 
             // Awaits thread termination of each concurrency group:
             awaitThreadTermination(concurrencyGroups);
@@ -164,10 +250,22 @@ public class Job {
         } catch (Exception e) {
             log.error("Exception during job execution!", e);
             currentJobExecution.fail(e);
+            JobStarter jobStarter = currentJobStarter.get();
+            if (jobStarter != null) {
+                // Stops threads of concurrency groups that might already have been started:
+                jobStarter.cancel();
+            }
         } finally {
             shutdown(currentJobExecution);
             currentJobExecution.setFinished(Instant.now());
-            running = false;
+            currentJobStarter.set(null);
+            runningLock.lock();
+            try {
+                running = false;
+                runningFinished.signalAll();
+            } finally {
+                runningLock.unlock();
+            }
             log.debug("Finished job: {} ({}): {}", name, id, currentJobExecution);
         }
     }
@@ -183,29 +281,21 @@ public class Job {
                 currentJobExecution.setExecutionState(JobExecutionState.FINISHED);
             }
 
-            var cancelLock = new Object();
-
-            try (ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor()) {
-                executor.scheduleAtFixedRate(() -> {
-                    synchronized (cancelLock) {
-                        log.trace("Checking if job {} is still running: {}", getId(), getName());
-                        if (!isRunning()) {
-                            cancelLock.notifyAll();
-                        }
-                    }
-                }, 0, 100, TimeUnit.MILLISECONDS);
-
-                synchronized (cancelLock) {
-                    try {
-                        while (isRunning()) {
-                            cancelLock.wait();
-                        }
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                }
+            JobStarter jobStarter = currentJobStarter.get();
+            if (jobStarter != null) {
+                jobStarter.cancel();
+            }
 
-                executor.shutdown();
+            runningLock.lock();
+            try {
+                while (running) {
+                    log.trace("Waiting for job {} to finish: {}", getId(), getName());
+                    runningFinished.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                runningLock.unlock();
             }
         }
     }
@@ -233,14 +323,16 @@ public class Job {
      */
     private void shutdown(JobExecution jobExecution) {
         try {
+            // Connectors shared between components are shut down only once:
+            var shutdownConnectors = IgorConnectorUtil.createProcessedConnectorsSet();
             if (!actions.isEmpty()) {
                 actions.stream().filter(Action::isActive).forEach(action -> {
-                    IgorConnectorUtil.shutdownConnectors(action, jobExecution);
+                    IgorConnectorUtil.shutdownConnectors(action, jobExecution, shutdownConnectors);
                     action.shutdown(jobExecution);
                 });
             }
             if (trigger != null) {
-                IgorConnectorUtil.shutdownConnectors(trigger, jobExecution);
+                IgorConnectorUtil.shutdownConnectors(trigger, jobExecution, shutdownConnectors);
                 trigger.shutdown(jobExecution);
             }
         } catch (Exception e) {
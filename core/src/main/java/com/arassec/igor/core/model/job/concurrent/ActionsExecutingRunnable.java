@@ -1,12 +1,16 @@
 package com.arassec.igor.core.model.job.concurrent;
 
 import com.arassec.igor.core.model.action.Action;
+import com.arassec.igor.core.model.action.StreamingAction;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
@@ -16,6 +20,12 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class ActionsExecutingRunnable implements Runnable {
 
+    /**
+     * Marks the end of the input. Each thread of a concurrency-group stops working after it took one of these markers from its
+     * input queue. Compared by identity.
+     */
+    static final Map<String, Object> END_OF_INPUT = Collections.unmodifiableMap(new HashMap<>());
+
     /**
      * The actions of this thread.
      */
@@ -31,6 +41,16 @@ public class ActionsExecutingRunnable implements Runnable {
      */
     private final BlockingQueue<Map<String, Object>> outputQueue;
 
+    /**
+     * The maximum number of data items taken from the input queue and processed together.
+     */
+    private final int batchSize;
+
+    /**
+     * Metrics about the output queue.
+     */
+    private final QueueMetrics queueMetrics;
+
     /**
      * Indicates whether this thread should keep working or cancel its work.
      */
@@ -44,12 +64,16 @@ public class ActionsExecutingRunnable implements Runnable {
     /**
      * Creates a new ActionsExecutingRunnable.
      *
-     * @param actions     The actions of this thread.
-     * @param inputQueue  The input queue with incoming data.
-     * @param outputQueue The output queue for the processed data.
+     * @param actions      The actions of this thread.
+     * @param inputQueue   The input queue with incoming data.
+     * @param outputQueue  The output queue for the processed data.
+     * @param jobExecution The job execution.
+     * @param batchSize    The maximum number of data items taken from the input queue and processed together.
+     * @param queueMetrics Metrics about the output queue.
      */
     ActionsExecutingRunnable(List<Action> actions, BlockingQueue<Map<String, Object>> inputQueue,
-                             BlockingQueue<Map<String, Object>> outputQueue, JobExecution jobExecution) {
+                             BlockingQueue<Map<String, Object>> outputQueue, JobExecution jobExecution, int batchSize,
+                             QueueMetrics queueMetrics) {
         if (inputQueue == null) {
             throw new IllegalArgumentException("InputQueue required!");
         }
@@ -62,24 +86,40 @@ public class ActionsExecutingRunnable implements Runnable {
         this.inputQueue = inputQueue;
         this.outputQueue = outputQueue;
         this.jobExecution = jobExecution;
+        this.batchSize = Math.max(batchSize, 1);
+        this.queueMetrics = Objects.requireNonNullElseGet(queueMetrics, QueueMetrics::new);
     }
 
     /**
-     * Picks the next data from the input queue, lets all actions process the data, and stores the resulting data in the output
-     * queue.
+     * Picks the next data items from the input queue, up to the configured batch size, lets all actions process the data, and
+     * stores the resulting data in the output queue.
      * <p>
-     * This is done until the {@link ActionsExecutingRunnable#shutdown()} method is called.
+     * This is done until an {@link #END_OF_INPUT} marker is taken from the input queue, the thread is interrupted, or the
+     * {@link ActionsExecutingRunnable#shutdown()} method is called. Data items taken after the job stopped running are
+     * discarded.
      */
     @Override
     public void run() {
+        List<Map<String, Object>> batch = new ArrayList<>(batchSize);
         while (active) {
             try {
-                Map<String, Object> nextInputItem = inputQueue.poll(500, TimeUnit.MILLISECONDS);
-                if (nextInputItem != null && !nextInputItem.isEmpty()) {
-                    process(actions, List.of(nextInputItem));
-                }
+                batch.add(inputQueue.take());
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
+                return;
+            }
+            if (batchSize > 1) {
+                inputQueue.drainTo(batch, batchSize - 1);
+            }
+            int endOfInputMarkers = removeEndOfInputMarkers(batch);
+            batch.removeIf(Map::isEmpty);
+            if (!batch.isEmpty() && isJobRunning()) {
+                process(actions, new ArrayList<>(batch));
+            }
+            batch.clear();
+            if (endOfInputMarkers > 0) {
+                active = false;
+                returnEndOfInputMarkers(endOfInputMarkers - 1);
             }
         }
     }
@@ -89,15 +129,38 @@ public class ActionsExecutingRunnable implements Runnable {
      */
     public void complete() {
         for (var i = 0; i < actions.size(); i++) {
-            var action = actions.get(i);
-            List<Map<String, Object>> items = action.complete();
-            if (items != null && !items.isEmpty()) {
-                if ((i + 1) < actions.size()) {
-                    process(actions.subList(i + 1, actions.size()), items);
-                } else {
-                    // The last action. Output goes directly to the output queue:
-                    putToOutputQueue(items);
-                }
+            completeAction(i);
+        }
+    }
+
+    /**
+     * Completes a single action and processes its final data, if any, with the following actions. {@link StreamingAction}s hand
+     * their final data over in chunks.
+     *
+     * @param actionIndex The index of the action to complete.
+     */
+    void completeAction(int actionIndex) {
+        Action action = actions.get(actionIndex);
+        if (action instanceof StreamingAction streamingAction) {
+            streamingAction.complete(items -> processFinalData(actionIndex, items));
+        } else {
+            processFinalData(actionIndex, action.complete());
+        }
+    }
+
+    /**
+     * Processes final data of an action with the following actions.
+     *
+     * @param actionIndex The index of the completed action.
+     * @param items       The action's final data.
+     */
+    private void processFinalData(int actionIndex, List<Map<String, Object>> items) {
+        if (items != null && !items.isEmpty()) {
+            if ((actionIndex + 1) < actions.size()) {
+                process(actions.subList(actionIndex + 1, actions.size()), items);
+            } else {
+                // The last action. Output goes directly to the output queue:
+                putToOutputQueue(items);
             }
         }
     }
@@ -110,7 +173,13 @@ public class ActionsExecutingRunnable implements Runnable {
     }
 
     /**
-     * Processes the data with the supplied actions.
+     * Processes the data with the supplied actions. Each action processes all data items of the batch, before its results are
+     * handed over to the following action. {@link StreamingAction}s hand their results over in chunks, while they are still
+     * processing the batch.
+     * <p>
+     * Actions with a {@link com.arassec.igor.core.model.job.misc.ProcessingFinishedCallback} process the data items one by one
+     * instead, so that the callback is invoked directly after each data item has been processed, e.g. to acknowledge an event as
+     * soon as possible.
      *
      * @param actions The actions to apply to the data.
      * @param items   The data to process.
@@ -121,55 +190,122 @@ public class ActionsExecutingRunnable implements Runnable {
         }
 
         // Contains all data items which an action has to process:
-        List<Map<String, Object>> workingItems = new LinkedList<>(items);
+        List<Map<String, Object>> workingItems = items;
 
-        for (Action action : actions) {
+        for (var i = 0; i < actions.size(); i++) {
+            Action action = actions.get(i);
 
-            List<Map<String, Object>> actionResult = new LinkedList<>();
+            if (action.getProcessingFinishedCallback() != null && workingItems.size() > 1) {
+                List<Action> remainingActions = actions.subList(i, actions.size());
+                workingItems.forEach(workingItem -> process(remainingActions, List.of(workingItem)));
+                return;
+            }
 
-            for (Map<String, Object> workingItem : workingItems) {
-                log.trace("Processing: {}", workingItem);
-                List<Map<String, Object>> partialActionResult = action.process(workingItem, jobExecution);
-                if (partialActionResult != null && !partialActionResult.isEmpty()) {
-                    actionResult.addAll(partialActionResult);
-                }
-                // Invokes a callback after the data item has been processed where applicable:
-                if (action.getProcessingFinishedCallback() != null) {
-                    action.getProcessingFinishedCallback().processingFinished(workingItem);
-                }
+            log.trace("Processing: {}", workingItems);
+
+            if (action instanceof StreamingAction streamingAction) {
+                List<Action> followingActions = actions.subList(i + 1, actions.size());
+                streamingAction.processBatch(workingItems, jobExecution, actionResult -> {
+                    if (actionResult != null && !actionResult.isEmpty()) {
+                        process(followingActions, actionResult);
+                    }
+                });
+                notifyProcessingFinished(action, workingItems);
+                return;
             }
 
-            // The action processed all incoming working items:
-            workingItems.clear();
+            List<Map<String, Object>> actionResult = action.processBatch(workingItems, jobExecution);
+
+            notifyProcessingFinished(action, workingItems);
 
-            if (actionResult.isEmpty()) {
+            if (actionResult == null || actionResult.isEmpty()) {
                 // If the current action returned nothing, the remaining actions will not be called any more.
-                break;
-            } else {
-                // The results of the current action is the input for the following action:
-                workingItems.addAll(actionResult);
+                return;
             }
+
+            // The results of the current action is the input for the following action:
+            workingItems = actionResult;
         }
 
         putToOutputQueue(workingItems);
     }
 
     /**
-     * Puts all supplied items in the output queue.
+     * Invokes the action's callback for every processed data item, where applicable.
+     *
+     * @param action The action that processed the data items.
+     * @param items  The processed data items.
+     */
+    private void notifyProcessingFinished(Action action, List<Map<String, Object>> items) {
+        if (action.getProcessingFinishedCallback() != null) {
+            items.forEach(item -> action.getProcessingFinishedCallback().processingFinished(item));
+        }
+    }
+
+    /**
+     * Puts all supplied items in the output queue. If the queue is full, this blocks until the following concurrency-group took
+     * data items from it, or the job isn't running anymore.
      *
      * @param items The items to output.
      */
     private void putToOutputQueue(List<Map<String, Object>> items) {
-        if (!items.isEmpty()) {
-            for (Map<String, Object> outputItem : items) {
+        for (Map<String, Object> outputItem : items) {
+            long blockedNanos = 0;
+            if (!outputQueue.offer(outputItem)) {
+                long blockedSince = System.nanoTime();
                 try {
-                    outputQueue.put(outputItem);
+                    var added = false;
+                    while (!added && isJobRunning()) {
+                        added = outputQueue.offer(outputItem, 100, TimeUnit.MILLISECONDS);
+                    }
                 } catch (InterruptedException e) {
                     log.error("Interrupted while putting data to the output queue!", e);
                     Thread.currentThread().interrupt();
+                    return;
                 }
+                blockedNanos = System.nanoTime() - blockedSince;
             }
+            queueMetrics.recordPut(blockedNanos, outputQueue.size());
         }
     }
 
+    /**
+     * Removes all {@link #END_OF_INPUT} markers from the supplied batch.
+     *
+     * @param batch The batch of data items taken from the input queue.
+     *
+     * @return The number of removed markers.
+     */
+    private int removeEndOfInputMarkers(List<Map<String, Object>> batch) {
+        int size = batch.size();
+        batch.removeIf(item -> item == END_OF_INPUT);
+        return size - batch.size();
+    }
+
+    /**
+     * Puts markers back into the input queue, that were drained together with this thread's own marker, but are meant for other
+     * threads of the concurrency-group.
+     *
+     * @param numMarkers The number of markers to return.
+     */
+    private void returnEndOfInputMarkers(int numMarkers) {
+        for (var i = 0; i < numMarkers; i++) {
+            try {
+                inputQueue.put(END_OF_INPUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the job is still running.
+     *
+     * @return {@code true} if the job is running or active, {@code false} otherwise.
+     */
+    private boolean isJobRunning() {
+        return jobExecution == null || jobExecution.isRunningOrActive();
+    }
+
 }
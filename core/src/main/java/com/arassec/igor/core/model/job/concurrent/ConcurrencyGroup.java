@@ -1,43 +1,56 @@
 package com.arassec.igor.core.model.job.concurrent;
 
 import com.arassec.igor.core.model.action.Action;
+import com.arassec.igor.core.model.action.ExecutionOrder;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Controls a concurrency group i.e., a list of {@link Action}s that should all be performed with the same number of threads.
+ * <p>
+ * The end of the input is signalled by {@link #shutdown()}. After all threads processed their remaining data items, the actions
+ * are completed, the end of the input is signalled to the following concurrency group, and the threads terminate.
  */
 @Slf4j
 public class ConcurrencyGroup implements Thread.UncaughtExceptionHandler {
 
     /**
-     * Defines the name of the threads in the pool of this concurrency-group.
+     * Contains the incoming data for each thread of this concurrency-group. This is the output-queue of the previous
+     * concurrency-group, or one of its partitions, if the actions require data items to be processed in order per key.
      */
-    private static final String THREAD_NAME_PATTERN = "%s-%d";
+    private final List<BlockingQueue<Map<String, Object>>> threadInputQueues = new ArrayList<>();
 
     /**
-     * Contains the incoming data for this concurrency-group. This is the output-queue of the previous concurrency-group.
+     * The number of actions of this concurrency-group.
      */
-    private final BlockingQueue<Map<String, Object>> inputQueue;
+    private final int numActions;
 
     /**
      * Contains the output of this concurrency-group, which models the input for the following concurrency-group.
      */
     @Getter
-    private final BlockingQueue<Map<String, Object>> outputQueue = new LinkedBlockingDeque<>();
+    private final BlockingQueue<Map<String, Object>> outputQueue;
 
     /**
-     * The {@link ThreadPoolExecutor} managing the threads.
+     * Metrics about the output queue of this concurrency-group.
      */
-    private final ThreadPoolExecutor threadPoolExecutor;
+    @Getter
+    private final QueueMetrics queueMetrics = new QueueMetrics();
+
+    /**
+     * The {@link ExecutorService} managing the threads.
+     */
+    private final ExecutorService executorService;
 
     /**
      * The ID of this concurrency-group. Only used for logging purposes to identify this concurrency-group.
@@ -49,6 +62,17 @@ public class ConcurrencyGroup implements Thread.UncaughtExceptionHandler {
      */
     private final List<ActionsExecutingRunnable> runnableList = new LinkedList<>();
 
+    /**
+     * The number of threads that are still processing data items.
+     */
+    private final AtomicInteger runningThreads = new AtomicInteger();
+
+    /**
+     * The following concurrency-group, which processes the output of this concurrency-group.
+     */
+    @Setter
+    private ConcurrencyGroup successor;
+
     /**
      * The {@link JobExecution} contains information about the state of the current job run. Required here because an exception in
      * a thread should stop the whole job, which runs in another thread.
@@ -62,60 +86,75 @@ public class ConcurrencyGroup implements Thread.UncaughtExceptionHandler {
      *
      * @param actions            The list of {@link Action}s that are contained in this group.
      * @param inputQueue         The input for this concurrency-group. Data is read from this queue and handed over to the
-     *                           actions. The output of the last action is put into the output queue.
+     *                           actions. If it is a {@link PartitionedQueue}, each thread reads from its own partition.
+     * @param outputQueue        The output of the last action is put into this queue. If {@code null}, the output is discarded.
      * @param concurrencyGroupId The ID of this concurrency-group.
      * @param jobExecution       The {@link JobExecution} containing the current state of the job run.
-     * @param numThreads         The number of threads the job's actions should execute with.
+     * @param settings           The settings defining the number and type of threads, batch size and queues.
      */
-    public ConcurrencyGroup(List<Action> actions, BlockingQueue<Map<String, Object>> inputQueue, String concurrencyGroupId,
-                            JobExecution jobExecution, int numThreads) {
-        this.inputQueue = inputQueue;
+    public ConcurrencyGroup(List<Action> actions, BlockingQueue<Map<String, Object>> inputQueue,
+                            BlockingQueue<Map<String, Object>> outputQueue, String concurrencyGroupId,
+                            JobExecution jobExecution, ConcurrencySettings settings) {
+        this.numActions = (actions != null) ? actions.size() : 0;
+        this.outputQueue = Objects.requireNonNullElseGet(outputQueue, DiscardingQueue::new);
         this.concurrencyGroupId = concurrencyGroupId;
         this.jobExecution = jobExecution;
+        if (outputQueue != null && jobExecution != null) {
+            jobExecution.addQueueMetrics(concurrencyGroupId, queueMetrics);
+        }
 
-        int threads = numThreads;
-        if (actions != null && !actions.isEmpty() && actions.getFirst().enforceSingleThread()) {
+        int threads = settings.getNumThreads();
+        if (inputQueue instanceof PartitionedQueue partitionedQueue) {
+            threads = partitionedQueue.getNumPartitions();
+        } else if (actions != null && !actions.isEmpty() && ExecutionOrder.GLOBAL.equals(actions.getFirst().requiredOrder())) {
             threads = 1;
         }
 
-        threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(threads, new ThreadFactory() {
-            private final AtomicInteger counter = new AtomicInteger();
-
-            @Override
-            @SuppressWarnings("NullableProblems")
-            public Thread newThread(Runnable r) {
-                var t = new Thread(r, String.format(THREAD_NAME_PATTERN, concurrencyGroupId, counter.incrementAndGet()));
-                t.setUncaughtExceptionHandler(ConcurrencyGroup.this);
-                return t;
-            }
-        });
+        var threadType = Objects.requireNonNullElse(settings.getThreadType(), ThreadType.PLATFORM);
+        executorService = threadType.createExecutor(threads, concurrencyGroupId, this);
 
+        runningThreads.set(threads);
         for (var i = 0; i < threads; i++) {
-            var runnable = new ActionsExecutingRunnable(actions, inputQueue, outputQueue, jobExecution);
+            var threadInputQueue = (inputQueue instanceof PartitionedQueue partitionedQueue) ? partitionedQueue.getPartition(i)
+                : inputQueue;
+            threadInputQueues.add(threadInputQueue);
+            var runnable = new ActionsExecutingRunnable(actions, threadInputQueue, this.outputQueue, jobExecution,
+                settings.getBatchSize(), queueMetrics);
             runnableList.add(runnable);
-            threadPoolExecutor.execute(runnable);
+            executorService.execute(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    runnableFinished();
+                }
+            });
         }
     }
 
     /**
-     * Calls {@link Action#complete()} on all actions of this concurrency group.
+     * Signals the end of the input to this concurrency-group. The threads process all data items that are already in the input
+     * queue and terminate afterwards. This method doesn't wait for the threads to terminate.
      */
-    public void complete() {
-        waitForEmptyInputQueue();
-        runnableList.forEach(ActionsExecutingRunnable::complete);
+    public void shutdown() {
+        for (BlockingQueue<Map<String, Object>> threadInputQueue : threadInputQueues) {
+            try {
+                var added = false;
+                while (!added && !executorService.isTerminated()) {
+                    added = threadInputQueue.offer(ActionsExecutingRunnable.END_OF_INPUT, 100, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                log.error("Interrupted while signalling the end of input to concurrency-group: {}", concurrencyGroupId);
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
     }
 
     /**
-     * Shuts the thread pool down after all incoming data has been processed. Threads might still run after calling this method if
-     * e.g. a large file is copied in an action.
-     * <p>
-     * In case the job is canceled, this method will not wait for all data to be processed, but shut the thread pool down
-     * immediately.
+     * Stops all threads of this concurrency-group immediately.
      */
-    public void shutdown() {
-        waitForEmptyInputQueue();
-        runnableList.forEach(ActionsExecutingRunnable::shutdown);
-        threadPoolExecutor.shutdown();
+    public void cancel() {
+        executorService.shutdownNow();
     }
 
     /**
@@ -126,20 +165,17 @@ public class ConcurrencyGroup implements Thread.UncaughtExceptionHandler {
      * @return {@code true}, if all threads in the group have been terminated. {@code false} otherwise.
      */
     public boolean awaitTermination() {
-        log.debug("Total/Active/Completed Threads in '{}': {}/{}/{}", concurrencyGroupId, threadPoolExecutor.getPoolSize(),
-            threadPoolExecutor.getActiveCount(), threadPoolExecutor.getCompletedTaskCount());
+        log.debug("Running/Total Threads in '{}': {}/{}", concurrencyGroupId, runningThreads.get(), runnableList.size());
         try {
             if (jobExecution != null && !jobExecution.isRunningOrActive()) {
-                threadPoolExecutor.shutdownNow();
-                return true;
+                executorService.shutdownNow();
             }
-            boolean awaitTerminationResult = threadPoolExecutor.awaitTermination(1000, TimeUnit.MILLISECONDS);
-            log.debug("After awaitTermination: Total/Active/Completed Threads: {}/{}/{}", threadPoolExecutor.getPoolSize(),
-                threadPoolExecutor.getActiveCount(), threadPoolExecutor.getCompletedTaskCount());
+            boolean awaitTerminationResult = executorService.awaitTermination(1000, TimeUnit.MILLISECONDS);
+            log.debug("After awaitTermination: Running/Total Threads: {}/{}", runningThreads.get(), runnableList.size());
             return awaitTerminationResult;
         } catch (InterruptedException e) {
             log.error("Concurrency-Group interrupted during awaitTermination()!", e);
-            threadPoolExecutor.shutdownNow();
+            executorService.shutdownNow();
             Thread.currentThread().interrupt();
             return true;
         }
@@ -162,36 +198,27 @@ public class ConcurrencyGroup implements Thread.UncaughtExceptionHandler {
     }
 
     /**
-     * Waits until the input queue has been emptied by the worker threads.
+     * Called by each thread after it stopped processing data items. The last thread completes the actions, signals the end of
+     * the input to the following concurrency-group and shuts the thread pool down.
      */
-    private void waitForEmptyInputQueue() {
-        if (jobExecution != null && !jobExecution.isRunningOrActive()) {
-            log.debug("Job cancelled. Not waiting for empty input queue in concurrency group: {}", concurrencyGroupId);
+    private void runnableFinished() {
+        if (runningThreads.decrementAndGet() > 0) {
             return;
         }
-
-        var waitLock = new Object();
-        try (ScheduledExecutorService waitCheckExecutor = Executors.newSingleThreadScheduledExecutor()) {
-
-            waitCheckExecutor.scheduleAtFixedRate(() -> {
-                synchronized (waitLock) {
-                    log.trace("Checking for threads to finish their work to complete concurrency-group: {} ({})",
-                        concurrencyGroupId, inputQueue.size());
-                    if (inputQueue.isEmpty()) {
-                        waitLock.notifyAll();
-                    }
-                }
-            }, 0, 100, TimeUnit.MILLISECONDS);
-
-            synchronized (waitLock) {
-                try {
-                    while (!inputQueue.isEmpty()) {
-                        waitLock.wait();
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+        try {
+            // Each action is completed by all runnables before the following action is completed. Thus, final data items of an
+            // action are processed by the following actions before those are completed themselves:
+            for (var i = 0; i < numActions; i++) {
+                for (ActionsExecutingRunnable runnable : runnableList) {
+                    runnable.completeAction(i);
                 }
             }
+        } finally {
+            if (successor != null) {
+                successor.shutdown();
+            }
+            executorService.shutdown();
+            log.debug("Output queue metrics of '{}': {}", concurrencyGroupId, queueMetrics);
         }
     }
 
@@ -0,0 +1,86 @@
+package com.arassec.igor.core.model.job.concurrent;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Settings that define how a job's actions process data items concurrently.
+ */
+@Data
+@Builder
+public class ConcurrencySettings {
+
+    /**
+     * The number of threads the job's actions are executed with.
+     */
+    @Builder.Default
+    private int numThreads = 1;
+
+    /**
+     * The maximum number of data items a thread takes from its input queue and hands to the actions at once.
+     */
+    @Builder.Default
+    private int batchSize = 1;
+
+    /**
+     * The maximum number of data items waiting in a queue between two concurrency groups. A value of '0' means unbounded.
+     */
+    @Builder.Default
+    private int queueCapacity = 0;
+
+    /**
+     * Capacities of the input queues of individual concurrency groups, by the ID of the action that starts the group. Groups
+     * without an entry use the {@link #queueCapacity}.
+     */
+    @Builder.Default
+    private Map<String, Integer> queueCapacities = Map.of();
+
+    /**
+     * The implementation of the queues between concurrency groups.
+     */
+    @Builder.Default
+    private QueueType queueType = QueueType.LINKED;
+
+    /**
+     * The type of threads the job's actions are executed with.
+     */
+    @Builder.Default
+    private ThreadType threadType = ThreadType.PLATFORM;
+
+    /**
+     * Creates a new queue according to these settings.
+     *
+     * @param <T> The type of the queue's elements.
+     *
+     * @return A newly created queue.
+     */
+    public <T> BlockingQueue<T> createQueue() {
+        return (queueType != null ? queueType : QueueType.LINKED).create(queueCapacity);
+    }
+
+    /**
+     * Returns the settings for the input queue of the concurrency group that starts with the given action.
+     *
+     * @param actionId The ID of the group's first action.
+     *
+     * @return These settings, or a copy with the group's queue capacity, if one is configured for the action.
+     */
+    public ConcurrencySettings forGroupStartingWith(String actionId) {
+        Integer groupQueueCapacity = (queueCapacities != null && actionId != null) ? queueCapacities.get(actionId) : null;
+        if (groupQueueCapacity == null) {
+            return this;
+        }
+        return ConcurrencySettings.builder()
+            .numThreads(numThreads)
+            .batchSize(batchSize)
+            .queueCapacity(groupQueueCapacity)
+            .queueCapacities(queueCapacities)
+            .queueType(queueType)
+            .threadType(threadType)
+            .build();
+    }
+
+}
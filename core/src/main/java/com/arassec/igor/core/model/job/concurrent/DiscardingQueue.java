@@ -0,0 +1,133 @@
+package com.arassec.igor.core.model.job.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue that accepts all elements and drops them immediately. Used as output queue of the last concurrency group, whose results
+ * aren't processed any further.
+ *
+ * @param <E> The type of the queue's elements.
+ */
+class DiscardingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * Never counted down. Threads taking elements from the queue wait on this latch, as they would on an empty queue.
+     */
+    private final CountDownLatch elementAvailable = new CountDownLatch(1);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return Collections.emptyIterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(E e) {
+        // Nothing to do here, the element is dropped.
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(E e) {
+        return true;
+    }
+
+    /**
+     * Blocks until the thread is interrupted, since the queue never contains elements.
+     *
+     * @return Nothing, the method never returns normally.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    @Override
+    public E take() throws InterruptedException {
+        elementAvailable.await();
+        throw new IllegalStateException("A discarding queue never contains elements!");
+    }
+
+    /**
+     * Waits for the specified time and returns {@code null}, since the queue never contains elements.
+     *
+     * @param timeout How long to wait.
+     * @param unit    The unit of the timeout.
+     *
+     * @return Always {@code null}.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (elementAvailable.await(timeout, unit)) {
+            throw new IllegalStateException("A discarding queue never contains elements!");
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E poll() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E peek() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        return 0;
+    }
+
+}
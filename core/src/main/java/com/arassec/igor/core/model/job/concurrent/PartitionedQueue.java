@@ -0,0 +1,394 @@
+package com.arassec.igor.core.model.job.concurrent;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Queue that distributes data items among several partitions by their partition key. Data items with equal keys are always put
+ * into the same partition, and each thread of the following concurrency-group takes data items from its own partition only.
+ * Thus, data items with equal keys are processed in order.
+ * <p>
+ * The threads of the following concurrency-group take elements from their partitions, see {@link #getPartition(int)}. Taking
+ * elements from this queue directly returns the next element of any partition. Every element added to a partition, through this
+ * queue or through the partition itself, wakes up threads waiting in {@link #take()} or {@link #poll(long, TimeUnit)}.
+ */
+public class PartitionedQueue extends AbstractQueue<Map<String, Object>> implements BlockingQueue<Map<String, Object>> {
+
+    /**
+     * The partitions.
+     */
+    private final List<Partition> partitions;
+
+    /**
+     * Determines the partition key of a data item.
+     */
+    private final Function<Map<String, Object>, Object> partitionKeyFunction;
+
+    /**
+     * Guards waiting for new elements in {@link #take()} and {@link #poll(long, TimeUnit)}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled after an element has been added to a partition.
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * The number of threads waiting for new elements. Producers only signal them, if there are any.
+     */
+    private final AtomicInteger numWaiting = new AtomicInteger();
+
+    /**
+     * Creates a new instance with one partition per thread.
+     *
+     * @param settings             The settings defining the number of threads and the partitions' type and capacity.
+     * @param partitionKeyFunction Determines the partition key of a data item.
+     */
+    public PartitionedQueue(ConcurrencySettings settings, Function<Map<String, Object>, Object> partitionKeyFunction) {
+        int numPartitions = Math.max(settings.getNumThreads(), 1);
+        this.partitions = new ArrayList<>(numPartitions);
+        for (var i = 0; i < numPartitions; i++) {
+            partitions.add(new Partition(settings.createQueue()));
+        }
+        this.partitionKeyFunction = partitionKeyFunction;
+    }
+
+    /**
+     * Returns the number of partitions.
+     *
+     * @return The number of partitions.
+     */
+    public int getNumPartitions() {
+        return partitions.size();
+    }
+
+    /**
+     * Returns the partition with the given index.
+     *
+     * @param index The partition's index.
+     *
+     * @return The partition.
+     */
+    public BlockingQueue<Map<String, Object>> getPartition(int index) {
+        return partitions.get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(Map<String, Object> data) {
+        return partitionOf(data).offer(data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(Map<String, Object> data, long timeout, TimeUnit unit) throws InterruptedException {
+        return partitionOf(data).offer(data, timeout, unit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Map<String, Object> data) throws InterruptedException {
+        partitionOf(data).put(data);
+    }
+
+    /**
+     * Takes the next element of any partition, waiting if necessary until an element becomes available.
+     *
+     * @return The next element.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    @Override
+    public Map<String, Object> take() throws InterruptedException {
+        Map<String, Object> data = poll();
+        if (data != null) {
+            return data;
+        }
+        numWaiting.incrementAndGet();
+        lock.lockInterruptibly();
+        try {
+            while ((data = poll()) == null) {
+                notEmpty.await();
+            }
+            return data;
+        } finally {
+            lock.unlock();
+            numWaiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Takes the next element of any partition, waiting up to the specified time if necessary until an element becomes
+     * available.
+     *
+     * @param timeout How long to wait before giving up.
+     * @param unit    The unit of the timeout.
+     *
+     * @return The next element, or {@code null} if no element became available in time.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    @Override
+    public Map<String, Object> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        Map<String, Object> data = poll();
+        if (data != null) {
+            return data;
+        }
+        long remainingNanos = unit.toNanos(timeout);
+        numWaiting.incrementAndGet();
+        lock.lockInterruptibly();
+        try {
+            while ((data = poll()) == null) {
+                if (remainingNanos <= 0) {
+                    return null;
+                }
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+            return data;
+        } finally {
+            lock.unlock();
+            numWaiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Object> poll() {
+        for (Partition partition : partitions) {
+            Map<String, Object> data = partition.poll();
+            if (data != null) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Object> peek() {
+        for (Partition partition : partitions) {
+            Map<String, Object> data = partition.peek();
+            if (data != null) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return partitions.stream().mapToInt(Collection::size).sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int remainingCapacity() {
+        long remainingCapacity = partitions.stream().mapToLong(BlockingQueue::remainingCapacity).sum();
+        return (int) Math.min(remainingCapacity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Map<String, Object>> iterator() {
+        return partitions.stream().flatMap(Collection::stream).iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(Collection<? super Map<String, Object>> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(Collection<? super Map<String, Object>> c, int maxElements) {
+        var drained = 0;
+        for (Partition partition : partitions) {
+            if (drained >= maxElements) {
+                break;
+            }
+            drained += partition.drainTo(c, maxElements - drained);
+        }
+        return drained;
+    }
+
+    /**
+     * Wakes up threads waiting for new elements, if there are any. Called after an element has been added to a partition.
+     * Waiting threads register themselves before they check the partitions for the last time, so no element can be missed.
+     */
+    private void signalNotEmpty() {
+        if (numWaiting.get() > 0) {
+            lock.lock();
+            try {
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the partition a data item belongs to.
+     *
+     * @param data The data item.
+     *
+     * @return The partition for the data item's key.
+     */
+    private Partition partitionOf(Map<String, Object> data) {
+        Object key = (data != null) ? partitionKeyFunction.apply(data) : null;
+        return partitions.get(Math.floorMod(Objects.hashCode(key), partitions.size()));
+    }
+
+    /**
+     * A single partition. Delegates to the queue created from the concurrency settings and wakes up threads waiting on the
+     * partitioned queue after each added element.
+     */
+    private final class Partition extends AbstractQueue<Map<String, Object>> implements BlockingQueue<Map<String, Object>> {
+
+        /**
+         * The queue containing the partition's elements.
+         */
+        private final BlockingQueue<Map<String, Object>> queue;
+
+        /**
+         * Creates a new partition.
+         *
+         * @param queue The queue containing the partition's elements.
+         */
+        private Partition(BlockingQueue<Map<String, Object>> queue) {
+            this.queue = queue;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean offer(Map<String, Object> data) {
+            boolean added = queue.offer(data);
+            if (added) {
+                signalNotEmpty();
+            }
+            return added;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean offer(Map<String, Object> data, long timeout, TimeUnit unit) throws InterruptedException {
+            boolean added = queue.offer(data, timeout, unit);
+            if (added) {
+                signalNotEmpty();
+            }
+            return added;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void put(Map<String, Object> data) throws InterruptedException {
+            queue.put(data);
+            signalNotEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map<String, Object> take() throws InterruptedException {
+            return queue.take();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map<String, Object> poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return queue.poll(timeout, unit);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map<String, Object> poll() {
+            return queue.poll();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map<String, Object> peek() {
+            return queue.peek();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return queue.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int remainingCapacity() {
+            return queue.remainingCapacity();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Map<String, Object>> iterator() {
+            return queue.iterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int drainTo(Collection<? super Map<String, Object>> c) {
+            return queue.drainTo(c);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int drainTo(Collection<? super Map<String, Object>> c, int maxElements) {
+            return queue.drainTo(c, maxElements);
+        }
+
+    }
+
+}
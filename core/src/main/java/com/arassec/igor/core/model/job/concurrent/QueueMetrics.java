@@ -0,0 +1,92 @@
+package com.arassec.igor.core.model.job.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects metrics about the output queue of a concurrency group, which help to size the queue's capacity.
+ */
+public class QueueMetrics {
+
+    /**
+     * The number of data items put into the queue.
+     */
+    private final LongAdder items = new LongAdder();
+
+    /**
+     * The number of times a thread had to wait, because the queue was full.
+     */
+    private final LongAdder blockedPuts = new LongAdder();
+
+    /**
+     * The total time in nanoseconds threads waited, because the queue was full.
+     */
+    private final LongAdder blockedNanos = new LongAdder();
+
+    /**
+     * The largest number of data items observed in the queue.
+     */
+    private final AtomicInteger maxDepth = new AtomicInteger();
+
+    /**
+     * Records a data item put into the queue.
+     *
+     * @param blockedNanos The time in nanoseconds the thread had to wait for free space in the queue.
+     * @param depth        The number of data items in the queue after the item has been put into it.
+     */
+    public void recordPut(long blockedNanos, int depth) {
+        items.increment();
+        if (blockedNanos > 0) {
+            blockedPuts.increment();
+            this.blockedNanos.add(blockedNanos);
+        }
+        maxDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    /**
+     * Returns the number of data items put into the queue.
+     *
+     * @return The number of items.
+     */
+    public long getItems() {
+        return items.sum();
+    }
+
+    /**
+     * Returns the number of times a thread had to wait, because the queue was full.
+     *
+     * @return The number of blocked put operations.
+     */
+    public long getBlockedPuts() {
+        return blockedPuts.sum();
+    }
+
+    /**
+     * Returns the total time threads waited, because the queue was full.
+     *
+     * @return The blocked time in milliseconds.
+     */
+    public long getBlockedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(blockedNanos.sum());
+    }
+
+    /**
+     * Returns the largest number of data items observed in the queue.
+     *
+     * @return The maximum queue depth.
+     */
+    public int getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("items=%d, maxDepth=%d, blockedPuts=%d, blockedMillis=%d", getItems(), getMaxDepth(),
+            getBlockedPuts(), getBlockedMillis());
+    }
+
+}
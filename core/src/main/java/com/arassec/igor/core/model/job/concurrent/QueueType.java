@@ -0,0 +1,42 @@
+package com.arassec.igor.core.model.job.concurrent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Defines the implementations available for the queues between concurrency groups.
+ */
+public enum QueueType {
+
+    /**
+     * A queue of linked nodes. Producers and consumers use separate locks, which suits concurrency groups with many threads.
+     */
+    LINKED,
+
+    /**
+     * An array-backed ring buffer with a fixed capacity. Doesn't allocate nodes per data item but uses a single lock for
+     * producers and consumers.
+     */
+    ARRAY;
+
+    /**
+     * Creates a new queue of this type.
+     *
+     * @param capacity The queue's capacity. A value of '0' or less creates an unbounded queue, which is always a {@link #LINKED}
+     *                 queue.
+     * @param <T>      The type of the queue's elements.
+     *
+     * @return A newly created queue.
+     */
+    public <T> BlockingQueue<T> create(int capacity) {
+        if (capacity <= 0) {
+            return new LinkedBlockingQueue<>();
+        }
+        if (this == ARRAY) {
+            return new ArrayBlockingQueue<>(capacity);
+        }
+        return new LinkedBlockingQueue<>(capacity);
+    }
+
+}
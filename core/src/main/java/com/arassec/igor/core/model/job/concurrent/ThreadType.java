@@ -0,0 +1,43 @@
+package com.arassec.igor.core.model.job.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Defines the type of threads jobs and their actions are executed with.
+ */
+public enum ThreadType {
+
+    /**
+     * Classic platform threads, each backed by an OS thread. Executors use a fixed number of them.
+     */
+    PLATFORM,
+
+    /**
+     * Virtual threads, which release their carrier thread while blocked, e.g. during network I/O. Executors create a new virtual
+     * thread for every task.
+     */
+    VIRTUAL;
+
+    /**
+     * Creates a new executor that runs tasks with threads of this type.
+     *
+     * @param numThreads               The maximum number of platform threads. Ignored for virtual threads.
+     * @param namePrefix               The prefix of the thread names. The threads are numbered, starting with '1'.
+     * @param uncaughtExceptionHandler Optional handler for exceptions thrown by the threads.
+     *
+     * @return A newly created executor.
+     */
+    public ExecutorService createExecutor(int numThreads, String namePrefix,
+                                          Thread.UncaughtExceptionHandler uncaughtExceptionHandler) {
+        Thread.Builder threadBuilder = (this == VIRTUAL ? Thread.ofVirtual() : Thread.ofPlatform()).name(namePrefix + "-", 1);
+        if (uncaughtExceptionHandler != null) {
+            threadBuilder.uncaughtExceptionHandler(uncaughtExceptionHandler);
+        }
+        if (this == VIRTUAL) {
+            return Executors.newThreadPerTaskExecutor(threadBuilder.factory());
+        }
+        return Executors.newFixedThreadPool(numThreads, threadBuilder.factory());
+    }
+
+}
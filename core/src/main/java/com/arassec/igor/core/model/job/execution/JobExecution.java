@@ -1,12 +1,17 @@
 package com.arassec.igor.core.model.job.execution;
 
+import com.arassec.igor.core.model.job.concurrent.QueueMetrics;
 import com.arassec.igor.core.util.StacktraceFormatter;
 import lombok.*;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Contains information about a single job run.
@@ -44,9 +49,9 @@ public class JobExecution {
     private Instant finished;
 
     /**
-     * The job's state.
+     * The job's state. Volatile, since it is checked by all threads of a job run.
      */
-    private JobExecutionState executionState;
+    private volatile JobExecutionState executionState;
 
     /**
      * Might contain an error cause if the job finished abnormally.
@@ -61,14 +66,34 @@ public class JobExecution {
     /**
      * List with current work in progress, that should be visible in the UI for the user.
      */
-    private final List<WorkInProgressMonitor> workInProgress = Collections.synchronizedList(new LinkedList<>());
+    private final List<WorkInProgressMonitor> workInProgress = new CopyOnWriteArrayList<>();
+
+    /**
+     * Metrics about the queues between the concurrency groups of the job run, by the ID of the concurrency group writing into the
+     * queue. Help to size the queues' capacities.
+     */
+    @EqualsAndHashCode.Exclude
+    private final Map<String, QueueMetrics> queueMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Guards state changes. A {@link ReentrantLock} doesn't pin virtual threads to their carrier thread while waiting.
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final ReentrantLock stateLock = new ReentrantLock();
 
     /**
      * Cancels the job by setting the state accordingly.
      */
-    public synchronized void cancel() {
-        this.executionState = JobExecutionState.CANCELLED;
-        this.finished = Instant.now();
+    public void cancel() {
+        stateLock.lock();
+        try {
+            this.executionState = JobExecutionState.CANCELLED;
+            this.finished = Instant.now();
+        } finally {
+            stateLock.unlock();
+        }
     }
 
     /**
@@ -76,12 +101,17 @@ public class JobExecution {
      *
      * @param errorCause Optional error causing the job to fail.
      */
-    public synchronized void fail(Throwable errorCause) {
-        this.executionState = JobExecutionState.FAILED;
-        if (errorCause != null) {
-            this.errorCause = StacktraceFormatter.format(errorCause);
+    public void fail(Throwable errorCause) {
+        stateLock.lock();
+        try {
+            this.executionState = JobExecutionState.FAILED;
+            if (errorCause != null) {
+                this.errorCause = StacktraceFormatter.format(errorCause);
+            }
+            this.finished = Instant.now();
+        } finally {
+            stateLock.unlock();
         }
-        this.finished = Instant.now();
     }
 
     /**
@@ -117,9 +147,26 @@ public class JobExecution {
      * @return List of {@link WorkInProgressMonitor} items.
      */
     public List<WorkInProgressMonitor> getWorkInProgress() {
-        synchronized (workInProgress) {
-            return new LinkedList<>(workInProgress);
-        }
+        return new LinkedList<>(workInProgress);
+    }
+
+    /**
+     * Adds the metrics about the output queue of a concurrency group.
+     *
+     * @param concurrencyGroupId The ID of the concurrency group.
+     * @param metrics            The metrics about the group's output queue.
+     */
+    public void addQueueMetrics(String concurrencyGroupId, QueueMetrics metrics) {
+        queueMetrics.put(concurrencyGroupId, metrics);
+    }
+
+    /**
+     * Returns the metrics about the queues between the concurrency groups.
+     *
+     * @return The queue metrics, by the ID of the concurrency group writing into the queue.
+     */
+    public Map<String, QueueMetrics> getQueueMetrics() {
+        return new TreeMap<>(queueMetrics);
     }
 
 }
@@ -1,8 +1,11 @@
 package com.arassec.igor.core.model.job.starter;
 
 import com.arassec.igor.core.model.action.Action;
+import com.arassec.igor.core.model.action.ExecutionOrder;
 import com.arassec.igor.core.model.job.IgorConnectorUtil;
 import com.arassec.igor.core.model.job.concurrent.ConcurrencyGroup;
+import com.arassec.igor.core.model.job.concurrent.ConcurrencySettings;
+import com.arassec.igor.core.model.job.concurrent.PartitionedQueue;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.misc.ProcessingFinishedCallback;
 import com.arassec.igor.core.model.trigger.Trigger;
@@ -11,8 +14,8 @@ import lombok.Data;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -68,9 +71,9 @@ public class DefaultJobStarter implements JobStarter {
      * @param trigger      The job's trigger.
      * @param actions      The job's actions.
      * @param jobExecution The current job execution.
-     * @param numThreads   The number of threads the job should execute with.
+     * @param settings     The settings defining the number of threads, batch size and queues.
      */
-    public DefaultJobStarter(Trigger trigger, List<Action> actions, JobExecution jobExecution, int numThreads) {
+    public DefaultJobStarter(Trigger trigger, List<Action> actions, JobExecution jobExecution, ConcurrencySettings settings) {
         if (actions == null) {
             throw new IllegalArgumentException("Actions must not be null!");
         }
@@ -81,9 +84,9 @@ public class DefaultJobStarter implements JobStarter {
         this.actions = actions;
         this.jobExecution = jobExecution;
         this.processingFinishedCallbackSet = setProcessingFinishedCallbackIfApplicable();
-        this.initialInputQueue = new LinkedBlockingQueue<>();
-        this.concurrencyLists = createConcurrencyLists(numThreads);
-        this.concurrencyGroups = createConcurrencyGroups(concurrencyLists, initialInputQueue, jobExecution, numThreads);
+        this.concurrencyLists = createConcurrencyLists(settings.getNumThreads());
+        this.initialInputQueue = createInputQueue(concurrencyLists.isEmpty() ? List.of() : concurrencyLists.getFirst(), settings);
+        this.concurrencyGroups = createConcurrencyGroups(concurrencyLists, initialInputQueue, jobExecution, settings);
     }
 
     /**
@@ -105,20 +108,32 @@ public class DefaultJobStarter implements JobStarter {
         return concurrencyGroups;
     }
 
+    /**
+     * Stops the threads of all concurrency groups immediately, if the job has been cancelled.
+     */
+    @Override
+    public void cancel() {
+        if (!jobExecution.isRunningOrActive()) {
+            concurrencyGroups.forEach(ConcurrencyGroup::cancel);
+        }
+    }
+
     /**
      * Initializes igor components before a job run.
      *
      * @param jobExecution Container for execution information.
      */
     protected void initialize(JobExecution jobExecution) {
+        // Connectors shared between components are initialized only once:
+        var initializedConnectors = IgorConnectorUtil.createProcessedConnectorsSet();
         if (trigger != null) {
             trigger.initialize(jobExecution);
-            IgorConnectorUtil.initializeConnectors(trigger, jobExecution);
+            IgorConnectorUtil.initializeConnectors(trigger, jobExecution, initializedConnectors);
         }
         if (!actions.isEmpty()) {
             actions.stream().filter(Action::isActive).forEach(action -> {
                 action.initialize(jobExecution);
-                IgorConnectorUtil.initializeConnectors(action, jobExecution);
+                IgorConnectorUtil.initializeConnectors(action, jobExecution, initializedConnectors);
             });
         }
     }
@@ -139,6 +154,10 @@ public class DefaultJobStarter implements JobStarter {
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
+            // The queue might be full and the job cancelled meanwhile:
+            if (!added && !jobExecution.isRunningOrActive()) {
+                return;
+            }
         }
         // This means we have to notify the trigger that the processing finished immediately, because there are no (active)
         // actions...
@@ -151,7 +170,9 @@ public class DefaultJobStarter implements JobStarter {
      * Scan all actions to create lists of actions that belong to the same concurrency group (i.e. use the same number of
      * threads).
      * <p>
-     * Keeps the order of the actions.
+     * Keeps the order of the actions. Actions requiring a {@link ExecutionOrder#GLOBAL} order run single-threaded, actions with
+     * an {@link ExecutionOrder#INHERITED} order join the preceding action's group. Actions requiring an
+     * {@link ExecutionOrder#PER_KEY} order start a new group with partitioned input, if more than one thread is used.
      *
      * @param numThreads The number of threads the job's actions should execute with.
      *
@@ -167,8 +188,14 @@ public class DefaultJobStarter implements JobStarter {
             if (!action.isActive()) {
                 continue;
             }
-            int threads = action.enforceSingleThread() ? 1 : numThreads;
-            if (threads != lastNumThreads) {
+            var executionOrder = Objects.requireNonNullElse(action.requiredOrder(), ExecutionOrder.NONE);
+            int threads = switch (executionOrder) {
+                case GLOBAL -> 1;
+                case INHERITED -> result.isEmpty() ? numThreads : lastNumThreads;
+                default -> numThreads;
+            };
+            boolean partitioned = ExecutionOrder.PER_KEY.equals(executionOrder) && threads > 1;
+            if (threads != lastNumThreads || partitioned) {
                 List<Action> concurrencyList = new LinkedList<>();
                 concurrencyList.add(action);
                 result.add(concurrencyList);
@@ -187,20 +214,28 @@ public class DefaultJobStarter implements JobStarter {
      * @param concurrencyLists The ordered list of actions that should be executed with the same number of threads.
      * @param inputQueue       The initial input queue in which the first data item will be put.
      * @param jobExecution     The container for job execution data.
-     * @param numThreads       The number of threads the job's actions should execute with.
+     * @param settings         The settings defining the number of threads, batch size and queues.
      *
      * @return List of {@link ConcurrencyGroup}s.
      */
     private List<ConcurrencyGroup> createConcurrencyGroups(List<List<Action>> concurrencyLists, BlockingQueue<Map<String,
-        Object>> inputQueue, JobExecution jobExecution, int numThreads) {
+        Object>> inputQueue, JobExecution jobExecution, ConcurrencySettings settings) {
         List<ConcurrencyGroup> result = new LinkedList<>();
         BlockingQueue<Map<String, Object>> inputQueueHolder = inputQueue;
 
+        var index = 0;
+        ConcurrencyGroup predecessor = null;
         for (List<Action> concurrencyList : concurrencyLists) {
-            var concurrencyGroupId = String
-                .format(CONCURRENCY_GROUP_ID_PATTERN, jobExecution.getJobId(), concurrencyLists.indexOf(concurrencyList));
-            var concurrencyGroup = new ConcurrencyGroup(concurrencyList, inputQueueHolder, concurrencyGroupId,
-                jobExecution, numThreads);
+            var concurrencyGroupId = String.format(CONCURRENCY_GROUP_ID_PATTERN, jobExecution.getJobId(), index);
+            // The output of the last concurrency-group isn't processed any further and can be discarded:
+            BlockingQueue<Map<String, Object>> outputQueue = (++index < concurrencyLists.size())
+                ? createInputQueue(concurrencyLists.get(index), settings) : null;
+            var concurrencyGroup = new ConcurrencyGroup(concurrencyList, inputQueueHolder, outputQueue, concurrencyGroupId,
+                jobExecution, settings);
+            if (predecessor != null) {
+                predecessor.setSuccessor(concurrencyGroup);
+            }
+            predecessor = concurrencyGroup;
             inputQueueHolder = concurrencyGroup.getOutputQueue();
             result.add(concurrencyGroup);
         }
@@ -208,6 +243,28 @@ public class DefaultJobStarter implements JobStarter {
         return result;
     }
 
+    /**
+     * Creates the input queue for a concurrency group. If the group's first action requires data items to be processed in order
+     * per key, and the group has multiple threads, the queue is partitioned by the action's partition key. The queue's capacity
+     * can be configured per group, by the ID of the group's first action.
+     *
+     * @param concurrencyList The actions of the concurrency group.
+     * @param settings        The settings defining the number of threads and queues.
+     *
+     * @return A newly created queue.
+     */
+    private BlockingQueue<Map<String, Object>> createInputQueue(List<Action> concurrencyList, ConcurrencySettings settings) {
+        if (concurrencyList.isEmpty()) {
+            return settings.createQueue();
+        }
+        var firstAction = concurrencyList.getFirst();
+        var groupSettings = settings.forGroupStartingWith(firstAction.getId());
+        if (groupSettings.getNumThreads() > 1 && ExecutionOrder.PER_KEY.equals(firstAction.requiredOrder())) {
+            return new PartitionedQueue(groupSettings, firstAction::partitionKey);
+        }
+        return groupSettings.createQueue();
+    }
+
     /**
      * Sets the trigger as 'processing finished' callback to the last (active) action of the job, if the trigger is appropriate
      * and actions exist.
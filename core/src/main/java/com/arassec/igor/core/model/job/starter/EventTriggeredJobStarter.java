@@ -2,6 +2,7 @@ package com.arassec.igor.core.model.job.starter;
 
 import com.arassec.igor.core.model.action.Action;
 import com.arassec.igor.core.model.job.concurrent.ConcurrencyGroup;
+import com.arassec.igor.core.model.job.concurrent.ConcurrencySettings;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.execution.JobExecutionState;
 import com.arassec.igor.core.model.trigger.EventTrigger;
@@ -10,6 +11,8 @@ import com.arassec.igor.core.util.IgorException;
 import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
@@ -23,6 +26,16 @@ import java.util.concurrent.TimeUnit;
 @EqualsAndHashCode(callSuper = true)
 public class EventTriggeredJobStarter extends DefaultJobStarter {
 
+    /**
+     * Wakes the starter up, if it waits for trigger events while the job is stopped. Compared by identity.
+     */
+    private static final Map<String, Object> WAKE_UP = Collections.unmodifiableMap(new HashMap<>());
+
+    /**
+     * The queue the trigger puts received data items in.
+     */
+    private volatile BlockingQueue<Map<String, Object>> triggerEventInputQueue;
+
     /**
      * Stores the initial capacity of the queue that provides the trigger's input to the job.
      */
@@ -34,11 +47,12 @@ public class EventTriggeredJobStarter extends DefaultJobStarter {
      * @param trigger      The job's trigger.
      * @param actions      The job's actions.
      * @param jobExecution The current job execution.
-     * @param numThreads   The number of threads the job should execute with.
+     * @param settings     The settings defining the number of threads, batch size and queues.
      */
-    public EventTriggeredJobStarter(Trigger trigger, List<Action> actions, JobExecution jobExecution, int numThreads) {
-        super(trigger, actions, jobExecution, numThreads);
-        triggerEventInputQueueCapacity = numThreads;
+    public EventTriggeredJobStarter(Trigger trigger, List<Action> actions, JobExecution jobExecution,
+                                    ConcurrencySettings settings) {
+        super(trigger, actions, jobExecution, settings);
+        triggerEventInputQueueCapacity = settings.getNumThreads();
     }
 
     /**
@@ -48,7 +62,7 @@ public class EventTriggeredJobStarter extends DefaultJobStarter {
     public List<ConcurrencyGroup> process() {
         // Yet another input queue... This one is used by the trigger to put received data items in. Those are then received below
         // to put them in the input queue of the concurrency groups i.e., hand them over to the actions.
-        BlockingQueue<Map<String, Object>> triggerEventInputQueue = new LinkedBlockingQueue<>(1);
+        triggerEventInputQueue = new LinkedBlockingQueue<>(1);
         if (!concurrencyLists.isEmpty() && !concurrencyLists.getFirst().isEmpty()) {
             triggerEventInputQueue = new LinkedBlockingQueue<>(triggerEventInputQueueCapacity);
         }
@@ -67,7 +81,7 @@ public class EventTriggeredJobStarter extends DefaultJobStarter {
                 Thread.currentThread().interrupt();
                 throw new IgorException("Interrupted during event polling!", e);
             }
-            if (eventData != null) {
+            if (eventData != null && eventData != WAKE_UP) {
                 log.debug("Job '{}' triggered by event: {}", jobExecution.getJobId(), eventData);
                 eventData.putAll(trigger.createDataItem()); // A custom trigger might add additional data to the items.
                 // ...and dispatch it to the waiting actions.
@@ -79,4 +93,19 @@ public class EventTriggeredJobStarter extends DefaultJobStarter {
         return concurrencyGroups;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Additionally wakes the starter up, if it waits for trigger events.
+     */
+    @Override
+    public void cancel() {
+        super.cancel();
+        BlockingQueue<Map<String, Object>> queue = triggerEventInputQueue;
+        if (queue != null && !queue.offer(WAKE_UP)) {
+            // The starter checks the job's state anyway after taking the next event from the full queue.
+            log.trace("Trigger event queue full, no wake up signal required.");
+        }
+    }
+
 }
@@ -16,4 +16,9 @@ public interface JobStarter {
      */
     List<ConcurrencyGroup> process();
 
+    /**
+     * Stops processing the data items of a job, after the job's execution state has been changed.
+     */
+    void cancel();
+
 }
@@ -4,7 +4,9 @@ import com.arassec.igor.core.model.connector.Connector;
 import com.arassec.igor.core.util.ModelPage;
 import com.arassec.igor.core.util.Pair;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Repository for {@link Connector}s.
@@ -47,6 +49,15 @@ public interface ConnectorRepository {
      */
     Connector findById(String id);
 
+    /**
+     * Finds all connectors with the supplied IDs at once.
+     *
+     * @param ids The connectors' IDs.
+     *
+     * @return The found {@link Connector}s by their IDs. IDs without connector are missing in the result.
+     */
+    Map<String, Connector> findAllById(Collection<String> ids);
+
     /**
      * Finds a connector by its name.
      *
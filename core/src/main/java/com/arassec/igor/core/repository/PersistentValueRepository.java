@@ -2,6 +2,10 @@ package com.arassec.igor.core.repository;
 
 import com.arassec.igor.core.model.job.misc.PersistentValue;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Repository for access to {@link PersistentValue}s.
  */
@@ -17,6 +21,16 @@ public interface PersistentValueRepository {
      */
     PersistentValue upsert(String jobId, PersistentValue value);
 
+    /**
+     * Saves all supplied values in the persistence store.
+     *
+     * @param jobId  The job's ID.
+     * @param values The values to save.
+     *
+     * @return The persisted values.
+     */
+    List<PersistentValue> upsertAll(String jobId, List<PersistentValue> values);
+
     /**
      * Returns whether a value is already persisted or not.
      *
@@ -27,6 +41,16 @@ public interface PersistentValueRepository {
      */
     boolean isPersisted(String jobId, PersistentValue value);
 
+    /**
+     * Returns the contents of those supplied values, that are already persisted.
+     *
+     * @param jobId  The job's ID.
+     * @param values The values to check.
+     *
+     * @return The contents of all values that are already persisted.
+     */
+    Set<String> findPersistedContents(String jobId, Collection<PersistentValue> values);
+
     /**
      * Deletes old, persisted values.
      *
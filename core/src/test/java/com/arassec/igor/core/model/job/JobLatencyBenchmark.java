@@ -0,0 +1,112 @@
+package com.arassec.igor.core.model.job;
+
+import com.arassec.igor.core.model.action.Action;
+import com.arassec.igor.core.model.action.BaseAction;
+import com.arassec.igor.core.model.job.execution.JobExecution;
+import com.arassec.igor.core.model.job.execution.JobExecutionState;
+import com.arassec.igor.core.model.trigger.BaseTrigger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the end-to-end latency of small jobs, i.e. the time from starting a job until it has finished, which is dominated
+ * by the job's lifecycle and not by the work of its actions.
+ * <p>
+ * Run with: {@code mvn -pl core test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.arassec.igor.core.model.job.JobLatencyBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class JobLatencyBenchmark {
+
+    /**
+     * The number of concurrency groups of the job. Every action that enforces single-threaded execution starts a new group.
+     */
+    @Param({"1", "3"})
+    private int concurrencyGroups;
+
+    /**
+     * Runs a job with a single data item from start to finish.
+     *
+     * @return The job's execution.
+     */
+    @Benchmark
+    public JobExecution runJob() {
+        List<Action> actions = new ArrayList<>();
+        for (var i = 0; i < concurrencyGroups; i++) {
+            actions.add(new PassThroughAction(i % 2 == 1));
+        }
+
+        var job = Job.builder().id("job-id").trigger(new BenchmarkTrigger()).actions(actions).numThreads(2).build();
+
+        var jobExecution = JobExecution.builder().executionState(JobExecutionState.RUNNING).build();
+        job.start(jobExecution);
+
+        return jobExecution;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Not used.
+     * @throws RunnerException In case of errors during the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JobLatencyBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Trigger that creates the default data item.
+     */
+    private static class BenchmarkTrigger extends BaseTrigger {
+    }
+
+    /**
+     * Action that returns the supplied data item unchanged.
+     */
+    private static class PassThroughAction extends BaseAction {
+
+        /**
+         * Indicates whether the action must be executed single-threaded.
+         */
+        private final boolean singleThreaded;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param singleThreaded {@code true} if the action must be executed single-threaded.
+         */
+        PassThroughAction(boolean singleThreaded) {
+            this.singleThreaded = singleThreaded;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
+            return List.of(data);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean enforceSingleThread() {
+            return singleThreaded;
+        }
+
+    }
+
+}
@@ -130,6 +130,7 @@ class JobTest {
         Trigger eventTriggerMock = mock(EventTrigger.class);
 
         Action actionMock = mock(Action.class);
+        when(actionMock.processBatch(anyList(), nullable(JobExecution.class))).thenCallRealMethod();
         when(actionMock.isActive()).thenReturn(true);
 
         Job job = Job.builder()
@@ -208,6 +209,7 @@ class JobTest {
         when(triggerMock.createDataItem()).thenReturn(Map.of("test", "input"));
 
         Action actionMock = mock(Action.class);
+        when(actionMock.processBatch(anyList(), nullable(JobExecution.class))).thenCallRealMethod();
         when(actionMock.isActive()).thenReturn(true);
 
         Job job = Job.builder().id("job-id").trigger(triggerMock).actions(List.of(actionMock)).build();
@@ -0,0 +1,186 @@
+package com.arassec.igor.core.model.job;
+
+import com.arassec.igor.core.model.action.BaseAction;
+import com.arassec.igor.core.model.job.concurrent.ThreadType;
+import com.arassec.igor.core.model.job.execution.JobExecution;
+import com.arassec.igor.core.model.job.execution.JobExecutionState;
+import com.arassec.igor.core.model.trigger.BaseTrigger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load test comparing platform and virtual threads for jobs whose actions block on I/O, like most of igor's actions do.
+ * <p>
+ * Several jobs run in parallel, as started by the job executor, and each job processes its data items with many threads. The
+ * actions simulate blocking I/O by parking the thread. The benchmark reports the throughput in jobs per second. After each
+ * trial, the peak number of live platform threads and the used heap and non-heap memory are printed. Add {@code -prof gc} to
+ * the JMH options to compare allocation rates.
+ * <p>
+ * Run with: {@code mvn -pl core test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.arassec.igor.core.model.job.ThreadTypeBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ThreadTypeBenchmark {
+
+    /**
+     * The number of jobs running in parallel.
+     */
+    private static final int NUM_JOBS = 20;
+
+    /**
+     * The number of data items each job processes.
+     */
+    private static final int NUM_DATA_ITEMS = 500;
+
+    /**
+     * The simulated I/O latency per data item.
+     */
+    private static final long IO_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /**
+     * The type of threads jobs and actions are executed with.
+     */
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ThreadType threadType;
+
+    /**
+     * The number of threads per job.
+     */
+    @Param({"10", "50"})
+    private int numThreads;
+
+    /**
+     * Executes the jobs, like the job executor does.
+     */
+    private ExecutorService jobExecutor;
+
+    /**
+     * Creates the job executor.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        jobExecutor = threadType.createExecutor(NUM_JOBS, "job-executor-thread", null);
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+    }
+
+    /**
+     * Prints the peak number of platform threads and the memory usage, and shuts the job executor down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        System.out.printf("%n%s/%d threads: peak platform threads: %d, heap: %d MB, non-heap: %d MB%n", threadType, numThreads,
+            threadMXBean.getPeakThreadCount(), memoryMXBean.getHeapMemoryUsage().getUsed() / (1024 * 1024),
+            memoryMXBean.getNonHeapMemoryUsage().getUsed() / (1024 * 1024));
+        jobExecutor.shutdownNow();
+    }
+
+    /**
+     * Runs the configured number of jobs in parallel and waits for them to finish.
+     *
+     * @return The executions of the jobs.
+     * @throws Exception In case of errors during job execution.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM_JOBS)
+    public List<JobExecution> runJobs() throws Exception {
+        List<Future<JobExecution>> futures = new ArrayList<>(NUM_JOBS);
+        for (var i = 0; i < NUM_JOBS; i++) {
+            var job = Job.builder().id("job-" + i).trigger(new BenchmarkTrigger())
+                .actions(List.of(new FanOutAction(), new BlockingIoAction())).numThreads(numThreads).build();
+            futures.add(jobExecutor.submit(() -> {
+                var jobExecution = JobExecution.builder().executionState(JobExecutionState.RUNNING).build();
+                job.start(jobExecution, threadType);
+                return jobExecution;
+            }));
+        }
+        List<JobExecution> result = new ArrayList<>(NUM_JOBS);
+        for (Future<JobExecution> future : futures) {
+            result.add(future.get());
+        }
+        return result;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Not used.
+     * @throws RunnerException In case of errors during the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ThreadTypeBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Trigger that creates the default data item.
+     */
+    private static class BenchmarkTrigger extends BaseTrigger {
+    }
+
+    /**
+     * Single-threaded action that creates the configured number of data items from the trigger's data item, like e.g. the
+     * 'List Files' action does.
+     */
+    private static class FanOutAction extends BaseAction {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
+            List<Map<String, Object>> dataItems = new ArrayList<>(NUM_DATA_ITEMS);
+            for (var i = 0; i < NUM_DATA_ITEMS; i++) {
+                Map<String, Object> dataItem = new HashMap<>(data);
+                dataItem.put("index", i);
+                dataItems.add(dataItem);
+            }
+            return dataItems;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean enforceSingleThread() {
+            return true;
+        }
+
+    }
+
+    /**
+     * Action that blocks for the simulated I/O latency and returns the supplied data item.
+     */
+    private static class BlockingIoAction extends BaseAction {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
+            LockSupport.parkNanos(IO_LATENCY_NANOS);
+            return List.of(data);
+        }
+
+    }
+
+}
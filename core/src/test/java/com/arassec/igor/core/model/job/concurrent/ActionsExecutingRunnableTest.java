@@ -1,20 +1,27 @@
 package com.arassec.igor.core.model.job.concurrent;
 
 import com.arassec.igor.core.model.action.Action;
+import com.arassec.igor.core.model.action.StreamingAction;
 import com.arassec.igor.core.model.job.execution.JobExecution;
+import com.arassec.igor.core.model.job.execution.JobExecutionState;
 import com.arassec.igor.core.model.job.misc.ProcessingFinishedCallback;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.*;
 
@@ -30,10 +37,10 @@ class ActionsExecutingRunnableTest {
     @Test
     @DisplayName("Tests input validation.")
     void testInputValidation() {
-        assertThrows(IllegalArgumentException.class, () -> new ActionsExecutingRunnable(null, null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> new ActionsExecutingRunnable(null, null, null, null, 1, null));
         LinkedBlockingQueue<Map<String, Object>> linkedBlockingQueue = new LinkedBlockingQueue<>();
-        assertThrows(IllegalArgumentException.class, () -> new ActionsExecutingRunnable(null, null, linkedBlockingQueue, null));
-        assertThrows(IllegalArgumentException.class, () -> new ActionsExecutingRunnable(null, linkedBlockingQueue, null, null));
+        assertThrows(IllegalArgumentException.class, () -> new ActionsExecutingRunnable(null, null, linkedBlockingQueue, null, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> new ActionsExecutingRunnable(null, linkedBlockingQueue, null, null, 1, null));
     }
 
     /**
@@ -55,12 +62,14 @@ class ActionsExecutingRunnableTest {
 
         List<Action> actions = new LinkedList<>();
         Action firstActionMock = mock(Action.class);
+        when(firstActionMock.processBatch(anyList(), nullable(JobExecution.class))).thenCallRealMethod();
         actions.add(firstActionMock);
         Action secondActionMock = mock(Action.class);
+        when(secondActionMock.processBatch(anyList(), nullable(JobExecution.class))).thenCallRealMethod();
         actions.add(secondActionMock);
 
         ActionsExecutingRunnable actionsExecutingRunnable = new ActionsExecutingRunnable(actions,
-            inputQueue, outputQueue, null);
+            inputQueue, outputQueue, null, 1, new QueueMetrics());
 
         when(firstActionMock.process(eq(inputData), nullable(JobExecution.class))).thenAnswer(invocationOnMock -> {
             // Simulates the job saying: 'finish your work, but no new items will be published'
@@ -96,12 +105,14 @@ class ActionsExecutingRunnableTest {
 
         List<Action> actions = new LinkedList<>();
         Action firstActionMock = mock(Action.class);
+        when(firstActionMock.processBatch(anyList(), nullable(JobExecution.class))).thenCallRealMethod();
         actions.add(firstActionMock);
         Action secondActionMock = mock(Action.class);
+        when(secondActionMock.processBatch(anyList(), nullable(JobExecution.class))).thenCallRealMethod();
         actions.add(secondActionMock);
 
         ActionsExecutingRunnable actionsExecutingRunnable = new ActionsExecutingRunnable(actions,
-            inputQueue, outputQueue, null);
+            inputQueue, outputQueue, null, 1, new QueueMetrics());
 
         when(firstActionMock.complete()).thenReturn(List.of(inputData));
 
@@ -128,6 +139,7 @@ class ActionsExecutingRunnableTest {
 
         List<Action> actions = new LinkedList<>();
         Action firstActionMock = mock(Action.class);
+        when(firstActionMock.processBatch(anyList(), nullable(JobExecution.class))).thenCallRealMethod();
         actions.add(firstActionMock);
 
         ProcessingFinishedCallback processingFinishedCallbackMock = mock(ProcessingFinishedCallback.class);
@@ -135,7 +147,7 @@ class ActionsExecutingRunnableTest {
         when(firstActionMock.getProcessingFinishedCallback()).thenReturn(processingFinishedCallbackMock);
 
         ActionsExecutingRunnable actionsExecutingRunnable = new ActionsExecutingRunnable(actions,
-            inputQueue, outputQueue, null);
+            inputQueue, outputQueue, null, 1, new QueueMetrics());
 
         when(firstActionMock.process(eq(inputData), nullable(JobExecution.class))).thenAnswer(invocationOnMock -> {
             // Simulates the job saying: 'finish your work, but no new items will be published'
@@ -149,4 +161,191 @@ class ActionsExecutingRunnableTest {
         verify(processingFinishedCallbackMock, times(1)).processingFinished(inputData);
     }
 
+    /**
+     * Tests that multiple data items are handed to the actions as one batch.
+     */
+    @Test
+    @DisplayName("Tests that multiple data items are handed to the actions as one batch.")
+    void testRunWithBatches() {
+        BlockingQueue<Map<String, Object>> inputQueue = new LinkedBlockingQueue<>();
+        assertTrue(inputQueue.offer(Map.of("index", 1)));
+        assertTrue(inputQueue.offer(Map.of("index", 2)));
+        assertTrue(inputQueue.offer(Map.of("index", 3)));
+
+        BlockingQueue<Map<String, Object>> outputQueue = new LinkedBlockingQueue<>();
+
+        Action actionMock = mock(Action.class);
+
+        ActionsExecutingRunnable actionsExecutingRunnable = new ActionsExecutingRunnable(List.of(actionMock),
+            inputQueue, outputQueue, null, 5, new QueueMetrics());
+
+        when(actionMock.processBatch(anyList(), nullable(JobExecution.class))).thenAnswer(invocationOnMock -> {
+            actionsExecutingRunnable.shutdown();
+            return invocationOnMock.getArgument(0);
+        });
+
+        actionsExecutingRunnable.run();
+
+        verify(actionMock, times(1)).processBatch(eq(List.of(Map.of("index", 1), Map.of("index", 2), Map.of("index", 3))),
+            nullable(JobExecution.class));
+        assertEquals(3, outputQueue.size());
+    }
+
+    /**
+     * Tests that actions with a processing-finished-callback process a batch item by item, and the callback is invoked directly
+     * after each item has been processed.
+     */
+    @Test
+    @DisplayName("Tests invoking the processing-finished-callback per data item of a batch.")
+    void testRunWithBatchesAndProcessFinishedCallback() {
+        BlockingQueue<Map<String, Object>> inputQueue = new LinkedBlockingQueue<>();
+        assertTrue(inputQueue.offer(Map.of("index", 1)));
+        assertTrue(inputQueue.offer(Map.of("index", 2)));
+        assertTrue(inputQueue.offer(ActionsExecutingRunnable.END_OF_INPUT));
+
+        BlockingQueue<Map<String, Object>> outputQueue = new LinkedBlockingQueue<>();
+
+        ProcessingFinishedCallback processingFinishedCallbackMock = mock(ProcessingFinishedCallback.class);
+
+        Action actionMock = mock(Action.class);
+        when(actionMock.getProcessingFinishedCallback()).thenReturn(processingFinishedCallbackMock);
+        when(actionMock.processBatch(anyList(), nullable(JobExecution.class))).thenAnswer(invocationOnMock ->
+            invocationOnMock.getArgument(0));
+
+        ActionsExecutingRunnable actionsExecutingRunnable = new ActionsExecutingRunnable(List.of(actionMock),
+            inputQueue, outputQueue, null, 5, new QueueMetrics());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), actionsExecutingRunnable::run);
+
+        var inOrder = inOrder(actionMock, processingFinishedCallbackMock);
+        inOrder.verify(actionMock).processBatch(eq(List.of(Map.of("index", 1))), nullable(JobExecution.class));
+        inOrder.verify(processingFinishedCallbackMock).processingFinished(Map.of("index", 1));
+        inOrder.verify(actionMock).processBatch(eq(List.of(Map.of("index", 2))), nullable(JobExecution.class));
+        inOrder.verify(processingFinishedCallbackMock).processingFinished(Map.of("index", 2));
+        assertEquals(List.of(Map.of("index", 1), Map.of("index", 2)), List.copyOf(outputQueue));
+    }
+
+    /**
+     * Tests that results of streaming actions are processed by the following actions chunk by chunk.
+     */
+    @Test
+    @DisplayName("Tests processing results of streaming actions chunk by chunk.")
+    @SuppressWarnings("unchecked")
+    void testRunWithStreamingAction() {
+        BlockingQueue<Map<String, Object>> inputQueue = new LinkedBlockingQueue<>();
+        assertTrue(inputQueue.offer(Map.of("index", 1)));
+        assertTrue(inputQueue.offer(ActionsExecutingRunnable.END_OF_INPUT));
+
+        BlockingQueue<Map<String, Object>> outputQueue = new LinkedBlockingQueue<>();
+
+        StreamingAction streamingActionMock = mock(StreamingAction.class);
+        doAnswer(invocationOnMock -> {
+            Consumer<List<Map<String, Object>>> resultConsumer = invocationOnMock.getArgument(2);
+            resultConsumer.accept(List.of(Map.of("row", 1), Map.of("row", 2)));
+            // Results of the first chunk have been processed before the second chunk is read:
+            assertEquals(2, outputQueue.size());
+            resultConsumer.accept(List.of(Map.of("row", 3)));
+            resultConsumer.accept(List.of());
+            return null;
+        }).when(streamingActionMock).processBatch(anyList(), nullable(JobExecution.class), any(Consumer.class));
+
+        Action actionMock = mock(Action.class);
+        when(actionMock.processBatch(anyList(), nullable(JobExecution.class))).thenAnswer(invocationOnMock ->
+            invocationOnMock.getArgument(0));
+
+        ActionsExecutingRunnable actionsExecutingRunnable = new ActionsExecutingRunnable(
+            List.of(streamingActionMock, actionMock), inputQueue, outputQueue, null, 5, new QueueMetrics());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), actionsExecutingRunnable::run);
+
+        verify(actionMock, times(2)).processBatch(anyList(), nullable(JobExecution.class));
+        assertEquals(List.of(Map.of("row", 1), Map.of("row", 2), Map.of("row", 3)), List.copyOf(outputQueue));
+    }
+
+    /**
+     * Tests that the runnable stops after taking an end-of-input marker, and returns markers meant for other threads.
+     */
+    @Test
+    @DisplayName("Tests stopping the runnable at the end of the input.")
+    void testRunUntilEndOfInput() {
+        BlockingQueue<Map<String, Object>> inputQueue = new LinkedBlockingQueue<>();
+        assertTrue(inputQueue.offer(Map.of("index", 1)));
+        assertTrue(inputQueue.offer(ActionsExecutingRunnable.END_OF_INPUT));
+        assertTrue(inputQueue.offer(ActionsExecutingRunnable.END_OF_INPUT));
+
+        BlockingQueue<Map<String, Object>> outputQueue = new LinkedBlockingQueue<>();
+
+        Action actionMock = mock(Action.class);
+        when(actionMock.processBatch(anyList(), nullable(JobExecution.class))).thenAnswer(invocationOnMock ->
+            invocationOnMock.getArgument(0));
+
+        ActionsExecutingRunnable actionsExecutingRunnable = new ActionsExecutingRunnable(List.of(actionMock),
+            inputQueue, outputQueue, null, 5, new QueueMetrics());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), actionsExecutingRunnable::run);
+
+        assertEquals(List.of(Map.of("index", 1)), List.copyOf(outputQueue));
+        assertEquals(1, inputQueue.size());
+        assertSame(ActionsExecutingRunnable.END_OF_INPUT, inputQueue.peek());
+    }
+
+    /**
+     * Tests that threads block while the output queue is full.
+     */
+    @Test
+    @DisplayName("Tests that threads block while the output queue is full.")
+    void testBackpressure() throws InterruptedException {
+        BlockingQueue<Map<String, Object>> outputQueue = new ArrayBlockingQueue<>(1);
+        assertTrue(outputQueue.offer(Map.of("index", 1)));
+
+        Action actionMock = mock(Action.class);
+        when(actionMock.complete()).thenReturn(List.of(Map.of("index", 2)));
+
+        JobExecution jobExecution = JobExecution.builder().executionState(JobExecutionState.RUNNING).build();
+        QueueMetrics queueMetrics = new QueueMetrics();
+
+        ActionsExecutingRunnable actionsExecutingRunnable = new ActionsExecutingRunnable(List.of(actionMock),
+            new LinkedBlockingQueue<>(), outputQueue, jobExecution, 1, queueMetrics);
+
+        Thread consumer = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+                outputQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+
+        actionsExecutingRunnable.complete();
+        consumer.join();
+
+        assertEquals(Map.of("index", 2), outputQueue.poll());
+        assertEquals(1, queueMetrics.getItems());
+        assertEquals(1, queueMetrics.getBlockedPuts());
+        assertEquals(1, queueMetrics.getMaxDepth());
+        assertTrue(queueMetrics.getBlockedMillis() > 0);
+    }
+
+    /**
+     * Tests that threads stop waiting for a full output queue if the job is cancelled.
+     */
+    @Test
+    @DisplayName("Tests that threads stop waiting for a full output queue if the job is cancelled.")
+    void testBackpressureCancelled() {
+        BlockingQueue<Map<String, Object>> outputQueue = new ArrayBlockingQueue<>(1);
+        assertTrue(outputQueue.offer(Map.of("index", 1)));
+
+        Action actionMock = mock(Action.class);
+        when(actionMock.complete()).thenReturn(List.of(Map.of("index", 2)));
+
+        JobExecution jobExecution = JobExecution.builder().executionState(JobExecutionState.CANCELLED).build();
+
+        ActionsExecutingRunnable actionsExecutingRunnable = new ActionsExecutingRunnable(List.of(actionMock),
+            new LinkedBlockingQueue<>(), outputQueue, jobExecution, 1, new QueueMetrics());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), actionsExecutingRunnable::complete);
+        assertEquals(Map.of("index", 1), outputQueue.poll());
+    }
+
 }
@@ -10,14 +10,17 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.nullable;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * Tests the {@link ConcurrencyGroup}.
@@ -34,6 +37,7 @@ class ConcurrencyGroupTest {
     @DisplayName("Tests the concurrency-group lifecylce.")
     void testLifecycle() throws InterruptedException {
         Action actionMock = mock(Action.class);
+        when(actionMock.processBatch(anyList(), nullable(JobExecution.class))).thenCallRealMethod();
         when(actionMock.process(anyMap(), nullable(JobExecution.class))).thenAnswer(invocationOnMock -> {
             @SuppressWarnings("unchecked")
             List<Map<String, Object>> result = List.of((Map<String, Object>) invocationOnMock.getArgument(0));
@@ -42,17 +46,38 @@ class ConcurrencyGroupTest {
 
         BlockingQueue<Map<String, Object>> inputQueue = new LinkedBlockingQueue<>();
 
-        ConcurrencyGroup concurrencyGroup = new ConcurrencyGroup(List.of(actionMock), inputQueue, "group-id", null, 1);
+        ConcurrencyGroup concurrencyGroup = new ConcurrencyGroup(List.of(actionMock), inputQueue, new LinkedBlockingQueue<>(),
+            "group-id", null, ConcurrencySettings.builder().build());
 
         Map<String, Object> data = new HashMap<>();
         data.put("foo", "bar");
 
         inputQueue.add(data);
 
-        concurrencyGroup.complete();
         concurrencyGroup.shutdown();
 
         assertEquals(data, concurrencyGroup.getOutputQueue().take());
+        assertTrue(concurrencyGroup.awaitTermination());
+        verify(actionMock, times(1)).complete();
+    }
+
+    /**
+     * Tests that the end of the input is passed on to the following concurrency-group after all data items have been
+     * processed.
+     */
+    @Test
+    @DisplayName("Tests passing the end of the input on to the following concurrency-group.")
+    void testEndOfInputPropagation() {
+        assertEndOfInputPropagation(ThreadType.PLATFORM);
+    }
+
+    /**
+     * Tests that concurrency-groups process data items with virtual threads.
+     */
+    @Test
+    @DisplayName("Tests processing data items with virtual threads.")
+    void testEndOfInputPropagationWithVirtualThreads() {
+        assertEndOfInputPropagation(ThreadType.VIRTUAL);
     }
 
     /**
@@ -61,7 +86,8 @@ class ConcurrencyGroupTest {
     @Test
     @DisplayName("Tests awaiting termination.")
     void testAwaitTermination() {
-        ConcurrencyGroup concurrencyGroup = new ConcurrencyGroup(List.of(), new LinkedBlockingQueue<>(), "group-id", null, 1);
+        ConcurrencyGroup concurrencyGroup = new ConcurrencyGroup(List.of(), new LinkedBlockingQueue<>(), null, "group-id", null,
+            ConcurrencySettings.builder().build());
         assertFalse(concurrencyGroup.awaitTermination());
 
         JobExecution jobExecution = new JobExecution();
@@ -82,8 +108,8 @@ class ConcurrencyGroupTest {
         JobExecution jobExecution = new JobExecution();
         jobExecution.setExecutionState(JobExecutionState.CANCELLED);
 
-        ConcurrencyGroup concurrencyGroup = new ConcurrencyGroup(List.of(), new LinkedBlockingQueue<>(), "group-id",
-            jobExecution, 1);
+        ConcurrencyGroup concurrencyGroup = new ConcurrencyGroup(List.of(), new LinkedBlockingQueue<>(), null, "group-id",
+            jobExecution, ConcurrencySettings.builder().build());
 
         concurrencyGroup.uncaughtException(null, new IgorException("test-exception"));
 
@@ -95,4 +121,81 @@ class ConcurrencyGroupTest {
         assertEquals(JobExecutionState.FAILED, concurrencyGroup.getJobExecution().getExecutionState());
     }
 
+    /**
+     * Tests that data items with the same partition key are processed by the same thread and in order.
+     */
+    @Test
+    @DisplayName("Tests processing partitioned input.")
+    void testPartitionedInput() {
+        Map<Object, List<Integer>> processedIndices = new ConcurrentHashMap<>();
+        Map<Object, Set<String>> processingThreads = new ConcurrentHashMap<>();
+
+        Action actionMock = mock(Action.class);
+        when(actionMock.processBatch(anyList(), nullable(JobExecution.class))).thenAnswer(invocationOnMock -> {
+            List<Map<String, Object>> dataItems = invocationOnMock.getArgument(0);
+            dataItems.forEach(dataItem -> {
+                processedIndices.computeIfAbsent(dataItem.get("key"), key -> new CopyOnWriteArrayList<>())
+                    .add((Integer) dataItem.get("index"));
+                processingThreads.computeIfAbsent(dataItem.get("key"), key -> ConcurrentHashMap.newKeySet())
+                    .add(Thread.currentThread().getName());
+            });
+            return dataItems;
+        });
+
+        ConcurrencySettings settings = ConcurrencySettings.builder().numThreads(3).batchSize(5).build();
+
+        PartitionedQueue inputQueue = new PartitionedQueue(settings, dataItem -> dataItem.get("key"));
+
+        ConcurrencyGroup concurrencyGroup = new ConcurrencyGroup(List.of(actionMock), inputQueue, null, "partitioned", null,
+            settings);
+
+        for (var i = 0; i < 100; i++) {
+            inputQueue.add(Map.of("key", i % 7, "index", i));
+        }
+
+        concurrencyGroup.shutdown();
+
+        assertTrue(concurrencyGroup.awaitTermination());
+        assertEquals(7, processedIndices.size());
+        processedIndices.values().forEach(indices -> assertEquals(indices.stream().sorted().toList(), indices));
+        processingThreads.values().forEach(threadNames -> assertEquals(1, threadNames.size()));
+        verify(actionMock, times(3)).complete();
+    }
+
+    /**
+     * Runs two linked concurrency-groups and checks that all data items are processed, and that the actions are completed.
+     *
+     * @param threadType The type of threads to run the concurrency-groups with.
+     */
+    private void assertEndOfInputPropagation(ThreadType threadType) {
+        Action actionMock = mock(Action.class);
+        when(actionMock.processBatch(anyList(), nullable(JobExecution.class))).thenAnswer(invocationOnMock ->
+            invocationOnMock.getArgument(0));
+
+        BlockingQueue<Map<String, Object>> inputQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<Map<String, Object>> intermediateQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<Map<String, Object>> outputQueue = new LinkedBlockingQueue<>();
+
+        ConcurrencySettings settings = ConcurrencySettings.builder().numThreads(3).batchSize(5)
+            .threadType(threadType).build();
+
+        ConcurrencyGroup first = new ConcurrencyGroup(List.of(actionMock), inputQueue, intermediateQueue, "first", null,
+            settings);
+        ConcurrencyGroup second = new ConcurrencyGroup(List.of(actionMock), intermediateQueue, outputQueue, "second", null,
+            settings);
+        first.setSuccessor(second);
+
+        for (var i = 0; i < 100; i++) {
+            inputQueue.add(Map.of("index", i));
+        }
+
+        first.shutdown();
+
+        assertTrue(first.awaitTermination());
+        assertTrue(second.awaitTermination());
+        assertEquals(100, outputQueue.size());
+        // Each of the three threads of each group completes the actions:
+        verify(actionMock, times(6)).complete();
+    }
+
 }
@@ -0,0 +1,73 @@
+package com.arassec.igor.core.model.job.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link DiscardingQueue}.
+ */
+@DisplayName("Discarding-Queue tests.")
+class DiscardingQueueTest {
+
+    /**
+     * Tests that all elements are accepted and dropped.
+     *
+     * @throws InterruptedException In case of an interruption during the test.
+     */
+    @Test
+    @DisplayName("Tests that all elements are accepted and dropped.")
+    void testDiscarding() throws InterruptedException {
+        DiscardingQueue<String> discardingQueue = new DiscardingQueue<>();
+
+        assertTrue(discardingQueue.offer("a"));
+        assertTrue(discardingQueue.offer("b", 1, TimeUnit.SECONDS));
+        discardingQueue.put("c");
+
+        assertTrue(discardingQueue.isEmpty());
+        assertNull(discardingQueue.peek());
+        assertNull(discardingQueue.poll());
+        assertNull(discardingQueue.poll(10, TimeUnit.MILLISECONDS));
+        assertEquals(0, discardingQueue.drainTo(new ArrayList<>()));
+    }
+
+    /**
+     * Tests that taking an element blocks until the thread is interrupted.
+     *
+     * @throws InterruptedException In case of an interruption during the test.
+     */
+    @Test
+    @DisplayName("Tests that taking an element blocks until the thread is interrupted.")
+    void testTake() throws InterruptedException {
+        DiscardingQueue<String> discardingQueue = new DiscardingQueue<>();
+        CompletableFuture<Throwable> result = new CompletableFuture<>();
+
+        Thread taker = new Thread(() -> {
+            try {
+                discardingQueue.take();
+                result.complete(null);
+            } catch (Throwable e) {
+                result.complete(e);
+            }
+        });
+        taker.start();
+
+        taker.join(100);
+        assertTrue(taker.isAlive());
+
+        taker.interrupt();
+        try {
+            assertInstanceOf(InterruptedException.class, result.get(5, TimeUnit.SECONDS));
+        } catch (ExecutionException | TimeoutException e) {
+            fail(e);
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.arassec.igor.core.model.job.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link PartitionedQueue}.
+ */
+@DisplayName("Partitioned-Queue tests.")
+class PartitionedQueueTest {
+
+    /**
+     * Tests distributing data items among the partitions.
+     *
+     * @throws InterruptedException In case of an interruption during the test.
+     */
+    @Test
+    @DisplayName("Tests distributing data items among the partitions.")
+    void testPartitioning() throws InterruptedException {
+        PartitionedQueue partitionedQueue = new PartitionedQueue(ConcurrencySettings.builder().numThreads(3).queueCapacity(10)
+            .queueType(QueueType.ARRAY).build(), dataItem -> dataItem.get("key"));
+
+        assertEquals(3, partitionedQueue.getNumPartitions());
+        assertEquals(30, partitionedQueue.remainingCapacity());
+
+        partitionedQueue.offer(Map.of("key", "a", "index", 1));
+        partitionedQueue.put(Map.of("key", "b", "index", 2));
+        partitionedQueue.offer(Map.of("key", "a", "index", 3), 1, TimeUnit.SECONDS);
+        partitionedQueue.offer(Map.of("index", 4));
+
+        assertEquals(4, partitionedQueue.size());
+
+        // All data items with the same key are in the same partition, in the order they were added:
+        for (var i = 0; i < partitionedQueue.getNumPartitions(); i++) {
+            List<Map<String, Object>> partition = new ArrayList<>(partitionedQueue.getPartition(i));
+            if (partition.stream().anyMatch(dataItem -> "a".equals(dataItem.get("key")))) {
+                List<Object> indices = partition.stream().filter(dataItem -> "a".equals(dataItem.get("key")))
+                    .map(dataItem -> dataItem.get("index")).toList();
+                assertEquals(List.of(1, 3), indices);
+            }
+        }
+
+        assertNotNull(partitionedQueue.peek());
+
+        List<Map<String, Object>> drained = new ArrayList<>();
+        assertEquals(4, partitionedQueue.drainTo(drained));
+        assertTrue(partitionedQueue.isEmpty());
+        assertNull(partitionedQueue.poll());
+    }
+
+    /**
+     * Tests taking data items from the partitioned queue directly.
+     *
+     * @throws Exception In case of errors during the test.
+     */
+    @Test
+    @DisplayName("Tests taking data items from the partitioned queue directly.")
+    void testTakeAndPoll() throws Exception {
+        PartitionedQueue partitionedQueue = new PartitionedQueue(ConcurrencySettings.builder().numThreads(2).build(),
+            dataItem -> dataItem.get("key"));
+
+        assertNull(partitionedQueue.poll(10, TimeUnit.MILLISECONDS));
+
+        partitionedQueue.offer(Map.of("key", "a"));
+        assertEquals(Map.of("key", "a"), partitionedQueue.take());
+
+        // A waiting thread is woken up as soon as a data item is added to any partition:
+        CompletableFuture<Map<String, Object>> taken = CompletableFuture.supplyAsync(() -> {
+            try {
+                return partitionedQueue.poll(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        });
+        partitionedQueue.put(Map.of("key", "b"));
+        assertEquals(Map.of("key", "b"), taken.get(5, TimeUnit.SECONDS));
+
+        // Data items added to a partition directly wake up waiting threads as well:
+        CompletableFuture<Map<String, Object>> takenFromPartition = CompletableFuture.supplyAsync(() -> {
+            try {
+                return partitionedQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        });
+        partitionedQueue.getPartition(1).put(Map.of("key", "c"));
+        assertEquals(Map.of("key", "c"), takenFromPartition.get(5, TimeUnit.SECONDS));
+        assertTrue(partitionedQueue.isEmpty());
+    }
+
+}
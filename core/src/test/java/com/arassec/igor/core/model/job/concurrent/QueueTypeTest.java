@@ -0,0 +1,34 @@
+package com.arassec.igor.core.model.job.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Tests the {@link QueueType}.
+ */
+@DisplayName("Queue-Type tests.")
+class QueueTypeTest {
+
+    /**
+     * Tests creating queues.
+     */
+    @Test
+    @DisplayName("Tests creating queues.")
+    void testCreate() {
+        assertInstanceOf(LinkedBlockingQueue.class, QueueType.LINKED.create(10));
+        assertEquals(10, QueueType.LINKED.create(10).remainingCapacity());
+
+        assertInstanceOf(ArrayBlockingQueue.class, QueueType.ARRAY.create(10));
+        assertEquals(10, QueueType.ARRAY.create(10).remainingCapacity());
+
+        assertInstanceOf(LinkedBlockingQueue.class, QueueType.ARRAY.create(0));
+        assertEquals(Integer.MAX_VALUE, QueueType.ARRAY.create(0).remainingCapacity());
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.arassec.igor.core.model.job.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link ThreadType}.
+ */
+@DisplayName("Thread-Type tests.")
+class ThreadTypeTest {
+
+    /**
+     * Tests creating executors with platform threads.
+     */
+    @Test
+    @DisplayName("Tests creating executors with platform threads.")
+    void testCreatePlatformExecutor() throws ExecutionException, InterruptedException, TimeoutException {
+        assertExecutor(ThreadType.PLATFORM);
+    }
+
+    /**
+     * Tests creating executors with virtual threads.
+     */
+    @Test
+    @DisplayName("Tests creating executors with virtual threads.")
+    void testCreateVirtualExecutor() throws ExecutionException, InterruptedException, TimeoutException {
+        assertExecutor(ThreadType.VIRTUAL);
+    }
+
+    /**
+     * Creates an executor and checks its threads.
+     *
+     * @param threadType The type of threads to test.
+     */
+    private void assertExecutor(ThreadType threadType) throws ExecutionException, InterruptedException, TimeoutException {
+        CompletableFuture<Throwable> uncaughtException = new CompletableFuture<>();
+
+        ExecutorService executorService = threadType.createExecutor(2, "test",
+            (thread, throwable) -> uncaughtException.complete(throwable));
+
+        Thread thread = executorService.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+        assertEquals(ThreadType.VIRTUAL.equals(threadType), thread.isVirtual());
+        assertTrue(thread.getName().startsWith("test-"));
+
+        executorService.execute(() -> {
+            throw new IllegalStateException("test-exception");
+        });
+        assertInstanceOf(IllegalStateException.class, uncaughtException.get(5, TimeUnit.SECONDS));
+
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+}
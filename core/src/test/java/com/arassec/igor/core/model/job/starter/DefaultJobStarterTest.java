@@ -1,7 +1,11 @@
 package com.arassec.igor.core.model.job.starter;
 
 import com.arassec.igor.core.model.action.Action;
+import com.arassec.igor.core.model.action.ExecutionOrder;
 import com.arassec.igor.core.model.job.concurrent.ConcurrencyGroup;
+import com.arassec.igor.core.model.job.concurrent.ConcurrencySettings;
+import com.arassec.igor.core.model.job.concurrent.PartitionedQueue;
+import com.arassec.igor.core.model.job.concurrent.QueueType;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.misc.ProcessingFinishedCallback;
 import com.arassec.igor.core.model.trigger.Trigger;
@@ -9,6 +13,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,11 +33,11 @@ class DefaultJobStarterTest {
         List<Action> actions = List.of();
         JobExecution jobExecution = new JobExecution();
 
-        assertThrows(IllegalArgumentException.class, () -> new DefaultJobStarter(null, null, null, 1));
-        assertThrows(IllegalArgumentException.class, () -> new DefaultJobStarter(null, null, jobExecution, 1));
-        assertThrows(IllegalArgumentException.class, () -> new DefaultJobStarter(null, actions, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DefaultJobStarter(null, null, null, ConcurrencySettings.builder().build()));
+        assertThrows(IllegalArgumentException.class, () -> new DefaultJobStarter(null, null, jobExecution, ConcurrencySettings.builder().build()));
+        assertThrows(IllegalArgumentException.class, () -> new DefaultJobStarter(null, actions, null, ConcurrencySettings.builder().build()));
 
-        assertDoesNotThrow(() -> new DefaultJobStarter(null, actions, jobExecution, 1));
+        assertDoesNotThrow(() -> new DefaultJobStarter(null, actions, jobExecution, ConcurrencySettings.builder().build()));
     }
 
     /**
@@ -47,22 +52,80 @@ class DefaultJobStarterTest {
 
         // Ignored because inactive:
         Action secondAction = mock(Action.class);
-        when(secondAction.enforceSingleThread()).thenReturn(true);
+        when(secondAction.requiredOrder()).thenReturn(ExecutionOrder.GLOBAL);
 
         Action thirdAction = mock(Action.class);
         when(thirdAction.isActive()).thenReturn(true);
 
         // Second group:
         Action fourthAction = mock(Action.class);
-        when(fourthAction.enforceSingleThread()).thenReturn(true);
+        when(fourthAction.requiredOrder()).thenReturn(ExecutionOrder.GLOBAL);
         when(fourthAction.isActive()).thenReturn(true);
 
         List<Action> actions = List.of(firstAction, secondAction, thirdAction, fourthAction);
         JobExecution jobExecution = JobExecution.builder().jobId("job-id").build();
 
-        DefaultJobStarter defaultJobStarter = new DefaultJobStarter(null, actions, jobExecution, 3);
+        DefaultJobStarter defaultJobStarter = new DefaultJobStarter(null, actions, jobExecution, ConcurrencySettings.builder()
+            .numThreads(3).queueCapacity(1000).queueType(QueueType.ARRAY).build());
 
         assertEquals(2, defaultJobStarter.getConcurrencyGroups().size());
+
+        // Only the queues between concurrency groups are bounded, the output of the last group is discarded:
+        assertEquals(1000, defaultJobStarter.getConcurrencyGroups().getFirst().getOutputQueue().remainingCapacity());
+        assertEquals(Integer.MAX_VALUE, defaultJobStarter.getConcurrencyGroups().getLast().getOutputQueue().remainingCapacity());
+    }
+
+    /**
+     * Tests creation of concurrency groups for actions with different execution order requirements.
+     */
+    @Test
+    @DisplayName("Tests creation of concurrency groups for actions with different execution order requirements.")
+    void testConcurrencyGroupCreationWithExecutionOrder() {
+        // First group, the second action joins the first action's group:
+        Action firstAction = mock(Action.class);
+        when(firstAction.isActive()).thenReturn(true);
+        when(firstAction.requiredOrder()).thenReturn(ExecutionOrder.NONE);
+
+        Action secondAction = mock(Action.class);
+        when(secondAction.isActive()).thenReturn(true);
+        when(secondAction.requiredOrder()).thenReturn(ExecutionOrder.INHERITED);
+
+        // Second group with partitioned input:
+        Action thirdAction = mock(Action.class);
+        when(thirdAction.isActive()).thenReturn(true);
+        when(thirdAction.requiredOrder()).thenReturn(ExecutionOrder.PER_KEY);
+        when(thirdAction.getId()).thenReturn("third-action-id");
+
+        // Third group, single-threaded, the fifth action joins the fourth action's group:
+        Action fourthAction = mock(Action.class);
+        when(fourthAction.isActive()).thenReturn(true);
+        when(fourthAction.requiredOrder()).thenReturn(ExecutionOrder.GLOBAL);
+        when(fourthAction.getId()).thenReturn("fourth-action-id");
+
+        Action fifthAction = mock(Action.class);
+        when(fifthAction.isActive()).thenReturn(true);
+        when(fifthAction.requiredOrder()).thenReturn(ExecutionOrder.INHERITED);
+
+        List<Action> actions = List.of(firstAction, secondAction, thirdAction, fourthAction, fifthAction);
+        JobExecution jobExecution = JobExecution.builder().jobId("job-id").build();
+
+        DefaultJobStarter defaultJobStarter = new DefaultJobStarter(null, actions, jobExecution, ConcurrencySettings.builder()
+            .numThreads(3).queueCapacity(1000).queueCapacities(Map.of("third-action-id", 5, "fourth-action-id", 10))
+            .queueType(QueueType.ARRAY).build());
+
+        List<ConcurrencyGroup> concurrencyGroups = defaultJobStarter.getConcurrencyGroups();
+        assertEquals(3, concurrencyGroups.size());
+
+        // The queue capacities are configured per group:
+        PartitionedQueue partitionedQueue = assertInstanceOf(PartitionedQueue.class, concurrencyGroups.getFirst().getOutputQueue());
+        assertEquals(3, partitionedQueue.getNumPartitions());
+        assertEquals(15, partitionedQueue.remainingCapacity());
+        assertFalse(concurrencyGroups.get(1).getOutputQueue() instanceof PartitionedQueue);
+        assertEquals(10, concurrencyGroups.get(1).getOutputQueue().remainingCapacity());
+
+        // Metrics are available for all queues between concurrency groups:
+        assertEquals(2, jobExecution.getQueueMetrics().size());
+        assertSame(concurrencyGroups.getFirst().getQueueMetrics(), jobExecution.getQueueMetrics().get("job-id_0"));
     }
 
     /**
@@ -76,14 +139,14 @@ class DefaultJobStarterTest {
 
         Trigger trigger = mock(Trigger.class);
 
-        DefaultJobStarter defaultJobStarter = new DefaultJobStarter(trigger, List.of(action), new JobExecution(), 1);
+        DefaultJobStarter defaultJobStarter = new DefaultJobStarter(trigger, List.of(action), new JobExecution(), ConcurrencySettings.builder().build());
 
         assertFalse(defaultJobStarter.isProcessingFinishedCallbackSet());
 
         Trigger processingFinishedCallback = mock(Trigger.class,
                 withSettings().extraInterfaces(ProcessingFinishedCallback.class));
 
-        defaultJobStarter = new DefaultJobStarter(processingFinishedCallback, List.of(action), new JobExecution(), 1);
+        defaultJobStarter = new DefaultJobStarter(processingFinishedCallback, List.of(action), new JobExecution(), ConcurrencySettings.builder().build());
 
         assertTrue(defaultJobStarter.isProcessingFinishedCallbackSet());
     }
@@ -101,7 +164,7 @@ class DefaultJobStarterTest {
 
         JobExecution jobExecution = JobExecution.builder().build();
 
-        DefaultJobStarter defaultJobStarter = new DefaultJobStarter(trigger, List.of(action), jobExecution, 1);
+        DefaultJobStarter defaultJobStarter = new DefaultJobStarter(trigger, List.of(action), jobExecution, ConcurrencySettings.builder().build());
 
         List<ConcurrencyGroup> concurrencyGroups = defaultJobStarter.process();
 
@@ -2,6 +2,7 @@ package com.arassec.igor.core.model.job.starter;
 
 import com.arassec.igor.core.model.action.Action;
 import com.arassec.igor.core.model.job.concurrent.ConcurrencyGroup;
+import com.arassec.igor.core.model.job.concurrent.ConcurrencySettings;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.execution.JobExecutionState;
 import com.arassec.igor.core.model.trigger.EventTrigger;
@@ -67,7 +68,7 @@ class EventTriggeredJobStarterTest {
         }).when(jobExecution).setProcessedEvents(1);
 
         EventTriggeredJobStarter eventTriggeredJobStarter = new EventTriggeredJobStarter(eventTrigger, List.of(action),
-            jobExecution, 1);
+            jobExecution, ConcurrencySettings.builder().build());
 
         List<ConcurrencyGroup> concurrencyGroups = eventTriggeredJobStarter.process();
 
@@ -0,0 +1,165 @@
+package com.arassec.igor.plugin.core;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map that reads from a shared, frozen map until it is modified or one of its nested containers is requested. Then the
+ * top level of the frozen map is copied into a private map, and nested maps are wrapped into new {@link CopyOnWriteMap}s.
+ * <p>
+ * The frozen map must never be modified after it has been handed to instances of this class.
+ * <p>
+ * Reading is thread-safe: the private copy is created at most once, under this map's lock, and published through a volatile
+ * field. Afterward, all reads see the same nested containers. Modifications have to be synchronized externally, as with any
+ * other {@link Map}. Igor hands a data item to one thread at a time, so this is the case within a job.
+ * <p>
+ * Instances are serialized as a {@link LinkedHashMap} with this map's current content, e.g. when sorted data items are written to
+ * temporary files.
+ */
+class CopyOnWriteMap extends AbstractMap<String, Object> implements Serializable {
+
+    /**
+     * Version of the serialized form. Instances are always replaced by a {@link LinkedHashMap} during serialization.
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The shared map. Never modified.
+     */
+    private final transient Map<String, Object> frozen;
+
+    /**
+     * The private copy of the shared map, or {@code null} as long as it hasn't been materialized.
+     */
+    private transient volatile Map<String, Object> own;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param frozen The shared map.
+     */
+    CopyOnWriteMap(Map<String, Object> frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(Object key) {
+        Map<String, Object> current = own;
+        if (current != null) {
+            return current.get(key);
+        }
+        Object value = frozen.get(key);
+        if (value instanceof Map || value instanceof List) {
+            return materialize().get(key);
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return current().containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return current().size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return current().isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object put(String key, Object value) {
+        return materialize().put(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void clear() {
+        own = new LinkedHashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return materialize().entrySet();
+    }
+
+    /**
+     * Replaces this map with a plain copy of its content during serialization. Nested {@link CopyOnWriteMap}s are replaced the
+     * same way, when they are serialized in turn.
+     *
+     * @return A {@link LinkedHashMap} with this map's current content.
+     */
+    @Serial
+    private Object writeReplace() {
+        return new LinkedHashMap<>(current());
+    }
+
+    /**
+     * Returns the map that currently holds this map's content.
+     *
+     * @return The private map, if it exists, the shared map otherwise.
+     */
+    private Map<String, Object> current() {
+        Map<String, Object> current = own;
+        return current != null ? current : frozen;
+    }
+
+    /**
+     * Copies the top level of the shared map into a private map, if not already done. The copy is only published after it is
+     * complete, so that concurrent readers either see the shared map or the complete copy.
+     *
+     * @return The private map.
+     */
+    private Map<String, Object> materialize() {
+        Map<String, Object> current = own;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (own == null) {
+                Map<String, Object> copy = LinkedHashMap.newLinkedHashMap(frozen.size());
+                frozen.forEach((key, value) -> copy.put(key, DataCloner.share(value)));
+                own = copy;
+            }
+            return own;
+        }
+    }
+
+}
@@ -9,6 +9,7 @@ import com.samskivert.mustache.MustacheException;
 import org.springframework.util.StringUtils;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -27,6 +28,16 @@ public class CorePluginUtils {
      */
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * The maximum number of compiled mustache templates kept in memory.
+     */
+    private static final int TEMPLATE_CACHE_SIZE = 1024;
+
+    /**
+     * Cache for compiled mustache templates.
+     */
+    private static final TemplateCache templateCache = new TemplateCache(Mustache.compiler(), TEMPLATE_CACHE_SIZE);
+
     /**
      * Creates a new instance.
      */
@@ -83,12 +94,21 @@ public class CorePluginUtils {
             return null;
         }
         try {
-            return Mustache.compiler().compile(template).execute(data);
+            return templateCache.execute(template, data);
         } catch (MustacheException e) {
             return template;
         }
     }
 
+    /**
+     * Returns the cache used to evaluate mustache templates, e.g. to read its statistics.
+     *
+     * @return The template cache.
+     */
+    public static TemplateCache getTemplateCache() {
+        return templateCache;
+    }
+
     /**
      * Creates a deep copy of the supplied map.
      *
@@ -97,9 +117,24 @@ public class CorePluginUtils {
      */
     public static Map<String, Object> clone(Map<String, Object> data) {
         try {
-            return objectMapper.readValue(objectMapper.writeValueAsString(data), new TypeReference<>() {
-            });
-        } catch (JsonProcessingException e) {
+            return DataCloner.deepCopy(data);
+        } catch (IllegalArgumentException e) {
+            throw new IgorException("Could not clone data item!", e);
+        }
+    }
+
+    /**
+     * Creates the requested number of copies of the supplied map. The copies share unchanged parts of the map and are
+     * cheaper to create than individual deep copies.
+     *
+     * @param data   The map to clone.
+     * @param amount The number of copies to create.
+     * @return New Map instances with the map's content.
+     */
+    public static List<Map<String, Object>> clone(Map<String, Object> data, int amount) {
+        try {
+            return DataCloner.copyOnWrite(data, amount);
+        } catch (IllegalArgumentException e) {
             throw new IgorException("Could not clone data item!", e);
         }
     }
@@ -172,7 +207,7 @@ public class CorePluginUtils {
                 }
             }
             String key = pathParts[pathParts.length - 1];
-            if (subData.containsKey(key) && clazz.isAssignableFrom(subData.get(key).getClass())) {
+            if (subData.get(key) != null && clazz.isAssignableFrom(subData.get(key).getClass())) {
                 return Optional.of((T) subData.get(key));
             }
         }
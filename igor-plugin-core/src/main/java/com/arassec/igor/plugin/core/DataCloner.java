@@ -0,0 +1,140 @@
+package com.arassec.igor.plugin.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates copies of data items by walking their {@link Map}/{@link List} structure directly, instead of converting them to
+ * JSON and back.
+ * <p>
+ * Immutable scalar values (strings, numbers, booleans) are shared between original and copy. Values of other types are
+ * converted with Jackson, which yields the same result as the JSON round trip.
+ */
+public final class DataCloner {
+
+    /**
+     * Jackson's ObjectMapper to convert values of unknown types.
+     */
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Creates a new instance.
+     */
+    private DataCloner() {
+    }
+
+    /**
+     * Creates a deep copy of the supplied data item.
+     *
+     * @param data The data item to copy.
+     * @return A new, independent map with copied content.
+     */
+    public static Map<String, Object> deepCopy(Map<String, Object> data) {
+        if (data == null) {
+            return null;
+        }
+        return copyMap(data);
+    }
+
+    /**
+     * Creates the requested number of copies of the supplied data item. The copies share a single, private deep copy of the
+     * data item and only copy those parts of it, that are modified or handed out as mutable containers. Changes to one copy
+     * are never visible in another copy or in the original data item.
+     *
+     * @param data   The data item to copy.
+     * @param amount The number of copies to create.
+     * @return The copies of the data item.
+     */
+    public static List<Map<String, Object>> copyOnWrite(Map<String, Object> data, int amount) {
+        List<Map<String, Object>> result = new ArrayList<>(Math.max(amount, 0));
+        if (data == null || amount <= 0) {
+            return result;
+        }
+        Map<String, Object> frozen = copyMap(data);
+        for (var i = 0; i < amount; i++) {
+            result.add(new CopyOnWriteMap(frozen));
+        }
+        return result;
+    }
+
+    /**
+     * Copies the supplied map recursively.
+     *
+     * @param source The map to copy.
+     * @return The copied map.
+     */
+    private static Map<String, Object> copyMap(Map<?, ?> source) {
+        Map<String, Object> target = LinkedHashMap.newLinkedHashMap(source.size());
+        source.forEach((key, value) -> target.put(String.valueOf(key), copyValue(value)));
+        return target;
+    }
+
+    /**
+     * Copies the supplied collection recursively.
+     *
+     * @param source The collection to copy.
+     * @return The copied collection as list.
+     */
+    private static List<Object> copyCollection(Collection<?> source) {
+        List<Object> target = new ArrayList<>(source.size());
+        source.forEach(value -> target.add(copyValue(value)));
+        return target;
+    }
+
+    /**
+     * Copies a single value of a data item.
+     *
+     * @param value The value to copy.
+     * @return The copied value, or the value itself if it is immutable.
+     */
+    private static Object copyValue(Object value) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        } else if (value instanceof Map<?, ?> map) {
+            return copyMap(map);
+        } else if (value instanceof Collection<?> collection) {
+            return copyCollection(collection);
+        }
+        return objectMapper.convertValue(value, Object.class);
+    }
+
+    /**
+     * Wraps a value of a shared, frozen data item so that it can be handed out to a single copy. Nested maps are wrapped
+     * lazily, lists are copied one level deep.
+     *
+     * @param value The shared value.
+     * @return A value that can safely be modified by the receiver.
+     */
+    static Object share(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> frozen = (Map<String, Object>) map;
+            return new CopyOnWriteMap(frozen);
+        } else if (value instanceof List<?> list) {
+            List<Object> target = new ArrayList<>(list.size());
+            list.forEach(element -> target.add(share(element)));
+            return target;
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether a value can be shared between copies as it is.
+     *
+     * @param value The value to check.
+     * @return {@code true} if the value is immutable, {@code false} otherwise.
+     */
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long
+            || value instanceof Double || value instanceof Float || value instanceof Short || value instanceof Byte
+            || value instanceof BigInteger || value instanceof BigDecimal;
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.arassec.igor.plugin.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Splits arrays of data items into multiple data items, by walking their {@link Map}/{@link List} structure directly.
+ * <p>
+ * Each created data item contains a single array element at the array's position. The data item is copied only once. All
+ * created data items share the unchanged parts of this copy with {@link CopyOnWriteMap}s, so that the effort per created data
+ * item depends on the size of the maps on the path to the array, not on the size of the whole data item.
+ * <p>
+ * If the path to the array contains further arrays, they are split as well: every combination of their elements results in a
+ * separate data item. Numeric path segments select a single element of an array instead.
+ */
+public final class DataSplitter {
+
+    /**
+     * Creates a new instance.
+     */
+    private DataSplitter() {
+    }
+
+    /**
+     * Splits the array at the supplied path. The created data items are handed over to the consumer in chunks, while the array is
+     * split. If there is no array at the path, no data items are created.
+     *
+     * @param data      The data item containing the array.
+     * @param path      The keys of the maps on the path to the array, e.g. ['data', 'content', 'array'].
+     * @param chunkSize The maximum number of data items handed over to the consumer at once.
+     * @param consumer  Consumes chunks of created data items.
+     */
+    public static void split(Map<String, Object> data, List<String> path, int chunkSize,
+                             Consumer<List<Map<String, Object>>> consumer) {
+        if (data == null || path.isEmpty()) {
+            return;
+        }
+
+        List<Map<String, Object>> chunk = new ArrayList<>(chunkSize);
+        expand(DataCloner.deepCopy(data), path, 0, variant -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> dataItem = (Map<String, Object>) variant;
+            chunk.add(dataItem);
+            if (chunk.size() >= chunkSize) {
+                consumer.accept(new ArrayList<>(chunk));
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+    }
+
+    /**
+     * Creates the variants of a frozen value, in which the arrays on the remaining path are replaced by single elements.
+     *
+     * @param frozen          The frozen value, that must not be modified.
+     * @param path            The keys on the path to the array.
+     * @param depth           The index of the current key on the path.
+     * @param variantConsumer Consumes the variants of the value.
+     */
+    private static void expand(Object frozen, List<String> path, int depth, Consumer<Object> variantConsumer) {
+        if (depth == path.size()) {
+            if (frozen instanceof List<?> array) {
+                array.forEach(element -> variantConsumer.accept(DataCloner.share(element)));
+            }
+            return;
+        }
+
+        String key = path.get(depth);
+        if (frozen instanceof Map<?, ?> map) {
+            if (map.containsKey(key)) {
+                expand(map.get(key), path, depth + 1, variant -> variantConsumer.accept(replaceEntry(map, key, variant)));
+            }
+        } else if (frozen instanceof List<?> list) {
+            if (isIndex(key)) {
+                int index = Integer.parseInt(key);
+                if (index < list.size()) {
+                    expand(list.get(index), path, depth + 1,
+                        variant -> variantConsumer.accept(replaceElement(list, index, variant)));
+                }
+            } else {
+                // An array on the path to the selected array is split, too. Each of its elements replaces the whole array:
+                list.forEach(element -> expand(element, path, depth, variantConsumer));
+            }
+        }
+    }
+
+    /**
+     * Creates a map with the content of the frozen map, in which a single entry is replaced.
+     *
+     * @param frozen The frozen map, that must not be modified.
+     * @param key    The key of the replaced entry.
+     * @param value  The new value of the entry.
+     *
+     * @return A new map, sharing the other entries' values with the frozen map.
+     */
+    private static Map<String, Object> replaceEntry(Map<?, ?> frozen, String key, Object value) {
+        Map<String, Object> result = LinkedHashMap.newLinkedHashMap(frozen.size());
+        frozen.forEach((entryKey, entryValue) -> result.put(String.valueOf(entryKey),
+            key.equals(entryKey) ? value : DataCloner.share(entryValue)));
+        return result;
+    }
+
+    /**
+     * Creates a list with the content of the frozen list, in which a single element is replaced.
+     *
+     * @param frozen The frozen list, that must not be modified.
+     * @param index  The index of the replaced element.
+     * @param value  The new element.
+     *
+     * @return A new list, sharing the other elements with the frozen list.
+     */
+    private static List<Object> replaceElement(List<?> frozen, int index, Object value) {
+        List<Object> result = new ArrayList<>(frozen.size());
+        for (var i = 0; i < frozen.size(); i++) {
+            result.add(i == index ? value : DataCloner.share(frozen.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a path segment is an array index.
+     *
+     * @param key The path segment.
+     *
+     * @return {@code true}, if the segment consists of digits only, {@code false} otherwise.
+     */
+    private static boolean isIndex(String key) {
+        return !key.isEmpty() && key.chars().allMatch(Character::isDigit);
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.arassec.igor.plugin.core;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache of compiled mustache templates, keyed by the template string.
+ * <p>
+ * Compiled {@link Template}s are immutable and can be executed concurrently, so a single instance can be shared between all
+ * actions and worker threads. If the cache is full, the oldest template is evicted first.
+ */
+public class TemplateCache {
+
+    /**
+     * Start of a mustache tag. Templates without it are returned as they are.
+     */
+    private static final String TAG_START = "{{";
+
+    /**
+     * The mustache compiler used to compile templates.
+     */
+    private final Mustache.Compiler compiler;
+
+    /**
+     * The maximum number of compiled templates held by the cache.
+     */
+    private final int maxSize;
+
+    /**
+     * The compiled templates.
+     */
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    /**
+     * The cached template strings in insertion order, used for eviction.
+     */
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of lookups that were served from the cache.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Number of lookups that required compiling the template.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Number of templates removed from the cache due to its size limit.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param compiler The mustache compiler to use.
+     * @param maxSize  The maximum number of compiled templates to keep.
+     */
+    public TemplateCache(Mustache.Compiler compiler, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Template cache size must be positive!");
+        }
+        this.compiler = compiler;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Executes the supplied template against the provided data. Templates without mustache tags are returned without being
+     * compiled.
+     *
+     * @param template The mustache template.
+     * @param data     The data to execute the template against.
+     * @return The result of the template execution.
+     */
+    public String execute(String template, Object data) {
+        if (!template.contains(TAG_START)) {
+            return template;
+        }
+        return get(template).execute(data);
+    }
+
+    /**
+     * Returns the compiled version of the supplied template. The template is compiled and cached if it is not already known.
+     *
+     * @param template The mustache template.
+     * @return The compiled template.
+     */
+    public Template get(String template) {
+        Template compiled = templates.get(template);
+        if (compiled != null) {
+            hits.increment();
+            return compiled;
+        }
+        misses.increment();
+        compiled = compiler.compile(template);
+        if (templates.putIfAbsent(template, compiled) == null) {
+            insertionOrder.add(template);
+            evictIfRequired();
+        }
+        return compiled;
+    }
+
+    /**
+     * Removes the oldest templates until the cache is within its size limit again.
+     */
+    private void evictIfRequired() {
+        while (templates.size() > maxSize) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (templates.remove(eldest) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes all templates from the cache and resets the counters.
+     */
+    public void clear() {
+        templates.clear();
+        insertionOrder.clear();
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Returns the number of currently cached templates.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that required compiling a template.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of templates evicted due to the size limit.
+     *
+     * @return The number of evictions.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+}
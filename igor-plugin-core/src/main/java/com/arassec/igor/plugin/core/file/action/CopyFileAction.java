@@ -11,8 +11,11 @@ import com.arassec.igor.plugin.core.CorePluginUtils;
 import com.arassec.igor.plugin.core.CoreType;
 import com.arassec.igor.plugin.core.file.connector.FallbackFileConnector;
 import com.arassec.igor.plugin.core.file.connector.FileConnector;
+import com.arassec.igor.plugin.core.file.connector.FileStreamData;
+import com.arassec.igor.plugin.core.file.connector.SegmentReader;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -115,6 +118,15 @@ public class CopyFileAction extends BaseFileAction {
     @IgorParam(advanced = true)
     private boolean appendFiletypeSuffix = false;
 
+    /**
+     * The maximum number of segments of a file that are copied in parallel, if the source supports reading from an offset and
+     * the target supports segmented writes. Parallel segments speed up the transfer of large files over high-latency links. A
+     * value of '1' copies every file as one sequential stream.
+     */
+    @Positive
+    @IgorParam(advanced = true)
+    private int parallelSegments = 1;
+
     /**
      * Creates a new component instance.
      */
@@ -146,7 +158,9 @@ public class CopyFileAction extends BaseFileAction {
         try {
             String sourceFileWithPath = CorePluginUtils.combineFilePath(resolvedData.getSourceDirectory(), resolvedData.getSourceFilename());
 
-            var fileStreamData = source.readStream(sourceFileWithPath);
+            boolean segmented = parallelSegments > 1 && source.supportsSegmentedRead() && target.supportsSegmentedWrite();
+
+            var fileStreamData = segmented ? source.readStream(sourceFileWithPath, 0) : source.readStream(sourceFileWithPath);
 
             if (fileStreamData == null || fileStreamData.getData() == null) {
                 throw new IgorException("Not valid or not a file!");
@@ -164,7 +178,21 @@ public class CopyFileAction extends BaseFileAction {
                 targetFileInTransfer += CorePluginUtils.FILE_IN_TRANSFER_SUFFIX;
             }
 
-            target.writeStream(targetFileInTransfer, fileStreamData, workInProgressMonitor, jobExecution);
+            if (segmented) {
+                target.writeStream(targetFileInTransfer, fileStreamData, new SegmentReader() {
+                    @Override
+                    public FileStreamData read(long offset, long length) {
+                        return source.readStream(sourceFileWithPath, offset);
+                    }
+
+                    @Override
+                    public void finalizeSegment(FileStreamData segment) {
+                        source.finalizeStream(segment);
+                    }
+                }, parallelSegments, workInProgressMonitor, jobExecution);
+            } else {
+                target.writeStream(targetFileInTransfer, fileStreamData, workInProgressMonitor, jobExecution);
+            }
 
             source.finalizeStream(fileStreamData);
 
@@ -16,7 +16,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -89,10 +89,10 @@ public class ListFilesAction extends BaseFileAction {
             directory += "/";
         }
 
-        List<Map<String, Object>> result = new LinkedList<>();
+        List<Map<String, Object>> result = CorePluginUtils.clone(data, fileInfos.size());
 
-        fileInfos.forEach(fileInfo -> {
-            Map<String, Object> newDataItem = CorePluginUtils.clone(data);
+        Iterator<Map<String, Object>> resultIterator = result.iterator();
+        for (FileInfo fileInfo : fileInfos) {
 
             Map<String, Object> item = new HashMap<>();
             String filename = fileInfo.getFilename();
@@ -106,10 +106,8 @@ public class ListFilesAction extends BaseFileAction {
                 item.put(LAST_MODIFIED_KEY, fileInfo.getLastModified());
             }
 
-            newDataItem.put(DataKey.DATA.getKey(), item);
-
-            result.add(newDataItem);
-        });
+            resultIterator.next().put(DataKey.DATA.getKey(), item);
+        }
 
         return result;
     }
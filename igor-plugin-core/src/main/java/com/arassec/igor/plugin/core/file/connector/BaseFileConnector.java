@@ -48,7 +48,8 @@ public abstract class BaseFileConnector extends BaseConnector implements FileCon
                               JobExecution jobExecution) {
         try {
             long totalSize = fileSize;
-            var buf = new byte[streamCopyBufferSize];
+            // Small files don't need a buffer of the configured size:
+            var buf = new byte[(int) Math.min(streamCopyBufferSize, Math.max(fileSize, 1))];
             int foo;
             while (jobExecution.isRunningOrActive()) {
                 if (buf.length < fileSize) {
@@ -98,7 +99,7 @@ public abstract class BaseFileConnector extends BaseConnector implements FileCon
      *
      * @return The percentage.
      */
-    private double calculatePercentage(long obtained, long total) {
+    protected double calculatePercentage(long obtained, long total) {
         return (obtained * 100f) / total;
     }
 
@@ -3,6 +3,7 @@ package com.arassec.igor.plugin.core.file.connector;
 import com.arassec.igor.core.model.annotation.IgorSimulationSafe;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.execution.WorkInProgressMonitor;
+import com.arassec.igor.core.util.IgorException;
 
 import java.io.InputStream;
 import java.util.List;
@@ -53,6 +54,57 @@ public interface FileConnector {
      */
     void writeStream(String file, FileStreamData fileStreamData, WorkInProgressMonitor workInProgress, JobExecution jobExecution);
 
+    /**
+     * Returns whether the connector can read files starting at an arbitrary offset, see {@link #readStream(String, long)}.
+     *
+     * @return {@code true}, if segments of a file can be read, {@code false} otherwise.
+     */
+    default boolean supportsSegmentedRead() {
+        return false;
+    }
+
+    /**
+     * Reads the content of the specified file, starting at the supplied offset, into the returned {@link InputStream}. The
+     * caller may stop reading before the end of the file. As with {@link #readStream(String)}, the stream must be finalized with
+     * {@link #finalizeStream(FileStreamData)}.
+     *
+     * @param file   The name of the file to read.
+     * @param offset The offset of the first byte to read.
+     *
+     * @return The content of the file, starting at the offset, as stream of data. The file size is the size of the whole file.
+     */
+    @IgorSimulationSafe
+    default FileStreamData readStream(String file, long offset) {
+        throw new IgorException("Segmented reads are not supported by this connector!");
+    }
+
+    /**
+     * Returns whether the connector can write segments of a file in parallel, see
+     * {@link #writeStream(String, FileStreamData, SegmentReader, int, WorkInProgressMonitor, JobExecution)}.
+     *
+     * @return {@code true}, if segments of a file can be written in parallel, {@code false} otherwise.
+     */
+    default boolean supportsSegmentedWrite() {
+        return false;
+    }
+
+    /**
+     * Writes the file in segments, which are transferred in parallel. The first segment is read from the supplied
+     * {@link FileStreamData}, all other segments are requested from the {@link SegmentReader}. Connectors that don't support
+     * segmented writes transfer the supplied stream sequentially.
+     *
+     * @param file           The file to write into.
+     * @param fileStreamData The data of the file, starting at its first byte. The file size must be the size of the whole file.
+     * @param segmentReader  Reads the remaining segments of the file.
+     * @param segments       The maximum number of segments to transfer in parallel.
+     * @param workInProgress The work in progress container, which is updated with the progress of all segments.
+     * @param jobExecution   The container for job execution data.
+     */
+    default void writeStream(String file, FileStreamData fileStreamData, SegmentReader segmentReader, int segments,
+                             WorkInProgressMonitor workInProgress, JobExecution jobExecution) {
+        writeStream(file, fileStreamData, workInProgress, jobExecution);
+    }
+
     /**
      * Moves a file from source to target.
      *
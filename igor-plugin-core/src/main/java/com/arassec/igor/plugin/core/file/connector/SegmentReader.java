@@ -0,0 +1,26 @@
+package com.arassec.igor.plugin.core.file.connector;
+
+/**
+ * Reads segments of a file, which are transferred in parallel by a {@link FileConnector} supporting segmented writes.
+ */
+public interface SegmentReader {
+
+    /**
+     * Opens a stream on the specified segment of the file. The stream must start at the segment's offset. It may deliver more
+     * bytes than the segment's length, which are ignored by the caller.
+     *
+     * @param offset The offset of the segment's first byte.
+     * @param length The number of bytes of the segment.
+     *
+     * @return The segment's data.
+     */
+    FileStreamData read(long offset, long length);
+
+    /**
+     * Finalizes the stream of a segment, after the segment has been transferred or the transfer failed.
+     *
+     * @param fileStreamData The segment's data as returned by {@link #read(long, long)}.
+     */
+    void finalizeSegment(FileStreamData fileStreamData);
+
+}
@@ -1,6 +1,7 @@
 package com.arassec.igor.plugin.core.file.connector.localfs;
 
 import com.arassec.igor.application.annotation.IgorComponent;
+import com.arassec.igor.core.model.job.concurrent.ThreadType;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.execution.WorkInProgressMonitor;
 import com.arassec.igor.core.util.IgorException;
@@ -9,16 +10,28 @@ import com.arassec.igor.plugin.core.CoreType;
 import com.arassec.igor.plugin.core.file.connector.BaseFileConnector;
 import com.arassec.igor.plugin.core.file.connector.FileInfo;
 import com.arassec.igor.plugin.core.file.connector.FileStreamData;
+import com.arassec.igor.plugin.core.file.connector.SegmentReader;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StringUtils;
 
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.*;
 import java.nio.file.attribute.FileTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 /**
@@ -30,11 +43,30 @@ import java.util.stream.Stream;
  * <h3>Parameters</h3>
  * There are no parameters to configure the connector. Access rights to files and directories are those of the user running the
  * igor server.
+ * <p>
+ * Files read from the local filesystem are written with {@link FileChannel#transferTo(long, long, WritableByteChannel)}, which
+ * lets the operating system copy the data without moving it through the Java heap.
+ * <p>
+ * Large files from remote connectors can be written in segments, which are downloaded in parallel into the pre-allocated target
+ * file.
  */
 @Slf4j
 @IgorComponent(categoryId = CoreCategory.FILE, typeId = CoreType.LOCAL_FS_CONNECTOR)
 public class LocalFilesystemFileConnector extends BaseFileConnector {
 
+    /**
+     * The maximum number of bytes transferred between two file channels at once. After each chunk, the progress is updated and
+     * the job's state is checked.
+     */
+    private static final long TRANSFER_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * The minimum size of a segment in bytes, if a file is written in segments. Smaller files are written with fewer segments.
+     */
+    @Getter
+    @Setter
+    private long minSegmentSize = 16L * 1024 * 1024;
+
     /**
      * {@inheritDoc}
      */
@@ -97,13 +129,120 @@ public class LocalFilesystemFileConnector extends BaseFileConnector {
     @Override
     public void writeStream(String file, FileStreamData fileStreamData, WorkInProgressMonitor workInProgressMonitor,
                             JobExecution jobExecution) {
-        try (var fileOutputStream = new FileOutputStream(file)) {
-            copyStream(fileStreamData.getData(), fileOutputStream, fileStreamData.getFileSize(), workInProgressMonitor, jobExecution);
+        try {
+            if (fileStreamData.getData() instanceof FileInputStream fileInputStream) {
+                try (var fileChannel = FileChannel.open(Paths.get(file), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                    transferChannel(fileInputStream.getChannel(), fileChannel, fileStreamData.getFileSize(), workInProgressMonitor,
+                        jobExecution);
+                }
+            } else {
+                try (var fileOutputStream = new FileOutputStream(file)) {
+                    copyStream(fileStreamData.getData(), fileOutputStream, fileStreamData.getFileSize(), workInProgressMonitor,
+                        jobExecution);
+                }
+            }
         } catch (IOException e) {
             throw new IgorException("Could not write file (stream): " + file, e);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsSegmentedWrite() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeStream(String file, FileStreamData fileStreamData, SegmentReader segmentReader, int segments,
+                            WorkInProgressMonitor workInProgressMonitor, JobExecution jobExecution) {
+        long fileSize = fileStreamData.getFileSize();
+        var numSegments = (int) Math.min(segments, fileSize / minSegmentSize);
+        if (numSegments <= 1) {
+            writeStream(file, fileStreamData, workInProgressMonitor, jobExecution);
+            return;
+        }
+
+        long segmentSize = fileSize / numSegments;
+
+        try (var fileChannel = FileChannel.open(Paths.get(file), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+             var executor = ThreadType.PLATFORM.createExecutor(numSegments - 1, "igor-segment", null)) {
+
+            // Pre-allocates the file, so that the segments can be written at their offsets in any order:
+            fileChannel.write(ByteBuffer.allocate(1), fileSize - 1);
+
+            var transfer = new SegmentedTransfer(fileChannel, fileSize, new AtomicLong(), new AtomicBoolean(),
+                workInProgressMonitor, jobExecution);
+
+            List<Future<Void>> futures = new ArrayList<>();
+            for (var i = 1; i < numSegments; i++) {
+                long offset = i * segmentSize;
+                long length = (i == numSegments - 1) ? fileSize - offset : segmentSize;
+                futures.add(executor.submit(() -> {
+                    try {
+                        var segment = segmentReader.read(offset, length);
+                        try {
+                            writeSegment(segment.getData(), offset, length, transfer);
+                        } finally {
+                            segmentReader.finalizeSegment(segment);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        transfer.aborted().set(true);
+                        throw e;
+                    }
+                    return null;
+                }));
+            }
+
+            try {
+                // The first segment is read from the already opened stream:
+                writeSegment(fileStreamData.getData(), 0, segmentSize, transfer);
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IgorException igorException) {
+                    throw igorException;
+                }
+                throw new IgorException("Could not write file segment: " + file, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IgorException("Interrupted during segmented file transfer!", e);
+            } finally {
+                // Stops the remaining segments in case of errors:
+                transfer.aborted().set(true);
+            }
+
+            if (transfer.transferred().get() >= fileSize) {
+                workInProgressMonitor.setProgressInPercent(100);
+            }
+        } catch (IOException e) {
+            throw new IgorException("Could not write file (segmented): " + file, e);
+        }
+    }
+
+    /**
+     * Closes the file stream opened by {@link #readStream(String)}.
+     *
+     * @param fileStreamData The stream data to finalize.
+     */
+    @Override
+    public void finalizeStream(FileStreamData fileStreamData) {
+        if (fileStreamData != null && fileStreamData.getData() != null) {
+            try {
+                fileStreamData.getData().close();
+            } catch (IOException e) {
+                log.warn("Could not close local file stream!", e);
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -136,4 +275,77 @@ public class LocalFilesystemFileConnector extends BaseFileConnector {
         // Nothing to test here...
     }
 
+    /**
+     * Transfers the content of the source channel, starting at its current position, into the target channel.
+     *
+     * @param source                The channel to read from.
+     * @param target                The channel to write to.
+     * @param fileSize              The number of bytes to transfer.
+     * @param workInProgressMonitor The {@link WorkInProgressMonitor} that keeps track of the copy progress.
+     * @param jobExecution          The container for job execution data.
+     *
+     * @throws IOException If the data could not be transferred.
+     */
+    private void transferChannel(FileChannel source, FileChannel target, long fileSize,
+                                 WorkInProgressMonitor workInProgressMonitor, JobExecution jobExecution) throws IOException {
+        long position = source.position();
+        long transferred = 0;
+        while (transferred < fileSize && jobExecution.isRunningOrActive()) {
+            long count = source.transferTo(position + transferred, Math.min(TRANSFER_CHUNK_SIZE, fileSize - transferred),
+                target);
+            if (count <= 0) {
+                // The source file has been truncated in the meantime.
+                throw new IgorException("Could not copy data via channels!");
+            }
+            transferred += count;
+            workInProgressMonitor.setProgressInPercent(calculatePercentage(transferred, fileSize));
+        }
+        source.position(position + transferred);
+        if (transferred >= fileSize) {
+            workInProgressMonitor.setProgressInPercent(100);
+        }
+    }
+
+    /**
+     * Writes a single segment of a segmented transfer into the target file.
+     *
+     * @param in       The segment's data.
+     * @param offset   The offset of the segment in the target file.
+     * @param length   The number of bytes of the segment.
+     * @param transfer The state of the segmented transfer.
+     *
+     * @throws IOException If the segment could not be written.
+     */
+    private void writeSegment(InputStream in, long offset, long length, SegmentedTransfer transfer) throws IOException {
+        var buffer = new byte[(int) Math.min(getStreamCopyBufferSize(), length)];
+        long position = offset;
+        long end = offset + length;
+        while (position < end && transfer.jobExecution().isRunningOrActive() && !transfer.aborted().get()) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, end - position));
+            if (read < 0) {
+                throw new IgorException("Could not copy data via streams!");
+            }
+            var byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+            while (byteBuffer.hasRemaining()) {
+                position += transfer.fileChannel().write(byteBuffer, position);
+            }
+            transfer.workInProgressMonitor().setProgressInPercent(
+                calculatePercentage(transfer.transferred().addAndGet(read), transfer.fileSize()));
+        }
+    }
+
+    /**
+     * The state of a segmented transfer, shared by the threads transferring the segments.
+     *
+     * @param fileChannel           The channel of the target file.
+     * @param fileSize              The size of the whole file.
+     * @param transferred           The number of bytes transferred by all segments.
+     * @param aborted               Set, if a segment failed and the remaining segments should stop.
+     * @param workInProgressMonitor The {@link WorkInProgressMonitor} that keeps track of the copy progress.
+     * @param jobExecution          The container for job execution data.
+     */
+    private record SegmentedTransfer(FileChannel fileChannel, long fileSize, AtomicLong transferred, AtomicBoolean aborted,
+                                     WorkInProgressMonitor workInProgressMonitor, JobExecution jobExecution) {
+    }
+
 }
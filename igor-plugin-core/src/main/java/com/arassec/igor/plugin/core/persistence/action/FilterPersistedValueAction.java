@@ -13,8 +13,10 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * <h2>'Filter Persisted Value' Action</h2>
@@ -76,4 +78,48 @@ public class FilterPersistedValueAction extends BasePersistenceAction {
         return List.of(data);
     }
 
+    /**
+     * Retrieves the values from all supplied data items and searches them in the persisted values with a single lookup. Data
+     * items with already persisted values are ignored.
+     *
+     * @param data         The data items the action will work with.
+     * @param jobExecution The job execution log.
+     * @return The data items with un-persisted values.
+     */
+    @Override
+    public List<Map<String, Object>> processBatch(List<Map<String, Object>> data, JobExecution jobExecution) {
+        if (data == null || data.isEmpty()) {
+            return List.of();
+        }
+
+        String jobId = getJobId(data.getFirst());
+
+        List<Map<String, Object>> candidates = new ArrayList<>(data.size());
+        List<PersistentValue> values = new ArrayList<>(data.size());
+        for (Map<String, Object> dataItem : data) {
+            var resolvedInput = CorePluginUtils.evaluateTemplate(dataItem, input);
+            if (resolvedInput == null) {
+                log.debug("Not enough data to filter: {}", input);
+                continue;
+            }
+            candidates.add(dataItem);
+            values.add(new PersistentValue(resolvedInput));
+        }
+
+        Set<String> persistedContents = persistentValueRepository.findPersistedContents(jobId, values);
+
+        List<Map<String, Object>> result = new ArrayList<>(candidates.size());
+        for (var i = 0; i < candidates.size(); i++) {
+            var content = values.get(i).getContent();
+            if (persistedContents.contains(content)) {
+                log.debug("Filtered persisted value: '{}'", content);
+            } else {
+                log.debug("Passed un-persisted value: '{}'", content);
+                result.add(candidates.get(i));
+            }
+        }
+
+        return result;
+    }
+
 }
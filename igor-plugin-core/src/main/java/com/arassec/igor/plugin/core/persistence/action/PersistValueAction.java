@@ -2,6 +2,7 @@ package com.arassec.igor.plugin.core.persistence.action;
 
 import com.arassec.igor.application.annotation.IgorComponent;
 import com.arassec.igor.core.model.DataKey;
+import com.arassec.igor.core.model.action.ExecutionOrder;
 import com.arassec.igor.core.model.annotation.IgorParam;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.misc.PersistentValue;
@@ -14,8 +15,11 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * <h2>'Persist Value' Action</h2>
@@ -88,6 +92,83 @@ public class PersistValueAction extends BasePersistenceAction {
         return List.of(data);
     }
 
+    /**
+     * Persists the values of all supplied data items with a single lookup and a single save operation.
+     *
+     * @param data         The data items the action will work with.
+     * @param jobExecution The job execution log.
+     *
+     * @return All data items with a resolvable value.
+     */
+    @Override
+    public List<Map<String, Object>> processBatch(List<Map<String, Object>> data, JobExecution jobExecution) {
+        if (data == null || data.isEmpty()) {
+            return List.of();
+        }
+
+        var jobId = getJobId(data.getFirst());
+
+        List<Map<String, Object>> result = new ArrayList<>(data.size());
+        List<PersistentValue> values = new ArrayList<>(data.size());
+        for (Map<String, Object> dataItem : data) {
+            var resolvedInput = CorePluginUtils.evaluateTemplate(dataItem, input);
+            if (resolvedInput == null) {
+                log.debug("Not enough data to persist: {}", input);
+                continue;
+            }
+            result.add(dataItem);
+            values.add(new PersistentValue(CorePluginUtils.evaluateTemplate(dataItem, resolvedInput)));
+        }
+
+        Set<String> persistedContents = new HashSet<>(persistentValueRepository.findPersistedContents(jobId, values));
+
+        List<PersistentValue> valuesToPersist = new ArrayList<>(values.size());
+        for (var i = 0; i < result.size(); i++) {
+            var dataItem = result.get(i);
+            var value = values.get(i);
+            if (!persistedContents.add(value.getContent())) {
+                log.debug("Already persisted: '{}'", value);
+            } else if (isSimulation(dataItem)) {
+                dataItem.put(DataKey.SIMULATION_LOG.getKey(), "Would have persisted: " + value.getContent());
+            } else {
+                log.debug("Persisted: '{}'", value);
+                valuesToPersist.add(value);
+            }
+        }
+
+        if (!valuesToPersist.isEmpty()) {
+            persistentValueRepository.upsertAll(jobId, valuesToPersist);
+        }
+
+        return result;
+    }
+
+    /**
+     * Data items with the same value are processed by the same thread. Thus, the same value is never persisted concurrently.
+     *
+     * @return Always {@link ExecutionOrder#PER_KEY}.
+     */
+    @Override
+    public ExecutionOrder requiredOrder() {
+        return ExecutionOrder.PER_KEY;
+    }
+
+    /**
+     * Uses the value to persist as partition key.
+     *
+     * @param data The data item.
+     *
+     * @return The value to persist or {@code null}, if it can't be resolved.
+     */
+    @Override
+    public Object partitionKey(Map<String, Object> data) {
+        var resolvedInput = CorePluginUtils.evaluateTemplate(data, input);
+        if (resolvedInput == null) {
+            return null;
+        }
+        return CorePluginUtils.evaluateTemplate(data, resolvedInput);
+    }
+
     /**
      * Cleans up the persisted values and keep only the {@link #numValuesToKeep} most recent values in the store.
      *
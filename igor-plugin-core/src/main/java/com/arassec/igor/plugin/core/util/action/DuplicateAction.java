@@ -11,7 +11,6 @@ import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -46,11 +45,9 @@ public class DuplicateAction extends BaseAction {
      */
     @Override
     public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
-        List<Map<String, Object>> result = new LinkedList<>();
+        List<Map<String, Object>> result = CorePluginUtils.clone(data, amount);
         for (var i = 0; i < amount; i++) {
-            Map<String, Object> clone = CorePluginUtils.clone(data);
-            clone.put("index", i);
-            result.add(clone);
+            result.get(i).put("index", i);
         }
         return result;
     }
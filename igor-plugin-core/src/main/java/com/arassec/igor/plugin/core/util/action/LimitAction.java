@@ -1,6 +1,7 @@
 package com.arassec.igor.plugin.core.util.action;
 
 import com.arassec.igor.application.annotation.IgorComponent;
+import com.arassec.igor.core.model.action.ExecutionOrder;
 import com.arassec.igor.core.model.annotation.IgorParam;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.plugin.core.CoreCategory;
@@ -12,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <h2>Limit Action</h2>
@@ -45,7 +47,7 @@ public class LimitAction extends BaseUtilAction {
     /**
      * Counts the processed data items.
      */
-    private int processed;
+    private final AtomicInteger processed = new AtomicInteger();
 
     /**
      * Limits processing to the configured amount of data items.
@@ -56,8 +58,7 @@ public class LimitAction extends BaseUtilAction {
      */
     @Override
     public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
-        processed++;
-        if (processed <= number) {
+        if (processed.incrementAndGet() <= number) {
             return List.of(data);
         }
         return List.of();
@@ -75,13 +76,14 @@ public class LimitAction extends BaseUtilAction {
     }
 
     /**
-     * Limiting is always done single-threaded.
+     * The counter is thread-safe, thus the action is executed with the threads of the preceding action. This keeps the order of
+     * the data items, if the preceding actions keep it.
      *
-     * @return Always {@code true}.
+     * @return Always {@link ExecutionOrder#INHERITED}.
      */
     @Override
-    public boolean enforceSingleThread() {
-        return true;
+    public ExecutionOrder requiredOrder() {
+        return ExecutionOrder.INHERITED;
     }
 
 }
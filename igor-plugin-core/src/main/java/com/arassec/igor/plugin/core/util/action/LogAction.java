@@ -16,7 +16,6 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -75,7 +74,7 @@ public class LogAction extends BaseAction {
         var resolvedMessage = Mustache.compiler()
             .escapeHTML(false) // This is required to prevent escaping '"' into '&quot;'
             .withFormatter(o -> {
-                if (o instanceof HashMap) {
+                if (o instanceof Map) {
                     try {
                         return new ObjectMapper().writeValueAsString(o);
                     } catch (JsonProcessingException e) {
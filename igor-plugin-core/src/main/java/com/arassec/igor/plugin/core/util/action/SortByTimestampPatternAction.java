@@ -1,12 +1,15 @@
 package com.arassec.igor.plugin.core.util.action;
 
 import com.arassec.igor.application.annotation.IgorComponent;
+import com.arassec.igor.core.model.action.StreamingAction;
 import com.arassec.igor.core.model.annotation.IgorParam;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.plugin.core.CoreCategory;
 import com.arassec.igor.plugin.core.CorePluginUtils;
 import com.arassec.igor.plugin.core.CoreType;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -15,11 +18,11 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 /**
  * <h2>'Sort by Timestamp Pattern' Action</h2>
@@ -79,7 +82,22 @@ import java.util.regex.Pattern;
 @Getter
 @Setter
 @IgorComponent(categoryId = CoreCategory.UTIL, typeId = CoreType.SORT_BY_TIMESTAMP_PATTERN_ACTION)
-public class SortByTimestampPatternAction extends BaseUtilAction {
+public class SortByTimestampPatternAction extends BaseUtilAction implements StreamingAction {
+
+    /**
+     * The default maximum number of data items kept in memory for sorting.
+     */
+    private static final int DEFAULT_MAX_ITEMS_IN_MEMORY = 100_000;
+
+    /**
+     * The number of merged data items handed over to the following actions at once.
+     */
+    private static final int MERGE_CHUNK_SIZE = 100;
+
+    /**
+     * Sort key of data items without a timestamp.
+     */
+    static final long NO_SORT_KEY = Long.MIN_VALUE;
 
     /**
      * A mustache expression selecting a property from the data item. The property's value is converted into a timestamp and used
@@ -112,13 +130,28 @@ public class SortByTimestampPatternAction extends BaseUtilAction {
     @IgorParam
     private boolean sortAscending = true;
 
+    /**
+     * The maximum number of data items kept in memory for sorting. If more data items are collected, they are sorted in chunks,
+     * which are written to temporary files and merged after all data items have been collected.
+     */
+    @Positive
+    @IgorParam(advanced = true)
+    private int maxItemsInMemory = DEFAULT_MAX_ITEMS_IN_MEMORY;
+
     /**
      * Contains all data that should have been processed by the action.
      */
-    private List<Map<String, Object>> collectedData = new LinkedList<>();
+    private List<Map<String, Object>> collectedData = new ArrayList<>();
 
     /**
-     * Collects all data in memory for later sorting.
+     * Chunks of collected data items that have already been sorted and written to temporary files.
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<SortRun> sortRuns = new ArrayList<>();
+
+    /**
+     * Collects all data in memory for later sorting. If the maximum number of data items in memory is reached, the collected
+     * data items are sorted and written to a temporary file.
      *
      * @param data         The data the action will work with.
      * @param jobExecution The job execution log.
@@ -127,49 +160,208 @@ public class SortByTimestampPatternAction extends BaseUtilAction {
     @Override
     public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
         collectedData.add(data);
+        if (collectedData.size() >= maxItemsInMemory) {
+            spill();
+        }
         return List.of();
     }
 
     /**
-     * Sorts the collected data and returns the result.
+     * Collects all data items of the batch in memory for later sorting. Nothing is handed over to the following actions.
+     *
+     * @param data           The data items the action will work with.
+     * @param jobExecution   The job's execution log.
+     * @param resultConsumer Not used, results are handed over when the action completes.
+     */
+    @Override
+    public void processBatch(List<Map<String, Object>> data, JobExecution jobExecution,
+                             Consumer<List<Map<String, Object>>> resultConsumer) {
+        processBatch(data, jobExecution);
+    }
+
+    /**
+     * Sorts the collected data and returns the result. If chunks of data items have been written to temporary files, those are
+     * merged with the data items still in memory.
      *
      * @return The sorted list of data to further process.
      */
     @Override
     public List<Map<String, Object>> complete() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        complete(result::addAll);
+        return result;
+    }
 
-        final Pattern p;
-        if (isTemplate(pattern)) {
-            p = null;
-        } else {
-            p = Pattern.compile(pattern);
+    /**
+     * Sorts the collected data and hands the result over to the supplied consumer. If chunks of data items have been written to
+     * temporary files, those are merged with the data items still in memory, and the merged data items are handed over in chunks
+     * while merging. Thus, the sorted data items never have to fit into memory at once.
+     *
+     * @param resultConsumer Consumes chunks of sorted data items.
+     */
+    @Override
+    public void complete(Consumer<List<Map<String, Object>>> resultConsumer) {
+        if (sortRuns.isEmpty()) {
+            List<Map<String, Object>> result = sort(collectedData);
+            if (!result.isEmpty()) {
+                resultConsumer.accept(result);
+            }
+            return;
+        }
+        try {
+            spill();
+            merge(resultConsumer);
+        } finally {
+            deleteSortRuns();
         }
+    }
+
+    /**
+     * Deletes remaining temporary files, e.g. if the job has been cancelled before completion.
+     *
+     * @param jobExecution The container for job execution details.
+     */
+    @Override
+    public void shutdown(JobExecution jobExecution) {
+        deleteSortRuns();
+    }
 
-        final DateTimeFormatter formatter;
-        if (isTemplate(timestampFormat)) {
-            formatter = null;
-        } else {
-            formatter = DateTimeFormatter.ofPattern(timestampFormat);
+    /**
+     * Sorts the supplied data items by their timestamps. Data items without a timestamp are dropped.
+     *
+     * @param dataItems The data items to sort.
+     *
+     * @return The sorted data items.
+     */
+    private List<Map<String, Object>> sort(List<Map<String, Object>> dataItems) {
+        if (dataItems.isEmpty()) {
+            return List.of();
+        }
+        long[] sortKeys = extractSortKeys(dataItems);
+        int[] sortedIndices = sortIndices(sortKeys);
+        List<Map<String, Object>> result = new ArrayList<>(sortedIndices.length);
+        for (int index : sortedIndices) {
+            result.add(dataItems.get(index));
         }
+        return result;
+    }
+
+    /**
+     * Sorts the collected data items, writes them to a temporary file and clears the collected data.
+     */
+    private void spill() {
+        if (collectedData.isEmpty()) {
+            return;
+        }
+        long[] sortKeys = extractSortKeys(collectedData);
+        int[] sortedIndices = sortIndices(sortKeys);
+        log.debug("Writing {} sorted data items to a temporary file.", sortedIndices.length);
+        sortRuns.add(SortRun.write(sortRuns.size(), collectedData, sortKeys, sortedIndices));
+        collectedData = new ArrayList<>();
+    }
+
+    /**
+     * Merges the sorted chunks of data items from the temporary files. Data items with equal keys keep the order in which they
+     * have been collected. The merged data items are handed over in chunks of {@link #MERGE_CHUNK_SIZE} data items.
+     *
+     * @param resultConsumer Consumes chunks of merged data items.
+     */
+    private void merge(Consumer<List<Map<String, Object>>> resultConsumer) {
+        Queue<SortRun> runs = new PriorityQueue<>(Comparator.comparingLong(SortRun::currentSortKey)
+            .thenComparingInt(SortRun::getSequence));
+        for (SortRun sortRun : sortRuns) {
+            if (sortRun.next()) {
+                runs.add(sortRun);
+            }
+        }
+        List<Map<String, Object>> chunk = new ArrayList<>(MERGE_CHUNK_SIZE);
+        while (!runs.isEmpty()) {
+            SortRun sortRun = runs.poll();
+            chunk.add(sortRun.currentDataItem());
+            if (chunk.size() == MERGE_CHUNK_SIZE) {
+                resultConsumer.accept(chunk);
+                chunk = new ArrayList<>(MERGE_CHUNK_SIZE);
+            }
+            if (sortRun.next()) {
+                runs.add(sortRun);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            resultConsumer.accept(chunk);
+        }
+    }
+
+    /**
+     * Deletes all temporary files containing sorted data items.
+     */
+    private void deleteSortRuns() {
+        sortRuns.forEach(SortRun::delete);
+        sortRuns.clear();
+    }
+
+    /**
+     * Extracts each data item's timestamp once and converts it into a sort key. Sort keys are epoch milliseconds, bitwise
+     * inverted for descending order. Data items without a timestamp get the key {@link #NO_SORT_KEY}.
+     *
+     * @param dataItems The data items.
+     *
+     * @return The data items' sort keys, in the order of the data items.
+     */
+    private long[] extractSortKeys(List<Map<String, Object>> dataItems) {
+        final Pattern p = isTemplate(pattern) ? null : Pattern.compile(pattern);
+        final DateTimeFormatter formatter = isTemplate(timestampFormat) ? null : DateTimeFormatter.ofPattern(timestampFormat);
+
+        final boolean applyDefaultTimezone = (!timestampFormat.contains("V") && !timestampFormat.contains("z")
+            && !timestampFormat.contains("O") && !timestampFormat.contains("X") && !timestampFormat.contains("x")
+            && !timestampFormat.contains("Z"));
+
+        // Resolved patterns and formats are compiled only once per sort, even if they are mustache templates:
+        Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+        Map<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+        long[] sortKeys = new long[dataItems.size()];
+        IntStream.range(0, sortKeys.length).parallel().forEach(i -> {
+            ZonedDateTime dateTime = extractDateTime(dataItems.get(i), p, formatter, applyDefaultTimezone, patterns, formatters);
+            if (dateTime == null) {
+                sortKeys[i] = NO_SORT_KEY;
+            } else {
+                long epochMillis = dateTime.toInstant().toEpochMilli();
+                sortKeys[i] = sortAscending ? epochMillis : ~epochMillis;
+            }
+        });
+        return sortKeys;
+    }
 
-        final boolean applyDefaultTimezone = (!pattern.contains("V") && !pattern.contains("z") && !pattern
-            .contains("O") && !pattern.contains("X") && !pattern.contains("x") && !pattern.contains("Z"));
-
-        if (!collectedData.isEmpty()) {
-            return collectedData.stream()
-                .filter(data -> extractDateTime(data, p, formatter, applyDefaultTimezone) != null)
-                .sorted((o1, o2) -> {
-                    ZonedDateTime firstDateTime = extractDateTime(o1, p, formatter, applyDefaultTimezone);
-                    ZonedDateTime secondDateTime = extractDateTime(o2, p, formatter, applyDefaultTimezone);
-                    if (sortAscending) {
-                        return Objects.requireNonNull(firstDateTime).compareTo(Objects.requireNonNull(secondDateTime));
+    /**
+     * Sorts the indices of the supplied sort keys with a stable merge sort on the primitive keys. Indices of
+     * {@link #NO_SORT_KEY} are omitted.
+     *
+     * @param sortKeys The sort keys.
+     *
+     * @return The indices of the sort keys in sorted order.
+     */
+    static int[] sortIndices(long[] sortKeys) {
+        int[] indices = IntStream.range(0, sortKeys.length).filter(i -> sortKeys[i] != NO_SORT_KEY).toArray();
+        int[] buffer = new int[indices.length];
+        for (var width = 1; width < indices.length; width *= 2) {
+            for (var left = 0; left < indices.length; left += 2 * width) {
+                int middle = Math.min(left + width, indices.length);
+                int right = Math.min(left + 2 * width, indices.length);
+                int i = left;
+                int j = middle;
+                for (int k = left; k < right; k++) {
+                    if (i < middle && (j >= right || sortKeys[indices[i]] <= sortKeys[indices[j]])) {
+                        buffer[k] = indices[i++];
                     } else {
-                        return Objects.requireNonNull(secondDateTime).compareTo(Objects.requireNonNull(firstDateTime));
+                        buffer[k] = indices[j++];
                     }
-                }).toList();
+                }
+            }
+            int[] swap = indices;
+            indices = buffer;
+            buffer = swap;
         }
-
-        return List.of();
+        return indices;
     }
 
     /**
@@ -190,10 +382,13 @@ public class SortByTimestampPatternAction extends BaseUtilAction {
      * @param formatter            The {@link ZonedDateTime} for the supplied String.
      * @param applyDefaultTimezone Set to {@code true}, if the format is in {@link LocalDateTime} and the system's default time
      *                             zone must be applied to the result.
+     * @param patterns             Cache for patterns compiled from mustache templates.
+     * @param formatters           Cache for formatters created from mustache templates.
      * @return The {@link ZonedDateTime} or {@code null}, if none could be extracted.
      */
     private ZonedDateTime extractDateTime(Map<String, Object> data, Pattern p, DateTimeFormatter formatter,
-                                          boolean applyDefaultTimezone) {
+                                          boolean applyDefaultTimezone, Map<String, Pattern> patterns,
+                                          Map<String, DateTimeFormatter> formatters) {
 
         var resolvedInput = CorePluginUtils.evaluateTemplate(data, input);
         if (resolvedInput == null) {
@@ -210,7 +405,7 @@ public class SortByTimestampPatternAction extends BaseUtilAction {
                 log.debug("Missing pattern to extract date-time: {}", pattern);
                 return null;
             }
-            pn = Pattern.compile(resolvedPattern);
+            pn = patterns.computeIfAbsent(resolvedPattern, Pattern::compile);
         }
 
         DateTimeFormatter df = formatter;
@@ -223,7 +418,7 @@ public class SortByTimestampPatternAction extends BaseUtilAction {
             applyDefaultTimezone = (!resolvedTimestampFormat.contains("V") && !resolvedTimestampFormat.contains("z")
                 && !resolvedTimestampFormat.contains("O") && !resolvedTimestampFormat.contains("X")
                 && !resolvedTimestampFormat.contains("x") && !resolvedTimestampFormat.contains("Z"));
-            df = DateTimeFormatter.ofPattern(resolvedTimestampFormat);
+            df = formatters.computeIfAbsent(resolvedTimestampFormat, DateTimeFormatter::ofPattern);
         }
 
         var m = pn.matcher(rawValue);
@@ -252,7 +447,7 @@ public class SortByTimestampPatternAction extends BaseUtilAction {
     }
 
     /**
-     * Skipping is always done single-threaded.
+     * Data items are collected by a single thread. Their timestamps are extracted in parallel before sorting.
      *
      * @return Always {@code true}.
      */
@@ -261,4 +456,5 @@ public class SortByTimestampPatternAction extends BaseUtilAction {
         return true;
     }
 
+
 }
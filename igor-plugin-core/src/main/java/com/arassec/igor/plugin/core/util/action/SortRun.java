@@ -0,0 +1,167 @@
+package com.arassec.igor.plugin.core.util.action;
+
+import com.arassec.igor.core.util.IgorException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A chunk of data items, sorted by their sort keys and written to a temporary file. Used by the
+ * {@link SortByTimestampPatternAction} to sort more data items than fit into memory.
+ * <p>
+ * Each data item is stored as its sort key, followed by the serialized data item. Java serialization is used instead of JSON, so
+ * that the data items' values keep their types, e.g. {@link Long}s or {@link java.time.Instant}s. The data items are read back
+ * one by one, in sorted order.
+ */
+@Slf4j
+class SortRun {
+
+    /**
+     * The sequence number of this run. Runs with lower numbers contain data items that have been collected earlier.
+     */
+    @Getter
+    private final int sequence;
+
+    /**
+     * The temporary file.
+     */
+    private final Path file;
+
+    /**
+     * Reads the data items from the file.
+     */
+    private ObjectInputStream inputStream;
+
+    /**
+     * The number of data items not yet read from the file.
+     */
+    private int remaining;
+
+    /**
+     * The sort key of the current data item.
+     */
+    private long currentSortKey;
+
+    /**
+     * The current data item.
+     */
+    private Map<String, Object> currentDataItem;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sequence The run's sequence number.
+     * @param file     The temporary file containing the sorted data items.
+     * @param size     The number of data items in the file.
+     */
+    private SortRun(int sequence, Path file, int size) {
+        this.sequence = sequence;
+        this.file = file;
+        this.remaining = size;
+    }
+
+    /**
+     * Writes the supplied data items in sorted order to a new temporary file.
+     *
+     * @param sequence      The run's sequence number.
+     * @param dataItems     The data items.
+     * @param sortKeys      The sort keys of the data items.
+     * @param sortedIndices The indices of the data items in sorted order.
+     *
+     * @return A new run containing the sorted data items.
+     */
+    static SortRun write(int sequence, List<Map<String, Object>> dataItems, long[] sortKeys, int[] sortedIndices) {
+        try {
+            Path file = Files.createTempFile("igor-sort-", ".run");
+            try (var outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                for (int index : sortedIndices) {
+                    outputStream.writeLong(sortKeys[index]);
+                    outputStream.writeObject(dataItems.get(index));
+                    // Written data items are not referenced by the stream any longer and can be garbage collected:
+                    outputStream.reset();
+                }
+            }
+            return new SortRun(sequence, file, sortedIndices.length);
+        } catch (NotSerializableException e) {
+            throw new IgorException("Data item contains a value that cannot be written to a temporary file: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new IgorException("Could not write sorted data items to temporary file!", e);
+        }
+    }
+
+    /**
+     * Reads the next data item from the file.
+     *
+     * @return {@code true}, if a data item has been read, {@code false} if the run contains no further data items.
+     */
+    @SuppressWarnings("unchecked")
+    boolean next() {
+        if (remaining == 0) {
+            currentDataItem = null;
+            close();
+            return false;
+        }
+        try {
+            if (inputStream == null) {
+                // The file has been written by this class, it doesn't contain untrusted data:
+                inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file))); //NOSONAR
+            }
+            currentSortKey = inputStream.readLong();
+            currentDataItem = (Map<String, Object>) inputStream.readObject();
+            remaining--;
+            return true;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IgorException("Could not read sorted data items from temporary file!", e);
+        }
+    }
+
+    /**
+     * Returns the sort key of the data item read last.
+     *
+     * @return The current sort key.
+     */
+    long currentSortKey() {
+        return currentSortKey;
+    }
+
+    /**
+     * Returns the data item read last.
+     *
+     * @return The current data item.
+     */
+    Map<String, Object> currentDataItem() {
+        return currentDataItem;
+    }
+
+    /**
+     * Closes and deletes the temporary file.
+     */
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file: {}", file, e);
+        }
+    }
+
+    /**
+     * Closes the input stream, if it has been opened.
+     */
+    private void close() {
+        if (inputStream != null) {
+            try {
+                inputStream.close();
+            } catch (IOException e) {
+                log.warn("Could not close temporary file: {}", file, e);
+            }
+            inputStream = null;
+        }
+    }
+
+}
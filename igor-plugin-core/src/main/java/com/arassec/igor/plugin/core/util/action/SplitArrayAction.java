@@ -2,21 +2,20 @@ package com.arassec.igor.plugin.core.util.action;
 
 import com.arassec.igor.application.annotation.IgorComponent;
 import com.arassec.igor.core.model.annotation.IgorParam;
+import com.arassec.igor.core.model.action.StreamingAction;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.plugin.core.CoreCategory;
 import com.arassec.igor.plugin.core.CoreType;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.arassec.igor.plugin.core.DataSplitter;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.Getter;
 import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * <h2>'Split Array' Action</h2>
@@ -25,7 +24,13 @@ import java.util.Map;
  * This action splits a JSON-Array into multiple data items. Each data item contains one element from the original array at the
  * same position the array had before.<br>
  * <p>
- * If there is no JSON-Array at the configured position, the data item will be **filtered** by this action.
+ * If there is no JSON-Array at the configured position, the data item will be **filtered** by this action.<br>
+ * <p>
+ * If the path to the selected array contains further JSON-Arrays, e.g. '{ { data.orders.items } }' with 'orders' being an
+ * array, these arrays are split, too. A numeric path segment, e.g. '{ { data.orders.0.items } }', selects a single element of
+ * such an array instead.<br>
+ * <p>
+ * The resulting data items are handed over to the following actions in chunks, while the array is split.
  *
  * <h3>Example</h3>
  * <p>
@@ -79,16 +84,15 @@ import java.util.Map;
  * }
  * </code></pre>
  */
-@Slf4j
 @Getter
 @Setter
 @IgorComponent(categoryId = CoreCategory.UTIL, typeId = CoreType.SPLIT_ARRAY_ACTION)
-public class SplitArrayAction extends BaseUtilAction {
+public class SplitArrayAction extends BaseUtilAction implements StreamingAction {
 
     /**
-     * Jackson's ObjectMapper for JSON processing.
+     * The maximum number of created data items handed over to the following actions at once.
      */
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int SPLIT_CHUNK_SIZE = 100;
 
     /**
      * A Mustache expression selecting a JSON-Array from the data item. The array is split and its content separated into
@@ -108,27 +112,42 @@ public class SplitArrayAction extends BaseUtilAction {
      */
     @Override
     public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        processBatch(List.of(data), jobExecution, result::addAll);
+        return result;
+    }
 
-        List<Map<String, Object>> result = new LinkedList<>();
-
-        // e.g. {{data.content.array}} -> /data/content/array
-        String arrayPointer = arraySelector.replace("{{", "/").replace(".", "/").replace("}}", "");
-        // e.g. /data/content/array -> /data/content
-        var parentPointer = arrayPointer.substring(0, arrayPointer.lastIndexOf("/"));
-        // e.g. /data/content/array -> array
-        var leafName = arrayPointer.substring(arrayPointer.lastIndexOf("/") + 1);
-
-        var jsonNode = objectMapper.convertValue(data, JsonNode.class);
-        var array = jsonNode.at(arrayPointer);
+    /**
+     * Splits the JSON-Arrays of all data items of the batch.
+     *
+     * @param data         The data items the action will work with.
+     * @param jobExecution The job's execution log.
+     * @return Data items for each array element.
+     */
+    @Override
+    public List<Map<String, Object>> processBatch(List<Map<String, Object>> data, JobExecution jobExecution) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        processBatch(data, jobExecution, result::addAll);
+        return result;
+    }
 
-        for (JsonNode element : array) {
-            var clonedJsonNode = objectMapper.convertValue(data, JsonNode.class);
-            ((ObjectNode) clonedJsonNode.at(parentPointer)).set(leafName, element);
-            result.add(objectMapper.convertValue(clonedJsonNode, new TypeReference<>() {
-            }));
-        }
+    /**
+     * Splits the JSON-Arrays of all data items of the batch. The created data items are handed over in chunks, while the arrays
+     * are split.
+     *
+     * @param data           The data items the action will work with.
+     * @param jobExecution   The job's execution log.
+     * @param resultConsumer Consumes chunks of resulting data items.
+     */
+    @Override
+    public void processBatch(List<Map<String, Object>> data, JobExecution jobExecution,
+                             Consumer<List<Map<String, Object>>> resultConsumer) {
+        // e.g. {{data.content.array}} -> [data, content, array]
+        List<String> arrayPath = Arrays.stream(arraySelector.replace("{{", "").replace("}}", "").split("\\."))
+            .map(String::trim)
+            .toList();
 
-        return result;
+        data.forEach(dataItem -> DataSplitter.split(dataItem, arrayPath, SPLIT_CHUNK_SIZE, resultConsumer));
     }
 
 }
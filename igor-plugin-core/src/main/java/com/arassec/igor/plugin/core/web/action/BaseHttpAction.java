@@ -6,10 +6,13 @@ import com.arassec.igor.plugin.core.web.connector.FallbackHttpConnector;
 import com.arassec.igor.plugin.core.web.connector.HttpConnector;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.util.StringUtils;
 
+import java.net.URI;
 import java.net.http.HttpRequest;
 import java.util.Base64;
 import java.util.LinkedList;
@@ -48,11 +51,26 @@ public abstract class BaseHttpAction extends BaseAction {
     @IgorParam(sortIndex = Integer.MAX_VALUE - 2, advanced = true, secured = true)
     protected String password;
 
+    /**
+     * The maximum number of requests per second the action sends to a single host. Requests above this rate are delayed. A value
+     * of '0' disables the limit.
+     */
+    @PositiveOrZero
+    @IgorParam(sortIndex = Integer.MAX_VALUE - 6, advanced = true)
+    protected int maxRequestsPerSecond;
+
     /**
      * Contains the parsed headers.
      */
     protected List<String> parsedHeaders = new LinkedList<>();
 
+    /**
+     * Limits the rate of requests per host.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final HostRateLimiter hostRateLimiter = new HostRateLimiter();
+
     /**
      * Creates a new component instance.
      */
@@ -88,4 +106,15 @@ public abstract class BaseHttpAction extends BaseAction {
         }
     }
 
+    /**
+     * Blocks until the configured request rate allows a request to the supplied URI's host.
+     *
+     * @param uri The request's URI.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    protected void awaitRequestPermit(URI uri) throws InterruptedException {
+        hostRateLimiter.acquire(uri.getHost(), maxRequestsPerSecond);
+    }
+
 }
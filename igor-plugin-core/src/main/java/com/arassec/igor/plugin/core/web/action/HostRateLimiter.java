@@ -0,0 +1,41 @@
+package com.arassec.igor.plugin.core.web.action;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the rate of requests per host. Requests to the same host are spaced evenly, all threads of an action share the same
+ * limits.
+ */
+class HostRateLimiter {
+
+    /**
+     * The time in nanoseconds, as returned by {@link System#nanoTime()}, at which the next request to a host may be sent.
+     */
+    private final Map<String, AtomicLong> nextPermits = new ConcurrentHashMap<>();
+
+    /**
+     * Blocks until a request to the supplied host may be sent.
+     *
+     * @param host              The request's target host.
+     * @param requestsPerSecond The maximum number of requests per second to the host. Values of '0' or less disable the limit.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    void acquire(String host, int requestsPerSecond) throws InterruptedException {
+        if (requestsPerSecond <= 0 || host == null) {
+            return;
+        }
+        long interval = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        long now = System.nanoTime();
+        long permit = nextPermits.computeIfAbsent(host, key -> new AtomicLong(now))
+            .getAndUpdate(next -> Math.max(next, now) + interval);
+        long waitNanos = permit - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+}
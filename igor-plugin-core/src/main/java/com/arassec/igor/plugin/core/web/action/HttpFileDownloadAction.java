@@ -13,8 +13,10 @@ import com.arassec.igor.plugin.core.CoreType;
 import com.arassec.igor.plugin.core.file.connector.FallbackFileConnector;
 import com.arassec.igor.plugin.core.file.connector.FileConnector;
 import com.arassec.igor.plugin.core.file.connector.FileStreamData;
+import com.arassec.igor.plugin.core.file.connector.SegmentReader;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -72,6 +74,21 @@ public class HttpFileDownloadAction extends BaseHttpAction {
      */
     public static final String HTTP_HEADER_CONTENT_LENGTH = "Content-Length";
 
+    /**
+     * "Accept-Ranges" HTTP Header name.
+     */
+    public static final String HTTP_HEADER_ACCEPT_RANGES = "Accept-Ranges";
+
+    /**
+     * "Range" HTTP Header name.
+     */
+    public static final String HTTP_HEADER_RANGE = "Range";
+
+    /**
+     * HTTP status code of responses to range requests.
+     */
+    private static final int HTTP_STATUS_PARTIAL_CONTENT = 206;
+
     /**
      * The file connector for the target filesystem.
      */
@@ -111,6 +128,15 @@ public class HttpFileDownloadAction extends BaseHttpAction {
     @IgorParam(sortIndex = 9, advanced = true)
     private boolean appendFiletypeSuffix;
 
+    /**
+     * The maximum number of segments of the file that are downloaded in parallel with HTTP range requests. Requires a server that
+     * accepts range requests and a target that supports segmented writes. A value of '1' downloads the file with a single
+     * request.
+     */
+    @Positive
+    @IgorParam(sortIndex = 10, advanced = true)
+    private int parallelSegments = 1;
+
     /**
      * The name of the key the action's results will be stored in.
      */
@@ -155,6 +181,7 @@ public class HttpFileDownloadAction extends BaseHttpAction {
             var workInProgressMonitor = new WorkInProgressMonitor(filename, 0);
             jobExecution.addWorkInProgress(workInProgressMonitor);
 
+            awaitRequestPermit(URI.create(requestUrl));
             HttpResponse<InputStream> httpResponse = httpConnector.getHttpClient().send(httpRequestBuilder.build(),
                 HttpResponse.BodyHandlers.ofInputStream());
 
@@ -179,7 +206,12 @@ public class HttpFileDownloadAction extends BaseHttpAction {
                 targetFileInTransfer += CorePluginUtils.FILE_IN_TRANSFER_SUFFIX;
             }
 
-            target.writeStream(targetFileInTransfer, fileStreamData, workInProgressMonitor, jobExecution);
+            if (isSegmentedDownloadPossible(httpResponse)) {
+                target.writeStream(targetFileInTransfer, fileStreamData, new HttpSegmentReader(httpRequestBuilder, requestUrl),
+                    parallelSegments, workInProgressMonitor, jobExecution);
+            } else {
+                target.writeStream(targetFileInTransfer, fileStreamData, workInProgressMonitor, jobExecution);
+            }
 
             fileStreamData.getData().close();
 
@@ -224,6 +256,20 @@ public class HttpFileDownloadAction extends BaseHttpAction {
         return null;
     }
 
+    /**
+     * Checks whether the file can be downloaded in parallel segments.
+     *
+     * @param httpResponse The HTTP response to the initial download request.
+     * @return {@code true}, if segments are configured, the server accepts range requests and the target supports segmented
+     * writes, {@code false} otherwise.
+     */
+    private boolean isSegmentedDownloadPossible(HttpResponse<InputStream> httpResponse) {
+        return parallelSegments > 1
+            && target.supportsSegmentedWrite()
+            && httpResponse.headers().firstValueAsLong(HTTP_HEADER_CONTENT_LENGTH).isPresent()
+            && httpResponse.headers().firstValue(HTTP_HEADER_ACCEPT_RANGES).filter(value -> value.contains("bytes")).isPresent();
+    }
+
     /**
      * Sets the filesize and data to the supplied FileStreamData instance.
      *
@@ -243,6 +289,7 @@ public class HttpFileDownloadAction extends BaseHttpAction {
                 // Fallback if no content-length header is available! We read the whole file into memory...
                 httpResponse.body().close();
 
+                awaitRequestPermit(URI.create(requestUrl));
                 HttpResponse<String> httpStringResponse = httpConnector.getHttpClient().send(httpRequestBuilder.build(),
                     HttpResponse.BodyHandlers.ofString());
 
@@ -264,4 +311,73 @@ public class HttpFileDownloadAction extends BaseHttpAction {
         }
     }
 
+    /**
+     * Downloads segments of a file with HTTP range requests.
+     */
+    private class HttpSegmentReader implements SegmentReader {
+
+        /**
+         * The builder of the initial download request.
+         */
+        private final HttpRequest.Builder httpRequestBuilder;
+
+        /**
+         * The URL of the file to download.
+         */
+        private final String requestUrl;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param httpRequestBuilder The builder of the initial download request.
+         * @param requestUrl         The URL of the file to download.
+         */
+        HttpSegmentReader(HttpRequest.Builder httpRequestBuilder, String requestUrl) {
+            this.httpRequestBuilder = httpRequestBuilder;
+            this.requestUrl = requestUrl;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public FileStreamData read(long offset, long length) {
+            var httpRequest = httpRequestBuilder.copy()
+                .header(HTTP_HEADER_RANGE, "bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+            try {
+                awaitRequestPermit(httpRequest.uri());
+                HttpResponse<InputStream> httpResponse = httpConnector.getHttpClient().send(httpRequest,
+                    HttpResponse.BodyHandlers.ofInputStream());
+                if (httpResponse.statusCode() != HTTP_STATUS_PARTIAL_CONTENT) {
+                    httpResponse.body().close();
+                    throw new IgorException("Received unexpected HTTP code on range request for url '" + requestUrl + "': "
+                        + httpResponse.statusCode());
+                }
+                var fileStreamData = new FileStreamData();
+                fileStreamData.setFileSize(length);
+                fileStreamData.setData(httpResponse.body());
+                return fileStreamData;
+            } catch (IOException e) {
+                throw new IgorException("Could not request URL: " + requestUrl, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IgorException("Interrupted during HTTP range request!", e);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void finalizeSegment(FileStreamData fileStreamData) {
+            try {
+                fileStreamData.getData().close();
+            } catch (IOException e) {
+                log.debug("Could not close HTTP range response.", e);
+            }
+        }
+
+    }
+
 }
@@ -2,6 +2,7 @@ package com.arassec.igor.plugin.core.web.action;
 
 import com.arassec.igor.application.annotation.IgorComponent;
 import com.arassec.igor.core.model.DataKey;
+import com.arassec.igor.core.model.action.StreamingAction;
 import com.arassec.igor.core.model.annotation.IgorParam;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.misc.ParameterSubtype;
@@ -9,19 +10,33 @@ import com.arassec.igor.core.util.IgorException;
 import com.arassec.igor.plugin.core.CoreCategory;
 import com.arassec.igor.plugin.core.CorePluginUtils;
 import com.arassec.igor.plugin.core.CoreType;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
 
 
 /**
@@ -76,17 +91,23 @@ import java.util.*;
  * }
  * </code></pre>
  */
+@Slf4j
 @Getter
 @Setter
 @SuppressWarnings("JavadocLinkAsPlainText") // The link in the example JSON above should be in plain text...
 @IgorComponent(categoryId = CoreCategory.WEB, typeId = CoreType.HTTP_REQUEST_ACTION)
-public class HttpRequestAction extends BaseHttpAction {
+public class HttpRequestAction extends BaseHttpAction implements StreamingAction {
 
     /**
      * Key for the web request action's data.
      */
     private static final String DEFAULT_KEY_WEB_RESPONSE = "webResponse";
 
+    /**
+     * The number of array elements handed over to the following actions at once, if the response array is split.
+     */
+    private static final int SPLIT_CHUNK_SIZE = 100;
+
     /**
      * Contains all HTTP methods which are unsafe to be executed during simulated job executions.
      */
@@ -118,6 +139,39 @@ public class HttpRequestAction extends BaseHttpAction {
     @IgorParam(sortIndex = 5, advanced = true, subtype = ParameterSubtype.MULTI_LINE)
     private String body;
 
+    /**
+     * The maximum number of requests the action sends concurrently, without waiting for their responses. Requests are only sent
+     * concurrently for data items of the same batch, so the job's batch size should be at least this value. A value of '1' sends
+     * one request after the other.
+     */
+    @Positive
+    @IgorParam(sortIndex = 6, advanced = true)
+    private int maxInFlightRequests = 1;
+
+    /**
+     * If checked, data items are handed over to the following actions in the order they arrived, even if requests are sent
+     * concurrently. Otherwise, data items are handed over as soon as their response has been received.
+     */
+    @IgorParam(sortIndex = 7, advanced = true)
+    private boolean preserveOrder = true;
+
+    /**
+     * If checked, the JSON-Array selected by the 'Response Array Pointer' is read from the response while it is received, and
+     * each array element is handed over to the following actions as a separate data item. The response body of each data item
+     * contains only a single array element. Thus, even very large responses don't have to fit into memory. Requests are sent one
+     * after the other in this mode. If the response doesn't contain a JSON-Array at the configured position, the data item is
+     * filtered.
+     */
+    @IgorParam(sortIndex = 8, advanced = true)
+    private boolean splitResponseArray;
+
+    /**
+     * A JSON-Pointer selecting the array in the response body that should be split, e.g. '/items'. Leave empty, if the response
+     * body itself is the array.
+     */
+    @IgorParam(sortIndex = 9, advanced = true)
+    private String responseArrayPointer;
+
     /**
      * If checked, igor will ignore the HTTP result code and treat every response as HTTP 200 ('OK').
      */
@@ -151,7 +205,187 @@ public class HttpRequestAction extends BaseHttpAction {
      */
     @Override
     public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
+        if (splitResponseArray) {
+            List<Map<String, Object>> result = new ArrayList<>();
+            processBatch(List.of(data), jobExecution, result::addAll);
+            return result;
+        }
+
+        var preparedRequest = prepareRequest(data);
+        if (preparedRequest == null) {
+            return List.of(data);
+        }
+        try {
+            awaitRequestPermit(preparedRequest.httpRequest().uri());
+            HttpResponse<String> httpResponse = httpConnector.getHttpClient().send(preparedRequest.httpRequest(),
+                HttpResponse.BodyHandlers.ofString());
+            return List.of(handleResponse(data, preparedRequest, httpResponse));
+        } catch (IOException e) {
+            throw new IgorException("Could not request URL: " + url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IgorException("Interrupted during HTTP request!", e);
+        }
+    }
 
+    /**
+     * Sends the requests of all data items asynchronously, with at most {@link #maxInFlightRequests} requests at once. Data items
+     * are handed over to the following actions as soon as their response has been received.
+     *
+     * @param data           The data items the action will work with.
+     * @param jobExecution   The job's execution log.
+     * @param resultConsumer Consumes chunks of resulting data items.
+     */
+    @Override
+    public void processBatch(List<Map<String, Object>> data, JobExecution jobExecution,
+                             Consumer<List<Map<String, Object>>> resultConsumer) {
+        if (splitResponseArray) {
+            data.forEach(dataItem -> processSplitting(dataItem, jobExecution, resultConsumer));
+            return;
+        }
+
+        if (maxInFlightRequests <= 1 || data.size() <= 1) {
+            data.forEach(dataItem -> resultConsumer.accept(process(dataItem, jobExecution)));
+            return;
+        }
+
+        // Indexes of data items whose request completed, in the order of completion:
+        BlockingQueue<Integer> completedRequests = new LinkedBlockingQueue<>();
+        List<CompletableFuture<Map<String, Object>>> requests = new ArrayList<>(data.size());
+        var inFlight = 0;
+        var nextToEmit = 0;
+
+        try {
+            while (true) {
+                while (inFlight < maxInFlightRequests && requests.size() < data.size() && jobExecution.isRunningOrActive()) {
+                    int index = requests.size();
+                    CompletableFuture<Map<String, Object>> request = sendAsync(data.get(index));
+                    requests.add(request);
+                    request.whenComplete((dataItem, throwable) -> completedRequests.add(index));
+                    inFlight++;
+                }
+                if (inFlight == 0) {
+                    break;
+                }
+                int completedIndex = completedRequests.take();
+                inFlight--;
+                if (preserveOrder) {
+                    while (nextToEmit < requests.size() && requests.get(nextToEmit).isDone()) {
+                        resultConsumer.accept(List.of(getResult(requests.get(nextToEmit++))));
+                    }
+                } else {
+                    resultConsumer.accept(List.of(getResult(requests.get(completedIndex))));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IgorException("Interrupted during HTTP request!", e);
+        } finally {
+            // Requests are still in flight, if a previous request failed:
+            requests.forEach(request -> request.cancel(true));
+        }
+    }
+
+    /**
+     * Sends the request of the supplied data item and splits the JSON-Array in the response into separate data items, while the
+     * response is received.
+     *
+     * @param data           The data item.
+     * @param jobExecution   The job's execution log.
+     * @param resultConsumer Consumes chunks of resulting data items.
+     */
+    private void processSplitting(Map<String, Object> data, JobExecution jobExecution,
+                                  Consumer<List<Map<String, Object>>> resultConsumer) {
+        var preparedRequest = prepareRequest(data);
+        if (preparedRequest == null) {
+            resultConsumer.accept(List.of(data));
+            return;
+        }
+        try {
+            awaitRequestPermit(preparedRequest.httpRequest().uri());
+            HttpResponse<InputStream> httpResponse = httpConnector.getHttpClient().send(preparedRequest.httpRequest(),
+                HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream responseBody = httpResponse.body();
+                 JsonParser jsonParser = createArrayParser(responseBody)) {
+                checkStatusCode(preparedRequest, httpResponse.statusCode());
+
+                if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+                    log.debug("No JSON-Array found in response of url '{}' at: {}", preparedRequest.url(), responseArrayPointer);
+                    return;
+                }
+
+                var resolvedTargetKey = CorePluginUtils.evaluateTemplate(data, targetKey);
+                Map<String, List<String>> responseHeaders = httpResponse.headers().map();
+
+                List<Object> elements = new ArrayList<>(SPLIT_CHUNK_SIZE);
+                while (jsonParser.nextToken() != JsonToken.END_ARRAY && jsonParser.currentToken() != null
+                    && jobExecution.isRunningOrActive()) {
+                    elements.add(objectMapper.readValue(jsonParser, Object.class));
+                    if (elements.size() >= SPLIT_CHUNK_SIZE) {
+                        resultConsumer.accept(createElementDataItems(data, resolvedTargetKey, responseHeaders, elements));
+                        elements.clear();
+                    }
+                }
+                if (!elements.isEmpty()) {
+                    resultConsumer.accept(createElementDataItems(data, resolvedTargetKey, responseHeaders, elements));
+                }
+            }
+        } catch (IOException e) {
+            throw new IgorException("Could not request URL: " + url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IgorException("Interrupted during HTTP request!", e);
+        }
+    }
+
+    /**
+     * Creates a streaming JSON parser, that only returns the tokens of the value selected by the response array pointer.
+     *
+     * @param responseBody The response body.
+     *
+     * @return The parser.
+     *
+     * @throws IOException If the parser could not be created.
+     */
+    private JsonParser createArrayParser(InputStream responseBody) throws IOException {
+        JsonParser jsonParser = objectMapper.createParser(responseBody);
+        if (!StringUtils.hasText(responseArrayPointer)) {
+            return jsonParser;
+        }
+        return new FilteringParserDelegate(jsonParser, new JsonPointerBasedFilter(responseArrayPointer),
+            TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false);
+    }
+
+    /**
+     * Creates a copy of the data item for every array element of the response.
+     *
+     * @param data            The data item.
+     * @param targetKey       The resolved key to put the response data in.
+     * @param responseHeaders The response's headers.
+     * @param elements        The array elements.
+     *
+     * @return A new data item for every array element.
+     */
+    private List<Map<String, Object>> createElementDataItems(Map<String, Object> data, String targetKey,
+                                                             Map<String, List<String>> responseHeaders, List<Object> elements) {
+        List<Map<String, Object>> result = CorePluginUtils.clone(data, elements.size());
+        for (var i = 0; i < elements.size(); i++) {
+            Map<String, Object> responseData = new HashMap<>();
+            responseData.put("headers", responseHeaders);
+            responseData.put("body", elements.get(i));
+            result.get(i).put(targetKey, responseData);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the HTTP request for the supplied data item.
+     *
+     * @param data The data item.
+     *
+     * @return The request, or {@code null}, if the request must not be executed during a simulated job run.
+     */
+    private PreparedRequest prepareRequest(Map<String, Object> data) {
         var requestMethod = CorePluginUtils.evaluateTemplate(data, method);
         var requestUrl = CorePluginUtils.evaluateTemplate(data, url);
         var content = Optional.ofNullable(CorePluginUtils.evaluateTemplate(data, body)).orElse("");
@@ -165,30 +399,82 @@ public class HttpRequestAction extends BaseHttpAction {
 
         if (isSimulation(data) && simulationSafe && SIMULATION_UNSAFE_METHODS.contains(requestMethod)) {
             data.put(DataKey.SIMULATION_LOG.getKey(), "Would have executed '" + requestMethod + "' against: " + requestUrl);
-        } else {
-            try {
-                HttpResponse<String> httpResponse = httpConnector.getHttpClient().send(httpRequestBuilder.build(),
-                    HttpResponse.BodyHandlers.ofString());
-
-                if (!ignoreErrors && (httpResponse.statusCode() < 200 || httpResponse.statusCode() > 226)) {
-                    throw new IgorException("Received HTTP " + httpResponse.statusCode() + " on " + requestMethod + " request for" +
-                        " url '" + requestUrl + "': " + " with body: " + content);
-                }
+            return null;
+        }
 
-                Map<String, Object> responseData = new HashMap<>();
-                responseData.put("headers", httpResponse.headers().map());
-                responseData.put("body", parseResponseBody(httpResponse));
+        return new PreparedRequest(httpRequestBuilder.build(), requestMethod, requestUrl, content);
+    }
 
-                data.put(CorePluginUtils.evaluateTemplate(data, targetKey), responseData);
-            } catch (IOException e) {
-                throw new IgorException("Could not request URL: " + url, e);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new IgorException("Interrupted during HTTP request!", e);
-            }
+    /**
+     * Sends the request of the supplied data item asynchronously.
+     *
+     * @param data The data item.
+     *
+     * @return The data item, completed with the response, after the response has been received.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting for the configured request rate.
+     */
+    private CompletableFuture<Map<String, Object>> sendAsync(Map<String, Object> data) throws InterruptedException {
+        var preparedRequest = prepareRequest(data);
+        if (preparedRequest == null) {
+            return CompletableFuture.completedFuture(data);
+        }
+        awaitRequestPermit(preparedRequest.httpRequest().uri());
+        return httpConnector.getHttpClient().sendAsync(preparedRequest.httpRequest(), HttpResponse.BodyHandlers.ofString())
+            .thenApply(httpResponse -> handleResponse(data, preparedRequest, httpResponse));
+    }
+
+    /**
+     * Adds the response to the data item.
+     *
+     * @param data            The data item.
+     * @param preparedRequest The executed request.
+     * @param httpResponse    The received response.
+     *
+     * @return The data item.
+     */
+    private Map<String, Object> handleResponse(Map<String, Object> data, PreparedRequest preparedRequest,
+                                               HttpResponse<String> httpResponse) {
+        checkStatusCode(preparedRequest, httpResponse.statusCode());
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("headers", httpResponse.headers().map());
+        responseData.put("body", parseResponseBody(httpResponse));
+
+        data.put(CorePluginUtils.evaluateTemplate(data, targetKey), responseData);
+
+        return data;
+    }
+
+    /**
+     * Checks the status code of the response, unless errors should be ignored.
+     *
+     * @param preparedRequest The executed request.
+     * @param statusCode      The response's status code.
+     */
+    private void checkStatusCode(PreparedRequest preparedRequest, int statusCode) {
+        if (!ignoreErrors && (statusCode < 200 || statusCode > 226)) {
+            throw new IgorException("Received HTTP " + statusCode + " on " + preparedRequest.method()
+                + " request for url '" + preparedRequest.url() + "': " + " with body: " + preparedRequest.content());
         }
+    }
 
-        return List.of(data);
+    /**
+     * Returns the data item of a completed asynchronous request.
+     *
+     * @param request The completed request.
+     *
+     * @return The data item.
+     */
+    private Map<String, Object> getResult(CompletableFuture<Map<String, Object>> request) {
+        try {
+            return request.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IgorException igorException) {
+                throw igorException;
+            }
+            throw new IgorException("Could not request URL: " + url, e.getCause());
+        }
     }
 
     /**
@@ -207,4 +493,15 @@ public class HttpRequestAction extends BaseHttpAction {
         }
     }
 
+    /**
+     * An HTTP request, together with the evaluated values it has been created from.
+     *
+     * @param httpRequest The request.
+     * @param method      The HTTP method.
+     * @param url         The request URL.
+     * @param content     The request body.
+     */
+    private record PreparedRequest(HttpRequest httpRequest, String method, String url, String content) {
+    }
+
 }
@@ -0,0 +1,126 @@
+package com.arassec.igor.plugin.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON round trip previously used to clone data items with the {@link DataCloner}.
+ * <p>
+ * Run with: {@code mvn -pl igor-plugin-core test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.arassec.igor.plugin.core.DataClonerBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataClonerBenchmark {
+
+    /**
+     * Jackson's ObjectMapper for the JSON round trip.
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * The shape of the data item to clone.
+     */
+    @Param({"trigger", "listing", "payload"})
+    private String shape;
+
+    /**
+     * The number of copies created per invocation.
+     */
+    @Param({"1", "100"})
+    private int amount;
+
+    /**
+     * The data item to clone.
+     */
+    private Map<String, Object> data;
+
+    /**
+     * Creates the data item to clone.
+     */
+    @Setup
+    public void setup() {
+        data = new HashMap<>();
+        data.put("meta", new HashMap<>(Map.of("jobId", "job-id", "timestamp", 1234567890L, "simulation", false)));
+        data.put("data", new HashMap<>());
+        if ("listing".equals(shape)) {
+            data.put("data", new HashMap<>(Map.of("filename", "file.txt", "directory", "/tmp/", "lastModified",
+                "2020-01-01T00:00:00Z")));
+        } else if ("payload".equals(shape)) {
+            List<Object> elements = new ArrayList<>();
+            for (var i = 0; i < 100; i++) {
+                elements.add(new HashMap<>(Map.of("id", i, "name", "element-" + i, "tags", List.of("a", "b", "c"))));
+            }
+            data.put("data", new HashMap<>(Map.of("elements", elements, "count", elements.size())));
+        }
+    }
+
+    /**
+     * Clones the data item by converting it into JSON and back.
+     *
+     * @return The clones.
+     * @throws JsonProcessingException In case of conversion errors.
+     */
+    @Benchmark
+    public List<Map<String, Object>> jsonRoundTrip() throws JsonProcessingException {
+        List<Map<String, Object>> result = new ArrayList<>(amount);
+        for (var i = 0; i < amount; i++) {
+            result.add(objectMapper.readValue(objectMapper.writeValueAsString(data), new TypeReference<>() {
+            }));
+        }
+        return result;
+    }
+
+    /**
+     * Clones the data item with structural deep copies.
+     *
+     * @return The clones.
+     */
+    @Benchmark
+    public List<Map<String, Object>> deepCopy() {
+        List<Map<String, Object>> result = new ArrayList<>(amount);
+        for (var i = 0; i < amount; i++) {
+            result.add(DataCloner.deepCopy(data));
+        }
+        return result;
+    }
+
+    /**
+     * Clones the data item with copy-on-write copies and modifies a top-level key of each copy, as e.g. the 'List Files'
+     * action does.
+     *
+     * @return The clones.
+     */
+    @Benchmark
+    public List<Map<String, Object>> copyOnWrite() {
+        List<Map<String, Object>> result = DataCloner.copyOnWrite(data, amount);
+        result.forEach(copy -> copy.put("data", Map.of("index", 1)));
+        return result;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Not used.
+     * @throws RunnerException In case of errors during the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DataClonerBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
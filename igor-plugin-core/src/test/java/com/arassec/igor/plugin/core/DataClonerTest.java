@@ -0,0 +1,150 @@
+package com.arassec.igor.plugin.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link DataCloner}.
+ */
+@DisplayName("'Data Cloner' tests.")
+class DataClonerTest {
+
+    /**
+     * Tests creating deep copies of data items.
+     */
+    @Test
+    @DisplayName("Tests creating deep copies of data items.")
+    @SuppressWarnings("unchecked")
+    void testDeepCopy() {
+        assertNull(DataCloner.deepCopy(null));
+
+        Map<String, Object> data = createData();
+        Map<String, Object> copy = DataCloner.deepCopy(data);
+
+        assertEquals(data, copy);
+        assertNotSame(data.get("meta"), copy.get("meta"));
+        assertNotSame(data.get("list"), copy.get("list"));
+
+        ((Map<String, Object>) copy.get("meta")).put("jobId", "changed");
+        ((List<Object>) copy.get("list")).add("changed");
+
+        assertEquals("job-id", ((Map<String, Object>) data.get("meta")).get("jobId"));
+        assertEquals(2, ((List<Object>) data.get("list")).size());
+    }
+
+    /**
+     * Tests that values of unknown types are converted like during a JSON round trip.
+     */
+    @Test
+    @DisplayName("Tests that values of unknown types are converted like during a JSON round trip.")
+    void testDeepCopyUnknownTypes() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("array", new String[]{"a", "b"});
+        data.put("character", 'c');
+
+        Map<String, Object> copy = DataCloner.deepCopy(data);
+
+        assertEquals(List.of("a", "b"), copy.get("array"));
+        assertEquals("c", copy.get("character"));
+    }
+
+    /**
+     * Tests creating copy-on-write copies of data items.
+     */
+    @Test
+    @DisplayName("Tests creating copy-on-write copies of data items.")
+    @SuppressWarnings("unchecked")
+    void testCopyOnWrite() {
+        assertTrue(DataCloner.copyOnWrite(null, 2).isEmpty());
+
+        Map<String, Object> data = createData();
+
+        List<Map<String, Object>> copies = DataCloner.copyOnWrite(data, 3);
+        assertEquals(3, copies.size());
+        copies.forEach(copy -> assertEquals(data, copy));
+
+        copies.getFirst().put("index", 0);
+        ((Map<String, Object>) copies.get(1).get("meta")).put("jobId", "changed");
+        ((List<Object>) copies.get(1).get("list")).add("changed");
+        ((Map<String, Object>) ((List<Object>) copies.get(2).get("list")).get(1)).put("nested", "changed");
+        copies.get(2).remove("meta");
+
+        assertEquals(0, copies.getFirst().get("index"));
+        assertEquals("job-id", ((Map<String, Object>) copies.getFirst().get("meta")).get("jobId"));
+        assertEquals("changed", ((Map<String, Object>) copies.get(1).get("meta")).get("jobId"));
+        assertEquals(3, ((List<Object>) copies.get(1).get("list")).size());
+        assertFalse(copies.get(2).containsKey("meta"));
+
+        assertEquals(createData(), data);
+        copies.getFirst().remove("index");
+        assertEquals(createData(), copies.getFirst());
+
+        copies.getFirst().clear();
+        assertTrue(copies.getFirst().isEmpty());
+        assertEquals(3, copies.get(1).size());
+    }
+
+    /**
+     * Tests that concurrent reads of a copy return the same nested containers.
+     *
+     * @throws Exception In case the reading threads fail.
+     */
+    @Test
+    @DisplayName("Tests concurrent reads of copy-on-write copies.")
+    void testCopyOnWriteConcurrentReads() throws Exception {
+        for (var i = 0; i < 100; i++) {
+            Map<String, Object> copy = DataCloner.copyOnWrite(createData(), 1).getFirst();
+            var start = new CountDownLatch(1);
+            try (ExecutorService executorService = Executors.newFixedThreadPool(4)) {
+                List<Future<Object>> reads = new ArrayList<>();
+                for (var j = 0; j < 4; j++) {
+                    reads.add(executorService.submit(() -> {
+                        start.await();
+                        return copy.get("meta");
+                    }));
+                }
+                start.countDown();
+                Object meta = reads.getFirst().get();
+                assertNotNull(meta);
+                for (Future<Object> read : reads) {
+                    assertSame(meta, read.get());
+                }
+                assertSame(meta, copy.get("meta"));
+            }
+        }
+    }
+
+    /**
+     * Creates a data item for testing.
+     *
+     * @return A new data item.
+     */
+    private Map<String, Object> createData() {
+        Map<String, Object> meta = new HashMap<>();
+        meta.put("jobId", "job-id");
+        meta.put("timestamp", 1234567890L);
+
+        List<Object> list = new ArrayList<>();
+        list.add("element");
+        list.add(new HashMap<>(Map.of("nested", "value")));
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("meta", meta);
+        data.put("list", list);
+        data.put("flag", true);
+
+        return data;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.arassec.igor.plugin.core;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link TemplateCache}.
+ */
+@DisplayName("'Template Cache' tests.")
+class TemplateCacheTest {
+
+    /**
+     * Tests that compiled templates are re-used.
+     */
+    @Test
+    @DisplayName("Tests that compiled templates are re-used.")
+    void testCaching() {
+        TemplateCache templateCache = new TemplateCache(Mustache.compiler(), 10);
+
+        Template first = templateCache.get("{{a}}");
+        Template second = templateCache.get("{{a}}");
+
+        assertSame(first, second);
+        assertEquals(1, templateCache.size());
+        assertEquals(1, templateCache.getMisses());
+        assertEquals(1, templateCache.getHits());
+        assertEquals(0, templateCache.getEvictions());
+    }
+
+    /**
+     * Tests executing templates.
+     */
+    @Test
+    @DisplayName("Tests executing templates.")
+    void testExecute() {
+        TemplateCache templateCache = new TemplateCache(Mustache.compiler(), 10);
+
+        assertEquals("b", templateCache.execute("{{a}}", Map.of("a", "b")));
+        assertEquals("plain", templateCache.execute("plain", Map.of("a", "b")));
+
+        // Templates without mustache tags are neither compiled nor cached:
+        assertEquals(1, templateCache.size());
+        assertEquals(1, templateCache.getMisses());
+        assertEquals(0, templateCache.getHits());
+    }
+
+    /**
+     * Tests evicting the oldest templates if the cache is full.
+     */
+    @Test
+    @DisplayName("Tests evicting the oldest templates if the cache is full.")
+    void testEviction() {
+        TemplateCache templateCache = new TemplateCache(Mustache.compiler(), 2);
+
+        Template first = templateCache.get("{{a}}");
+        templateCache.get("{{b}}");
+        templateCache.get("{{c}}");
+
+        assertEquals(2, templateCache.size());
+        assertEquals(1, templateCache.getEvictions());
+        assertNotSame(first, templateCache.get("{{a}}"));
+
+        templateCache.clear();
+        assertEquals(0, templateCache.size());
+        assertEquals(0, templateCache.getHits());
+        assertEquals(0, templateCache.getMisses());
+        assertEquals(0, templateCache.getEvictions());
+    }
+
+    /**
+     * Tests that invalid cache sizes are rejected.
+     */
+    @Test
+    @DisplayName("Tests that invalid cache sizes are rejected.")
+    void testInvalidSize() {
+        Mustache.Compiler compiler = Mustache.compiler();
+        assertThrows(IllegalArgumentException.class, () -> new TemplateCache(compiler, 0));
+    }
+
+}
@@ -6,8 +6,10 @@ import com.arassec.igor.core.util.IgorException;
 import com.arassec.igor.plugin.core.CoreDataKey;
 import com.arassec.igor.plugin.core.file.connector.FileConnector;
 import com.arassec.igor.plugin.core.file.connector.FileStreamData;
+import com.arassec.igor.plugin.core.file.connector.SegmentReader;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.ByteArrayInputStream;
 import java.util.List;
@@ -68,6 +70,48 @@ class CopyFileActionTest extends FileActionBaseTest {
                 "target/copy-file-action-alpha.txt");
     }
 
+    /**
+     * Tests copying a file in parallel segments.
+     */
+    @Test
+    @DisplayName("Tests copying a file in parallel segments.")
+    void testProcessSegmented() {
+        FileStreamData fileStreamData = new FileStreamData();
+        fileStreamData.setData(new ByteArrayInputStream("test".getBytes()));
+
+        FileStreamData segmentStreamData = new FileStreamData();
+
+        FileConnector sourceFileConnectorMock = mock(FileConnector.class);
+        when(sourceFileConnectorMock.supportsSegmentedRead()).thenReturn(true);
+        when(sourceFileConnectorMock.readStream("/directory/test/filename.txt", 0)).thenReturn(fileStreamData);
+        when(sourceFileConnectorMock.readStream("/directory/test/filename.txt", 2)).thenReturn(segmentStreamData);
+        FileConnector targetFileConnectorMock = mock(FileConnector.class);
+        when(targetFileConnectorMock.supportsSegmentedWrite()).thenReturn(true);
+
+        CopyFileAction action = new CopyFileAction();
+        action.setSource(sourceFileConnectorMock);
+        action.setSourceDirectory("{{data.directory}}");
+        action.setSourceFilename("{{data.filename}}");
+        action.setTarget(targetFileConnectorMock);
+        action.setTargetDirectory("target");
+        action.setTargetFilename("copy-file-action-alpha.txt");
+        action.setParallelSegments(4);
+
+        action.process(createData(), new JobExecution());
+
+        ArgumentCaptor<SegmentReader> segmentReaderCaptor = ArgumentCaptor.forClass(SegmentReader.class);
+        verify(targetFileConnectorMock, times(1)).writeStream(eq("target/copy-file-action-alpha.txt.igor"),
+                eq(fileStreamData), segmentReaderCaptor.capture(), eq(4), any(WorkInProgressMonitor.class),
+                any(JobExecution.class));
+        verify(sourceFileConnectorMock, times(1)).finalizeStream(fileStreamData);
+
+        // The segment reader reads segments from the source connector:
+        SegmentReader segmentReader = segmentReaderCaptor.getValue();
+        assertEquals(segmentStreamData, segmentReader.read(2, 2));
+        segmentReader.finalizeSegment(segmentStreamData);
+        verify(sourceFileConnectorMock, times(1)).finalizeStream(segmentStreamData);
+    }
+
     /**
      * Tests processing the action without in-transfer-file-suffix and appending the file type.
      */
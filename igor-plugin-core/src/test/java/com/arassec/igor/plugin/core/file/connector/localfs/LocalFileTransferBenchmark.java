@@ -0,0 +1,146 @@
+package com.arassec.igor.plugin.core.file.connector.localfs;
+
+import com.arassec.igor.core.model.job.execution.JobExecution;
+import com.arassec.igor.core.model.job.execution.JobExecutionState;
+import com.arassec.igor.core.model.job.execution.WorkInProgressMonitor;
+import com.arassec.igor.plugin.core.file.connector.FileStreamData;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares copying a local file through heap buffers with the channel transfer of the {@link LocalFilesystemFileConnector}.
+ * <p>
+ * The file sizes range from 1 KB to 1 GB by default. Larger files, e.g. 10 GB, can be benchmarked by overriding the parameter
+ * with {@code -p fileSize=10737418240}, if the temporary directory has enough space.
+ * <p>
+ * Run with: {@code mvn -pl igor-plugin-core test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.arassec.igor.plugin.core.file.connector.localfs.LocalFileTransferBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalFileTransferBenchmark {
+
+    /**
+     * The size of the copied file in bytes.
+     */
+    @Param({"1024", "1048576", "104857600", "1073741824"})
+    private long fileSize;
+
+    /**
+     * The connector under test.
+     */
+    private final LocalFilesystemFileConnector fileConnector = new LocalFilesystemFileConnector();
+
+    /**
+     * The job execution of the copy operations.
+     */
+    private final JobExecution jobExecution = JobExecution.builder().executionState(JobExecutionState.RUNNING).build();
+
+    /**
+     * The directory containing the benchmark's files.
+     */
+    private Path directory;
+
+    /**
+     * The file to copy.
+     */
+    private Path sourceFile;
+
+    /**
+     * The copy's target.
+     */
+    private Path targetFile;
+
+    /**
+     * Creates the file to copy.
+     *
+     * @throws IOException In case the file could not be created.
+     */
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("igor-transfer-benchmark");
+        sourceFile = directory.resolve("source.bin");
+        targetFile = directory.resolve("target.bin");
+        var content = new byte[1024 * 1024];
+        for (var i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        try (var file = new RandomAccessFile(sourceFile.toFile(), "rw")) {
+            for (long written = 0; written < fileSize; written += content.length) {
+                file.write(content, 0, (int) Math.min(content.length, fileSize - written));
+            }
+        }
+    }
+
+    /**
+     * Deletes the benchmark's files.
+     *
+     * @throws IOException In case the files could not be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(sourceFile);
+        Files.deleteIfExists(targetFile);
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Copies the file through heap buffers, as done for streams that don't originate from the local filesystem.
+     *
+     * @return The progress of the copy operation.
+     */
+    @Benchmark
+    public double heapBuffer() {
+        FileStreamData fileStreamData = fileConnector.readStream(sourceFile.toString());
+        // Hides the file stream from the connector, which falls back to copying through heap buffers:
+        fileStreamData.setData(new BufferedInputStream(fileStreamData.getData()));
+        return copy(fileStreamData);
+    }
+
+    /**
+     * Copies the file with a channel transfer.
+     *
+     * @return The progress of the copy operation.
+     */
+    @Benchmark
+    public double channelTransfer() {
+        return copy(fileConnector.readStream(sourceFile.toString()));
+    }
+
+    /**
+     * Copies the supplied file stream into the target file.
+     *
+     * @param fileStreamData The stream of the source file.
+     * @return The progress of the copy operation.
+     */
+    private double copy(FileStreamData fileStreamData) {
+        var workInProgressMonitor = new WorkInProgressMonitor();
+        fileConnector.writeStream(targetFile.toString(), fileStreamData, workInProgressMonitor, jobExecution);
+        fileConnector.finalizeStream(fileStreamData);
+        return workInProgressMonitor.getProgressInPercent();
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Not used.
+     * @throws RunnerException In case of errors during the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LocalFileTransferBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -6,11 +6,13 @@ import com.arassec.igor.core.model.job.execution.WorkInProgressMonitor;
 import com.arassec.igor.core.util.IgorException;
 import com.arassec.igor.plugin.core.file.connector.FileInfo;
 import com.arassec.igor.plugin.core.file.connector.FileStreamData;
+import com.arassec.igor.plugin.core.file.connector.SegmentReader;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.util.StreamUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -18,6 +20,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -87,11 +90,83 @@ class LocalFilesystemFileConnectorTest {
         assertFalse(Files.exists(targetFile));
 
         FileStreamData fileStreamData = fileConnector.readStream(LOCALFS_DIR + "/alpha.txt");
-        fileConnector.writeStream(targetFile.toString(), fileStreamData, new WorkInProgressMonitor(),
+        WorkInProgressMonitor workInProgressMonitor = new WorkInProgressMonitor();
+        fileConnector.writeStream(targetFile.toString(), fileStreamData, workInProgressMonitor,
                 JobExecution.builder().executionState(JobExecutionState.RUNNING).build());
+        fileConnector.finalizeStream(fileStreamData);
 
         assertTrue(Files.exists(targetFile));
         assertEquals("Just a test", Files.readString(targetFile));
+        assertEquals(100, workInProgressMonitor.getProgressInPercent());
+        assertThrows(IOException.class, () -> fileStreamData.getData().read());
+    }
+
+    /**
+     * Tests writing a file from a stream that doesn't originate from the local filesystem.
+     */
+    @Test
+    @DisplayName("Tests writing a file from a non-local stream.")
+    @SneakyThrows(IOException.class)
+    void testWriteStreamFromNonLocalStream() {
+        Path targetFile = Paths.get("target/write-stream-non-local.txt");
+        Files.deleteIfExists(targetFile);
+
+        FileStreamData fileStreamData = new FileStreamData();
+        fileStreamData.setData(new ByteArrayInputStream("Just another test".getBytes()));
+        fileStreamData.setFileSize(17);
+
+        WorkInProgressMonitor workInProgressMonitor = new WorkInProgressMonitor();
+        fileConnector.writeStream(targetFile.toString(), fileStreamData, workInProgressMonitor,
+                JobExecution.builder().executionState(JobExecutionState.RUNNING).build());
+
+        assertEquals("Just another test", Files.readString(targetFile));
+        assertEquals(100, workInProgressMonitor.getProgressInPercent());
+    }
+
+    /**
+     * Tests writing a file in parallel segments.
+     */
+    @Test
+    @DisplayName("Tests writing a file in parallel segments.")
+    @SneakyThrows(IOException.class)
+    void testWriteStreamSegmented() {
+        Path targetFile = Paths.get("target/write-stream-segmented.txt");
+        Files.deleteIfExists(targetFile);
+
+        byte[] content = "0123456789abcdefghij".getBytes();
+
+        FileStreamData fileStreamData = new FileStreamData();
+        fileStreamData.setData(new ByteArrayInputStream(content));
+        fileStreamData.setFileSize(content.length);
+
+        List<Long> requestedOffsets = new CopyOnWriteArrayList<>();
+
+        SegmentReader segmentReader = new SegmentReader() {
+            @Override
+            public FileStreamData read(long offset, long length) {
+                requestedOffsets.add(offset);
+                FileStreamData segment = new FileStreamData();
+                // Segment streams may deliver more data than requested:
+                segment.setData(new ByteArrayInputStream(content, (int) offset, content.length - (int) offset));
+                segment.setFileSize(length);
+                return segment;
+            }
+
+            @Override
+            public void finalizeSegment(FileStreamData segment) {
+                // Nothing to do here...
+            }
+        };
+
+        fileConnector.setMinSegmentSize(5);
+
+        WorkInProgressMonitor workInProgressMonitor = new WorkInProgressMonitor();
+        fileConnector.writeStream(targetFile.toString(), fileStreamData, segmentReader, 3, workInProgressMonitor,
+                JobExecution.builder().executionState(JobExecutionState.RUNNING).build());
+
+        assertEquals("0123456789abcdefghij", Files.readString(targetFile));
+        assertEquals(100, workInProgressMonitor.getProgressInPercent());
+        assertEquals(List.of(6L, 12L), requestedOffsets.stream().sorted().toList());
     }
 
     /**
@@ -10,6 +10,7 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -55,4 +56,28 @@ class FilterPersistedValueActionTest extends CoreActionBaseTest {
         assertEquals(PARAM_VALUE, argCap.getValue().getContent());
     }
 
-}
\ No newline at end of file
+    /**
+     * Tests filtering multiple data items with a single lookup.
+     */
+    @Test
+    @DisplayName("Tests filtering multiple data items with a single lookup.")
+    @SuppressWarnings("unchecked")
+    void testProcessBatch() {
+        PersistentValueRepository persistentValueRepositoryMock = mock(PersistentValueRepository.class);
+        when(persistentValueRepositoryMock.findPersistedContents(eq(JOB_ID), anyCollection())).thenReturn(Set.of("persisted"));
+
+        FilterPersistedValueAction action = new FilterPersistedValueAction(persistentValueRepositoryMock);
+        action.setInput("{{data." + PARAM_KEY + "}}");
+
+        Map<String, Object> first = createData();
+        Map<String, Object> second = createData();
+        ((Map<String, Object>) second.get("data")).put(PARAM_KEY, "persisted");
+
+        List<Map<String, Object>> result = action.processBatch(List.of(first, second), new JobExecution());
+
+        assertEquals(List.of(first), result);
+        verify(persistentValueRepositoryMock, times(1)).findPersistedContents(eq(JOB_ID), anyCollection());
+        verify(persistentValueRepositoryMock, never()).isPersisted(anyString(), any(PersistentValue.class));
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.arassec.igor.plugin.core.persistence.action;
 
 import com.arassec.igor.core.model.DataKey;
+import com.arassec.igor.core.model.action.ExecutionOrder;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.misc.PersistentValue;
 import com.arassec.igor.core.repository.PersistentValueRepository;
@@ -11,6 +12,7 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -77,6 +79,48 @@ class PersistValueActionTest extends CoreActionBaseTest {
         verify(persistentValueRepositoryMock, times(0)).upsert(eq(JOB_ID), any(PersistentValue.class));
     }
 
+    /**
+     * Tests processing multiple data items at once.
+     */
+    @Test
+    @DisplayName("Tests processing multiple data items at once.")
+    @SuppressWarnings("unchecked")
+    void testProcessBatch() {
+        PersistentValueRepository persistentValueRepositoryMock = mock(PersistentValueRepository.class);
+        when(persistentValueRepositoryMock.findPersistedContents(eq(JOB_ID), anyCollection())).thenReturn(Set.of("persisted"));
+
+        PersistValueAction action = new PersistValueAction(persistentValueRepositoryMock);
+        action.setInput("{{" + DataKey.DATA.getKey() + "." + PARAM_KEY + "}}");
+
+        Map<String, Object> first = createData();
+        Map<String, Object> second = createData();
+        ((Map<String, Object>) second.get(DataKey.DATA.getKey())).put(PARAM_KEY, "persisted");
+        Map<String, Object> third = createData();
+
+        List<Map<String, Object>> result = action.processBatch(List.of(first, second, third), new JobExecution());
+
+        assertEquals(3, result.size());
+
+        ArgumentCaptor<List<PersistentValue>> argCap = ArgumentCaptor.forClass(List.class);
+        verify(persistentValueRepositoryMock, times(1)).upsertAll(eq(JOB_ID), argCap.capture());
+        assertEquals(1, argCap.getValue().size());
+        assertEquals(PARAM_VALUE, argCap.getValue().getFirst().getContent());
+        verify(persistentValueRepositoryMock, times(0)).upsert(anyString(), any(PersistentValue.class));
+    }
+
+    /**
+     * Tests partitioning data items by the value to persist.
+     */
+    @Test
+    @DisplayName("Tests partitioning data items by the value to persist.")
+    void testPartitionKey() {
+        PersistValueAction action = new PersistValueAction(mock(PersistentValueRepository.class));
+        action.setInput("{{" + DataKey.DATA.getKey() + "." + PARAM_KEY + "}}");
+
+        assertEquals(ExecutionOrder.PER_KEY, action.requiredOrder());
+        assertEquals(PARAM_VALUE, action.partitionKey(createData()));
+    }
+
     /**
      * Tests the cleanup functionality of old persisted values after the job has run.
      */
@@ -1,12 +1,14 @@
 package com.arassec.igor.plugin.core.util.action;
 
+import com.arassec.igor.core.model.action.ExecutionOrder;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.plugin.core.CoreActionBaseTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests the {@link LimitAction}.
@@ -29,6 +31,34 @@ class LimitActionTest extends CoreActionBaseTest {
         assertTrue(limitAction.process(createData(), new JobExecution()).isEmpty());
     }
 
+    /**
+     * Tests limiting data items processed by multiple threads.
+     */
+    @Test
+    @DisplayName("Tests limiting data items processed by multiple threads.")
+    void testProcessConcurrently() {
+        LimitAction limitAction = new LimitAction();
+        limitAction.setNumber(10);
+
+        long passed = IntStream.range(0, 1000).parallel()
+            .mapToObj(i -> limitAction.process(createData(), new JobExecution()))
+            .filter(result -> !result.isEmpty())
+            .count();
+
+        assertEquals(10, passed);
+    }
+
+    /**
+     * Tests, that the action is executed with the threads of the preceding action.
+     */
+    @Test
+    @DisplayName("Tests, that the action is executed with the threads of the preceding action.")
+    void testRequiredOrder() {
+        LimitAction limitAction = new LimitAction();
+        assertFalse(limitAction.enforceSingleThread());
+        assertEquals(ExecutionOrder.INHERITED, limitAction.requiredOrder());
+    }
+
     /**
      * Tests that the action doesn't support events.
      */
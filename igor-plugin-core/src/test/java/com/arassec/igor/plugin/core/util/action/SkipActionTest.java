@@ -1,12 +1,12 @@
 package com.arassec.igor.plugin.core.util.action;
 
+import com.arassec.igor.core.model.action.ExecutionOrder;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.plugin.core.CoreActionBaseTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests the {@link SkipAction}.
@@ -39,13 +39,14 @@ class SkipActionTest extends CoreActionBaseTest {
     }
 
     /**
-     * Tests, that the action always enforces single-thread execution.
+     * Tests, that the action is executed with the threads of the preceding action.
      */
     @Test
-    @DisplayName("Tests, that the action always enforces single-thread execution.")
-    void testEnforceSingleThread() {
+    @DisplayName("Tests, that the action is executed with the threads of the preceding action.")
+    void testRequiredOrder() {
         SkipAction skipAction = new SkipAction();
-        assertTrue(skipAction.enforceSingleThread());
+        assertFalse(skipAction.enforceSingleThread());
+        assertEquals(ExecutionOrder.INHERITED, skipAction.requiredOrder());
     }
 
 }
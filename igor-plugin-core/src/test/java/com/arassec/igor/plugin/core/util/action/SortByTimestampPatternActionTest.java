@@ -1,10 +1,15 @@
 package com.arassec.igor.plugin.core.util.action;
 
+import com.arassec.igor.core.model.action.ExecutionOrder;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.plugin.core.CoreActionBaseTest;
+import com.arassec.igor.plugin.core.CorePluginUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -24,6 +29,7 @@ class SortByTimestampPatternActionTest extends CoreActionBaseTest {
     void testConfiguration() {
         SortByTimestampPatternAction action = new SortByTimestampPatternAction();
         assertTrue(action.enforceSingleThread());
+        assertEquals(ExecutionOrder.GLOBAL, action.requiredOrder());
     }
 
     /**
@@ -104,6 +110,172 @@ class SortByTimestampPatternActionTest extends CoreActionBaseTest {
         assertEquals("alpha_20200113185100_beta.jpeg", completedData.get(1).get("filename"));
     }
 
+    /**
+     * Tests sorting more data items than are kept in memory.
+     */
+    @Test
+    @DisplayName("Tests sorting more data items than are kept in memory.")
+    void testCompleteWithTemporaryFiles() {
+        SortByTimestampPatternAction action = new SortByTimestampPatternAction();
+        action.setInput("{{timestamp}}");
+        action.setPattern("[0-9].*");
+        action.setTimestampFormat("yyyy-MM-dd'T'HH:mm:ss");
+        action.setSortAscending(false);
+        action.setMaxItemsInMemory(2);
+
+        List<String> timestamps = List.of("2019-12-29T14:13:11", "2014-04-13T03:00:00", "2019-12-29T14:13:12", "invalid",
+            "2014-04-13T03:00:00", "2020-01-01T00:00:00");
+        for (var i = 0; i < timestamps.size(); i++) {
+            action.process(new HashMap<>(Map.of("timestamp", timestamps.get(i), "index", i)), new JobExecution());
+        }
+
+        // All chunks have been written to temporary files:
+        assertTrue(action.getCollectedData().isEmpty());
+
+        List<Map<String, Object>> completedData = action.complete();
+        assertEquals(5, completedData.size());
+        assertEquals("2020-01-01T00:00:00", completedData.getFirst().get("timestamp"));
+        assertEquals("2019-12-29T14:13:12", completedData.get(1).get("timestamp"));
+        assertEquals("2019-12-29T14:13:11", completedData.get(2).get("timestamp"));
+        // Data items with equal timestamps keep their order:
+        assertEquals("2014-04-13T03:00:00", completedData.get(3).get("timestamp"));
+        assertEquals(1, completedData.get(3).get("index"));
+        assertEquals("2014-04-13T03:00:00", completedData.get(4).get("timestamp"));
+        assertEquals(4, completedData.get(4).get("index"));
+    }
+
+    /**
+     * Tests that sorting with temporary files returns the same data items as sorting in memory, with values of the same types,
+     * and that the merged data items are handed over in chunks.
+     */
+    @Test
+    @DisplayName("Tests that sorting with temporary files equals sorting in memory.")
+    void testCompleteWithTemporaryFilesEqualsInMemory() {
+        List<Map<String, Object>> dataItems = new ArrayList<>();
+        for (var i = 0; i < 250; i++) {
+            Map<String, Object> dataItem = new HashMap<>();
+            dataItem.put("timestamp", "2020-01-01T00:00:" + String.format("%02d", (i * 7) % 60));
+            dataItem.put("index", i);
+            dataItem.put("longValue", 10_000_000_000L + i);
+            dataItem.put("instant", Instant.ofEpochMilli(1700000000000L + i));
+            dataItem.put("nested", new HashMap<>(Map.of("list", new ArrayList<>(List.of(i, "value")), "double", 1.5)));
+            dataItems.add(dataItem);
+        }
+
+        SortByTimestampPatternAction inMemoryAction = createSortAction(Integer.MAX_VALUE);
+        dataItems.forEach(dataItem -> inMemoryAction.process(dataItem, new JobExecution()));
+        List<Map<String, Object>> expected = inMemoryAction.complete();
+
+        SortByTimestampPatternAction spillingAction = createSortAction(30);
+        dataItems.forEach(dataItem -> spillingAction.process(dataItem, new JobExecution()));
+        assertTrue(spillingAction.getCollectedData().size() < 30);
+
+        List<List<Map<String, Object>>> chunks = new ArrayList<>();
+        spillingAction.complete(chunks::add);
+        List<Map<String, Object>> actual = chunks.stream().flatMap(List::stream).toList();
+
+        assertEquals(250, expected.size());
+        assertEquals(expected, actual);
+        assertInstanceOf(Long.class, actual.getFirst().get("longValue"));
+        assertInstanceOf(Instant.class, actual.getFirst().get("instant"));
+        assertTrue(chunks.size() > 1);
+        assertTrue(chunks.stream().allMatch(chunk -> chunk.size() <= 100));
+    }
+
+    /**
+     * Tests sorting cloned data items with temporary files. Cloned data items share their unmodified content and must be written
+     * to the temporary files nonetheless.
+     */
+    @Test
+    @DisplayName("Tests sorting cloned data items with temporary files.")
+    void testCompleteWithTemporaryFilesOfClonedDataItems() {
+        Map<String, Object> original = new HashMap<>();
+        original.put("timestamp", "2020-01-01T00:00:00");
+        original.put("nested", new HashMap<>(Map.of("list", new ArrayList<>(List.of(1, "value")))));
+
+        List<Map<String, Object>> clones = CorePluginUtils.clone(original, 100);
+        List<Map<String, Object>> expected = new ArrayList<>();
+        for (var i = 0; i < clones.size(); i++) {
+            Map<String, Object> clone = clones.get(i);
+            // Every other clone is modified, the remaining clones only contain the shared content:
+            if (i % 2 == 0) {
+                clone.put("timestamp", "2020-01-01T00:00:" + String.format("%02d", 59 - (i % 60)));
+                getNested(clone).put("index", i);
+            }
+            expected.add(CorePluginUtils.clone(clone));
+        }
+
+        SortByTimestampPatternAction inMemoryAction = createSortAction(Integer.MAX_VALUE);
+        expected.forEach(dataItem -> inMemoryAction.process(dataItem, new JobExecution()));
+        List<Map<String, Object>> expectedSorted = inMemoryAction.complete();
+
+        SortByTimestampPatternAction spillingAction = createSortAction(30);
+        clones.forEach(dataItem -> spillingAction.process(dataItem, new JobExecution()));
+        List<Map<String, Object>> actualSorted = spillingAction.complete();
+
+        assertEquals(100, actualSorted.size());
+        assertEquals(expectedSorted, actualSorted);
+        assertEquals(List.of(1, "value"), getNested(actualSorted.getLast()).get("list"));
+    }
+
+    /**
+     * Tests that the default timezone is only applied if the timestamp format doesn't contain a zone or an offset, regardless of
+     * the pattern.
+     */
+    @Test
+    @DisplayName("Tests sorting timestamps with offsets.")
+    void testCompleteWithOffsets() {
+        SortByTimestampPatternAction action = createSortAction(Integer.MAX_VALUE);
+        action.setTimestampFormat("yyyy-MM-dd'T'HH:mm:ssXXX");
+
+        action.getCollectedData().add(Map.of("timestamp", "2020-01-01T00:30:00+00:00"));
+        action.getCollectedData().add(Map.of("timestamp", "2020-01-01T01:00:00+02:00"));
+
+        List<Map<String, Object>> completedData = action.complete();
+        assertEquals(2, completedData.size());
+        assertEquals("2020-01-01T01:00:00+02:00", completedData.getFirst().get("timestamp"));
+        assertEquals("2020-01-01T00:30:00+00:00", completedData.get(1).get("timestamp"));
+    }
+
+    /**
+     * Returns the nested map of the supplied test data item.
+     *
+     * @param dataItem The data item.
+     *
+     * @return The nested map.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getNested(Map<String, Object> dataItem) {
+        return (Map<String, Object>) dataItem.get("nested");
+    }
+
+    /**
+     * Creates a sort action for the test data.
+     *
+     * @param maxItemsInMemory The maximum number of data items kept in memory.
+     *
+     * @return A new, configured action.
+     */
+    private SortByTimestampPatternAction createSortAction(int maxItemsInMemory) {
+        SortByTimestampPatternAction action = new SortByTimestampPatternAction();
+        action.setInput("{{timestamp}}");
+        action.setPattern("[0-9].*");
+        action.setTimestampFormat("yyyy-MM-dd'T'HH:mm:ss");
+        action.setMaxItemsInMemory(maxItemsInMemory);
+        return action;
+    }
+
+    /**
+     * Tests sorting indices by their sort keys.
+     */
+    @Test
+    @DisplayName("Tests sorting indices by their sort keys.")
+    void testSortIndices() {
+        long[] sortKeys = {5, SortByTimestampPatternAction.NO_SORT_KEY, 3, 5, -1, 3, 10};
+        assertArrayEquals(new int[]{4, 2, 5, 0, 3, 6}, SortByTimestampPatternAction.sortIndices(sortKeys));
+        assertArrayEquals(new int[]{}, SortByTimestampPatternAction.sortIndices(new long[]{}));
+    }
+
     /**
      * Tests that the action doesn't support events.
      */
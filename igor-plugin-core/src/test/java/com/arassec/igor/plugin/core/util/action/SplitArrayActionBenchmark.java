@@ -0,0 +1,108 @@
+package com.arassec.igor.plugin.core.util.action;
+
+import com.arassec.igor.core.model.job.execution.JobExecution;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON conversion previously used to split arrays, which converted the whole data item once per array element,
+ * with the {@link SplitArrayAction}.
+ * <p>
+ * Run with: {@code mvn -pl igor-plugin-core test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.arassec.igor.plugin.core.util.action.SplitArrayActionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SplitArrayActionBenchmark {
+
+    /**
+     * Jackson's ObjectMapper for the JSON conversion.
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * The number of elements of the split array.
+     */
+    @Param({"100", "10000"})
+    private int elements;
+
+    /**
+     * The action under test.
+     */
+    private final SplitArrayAction splitArrayAction = new SplitArrayAction();
+
+    /**
+     * The data item containing the array.
+     */
+    private Map<String, Object> data;
+
+    /**
+     * Creates the data item containing the array.
+     */
+    @Setup
+    public void setup() {
+        List<Object> array = new ArrayList<>();
+        for (var i = 0; i < elements; i++) {
+            array.add(new HashMap<>(Map.of("id", i, "name", "element-" + i, "tags", List.of("a", "b", "c"))));
+        }
+        data = new HashMap<>();
+        data.put("meta", new HashMap<>(Map.of("jobId", "job-id", "timestamp", 1234567890L, "simulation", false)));
+        data.put("data", new HashMap<>(Map.of("content", new HashMap<>(Map.of("array", array, "count", elements)))));
+        splitArrayAction.setArraySelector("{{data.content.array}}");
+    }
+
+    /**
+     * Splits the array by converting the whole data item into a JSON tree and back for every element.
+     *
+     * @return The created data items.
+     */
+    @Benchmark
+    public List<Map<String, Object>> jsonConversion() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        var array = objectMapper.convertValue(data, JsonNode.class).at("/data/content/array");
+        for (JsonNode element : array) {
+            var clonedJsonNode = objectMapper.convertValue(data, JsonNode.class);
+            ((ObjectNode) clonedJsonNode.at("/data/content")).set("array", element);
+            result.add(objectMapper.convertValue(clonedJsonNode, new TypeReference<>() {
+            }));
+        }
+        return result;
+    }
+
+    /**
+     * Splits the array with the action.
+     *
+     * @return The created data items.
+     */
+    @Benchmark
+    public List<Map<String, Object>> splitArrayAction() {
+        return splitArrayAction.process(data, new JobExecution());
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Not used.
+     * @throws RunnerException In case of errors during the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SplitArrayActionBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -4,12 +4,13 @@ import com.arassec.igor.core.model.job.execution.JobExecution;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests the {@link SplitArrayAction}.
@@ -80,4 +81,84 @@ class SplitArrayActionTest {
         assertTrue(result.isEmpty());
     }
 
+    /**
+     * Tests that the created data items can be modified independently.
+     */
+    @Test
+    @DisplayName("Tests that the created data items can be modified independently.")
+    @SuppressWarnings("unchecked")
+    void testProcessIndependentDataItems() {
+        Map<String, Object> meta = new HashMap<>(Map.of("jobId", "job-id"));
+        Map<String, Object> content = new HashMap<>(Map.of("content", List.of("a", "b"), "other", new HashMap<>(Map.of("x", "y"))));
+        Map<String, Object> data = new HashMap<>(Map.of("meta", meta, "data", content));
+
+        SplitArrayAction splitArrayAction = new SplitArrayAction();
+        splitArrayAction.setArraySelector("{{ data.content }}");
+
+        List<Map<String, Object>> result = splitArrayAction.process(data, new JobExecution());
+
+        assertEquals(2, result.size());
+
+        ((Map<String, Object>) result.getFirst().get("meta")).put("jobId", "modified");
+        ((Map<String, Object>) ((Map<String, Object>) result.getFirst().get("data")).get("other")).put("x", "modified");
+
+        assertEquals("job-id", ((Map<String, Object>) result.get(1).get("meta")).get("jobId"));
+        assertEquals("y", ((Map<String, Object>) ((Map<String, Object>) result.get(1).get("data")).get("other")).get("x"));
+        assertEquals("job-id", meta.get("jobId"));
+        assertEquals(List.of("a", "b"), content.get("content"));
+    }
+
+    /**
+     * Tests splitting nested JSON-Arrays in a single pass.
+     */
+    @Test
+    @DisplayName("Tests splitting nested JSON-Arrays in a single pass.")
+    @SuppressWarnings("unchecked")
+    void testProcessNested() {
+        List<Map<String, Object>> orders = List.of(
+            Map.of("id", 1, "items", List.of("a", "b")),
+            Map.of("id", 2, "items", List.of("c")));
+        Map<String, Object> data = Map.of("data", Map.of("orders", orders));
+
+        SplitArrayAction splitArrayAction = new SplitArrayAction();
+        splitArrayAction.setArraySelector("{{data.orders.items}}");
+
+        List<Map<String, Object>> result = splitArrayAction.process(data, new JobExecution());
+
+        assertEquals(3, result.size());
+        assertEquals(List.of("1a", "1b", "2c"), result.stream()
+            .map(dataItem -> (Map<String, Object>) ((Map<String, Object>) dataItem.get("data")).get("orders"))
+            .map(order -> String.valueOf(order.get("id")) + order.get("items"))
+            .toList());
+
+        // A numeric path segment selects a single array element:
+        splitArrayAction.setArraySelector("{{data.orders.1.items}}");
+
+        result = splitArrayAction.process(data, new JobExecution());
+
+        assertEquals(1, result.size());
+        List<Object> resultOrders = (List<Object>) ((Map<String, Object>) result.getFirst().get("data")).get("orders");
+        assertEquals(orders.getFirst(), resultOrders.getFirst());
+        assertEquals("c", ((Map<String, Object>) resultOrders.get(1)).get("items"));
+    }
+
+    /**
+     * Tests handing over the created data items in chunks.
+     */
+    @Test
+    @DisplayName("Tests handing over the created data items in chunks.")
+    void testProcessBatchStreaming() {
+        List<Integer> elements = IntStream.range(0, 250).boxed().toList();
+        Map<String, Object> data = Map.of("data", Map.of("content", elements));
+
+        SplitArrayAction splitArrayAction = new SplitArrayAction();
+        splitArrayAction.setArraySelector("{{data.content}}");
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        splitArrayAction.processBatch(List.of(data, data), new JobExecution(), chunk -> chunkSizes.add(chunk.size()));
+
+        assertEquals(List.of(100, 100, 50, 100, 100, 50), chunkSizes);
+        assertEquals(500, splitArrayAction.processBatch(List.of(data, data), new JobExecution()).size());
+    }
+
 }
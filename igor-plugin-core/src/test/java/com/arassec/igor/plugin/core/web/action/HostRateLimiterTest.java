@@ -0,0 +1,45 @@
+package com.arassec.igor.plugin.core.web.action;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link HostRateLimiter}.
+ */
+@DisplayName("Host rate limiter tests.")
+class HostRateLimiterTest {
+
+    /**
+     * Tests limiting the rate of requests per host.
+     */
+    @Test
+    @DisplayName("Tests limiting the rate of requests per host.")
+    @SneakyThrows(InterruptedException.class)
+    void testAcquire() {
+        HostRateLimiter hostRateLimiter = new HostRateLimiter();
+
+        long start = System.nanoTime();
+        for (var i = 0; i < 3; i++) {
+            hostRateLimiter.acquire("igor.test", 10);
+        }
+        // Other hosts are not affected:
+        hostRateLimiter.acquire("other.test", 10);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // The first request is sent immediately, the following ones after 100 ms each:
+        assertTrue(elapsedMillis >= 200 && elapsedMillis < 1000, "Unexpected duration: " + elapsedMillis);
+
+        // A rate of '0' disables the limit:
+        start = System.nanoTime();
+        for (var i = 0; i < 100; i++) {
+            hostRateLimiter.acquire("igor.test", 0);
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100);
+    }
+
+}
@@ -2,16 +2,20 @@ package com.arassec.igor.plugin.core.web.action;
 
 
 import com.arassec.igor.core.model.job.execution.JobExecution;
+import com.arassec.igor.core.model.job.execution.WorkInProgressMonitor;
 import com.arassec.igor.plugin.core.CoreActionBaseTest;
 import com.arassec.igor.plugin.core.CoreDataKey;
 import com.arassec.igor.plugin.core.file.connector.FallbackFileConnector;
 import com.arassec.igor.plugin.core.file.connector.FileConnector;
+import com.arassec.igor.plugin.core.file.connector.FileStreamData;
+import com.arassec.igor.plugin.core.file.connector.SegmentReader;
 import com.arassec.igor.plugin.core.web.connector.FallbackHttpConnector;
 import com.arassec.igor.plugin.core.web.connector.StandardHttpConnector;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -179,6 +183,63 @@ class HttpFileDownloadActionTest extends CoreActionBaseTest {
         verify(inputStreamMock, times(1)).close();
     }
 
+    /**
+     * Tests downloading a file in parallel segments with HTTP range requests.
+     */
+    @Test
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    @DisplayName("Tests downloading a file in parallel segments with HTTP range requests.")
+    void testDownloadFileSegmented() {
+        // Configure the action under test:
+        HttpFileDownloadAction action = new HttpFileDownloadAction();
+        action.setHttpConnector(httpConnector);
+        action.setUrl("http://test.url");
+        action.setTarget(fileConnector);
+        action.setTargetDirectory("/target");
+        action.setTargetFilename("file");
+        action.setParallelSegments(2);
+
+        // Prepare mocks:
+        HttpHeaders httpHeaders = HttpHeaders.of(Map.of(HttpFileDownloadAction.HTTP_HEADER_CONTENT_LENGTH, List.of("12"),
+                HttpFileDownloadAction.HTTP_HEADER_ACCEPT_RANGES, List.of("bytes")), (header, unused) -> true);
+
+        InputStream inputStreamMock = mock(InputStream.class);
+        HttpResponse<InputStream> inputStreamHttpResponse = mock(HttpResponse.class);
+        when(inputStreamHttpResponse.statusCode()).thenReturn(200);
+        when(inputStreamHttpResponse.headers()).thenReturn(httpHeaders);
+        when(inputStreamHttpResponse.body()).thenReturn(inputStreamMock);
+
+        InputStream segmentInputStreamMock = mock(InputStream.class);
+        HttpResponse<InputStream> segmentHttpResponse = mock(HttpResponse.class);
+        when(segmentHttpResponse.statusCode()).thenReturn(206);
+        when(segmentHttpResponse.body()).thenReturn(segmentInputStreamMock);
+
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.send(any(HttpRequest.class), eq(HttpResponse.BodyHandlers.ofInputStream())))
+                .thenReturn(inputStreamHttpResponse, segmentHttpResponse);
+        when(httpConnector.getHttpClient()).thenReturn(httpClient);
+
+        when(fileConnector.supportsSegmentedWrite()).thenReturn(true);
+
+        action.process(createData(), new JobExecution());
+
+        ArgumentCaptor<SegmentReader> segmentReaderCaptor = ArgumentCaptor.forClass(SegmentReader.class);
+        verify(fileConnector, times(1)).writeStream(eq("/target/file.igor"), any(FileStreamData.class),
+                segmentReaderCaptor.capture(), eq(2), any(WorkInProgressMonitor.class), any(JobExecution.class));
+
+        // The segment reader requests the segment's range:
+        FileStreamData segment = segmentReaderCaptor.getValue().read(6, 6);
+        assertEquals(segmentInputStreamMock, segment.getData());
+        segmentReaderCaptor.getValue().finalizeSegment(segment);
+        verify(segmentInputStreamMock, times(1)).close();
+
+        ArgumentCaptor<HttpRequest> httpRequestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(2)).send(httpRequestCaptor.capture(), eq(HttpResponse.BodyHandlers.ofInputStream()));
+        assertEquals("bytes=6-11", httpRequestCaptor.getAllValues().get(1).headers()
+                .firstValue(HttpFileDownloadAction.HTTP_HEADER_RANGE).orElseThrow());
+    }
+
     /**
      * Tests determining the file type appending a suffix to the filename.
      */
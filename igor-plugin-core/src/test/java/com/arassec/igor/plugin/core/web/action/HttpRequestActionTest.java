@@ -2,6 +2,7 @@ package com.arassec.igor.plugin.core.web.action;
 
 import com.arassec.igor.core.model.DataKey;
 import com.arassec.igor.core.model.job.execution.JobExecution;
+import com.arassec.igor.core.model.job.execution.JobExecutionState;
 import com.arassec.igor.core.util.IgorException;
 import com.arassec.igor.plugin.core.web.connector.StandardHttpConnector;
 import com.github.tomakehurst.wiremock.WireMockServer;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -201,6 +203,126 @@ class HttpRequestActionTest {
                 result.getFirst().get(DataKey.SIMULATION_LOG.getKey()));
     }
 
+    /**
+     * Tests sending requests asynchronously, with and without preserving the order of the data items.
+     */
+    @Test
+    @DisplayName("Tests sending requests asynchronously.")
+    void testProcessBatchAsync() {
+        WireMockServer httpServer = new WireMockServer(new WireMockConfiguration().dynamicPort());
+        httpServer.start();
+        httpServer.stubFor(get("/slow").willReturn(aResponse().withStatus(200).withBody("slow").withFixedDelay(500)));
+        httpServer.stubFor(get("/fast").willReturn(aResponse().withStatus(200).withBody("fast")));
+
+        JobExecution jobExecution = JobExecution.builder().executionState(JobExecutionState.RUNNING).build();
+
+        StandardHttpConnector httpConnector = new StandardHttpConnector();
+        httpConnector.initialize(jobExecution);
+
+        HttpRequestAction action = new HttpRequestAction();
+        action.setHttpConnector(httpConnector);
+        action.setUrl("http://localhost:" + httpServer.port() + "/{{data.path}}");
+        action.setMethod("GET");
+        action.setTargetKey("webResponse");
+        action.setMaxInFlightRequests(2);
+        action.setPreserveOrder(false);
+
+        List<Object> responseBodies = new ArrayList<>();
+        action.processBatch(List.of(createDataItem("slow"), createDataItem("fast")), jobExecution,
+                result -> result.forEach(item -> responseBodies.add(getResponseBody(item))));
+
+        // The fast response overtakes the slow one:
+        assertEquals(List.of("fast", "slow"), responseBodies);
+
+        action.setPreserveOrder(true);
+        responseBodies.clear();
+        action.processBatch(List.of(createDataItem("slow"), createDataItem("fast")), jobExecution,
+                result -> result.forEach(item -> responseBodies.add(getResponseBody(item))));
+
+        assertEquals(List.of("slow", "fast"), responseBodies);
+
+        httpServer.stop();
+    }
+
+    /**
+     * Tests splitting a JSON-Array in the response into separate data items.
+     */
+    @Test
+    @DisplayName("Tests splitting a JSON-Array in the response into separate data items.")
+    void testSplitResponseArray() {
+        WireMockServer httpServer = new WireMockServer(new WireMockConfiguration().dynamicPort());
+        httpServer.start();
+        httpServer.stubFor(get("/object").willReturn(aResponse().withStatus(200)
+                .withBody("{\"total\": 3, \"items\": [{\"id\": 1}, {\"id\": 2}, {\"id\": 3}], \"next\": null}")));
+        httpServer.stubFor(get("/array").willReturn(aResponse().withStatus(200).withBody("[\"a\", \"b\"]")));
+
+        JobExecution jobExecution = JobExecution.builder().executionState(JobExecutionState.RUNNING).build();
+
+        StandardHttpConnector httpConnector = new StandardHttpConnector();
+        httpConnector.initialize(jobExecution);
+
+        HttpRequestAction action = new HttpRequestAction();
+        action.setHttpConnector(httpConnector);
+        action.setUrl("http://localhost:" + httpServer.port() + "/{{data.path}}");
+        action.setMethod("GET");
+        action.setTargetKey("webResponse");
+        action.setSplitResponseArray(true);
+        action.setResponseArrayPointer("/items");
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        action.processBatch(List.of(createDataItem("object")), jobExecution, result::addAll);
+
+        assertEquals(3, result.size());
+        assertEquals(Map.of("id", 1), getResponseBody(result.getFirst()));
+        assertEquals(Map.of("id", 3), getResponseBody(result.get(2)));
+        assertEquals("object", ((Map<?, ?>) result.get(2).get(DataKey.DATA.getKey())).get("path"));
+
+        // The response body itself is the array:
+        action.setResponseArrayPointer(null);
+        result.clear();
+        action.processBatch(List.of(createDataItem("array")), jobExecution, result::addAll);
+
+        assertEquals(List.of("a", "b"), result.stream().map(this::getResponseBody).toList());
+
+        // Data items without array at the configured position are filtered:
+        action.setResponseArrayPointer("/total");
+        result.clear();
+        action.processBatch(List.of(createDataItem("object")), jobExecution, result::addAll);
+
+        assertTrue(result.isEmpty());
+
+        httpServer.stop();
+    }
+
+    /**
+     * Tests splitting a JSON-Array in the response when processing a single data item, e.g. during simulation.
+     */
+    @Test
+    @DisplayName("Tests splitting a JSON-Array in the response when processing a single data item.")
+    void testProcessSplitResponseArray() {
+        WireMockServer httpServer = new WireMockServer(new WireMockConfiguration().dynamicPort());
+        httpServer.start();
+        httpServer.stubFor(get("/array").willReturn(aResponse().withStatus(200).withBody("[{\"id\": 1}, {\"id\": 2}]")));
+
+        JobExecution jobExecution = JobExecution.builder().executionState(JobExecutionState.RUNNING).build();
+
+        StandardHttpConnector httpConnector = new StandardHttpConnector();
+        httpConnector.initialize(jobExecution);
+
+        HttpRequestAction action = new HttpRequestAction();
+        action.setHttpConnector(httpConnector);
+        action.setUrl("http://localhost:" + httpServer.port() + "/{{data.path}}");
+        action.setMethod("GET");
+        action.setTargetKey("webResponse");
+        action.setSplitResponseArray(true);
+
+        List<Map<String, Object>> result = action.process(createDataItem("array"), jobExecution);
+
+        assertEquals(List.of(Map.of("id", 1), Map.of("id", 2)), result.stream().map(this::getResponseBody).toList());
+
+        httpServer.stop();
+    }
+
     /**
      * Tests error handling.
      */
@@ -233,4 +355,29 @@ class HttpRequestActionTest {
         httpServer.stop();
     }
 
+    /**
+     * Creates a data item with the supplied request path.
+     *
+     * @param path The path to request.
+     *
+     * @return A new data item.
+     */
+    private Map<String, Object> createDataItem(String path) {
+        Map<String, Object> data = new HashMap<>();
+        data.put(DataKey.DATA.getKey(), new HashMap<>(Map.of("path", path)));
+        return data;
+    }
+
+    /**
+     * Returns the body of the response stored in the data item.
+     *
+     * @param data The data item.
+     *
+     * @return The response body.
+     */
+    @SuppressWarnings("unchecked")
+    private Object getResponseBody(Map<String, Object> data) {
+        return ((Map<String, Object>) data.get("webResponse")).get("body");
+    }
+
 }
@@ -10,24 +10,43 @@ import com.arassec.igor.plugin.data.DataType;
 import com.arassec.igor.plugin.data.connector.JdbcDatasourceConnector;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * <h2>'Execute Statement' Action</h2>
  *
  * <h3>Description</h3>
  * Executes an SQL statement against the configured database.
+ * <p>
+ * If configured to use prepared statements, the values referenced by mustache expressions in the SQL statement are bound as
+ * parameters of a prepared statement, instead of being rendered into the statement. The statements of multiple data items are
+ * then sent to the database in JDBC batches.
  */
 @Getter
 @Setter
 @IgorComponent(categoryId = CoreCategory.DATA, typeId = DataType.EXECUTE_STATEMENT_ACTION)
 public class ExecuteStatementAction extends BaseDataAction {
 
+    /**
+     * Default number of prepared statements sent to the database as one batch.
+     */
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * Matches mustache expressions, which are replaced by parameter placeholders in prepared statements.
+     */
+    private static final Pattern PARAMETER_PATTERN = Pattern.compile("\\{\\{\\{?\\s*([^{}]+?)\\s*}?}}");
+
     /**
      * The datasource use for statement execution.
      */
@@ -48,19 +67,146 @@ public class ExecuteStatementAction extends BaseDataAction {
     @IgorParam(advanced = true)
     private String transactionKey;
 
+    /**
+     * If checked, the SQL statement is executed as prepared statement. Every mustache expression in the statement, e.g.
+     * {@code {{data.id}}}, is replaced by a parameter placeholder, and the value at the expression's path in the data item is
+     * bound to it. Placeholders must not be quoted, and mustache sections are not supported.
+     */
+    @IgorParam(advanced = true)
+    private boolean usePreparedStatement;
+
+    /**
+     * The maximum number of prepared statements sent to the database as one batch. Pending statements are executed when the job
+     * completes, or when their transaction is committed. Event-triggered jobs should use a batch size of 1.
+     */
+    @Positive
+    @IgorParam(advanced = true)
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * The SQL statement with parameter placeholders, if prepared statements are used.
+     */
+    private String preparedSqlStatement;
+
+    /**
+     * The paths to the parameter values in the data items, in the order of the placeholders in the prepared statement.
+     */
+    private List<String> parameterPaths = List.of();
+
+    /**
+     * The current job execution, required to execute pending statements on completion.
+     */
+    private JobExecution jobExecution;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialize(JobExecution jobExecution) {
+        super.initialize(jobExecution);
+        this.jobExecution = jobExecution;
+        if (usePreparedStatement) {
+            parsePreparedStatement(sqlStatement);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
+        if (usePreparedStatement) {
+            return processBatch(List.of(data), jobExecution);
+        }
+
         var evaluatedSqlStatement = CorePluginUtils.evaluateTemplate(data, sqlStatement);
-        var evaluatedTransactionKey = CorePluginUtils.evaluateTemplate(data, transactionKey);
 
-        CorePluginUtils.getValue(data, evaluatedTransactionKey, UUID.class)
-            .ifPresentOrElse(transactionId -> datasourceConnector.execute(jobExecution, transactionId, evaluatedSqlStatement),
-                () -> datasourceConnector.execute(jobExecution, null, evaluatedSqlStatement));
+        datasourceConnector.execute(jobExecution, getTransactionId(data), evaluatedSqlStatement);
 
         return List.of(data);
     }
 
+    /**
+     * Executes the statements of all data items of the batch. Statements that share a transaction, or use no transaction at
+     * all, are sent to the database as a single JDBC batch. Prepared statements are collected until the configured batch size
+     * is reached.
+     *
+     * @param data         The data items the action will work with.
+     * @param jobExecution The job's execution log.
+     * @return The supplied data items.
+     */
+    @Override
+    public List<Map<String, Object>> processBatch(List<Map<String, Object>> data, JobExecution jobExecution) {
+        if (usePreparedStatement) {
+            Map<UUID, List<List<Object>>> parametersByTransaction = new LinkedHashMap<>();
+
+            for (Map<String, Object> dataItem : data) {
+                parametersByTransaction.computeIfAbsent(getTransactionId(dataItem), id -> new ArrayList<>())
+                    .add(parameterPaths.stream()
+                        .map(path -> CorePluginUtils.getValue(dataItem, path, Object.class).orElse(null))
+                        .toList());
+            }
+
+            parametersByTransaction.forEach((transactionId, parameterSets) ->
+                datasourceConnector.executePrepared(jobExecution, transactionId, preparedSqlStatement, parameterSets, batchSize));
+
+            return data;
+        }
+
+        Map<UUID, List<String>> statementsByTransaction = new LinkedHashMap<>();
+
+        for (Map<String, Object> dataItem : data) {
+            statementsByTransaction.computeIfAbsent(getTransactionId(dataItem), id -> new ArrayList<>())
+                .add(CorePluginUtils.evaluateTemplate(dataItem, sqlStatement));
+        }
+
+        statementsByTransaction.forEach((transactionId, statements) ->
+            datasourceConnector.executeBatch(jobExecution, transactionId, statements));
+
+        return data;
+    }
+
+    /**
+     * Executes pending prepared statements.
+     *
+     * @return An empty list.
+     */
+    @Override
+    public List<Map<String, Object>> complete() {
+        if (usePreparedStatement && jobExecution != null) {
+            datasourceConnector.flushStatements(jobExecution);
+        }
+        return super.complete();
+    }
+
+    /**
+     * Replaces the mustache expressions of the supplied SQL statement with parameter placeholders, and keeps track of their
+     * paths.
+     *
+     * @param sql The SQL statement containing mustache expressions.
+     */
+    private void parsePreparedStatement(String sql) {
+        List<String> paths = new ArrayList<>();
+        var preparedSql = new StringBuilder();
+        Matcher matcher = PARAMETER_PATTERN.matcher(sql);
+        while (matcher.find()) {
+            paths.add(matcher.group(1));
+            matcher.appendReplacement(preparedSql, "?");
+        }
+        matcher.appendTail(preparedSql);
+        preparedSqlStatement = preparedSql.toString();
+        parameterPaths = List.copyOf(paths);
+    }
+
+    /**
+     * Returns the ID of the transaction the statement of the supplied data item should be executed in.
+     *
+     * @param dataItem The data item.
+     * @return The transaction ID, or {@code null}, if the statement should be executed without a transaction.
+     */
+    private UUID getTransactionId(Map<String, Object> dataItem) {
+        var evaluatedTransactionKey = CorePluginUtils.evaluateTemplate(dataItem, transactionKey);
+        return CorePluginUtils.getValue(dataItem, evaluatedTransactionKey, UUID.class).orElse(null);
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.arassec.igor.plugin.data.action;
 
 import com.arassec.igor.application.annotation.IgorComponent;
+import com.arassec.igor.core.model.action.StreamingAction;
 import com.arassec.igor.core.model.annotation.IgorParam;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.misc.ParameterSubtype;
@@ -10,12 +11,16 @@ import com.arassec.igor.plugin.data.DataType;
 import com.arassec.igor.plugin.data.connector.JdbcDatasourceConnector;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * <h2>'Query Data' Action</h2>
@@ -43,11 +48,20 @@ import java.util.UUID;
  *   ]
  * }
  * </code></pre>
+ * <p>
+ * If 'Split Rows' is checked, each row of the query result is added to its own copy of the data item, instead of adding the
+ * complete query result to a single data item. The resulting data items are handed over to the following actions while the
+ * query result is still being read from the database. Thus, query results can be processed, that don't fit into memory.
  */
 @Getter
 @Setter
 @IgorComponent(categoryId = CoreCategory.DATA, typeId = DataType.QUERY_DATA_ACTION)
-public class QueryDataAction extends BaseDataAction {
+public class QueryDataAction extends BaseDataAction implements StreamingAction {
+
+    /**
+     * The default number of rows fetched from the database at once.
+     */
+    private static final int DEFAULT_FETCH_SIZE = 1000;
 
     /**
      * The datasource to query the data from.
@@ -76,11 +90,31 @@ public class QueryDataAction extends BaseDataAction {
     @IgorParam(advanced = true)
     private String transactionKey;
 
+    /**
+     * If checked, every row of the query result is added to a copy of the data item under the target key, and handed over to
+     * the following actions while the query result is read.
+     */
+    @IgorParam(advanced = true)
+    private boolean splitRows;
+
+    /**
+     * The number of rows fetched from the database at once, if rows are split into separate data items.
+     */
+    @Positive
+    @IgorParam(advanced = true)
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
+        if (splitRows) {
+            List<Map<String, Object>> result = new ArrayList<>();
+            processBatch(List.of(data), jobExecution, result::addAll);
+            return result;
+        }
+
         var sqlQueryResolved = CorePluginUtils.evaluateTemplate(data, sqlStatement);
         var targetKeyResolved = CorePluginUtils.evaluateTemplate(data, targetKey);
         var transactionKeyResolved = CorePluginUtils.evaluateTemplate(data, transactionKey);
@@ -92,4 +126,76 @@ public class QueryDataAction extends BaseDataAction {
         return List.of(data);
     }
 
+    /**
+     * Queries the database for all data items of the batch. Queries that share a transaction, or use no transaction at all,
+     * are executed with a single connection.
+     *
+     * @param data         The data items the action will work with.
+     * @param jobExecution The job's execution log.
+     * @return The supplied data items with the query results added.
+     */
+    @Override
+    public List<Map<String, Object>> processBatch(List<Map<String, Object>> data, JobExecution jobExecution) {
+        if (splitRows) {
+            List<Map<String, Object>> result = new ArrayList<>();
+            processBatch(data, jobExecution, result::addAll);
+            return result;
+        }
+
+        Map<UUID, List<Map<String, Object>>> itemsByTransaction = new LinkedHashMap<>();
+        Map<UUID, List<String>> queriesByTransaction = new LinkedHashMap<>();
+
+        for (Map<String, Object> dataItem : data) {
+            var transactionKeyResolved = CorePluginUtils.evaluateTemplate(dataItem, transactionKey);
+            var transactionId = CorePluginUtils.getValue(dataItem, transactionKeyResolved, UUID.class).orElse(null);
+            itemsByTransaction.computeIfAbsent(transactionId, id -> new ArrayList<>()).add(dataItem);
+            queriesByTransaction.computeIfAbsent(transactionId, id -> new ArrayList<>())
+                .add(CorePluginUtils.evaluateTemplate(dataItem, sqlStatement));
+        }
+
+        itemsByTransaction.forEach((transactionId, dataItems) -> {
+            List<List<Map<String, Object>>> queryResults = datasourceConnector.queryBatch(jobExecution, transactionId,
+                queriesByTransaction.get(transactionId));
+            for (var i = 0; i < dataItems.size(); i++) {
+                Map<String, Object> dataItem = dataItems.get(i);
+                dataItem.put(CorePluginUtils.evaluateTemplate(dataItem, targetKey), queryResults.get(i));
+            }
+        });
+
+        return data;
+    }
+
+    /**
+     * Queries the database for all data items of the batch. If rows are split into separate data items, the resulting data
+     * items are handed over in chunks, while the query results are read. Otherwise, the query results are added to the data
+     * items, which are handed over at once.
+     *
+     * @param data           The data items the action will work with.
+     * @param jobExecution   The job's execution log.
+     * @param resultConsumer Consumes chunks of resulting data items.
+     */
+    @Override
+    public void processBatch(List<Map<String, Object>> data, JobExecution jobExecution,
+                             Consumer<List<Map<String, Object>>> resultConsumer) {
+        if (!splitRows) {
+            resultConsumer.accept(processBatch(data, jobExecution));
+            return;
+        }
+
+        for (Map<String, Object> dataItem : data) {
+            var sqlQueryResolved = CorePluginUtils.evaluateTemplate(dataItem, sqlStatement);
+            var targetKeyResolved = CorePluginUtils.evaluateTemplate(dataItem, targetKey);
+            var transactionKeyResolved = CorePluginUtils.evaluateTemplate(dataItem, transactionKey);
+            var transactionId = CorePluginUtils.getValue(dataItem, transactionKeyResolved, UUID.class).orElse(null);
+
+            datasourceConnector.queryStreaming(jobExecution, transactionId, sqlQueryResolved, fetchSize, rows -> {
+                List<Map<String, Object>> rowDataItems = CorePluginUtils.clone(dataItem, rows.size());
+                for (var i = 0; i < rows.size(); i++) {
+                    rowDataItems.get(i).put(targetKeyResolved, rows.get(i));
+                }
+                resultConsumer.accept(rowDataItems);
+            });
+        }
+    }
+
 }
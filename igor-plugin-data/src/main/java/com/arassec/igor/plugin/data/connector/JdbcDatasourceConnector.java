@@ -10,7 +10,10 @@ import com.arassec.igor.core.util.IgorException;
 import com.arassec.igor.plugin.core.CoreCategory;
 import com.arassec.igor.plugin.data.DataType;
 import com.arassec.igor.plugin.data.connector.util.JdbcDatasourceUtil;
+import com.arassec.igor.plugin.data.connector.util.JdbcPoolSettings;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -21,6 +24,7 @@ import org.springframework.lang.Nullable;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * <h2>JDBC-Datasource Connector</h2>
@@ -40,6 +44,9 @@ import java.util.UUID;
  * <p>
  * For additional databases, integrate the igor-spring-boot-starter into a new Spring-Boot project as described in the
  * documentation and add the respective JDBC JAR-file to the classpath.
+ * <p>
+ * Database connections are pooled. The pool is shared by all job executions using the connector, and can be configured in the
+ * advanced parameters.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -82,6 +89,34 @@ public class JdbcDatasourceConnector extends BaseConnector {
     @IgorParam
     private String driverClassName;
 
+    /**
+     * The minimum number of idle database connections kept open by the connection pool.
+     */
+    @Getter
+    @Setter
+    @PositiveOrZero
+    @IgorParam(advanced = true)
+    private int minIdleConnections = 0;
+
+    /**
+     * The maximum number of database connections, in use or idle, of the connection pool.
+     */
+    @Getter
+    @Setter
+    @Positive
+    @IgorParam(advanced = true)
+    private int maxConnections = 10;
+
+    /**
+     * The number of seconds an idle database connection is kept open, if more than the minimum number of idle connections are
+     * open.
+     */
+    @Getter
+    @Setter
+    @Positive
+    @IgorParam(advanced = true)
+    private int idleTimeout = 600;
+
     /**
      * The datasource store containing all DBMS related classes in a singleton Spring bean.
      */
@@ -99,7 +134,7 @@ public class JdbcDatasourceConnector extends BaseConnector {
             testDataSource.setPassword(password);
             testDataSource.setDriverClassName(driverClassName);
 
-            testDataSource.getConnection();
+            testDataSource.getConnection().close();
         } catch (Exception e) {
             throw new IgorException("Could not connect to JDBC datasource!", e);
         }
@@ -111,7 +146,15 @@ public class JdbcDatasourceConnector extends BaseConnector {
     @Override
     public void initialize(JobExecution jobExecution) {
         super.initialize(jobExecution);
-        jdbcDatasourceUtil.initializeDatasource(jobExecution, getId(), url, username, password, driverClassName);
+        jdbcDatasourceUtil.initializeDatasource(jobExecution, getId(), JdbcPoolSettings.builder()
+            .url(url)
+            .username(username)
+            .password(password)
+            .driverClassName(driverClassName)
+            .minIdle(minIdleConnections)
+            .maxPoolSize(maxConnections)
+            .idleTimeoutSeconds(idleTimeout)
+            .build());
     }
 
     /**
@@ -154,6 +197,35 @@ public class JdbcDatasourceConnector extends BaseConnector {
         return jdbcDatasourceUtil.query(jobExecution, getId(), transactionId, sql);
     }
 
+    /**
+     * Queries a database with all provided SQL statements, using a single connection.
+     *
+     * @param jobExecution  The current job execution.
+     * @param transactionId The optional transaction ID if available.
+     * @param sqls          The SQL queries to execute.
+     * @return List of result sets for each query, in the order of the supplied queries.
+     */
+    @IgorSimulationSafe
+    public List<List<Map<String, Object>>> queryBatch(JobExecution jobExecution, @Nullable UUID transactionId, List<String> sqls) {
+        return jdbcDatasourceUtil.queryBatch(jobExecution, getId(), transactionId, sqls);
+    }
+
+    /**
+     * Queries a database with the provided SQL statement and hands the resulting rows over in chunks, while they are read from
+     * the database.
+     *
+     * @param jobExecution  The current job execution.
+     * @param transactionId The optional transaction ID if available.
+     * @param sql           The SQL query to execute.
+     * @param fetchSize     The number of rows fetched from the database at once, and handed over together.
+     * @param rowsConsumer  Consumes chunks of rows.
+     */
+    @IgorSimulationSafe
+    public void queryStreaming(JobExecution jobExecution, @Nullable UUID transactionId, String sql, int fetchSize,
+                               Consumer<List<Map<String, Object>>> rowsConsumer) {
+        jdbcDatasourceUtil.queryStreaming(jobExecution, getId(), transactionId, sql, fetchSize, rowsConsumer);
+    }
+
     /**
      * Executes an SQL statement.
      *
@@ -165,6 +237,41 @@ public class JdbcDatasourceConnector extends BaseConnector {
         jdbcDatasourceUtil.execute(jobExecution, getId(), transactionId, sql);
     }
 
+    /**
+     * Executes all provided SQL statements as a single JDBC batch.
+     *
+     * @param jobExecution  The current job execution.
+     * @param transactionId The optional transaction ID if available.
+     * @param sqls          The SQL statements to execute.
+     */
+    public void executeBatch(JobExecution jobExecution, @Nullable UUID transactionId, List<String> sqls) {
+        jdbcDatasourceUtil.executeBatch(jobExecution, getId(), transactionId, sqls);
+    }
+
+    /**
+     * Adds the provided parameter sets of a prepared statement to a JDBC batch, which is executed when it reaches the batch
+     * size, when {@link #flushStatements(JobExecution)} is called, or when the transaction is committed.
+     *
+     * @param jobExecution  The current job execution.
+     * @param transactionId The optional transaction ID if available.
+     * @param sql           The SQL statement with '?' as parameter placeholders.
+     * @param parameterSets The parameter sets to execute the statement with.
+     * @param batchSize     The maximum number of parameter sets executed as one batch.
+     */
+    public void executePrepared(JobExecution jobExecution, @Nullable UUID transactionId, String sql,
+                                List<List<Object>> parameterSets, int batchSize) {
+        jdbcDatasourceUtil.executePrepared(jobExecution, getId(), transactionId, sql, parameterSets, batchSize);
+    }
+
+    /**
+     * Executes all pending prepared statements.
+     *
+     * @param jobExecution The current job execution.
+     */
+    public void flushStatements(JobExecution jobExecution) {
+        jdbcDatasourceUtil.flushStatements(jobExecution, getId());
+    }
+
     /**
      * Commits the specified transaction.
      *
@@ -0,0 +1,109 @@
+package com.arassec.igor.plugin.data.connector.util;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection pool of a {@link com.arassec.igor.plugin.data.connector.JdbcDatasourceConnector}, shared by all job executions
+ * using the connector. Keeps track of the time spent waiting for connections.
+ */
+public class JdbcConnectionPool extends HikariDataSource {
+
+    /**
+     * The settings this pool has been created with.
+     */
+    @Getter
+    private final JdbcPoolSettings settings;
+
+    /**
+     * The number of connections obtained from the pool.
+     */
+    private final LongAdder connectionsObtained = new LongAdder();
+
+    /**
+     * The total time spent waiting for connections.
+     */
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    /**
+     * The maximum time spent waiting for a single connection.
+     */
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * Creates a new pool. Connections are opened lazily, so creating a pool for an unavailable database doesn't fail.
+     *
+     * @param poolName The pool's name, used e.g. in log messages.
+     * @param settings The pool's settings.
+     */
+    public JdbcConnectionPool(String poolName, JdbcPoolSettings settings) {
+        super(createConfig(poolName, settings));
+        this.settings = settings;
+    }
+
+    /**
+     * Borrows a connection from the pool. Closing the connection returns it to the pool.
+     *
+     * @return A connection to the database.
+     * @throws SQLException If no connection could be obtained.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        long waitNanos = System.nanoTime() - start;
+        connectionsObtained.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        return connection;
+    }
+
+    /**
+     * Returns the pool's current metrics.
+     *
+     * @return The pool's metrics.
+     */
+    public JdbcPoolMetrics getMetrics() {
+        HikariPoolMXBean poolMXBean = getHikariPoolMXBean();
+        long obtained = connectionsObtained.sum();
+        double averageWaitMillis = obtained > 0 ? (double) totalWaitNanos.sum() / obtained / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+        double maxWaitMillis = (double) maxWaitNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+        if (poolMXBean == null) {
+            return new JdbcPoolMetrics(0, 0, 0, obtained, averageWaitMillis, maxWaitMillis);
+        }
+        return new JdbcPoolMetrics(poolMXBean.getActiveConnections(), poolMXBean.getIdleConnections(),
+            poolMXBean.getThreadsAwaitingConnection(), obtained, averageWaitMillis, maxWaitMillis);
+    }
+
+    /**
+     * Creates the pool's configuration.
+     *
+     * @param poolName The pool's name.
+     * @param settings The pool's settings.
+     *
+     * @return A new {@link HikariConfig}.
+     */
+    private static HikariConfig createConfig(String poolName, JdbcPoolSettings settings) {
+        var config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(settings.getUrl());
+        config.setUsername(settings.getUsername());
+        config.setPassword(settings.getPassword());
+        config.setDriverClassName(settings.getDriverClassName());
+        config.setMaximumPoolSize(Math.max(settings.getMaxPoolSize(), 1));
+        config.setMinimumIdle(Math.clamp(settings.getMinIdle(), 0, config.getMaximumPoolSize()));
+        config.setIdleTimeout(TimeUnit.SECONDS.toMillis(settings.getIdleTimeoutSeconds()));
+        // Don't connect to the database before the first connection is requested:
+        config.setInitializationFailTimeout(-1);
+        return config;
+    }
+
+}
@@ -4,15 +4,20 @@ import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.util.IgorException;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * Utility for JDBC datasource handling.
@@ -27,52 +32,93 @@ import java.util.*;
  * <p>
  * Hence, this helper bean with scope "singleton" keeps track of the database connections and transactions for the
  * connector instances.
+ * <p>
+ * Connections are taken from a {@link JdbcConnectionPool} per connector, which is shared by all job executions using the
+ * connector. If the connector's configuration changes, a new pool is created, and the previous one is closed as soon as no job
+ * execution uses it anymore.
+ * <p>
+ * Prepared statements are collected into JDBC batches per connection, which are executed when they are full, when they are
+ * flushed explicitly or when their transaction is committed.
  */
 @Slf4j
 @Component
-public class JdbcDatasourceUtil {
+public class JdbcDatasourceUtil implements DisposableBean {
 
     /**
-     * Keeps track of data sources per job-execution ID.
+     * Key of job-executions without an ID, i.e. of simulated jobs.
+     */
+    private static final Long UNPERSISTED_JOB_EXECUTION_ID = -1L;
+
+    /**
+     * Keeps track of data sources per job-execution ID. Read without holding the lock by the threads of the job executions.
      */
     @Getter
-    private final Map<Long, Map<String, DriverManagerDataSource>> dataSources = new HashMap<>();
+    private final Map<Long, Map<String, DataSource>> dataSources = new ConcurrentHashMap<>();
 
     /**
-     * Keeps track of open connections per job-execution ID and transaction, identified by a UUID.
+     * The current connection pool of each datasource connector, by the connector's ID.
      */
     @Getter
-    private final Map<Long, Map<UUID, Connection>> connections = new HashMap<>();
+    private final Map<String, JdbcConnectionPool> pools = new HashMap<>();
 
     /**
-     * Initializes a datasource for the provided job-execution.
+     * Pools that have been replaced by a pool with a different configuration, and are closed after the last job execution
+     * using them has finished.
+     */
+    private final List<JdbcConnectionPool> retiredPools = new LinkedList<>();
+
+    /**
+     * Keeps track of open connections per job-execution ID and transaction, identified by a UUID. Read and modified without
+     * holding the lock by the threads of the job executions.
+     */
+    @Getter
+    private final Map<Long, Map<UUID, Connection>> connections = new ConcurrentHashMap<>();
+
+    /**
+     * Keeps track of the batches of prepared statements per job-execution ID and datasource connector or transaction.
+     */
+    private final Map<Long, Map<StatementBatchKey, PreparedStatementBatch>> statementBatches = new ConcurrentHashMap<>();
+
+    /**
+     * Guards the creation and removal of data sources, pools and the connections of job executions. Rolling back and closing connections blocks on database
+     * I/O, which would pin virtual threads to their carrier thread inside a {@code synchronized} block.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Initializes a datasource for the provided job-execution. The datasource is the connector's connection pool, which is
+     * created if required.
      * <p>
      * This method gets called every time a {@link com.arassec.igor.plugin.data.connector.JdbcDatasourceConnector}
      * instance is used in the job configuration!
      *
      * @param jobExecution          The current job-execution.
      * @param datasourceConnectorId The ID of the datasource connector to create the datasource for.
-     * @param url                   The JDBC URL to use to connect to the database.
-     * @param username              The database username.
-     * @param password              The user's password.
-     * @param driverClassName       The driver class name to use to connect to the database.
-     */
-    public synchronized void initializeDatasource(JobExecution jobExecution, String datasourceConnectorId, String url, String username, String password, String driverClassName) {
-        dataSources.computeIfAbsent(jobExecution.getId(), jobExecutionId -> {
-            connections.put(jobExecutionId, new HashMap<>());
-            return new HashMap<>();
-        });
-
-        Map<String, DriverManagerDataSource> jobExecutionDataSources = dataSources.get(jobExecution.getId());
+     * @param poolSettings          The connection and pool settings of the datasource connector.
+     */
+    public void initializeDatasource(JobExecution jobExecution, String datasourceConnectorId, JdbcPoolSettings poolSettings) {
+        lock.lock();
+        try {
+            Map<String, DataSource> jobExecutionDataSources = dataSources.computeIfAbsent(executionKey(jobExecution),
+                jobExecutionId -> {
+                    connections.put(jobExecutionId, new ConcurrentHashMap<>());
+                    return new ConcurrentHashMap<>();
+                });
 
-        jobExecutionDataSources.computeIfAbsent(datasourceConnectorId, s -> {
-            DriverManagerDataSource dataSource = new DriverManagerDataSource();
-            dataSource.setUrl(url);
-            dataSource.setUsername(username);
-            dataSource.setPassword(password);
-            dataSource.setDriverClassName(driverClassName);
-            return dataSource;
-        });
+            jobExecutionDataSources.computeIfAbsent(datasourceConnectorId, s -> {
+                JdbcConnectionPool pool = pools.get(datasourceConnectorId);
+                if (pool == null || !pool.getSettings().equals(poolSettings)) {
+                    if (pool != null) {
+                        retiredPools.add(pool);
+                    }
+                    pool = new JdbcConnectionPool("igor-jdbc-" + datasourceConnectorId, poolSettings);
+                    pools.put(datasourceConnectorId, pool);
+                }
+                return pool;
+            });
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -83,19 +129,34 @@ public class JdbcDatasourceUtil {
      *
      * @param jobExecution The current job-execution.
      */
-    public synchronized void rollbackTransactions(JobExecution jobExecution) {
-        if (connections.containsKey(jobExecution.getId())) {
-            connections.get(jobExecution.getId()).forEach((uuid, connection) -> {
-                try {
-                    if (!connection.isClosed()) {
-                        connection.rollback();
-                        connection.close();
+    public void rollbackTransactions(JobExecution jobExecution) {
+        lock.lock();
+        try {
+            Map<StatementBatchKey, PreparedStatementBatch> jobExecutionBatches = getStatementBatches(jobExecution);
+            if (jobExecutionBatches != null) {
+                jobExecutionBatches.entrySet().removeIf(entry -> {
+                    if (entry.getKey().transactionId() != null) {
+                        entry.getValue().close();
+                        return true;
                     }
-                } catch (SQLException e) {
-                    throw new IgorException("Could not rollback or close connection for transaction ID: " + uuid, e);
-                }
-            });
-            connections.remove(jobExecution.getId());
+                    return false;
+                });
+            }
+            Map<UUID, Connection> jobExecutionConnections = connections.remove(executionKey(jobExecution));
+            if (jobExecutionConnections != null) {
+                jobExecutionConnections.forEach((uuid, connection) -> {
+                    try {
+                        if (!connection.isClosed()) {
+                            connection.rollback();
+                            connection.close();
+                        }
+                    } catch (SQLException e) {
+                        throw new IgorException("Could not rollback or close connection for transaction ID: " + uuid, e);
+                    }
+                });
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -106,21 +167,108 @@ public class JdbcDatasourceUtil {
      * instance is used in the job configuration!
      *
      * @param jobExecution The current job-execution.
+     * @throws IgorException If pending prepared statements outside of transactions could not be executed. All connections are
+     *                       closed nevertheless.
      */
-    public synchronized void cleanupDatasource(JobExecution jobExecution) {
-        if (connections.containsKey(jobExecution.getId())) {
-            connections.get(jobExecution.getId()).forEach((uuid, connection) -> {
-                try {
-                    if (!connection.isClosed()) {
-                        connection.close();
+    public void cleanupDatasource(JobExecution jobExecution) {
+        IgorException flushException = null;
+        lock.lock();
+        try {
+            Map<StatementBatchKey, PreparedStatementBatch> jobExecutionBatches = getStatementBatches(jobExecution);
+            if (jobExecutionBatches != null) {
+                statementBatches.remove(executionKey(jobExecution));
+                for (Map.Entry<StatementBatchKey, PreparedStatementBatch> entry : jobExecutionBatches.entrySet()) {
+                    try {
+                        if (entry.getKey().transactionId() == null) {
+                            // Statements outside of transactions would have been executed immediately without batching:
+                            entry.getValue().flush();
+                        }
+                    } catch (IgorException e) {
+                        if (flushException == null) {
+                            flushException = new IgorException("Could not execute pending statements of datasource connector '"
+                                + entry.getKey().datasourceConnectorId() + "'!", e);
+                        } else {
+                            flushException.addSuppressed(e);
+                        }
+                    } finally {
+                        entry.getValue().close();
                     }
-                } catch (SQLException e) {
-                    throw new IgorException("Could not close connection for transaction ID: " + uuid, e);
                 }
-            });
-            connections.remove(jobExecution.getId());
+            }
+            Map<UUID, Connection> jobExecutionConnections = connections.remove(executionKey(jobExecution));
+            if (jobExecutionConnections != null) {
+                jobExecutionConnections.forEach((uuid, connection) -> {
+                    try {
+                        if (!connection.isClosed()) {
+                            connection.close();
+                        }
+                    } catch (SQLException e) {
+                        throw new IgorException("Could not close connection for transaction ID: " + uuid, e);
+                    }
+                });
+            }
+            Map<String, DataSource> jobExecutionDataSources = dataSources.remove(executionKey(jobExecution));
+            if (jobExecutionDataSources != null && log.isDebugEnabled()) {
+                jobExecutionDataSources.forEach((datasourceConnectorId, dataSource) -> {
+                    if (dataSource instanceof JdbcConnectionPool pool) {
+                        log.debug("Connection pool of datasource connector '{}': {}", datasourceConnectorId, pool.getMetrics());
+                    }
+                });
+            }
+            closeUnusedRetiredPools();
+        } finally {
+            lock.unlock();
+        }
+        if (flushException != null) {
+            throw flushException;
+        }
+    }
+
+    /**
+     * Returns the metrics of the connection pool of a datasource connector.
+     *
+     * @param datasourceConnectorId The ID of the datasource connector.
+     *
+     * @return The pool's metrics, or {@code null}, if the connector has no connection pool.
+     */
+    public JdbcPoolMetrics getPoolMetrics(String datasourceConnectorId) {
+        lock.lock();
+        try {
+            JdbcConnectionPool pool = pools.get(datasourceConnectorId);
+            return (pool != null) ? pool.getMetrics() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes all connection pools.
+     */
+    @Override
+    public void destroy() {
+        lock.lock();
+        try {
+            pools.values().forEach(JdbcConnectionPool::close);
+            pools.clear();
+            retiredPools.forEach(JdbcConnectionPool::close);
+            retiredPools.clear();
+        } finally {
+            lock.unlock();
         }
-        dataSources.remove(jobExecution.getId());
+    }
+
+    /**
+     * Closes retired connection pools that aren't used by any job execution anymore. Must be called while holding the lock.
+     */
+    private void closeUnusedRetiredPools() {
+        retiredPools.removeIf(pool -> {
+            boolean inUse = dataSources.values().stream()
+                .anyMatch(jobExecutionDataSources -> jobExecutionDataSources.containsValue(pool));
+            if (!inUse) {
+                pool.close();
+            }
+            return !inUse;
+        });
     }
 
     /**
@@ -135,17 +283,31 @@ public class JdbcDatasourceUtil {
         if (jobExecution == null || datasourceConnectorId == null || transactionId == null) {
             throw new IllegalArgumentException("JobExecution, datasourceConnectorId and transactionId must be set!");
         }
-        Long jobExecutionId = jobExecution.getId();
-        if (dataSources.containsKey(jobExecutionId) && dataSources.get(jobExecutionId).containsKey(datasourceConnectorId)) {
-            connections.get(jobExecutionId).computeIfAbsent(transactionId, uuid -> {
-                try {
-                    Connection connection = dataSources.get(jobExecutionId).get(datasourceConnectorId).getConnection();
-                    connection.setAutoCommit(false);
-                    return connection;
-                } catch (SQLException e) {
-                    throw new IgorException("Could not connect to database!", e);
-                }
-            });
+        DataSource dataSource = getDataSource(jobExecution, datasourceConnectorId);
+        Map<UUID, Connection> jobExecutionConnections = connections.get(executionKey(jobExecution));
+        if (dataSource == null || jobExecutionConnections == null || jobExecutionConnections.containsKey(transactionId)) {
+            return;
+        }
+        // The connection is obtained outside the map's compute methods, since waiting for a pooled connection blocks:
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IgorException("Could not connect to database!", e);
+        }
+        try {
+            connection.setAutoCommit(false);
+            if (jobExecutionConnections.putIfAbsent(transactionId, connection) != null) {
+                // The transaction has been started by another thread in the meantime:
+                connection.close();
+            }
+        } catch (SQLException e) {
+            try {
+                connection.close();
+            } catch (SQLException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw new IgorException("Could not connect to database!", e);
         }
     }
 
@@ -160,14 +322,29 @@ public class JdbcDatasourceUtil {
         if (jobExecution == null || transactionId == null) {
             throw new IllegalArgumentException("JobExecution and transactionId must be set!");
         }
-        if (connections.containsKey(jobExecution.getId()) && connections.get(jobExecution.getId()).containsKey(transactionId)) {
-            Connection connection = connections.get(jobExecution.getId()).get(transactionId);
+        Map<StatementBatchKey, PreparedStatementBatch> jobExecutionBatches = getStatementBatches(jobExecution);
+        if (jobExecutionBatches != null) {
+            jobExecutionBatches.entrySet().removeIf(entry -> {
+                if (transactionId.equals(entry.getKey().transactionId())) {
+                    try {
+                        entry.getValue().flush();
+                    } finally {
+                        entry.getValue().close();
+                    }
+                    return true;
+                }
+                return false;
+            });
+        }
+        Map<UUID, Connection> jobExecutionConnections = connections.get(executionKey(jobExecution));
+        Connection connection = (jobExecutionConnections != null) ? jobExecutionConnections.get(transactionId) : null;
+        if (connection != null) {
             try {
                 if (!connection.isClosed()) {
                     connection.commit();
                     connection.close();
                 }
-                connections.get(jobExecution.getId()).remove(transactionId);
+                jobExecutionConnections.remove(transactionId);
             } catch (SQLException e) {
                 throw new IgorException("Could not commit or close connection for transaction ID: " + transactionId, e);
             }
@@ -185,29 +362,37 @@ public class JdbcDatasourceUtil {
      * @return List of result sets. Each result set contains the column labels/names as key.
      */
     public List<Map<String, Object>> query(JobExecution jobExecution, String datasourceConnectorId, @Nullable UUID transactionId, String sql) {
+        return queryBatch(jobExecution, datasourceConnectorId, transactionId, List.of(sql)).getFirst();
+    }
+
+    /**
+     * Queries a datasource with all provided SQL statements, using a single connection.
+     *
+     * @param jobExecution          The current-job execution.
+     * @param datasourceConnectorId The ID of the datasource connector to create the datasource for.
+     * @param transactionId         An optional transaction ID if a previously created transaction should be used for the queries.
+     *                              If {@code null}, the statements will be directly executed in a new transaction.
+     * @param sqls                  The SQL queries to execute.
+     * @return List of result sets for each query, in the order of the supplied queries.
+     */
+    public List<List<Map<String, Object>>> queryBatch(JobExecution jobExecution, String datasourceConnectorId,
+                                                      @Nullable UUID transactionId, List<String> sqls) {
         Connection connection = obtainConnection(jobExecution, datasourceConnectorId, transactionId);
 
-        List<Map<String, Object>> result = new LinkedList<>();
-
-        try (ResultSet resultSet = connection.createStatement().executeQuery(sql)) {
-            while (resultSet.next()) {
-                int columnCount = resultSet.getMetaData().getColumnCount();
-                if (columnCount > 0) {
-                    Map<String, Object> resultEntry = new HashMap<>();
-                    for (int i = 1; i <= columnCount; i++) {
-                        String columnName = resultSet.getMetaData().getColumnLabel(i);
-                        Object columnValue = resultSet.getObject(i);
-                        resultEntry.put(columnName, columnValue);
-                    }
-                    result.add(resultEntry);
+        List<List<Map<String, Object>>> result = new ArrayList<>(sqls.size());
+
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                try (ResultSet resultSet = statement.executeQuery(sql)) {
+                    result.add(readResultSet(resultSet));
                 }
             }
         } catch (SQLException e) {
             throw new IgorException("Could not execute query!", e);
+        } finally {
+            closeConnectionIfRequired(jobExecution, transactionId, connection);
         }
 
-        closeConnectionIfRequired(jobExecution, transactionId, connection);
-
         return result;
     }
 
@@ -227,9 +412,207 @@ public class JdbcDatasourceUtil {
             statement.execute(sql);
         } catch (SQLException e) {
             throw new IgorException("Could not execute statement!", e);
+        } finally {
+            closeConnectionIfRequired(jobExecution, transactionId, connection);
+        }
+    }
+
+    /**
+     * Executes all provided SQL statements against the datasource as a single JDBC batch.
+     *
+     * @param jobExecution          The current job-execution.
+     * @param datasourceConnectorId The ID of the datasource connector to create the datasource for.
+     * @param transactionId         An optional transaction ID, if the statements should be executed within a previously created
+     *                              transaction. If {@code null}, the statements will be committed without an explicit transaction.
+     * @param sqls                  The SQL statements to execute.
+     */
+    public void executeBatch(JobExecution jobExecution, String datasourceConnectorId, @Nullable UUID transactionId, List<String> sqls) {
+        if (sqls.size() == 1) {
+            execute(jobExecution, datasourceConnectorId, transactionId, sqls.getFirst());
+            return;
+        }
+
+        Connection connection = obtainConnection(jobExecution, datasourceConnectorId, transactionId);
+
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.addBatch(sql);
+            }
+            statement.executeBatch();
+        } catch (SQLException e) {
+            throw new IgorException("Could not execute statements!", e);
+        } finally {
+            closeConnectionIfRequired(jobExecution, transactionId, connection);
+        }
+    }
+
+    /**
+     * Adds the provided parameter sets of a prepared statement to the JDBC batch of the datasource connector or transaction. The
+     * batch is executed whenever it reaches the supplied batch size, when it is flushed with
+     * {@link #flushStatements(JobExecution, String)}, or when the transaction is committed.
+     * <p>
+     * The statement is prepared only once per connection. Statements outside a transaction share a single connection per job
+     * execution and datasource connector, which is used in auto-commit mode.
+     *
+     * @param jobExecution          The current job-execution.
+     * @param datasourceConnectorId The ID of the datasource connector.
+     * @param transactionId         An optional transaction ID, if the statement should be executed within a previously created
+     *                              transaction.
+     * @param sql                   The SQL statement with '?' as parameter placeholders.
+     * @param parameterSets         The parameter sets to execute the statement with, in the order of the placeholders.
+     * @param batchSize             The maximum number of parameter sets executed as one batch.
+     */
+    public void executePrepared(JobExecution jobExecution, String datasourceConnectorId, @Nullable UUID transactionId,
+                                String sql, List<List<Object>> parameterSets, int batchSize) {
+        if (parameterSets.isEmpty()) {
+            return;
+        }
+        boolean transactional = existingTransaction(jobExecution, transactionId);
+        var key = new StatementBatchKey(datasourceConnectorId, transactional ? transactionId : null);
+        Map<StatementBatchKey, PreparedStatementBatch> jobExecutionBatches =
+            statementBatches.computeIfAbsent(executionKey(jobExecution), id -> new ConcurrentHashMap<>());
+        PreparedStatementBatch batch = jobExecutionBatches.get(key);
+        if (batch == null) {
+            // The connection is obtained outside the map's compute methods, since waiting for a pooled connection blocks:
+            var createdBatch = new PreparedStatementBatch(
+                obtainConnection(jobExecution, datasourceConnectorId, key.transactionId()), !transactional);
+            batch = jobExecutionBatches.putIfAbsent(key, createdBatch);
+            if (batch == null) {
+                batch = createdBatch;
+            } else {
+                // Another thread created the batch in the meantime. Closing releases an obtained non-transactional connection:
+                createdBatch.close();
+            }
+        }
+        batch.add(sql, parameterSets, Math.max(batchSize, 1));
+    }
+
+    /**
+     * Executes the pending prepared statements of the datasource connector, and releases the connection used for statements
+     * outside of transactions.
+     *
+     * @param jobExecution          The current job-execution.
+     * @param datasourceConnectorId The ID of the datasource connector.
+     */
+    public void flushStatements(JobExecution jobExecution, String datasourceConnectorId) {
+        Map<StatementBatchKey, PreparedStatementBatch> jobExecutionBatches = getStatementBatches(jobExecution);
+        if (jobExecutionBatches != null) {
+            jobExecutionBatches.entrySet().removeIf(entry -> {
+                if (!datasourceConnectorId.equals(entry.getKey().datasourceConnectorId())) {
+                    return false;
+                }
+                if (entry.getKey().transactionId() != null) {
+                    entry.getValue().flush();
+                    return false;
+                }
+                try {
+                    entry.getValue().flush();
+                } finally {
+                    entry.getValue().close();
+                }
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Queries a datasource with the provided SQL statement and hands the resulting rows over in chunks, while the result set is
+     * read. Rows are fetched from the database in chunks of the supplied fetch size, so that the complete result doesn't have to
+     * fit into memory.
+     *
+     * @param jobExecution          The current-job execution.
+     * @param datasourceConnectorId The ID of the datasource connector to create the datasource for.
+     * @param transactionId         An optional transaction ID if a previously created transaction should be used for the query.
+     *                              If {@code null}, the statement will be directly executed in a new transaction.
+     * @param sql                   The SQL query to execute.
+     * @param fetchSize             The number of rows fetched from the database at once, and handed over together.
+     * @param rowsConsumer          Consumes chunks of rows. Each row contains the column labels/names as key.
+     */
+    public void queryStreaming(JobExecution jobExecution, String datasourceConnectorId, @Nullable UUID transactionId,
+                               String sql, int fetchSize, Consumer<List<Map<String, Object>>> rowsConsumer) {
+        Connection connection = obtainConnection(jobExecution, datasourceConnectorId, transactionId);
+        boolean transactional = existingTransaction(jobExecution, transactionId);
+        int chunkSize = Math.max(fetchSize, 1);
+
+        try {
+            if (!transactional) {
+                // Most drivers only fetch results in chunks with a database cursor, if auto-commit is disabled:
+                connection.setAutoCommit(false);
+            }
+            try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(chunkSize);
+                try (ResultSet resultSet = statement.executeQuery(sql)) {
+                    String[] columnLabels = readColumnLabels(resultSet);
+                    List<Map<String, Object>> rows = new ArrayList<>(chunkSize);
+                    while (resultSet.next()) {
+                        rows.add(readRow(resultSet, columnLabels));
+                        if (rows.size() == chunkSize) {
+                            rowsConsumer.accept(rows);
+                            rows = new ArrayList<>(chunkSize);
+                        }
+                    }
+                    if (!rows.isEmpty()) {
+                        rowsConsumer.accept(rows);
+                    }
+                }
+            }
+            if (!transactional) {
+                connection.commit();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IgorException("Could not execute query!", e);
+        } finally {
+            closeConnectionIfRequired(jobExecution, transactionId, connection);
+        }
+    }
+
+    /**
+     * Reads all rows of the supplied result set.
+     *
+     * @param resultSet The result set to read.
+     * @return List of rows. Each row contains the column labels/names as key.
+     * @throws SQLException In case of errors while reading the result set.
+     */
+    private List<Map<String, Object>> readResultSet(ResultSet resultSet) throws SQLException {
+        String[] columnLabels = readColumnLabels(resultSet);
+        List<Map<String, Object>> result = new ArrayList<>();
+        while (resultSet.next()) {
+            result.add(readRow(resultSet, columnLabels));
         }
+        return result;
+    }
 
-        closeConnectionIfRequired(jobExecution, transactionId, connection);
+    /**
+     * Reads the column labels/names of the supplied result set once, instead of querying the metadata for every row.
+     *
+     * @param resultSet The result set.
+     * @return The column labels/names, in the order of the columns.
+     * @throws SQLException In case of errors while reading the result set's metadata.
+     */
+    private String[] readColumnLabels(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        String[] columnLabels = new String[metaData.getColumnCount()];
+        for (var i = 0; i < columnLabels.length; i++) {
+            columnLabels[i] = metaData.getColumnLabel(i + 1);
+        }
+        return columnLabels;
+    }
+
+    /**
+     * Reads the current row of the supplied result set.
+     *
+     * @param resultSet    The result set.
+     * @param columnLabels The column labels/names of the result set.
+     * @return The row with the column labels/names as key.
+     * @throws SQLException In case of errors while reading the result set.
+     */
+    private Map<String, Object> readRow(ResultSet resultSet, String[] columnLabels) throws SQLException {
+        Map<String, Object> row = HashMap.newHashMap(columnLabels.length);
+        for (var i = 0; i < columnLabels.length; i++) {
+            row.put(columnLabels[i], resultSet.getObject(i + 1));
+        }
+        return row;
     }
 
     /**
@@ -242,20 +625,34 @@ public class JdbcDatasourceUtil {
      * @return A {@link Connection}.
      */
     private Connection obtainConnection(JobExecution jobExecution, String datasourceConnectorId, @Nullable UUID transactionId) {
-        Connection connection;
-        if (existingTransaction(jobExecution, transactionId)) {
+        Map<UUID, Connection> jobExecutionConnections = connections.get(executionKey(jobExecution));
+        Connection connection = (transactionId != null && jobExecutionConnections != null)
+            ? jobExecutionConnections.get(transactionId) : null;
+        if (connection != null) {
             // Use the connection from an open transaction:
-            connection = connections.get(jobExecution.getId()).get(transactionId);
-        } else if (dataSources.containsKey(jobExecution.getId()) && dataSources.get(jobExecution.getId()).containsKey(datasourceConnectorId)) {
-            try {
-                connection = dataSources.get(jobExecution.getId()).get(datasourceConnectorId).getConnection();
-            } catch (SQLException e) {
-                throw new IgorException("Could not get connection from datasource!", e);
-            }
-        } else {
+            return connection;
+        }
+        DataSource dataSource = getDataSource(jobExecution, datasourceConnectorId);
+        if (dataSource == null) {
             throw new IgorException("No connection configured!");
         }
-        return connection;
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IgorException("Could not get connection from datasource!", e);
+        }
+    }
+
+    /**
+     * Returns the datasource of the provided datasource connector for the job-execution.
+     *
+     * @param jobExecution          The current job-execution.
+     * @param datasourceConnectorId The ID of the datasource connector.
+     * @return The datasource, or {@code null}, if none has been initialized.
+     */
+    private DataSource getDataSource(JobExecution jobExecution, String datasourceConnectorId) {
+        Map<String, DataSource> jobExecutionDataSources = dataSources.get(executionKey(jobExecution));
+        return (jobExecutionDataSources != null) ? jobExecutionDataSources.get(datasourceConnectorId) : null;
     }
 
     /**
@@ -266,7 +663,32 @@ public class JdbcDatasourceUtil {
      * @return {@code true} if a transaction for the given job-execution and transaction ID exists, {@code false} otherwise.
      */
     private boolean existingTransaction(JobExecution jobExecution, @Nullable UUID transactionId) {
-        return (transactionId != null && connections.containsKey(jobExecution.getId()) && connections.get(jobExecution.getId()).containsKey(transactionId));
+        if (transactionId == null) {
+            return false;
+        }
+        Map<UUID, Connection> jobExecutionConnections = connections.get(executionKey(jobExecution));
+        return jobExecutionConnections != null && jobExecutionConnections.containsKey(transactionId);
+    }
+
+    /**
+     * Returns the batches of prepared statements of the provided job-execution.
+     *
+     * @param jobExecution The current job-execution.
+     * @return The job-execution's batches, or {@code null}, if it has none.
+     */
+    private Map<StatementBatchKey, PreparedStatementBatch> getStatementBatches(JobExecution jobExecution) {
+        return statementBatches.get(executionKey(jobExecution));
+    }
+
+    /**
+     * Returns the key of the provided job-execution in the maps of this class. Job-executions of simulated jobs don't have an
+     * ID, which can't be used as key of concurrent maps.
+     *
+     * @param jobExecution The current job-execution.
+     * @return The job-execution's ID, or {@link #UNPERSISTED_JOB_EXECUTION_ID}, if it has none.
+     */
+    private static Long executionKey(JobExecution jobExecution) {
+        return Objects.requireNonNullElse(jobExecution.getId(), UNPERSISTED_JOB_EXECUTION_ID);
     }
 
     /**
@@ -285,4 +707,15 @@ public class JdbcDatasourceUtil {
             }
         }
     }
+
+    /**
+     * Identifies a batch of prepared statements of a job execution.
+     *
+     * @param datasourceConnectorId The ID of the datasource connector.
+     * @param transactionId         The ID of the transaction the statements are executed in, or {@code null} if they are
+     *                              executed outside of transactions.
+     */
+    private record StatementBatchKey(String datasourceConnectorId, @Nullable UUID transactionId) {
+    }
+
 }
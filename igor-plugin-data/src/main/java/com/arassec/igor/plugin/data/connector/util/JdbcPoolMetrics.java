@@ -0,0 +1,15 @@
+package com.arassec.igor.plugin.data.connector.util;
+
+/**
+ * Metrics of a JDBC connection pool.
+ *
+ * @param activeConnections         The number of connections currently in use.
+ * @param idleConnections           The number of open connections currently not in use.
+ * @param threadsAwaitingConnection The number of threads currently waiting for a connection.
+ * @param connectionsObtained       The number of connections obtained from the pool so far.
+ * @param averageWaitMillis         The average time in milliseconds spent waiting for a connection.
+ * @param maxWaitMillis             The maximum time in milliseconds spent waiting for a connection.
+ */
+public record JdbcPoolMetrics(int activeConnections, int idleConnections, int threadsAwaitingConnection,
+                              long connectionsObtained, double averageWaitMillis, double maxWaitMillis) {
+}
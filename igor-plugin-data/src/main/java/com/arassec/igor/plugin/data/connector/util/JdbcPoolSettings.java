@@ -0,0 +1,54 @@
+package com.arassec.igor.plugin.data.connector.util;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * Settings of a JDBC connection pool. Job executions using a connector with equal settings share the same pool.
+ */
+@Data
+@Builder
+public class JdbcPoolSettings {
+
+    /**
+     * The JDBC URL to use to connect to the database.
+     */
+    private String url;
+
+    /**
+     * The database username.
+     */
+    private String username;
+
+    /**
+     * The user's password.
+     */
+    @ToString.Exclude
+    private String password;
+
+    /**
+     * The driver class name to use to connect to the database.
+     */
+    private String driverClassName;
+
+    /**
+     * The minimum number of idle connections kept open by the pool.
+     */
+    @Builder.Default
+    private int minIdle = 0;
+
+    /**
+     * The maximum number of connections, in use or idle, of the pool.
+     */
+    @Builder.Default
+    private int maxPoolSize = 10;
+
+    /**
+     * The number of seconds a connection may be idle before it is closed. Only applies to connections exceeding the minimum
+     * number of idle connections.
+     */
+    @Builder.Default
+    private int idleTimeoutSeconds = 600;
+
+}
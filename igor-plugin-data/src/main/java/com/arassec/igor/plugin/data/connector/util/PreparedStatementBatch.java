@@ -0,0 +1,178 @@
+package com.arassec.igor.plugin.data.connector.util;
+
+import com.arassec.igor.core.util.IgorException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects parameter sets of prepared statements into JDBC batches, which are executed on a single connection. Every SQL
+ * statement is only prepared once per connection, and the prepared statement is reused for all following parameter sets.
+ * <p>
+ * Statements are sent to the database in the order their parameters have been added: adding parameters for another SQL
+ * statement executes the pending batch first.
+ */
+@Slf4j
+class PreparedStatementBatch {
+
+    /**
+     * The connection the statements are executed on.
+     */
+    private final Connection connection;
+
+    /**
+     * {@code true}, if the connection has been obtained for this batch only, and must be closed together with it.
+     * {@code false}, if the connection belongs to a transaction.
+     */
+    private final boolean ownsConnection;
+
+    /**
+     * The prepared statements of the connection, by their SQL.
+     */
+    private final Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+
+    /**
+     * Guards the connection and statements, which are shared by all threads of the job execution.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The SQL of the statement with pending parameter sets.
+     */
+    private String pendingSql;
+
+    /**
+     * The number of parameter sets added to the batch of the pending statement.
+     */
+    private int pendingCount;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param connection     The connection to execute the statements on.
+     * @param ownsConnection {@code true}, if the connection should be closed together with this batch.
+     */
+    PreparedStatementBatch(Connection connection, boolean ownsConnection) {
+        this.connection = connection;
+        this.ownsConnection = ownsConnection;
+    }
+
+    /**
+     * Adds the supplied parameter sets to the batch of the given SQL statement. The batch is executed, whenever it reaches the
+     * supplied batch size.
+     *
+     * @param sql           The SQL statement with '?' as parameter placeholders.
+     * @param parameterSets The parameter sets to execute the statement with, in the order of the placeholders.
+     * @param batchSize     The maximum number of parameter sets executed as one batch.
+     */
+    void add(String sql, List<List<Object>> parameterSets, int batchSize) {
+        lock.lock();
+        try {
+            if (pendingSql != null && !pendingSql.equals(sql)) {
+                executePending();
+            }
+            PreparedStatement preparedStatement = prepare(sql);
+            for (List<Object> parameters : parameterSets) {
+                for (var i = 0; i < parameters.size(); i++) {
+                    Object parameter = parameters.get(i);
+                    if (parameter == null) {
+                        preparedStatement.setNull(i + 1, Types.NULL);
+                    } else {
+                        preparedStatement.setObject(i + 1, parameter);
+                    }
+                }
+                preparedStatement.addBatch();
+                pendingSql = sql;
+                pendingCount++;
+                if (pendingCount >= batchSize) {
+                    executePending();
+                }
+            }
+        } catch (SQLException e) {
+            throw new IgorException("Could not execute statements!", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Executes the pending batch, if any.
+     */
+    void flush() {
+        lock.lock();
+        try {
+            executePending();
+        } catch (SQLException e) {
+            throw new IgorException("Could not execute statements!", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the prepared statements without executing pending batches, and the connection, if it has been obtained for this
+     * batch only.
+     */
+    void close() {
+        lock.lock();
+        try {
+            preparedStatements.values().forEach(preparedStatement -> {
+                try {
+                    preparedStatement.close();
+                } catch (SQLException e) {
+                    log.warn("Could not close prepared statement!", e);
+                }
+            });
+            preparedStatements.clear();
+            pendingSql = null;
+            pendingCount = 0;
+            if (ownsConnection) {
+                connection.close();
+            }
+        } catch (SQLException e) {
+            throw new IgorException("Could not close open connection!", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the cached prepared statement for the given SQL, or prepares it.
+     *
+     * @param sql The SQL statement.
+     *
+     * @return The prepared statement.
+     *
+     * @throws SQLException If the statement could not be prepared.
+     */
+    private PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement preparedStatement = preparedStatements.get(sql);
+        if (preparedStatement == null) {
+            preparedStatement = connection.prepareStatement(sql);
+            preparedStatements.put(sql, preparedStatement);
+        }
+        return preparedStatement;
+    }
+
+    /**
+     * Executes the pending batch, if any. Must be called while holding the lock.
+     *
+     * @throws SQLException If the batch could not be executed.
+     */
+    private void executePending() throws SQLException {
+        if (pendingCount > 0) {
+            PreparedStatement preparedStatement = preparedStatements.get(pendingSql);
+            pendingSql = null;
+            pendingCount = 0;
+            preparedStatement.executeBatch();
+        }
+    }
+
+}
@@ -6,10 +6,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 /**
@@ -76,4 +79,54 @@ class ExecuteStatementActionTest {
         verify(connectorMock, times(1)).execute(any(JobExecution.class), eq(transactionId), eq("sql-statement"));
     }
 
+    /**
+     * Tests executing the statements of multiple data items as batch.
+     */
+    @Test
+    @DisplayName("Tests executing the statements of multiple data items as batch.")
+    void testProcessBatch() {
+        UUID transactionId = UUID.randomUUID();
+
+        Map<String, Object> otherData = new HashMap<>(data);
+        otherData.put("sqlStatement", "other-sql-statement");
+
+        Map<String, Object> transactionData = new HashMap<>(data);
+        transactionData.put("transaction-id", transactionId);
+
+        List<Map<String, Object>> result = action.processBatch(List.of(data, otherData, transactionData),
+            JobExecution.builder().build());
+
+        assertEquals(3, result.size());
+        verify(connectorMock, times(1)).executeBatch(any(JobExecution.class), isNull(),
+            eq(List.of("sql-statement", "other-sql-statement")));
+        verify(connectorMock, times(1)).executeBatch(any(JobExecution.class), eq(transactionId),
+            eq(List.of("sql-statement")));
+    }
+
+    /**
+     * Tests executing prepared statements with parameters from the data items.
+     */
+    @Test
+    @DisplayName("Tests executing prepared statements with parameters from the data items.")
+    void testProcessWithPreparedStatement() {
+        JobExecution jobExecution = JobExecution.builder().build();
+
+        action.setSqlStatement("INSERT INTO t VALUES ({{data.id}}, {{{ data.name }}}, {{data.missing}})");
+        action.setUsePreparedStatement(true);
+        action.setBatchSize(10);
+        action.initialize(jobExecution);
+
+        data.put("data", Map.of("id", 1, "name", "igor"));
+
+        List<Map<String, Object>> result = action.process(data, jobExecution);
+
+        assertEquals(1, result.size());
+        verify(connectorMock, times(1)).executePrepared(eq(jobExecution), isNull(), eq("INSERT INTO t VALUES (?, ?, ?)"),
+            eq(List.of(Arrays.asList(1, "igor", null))), eq(10));
+
+        action.complete();
+
+        verify(connectorMock, times(1)).flushStatements(jobExecution);
+    }
+
 }
@@ -6,15 +6,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * Tests the {@link QueryDataAction}.
@@ -104,4 +105,60 @@ class QueryDataActionTest {
         assertEquals("value", queryResult.getFirst().get("column"));
     }
 
+    /**
+     * Tests querying data for multiple data items as batch.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Tests querying data for multiple data items as batch.")
+    void testProcessBatch() {
+        Map<String, Object> otherData = new HashMap<>(data);
+        otherData.put("sqlStatement", "other-sql-statement");
+
+        when(connectorMock.queryBatch(any(JobExecution.class), isNull(), eq(List.of("sql-statement", "other-sql-statement"))))
+            .thenReturn(List.of(
+                List.of(Map.of("column", "value-one")),
+                List.of(Map.of("column", "value-two"))
+            ));
+
+        List<Map<String, Object>> result = action.processBatch(List.of(data, otherData), JobExecution.builder().build());
+        assertEquals(2, result.size());
+
+        assertEquals("value-one", ((List<Map<String, Object>>) result.getFirst().get("query-result")).getFirst().get("column"));
+        assertEquals("value-two", ((List<Map<String, Object>>) result.get(1).get("query-result")).getFirst().get("column"));
+    }
+
+    /**
+     * Tests splitting query results into a data item per row.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Tests splitting query results into a data item per row.")
+    void testProcessSplitRows() {
+        action.setSplitRows(true);
+        action.setFetchSize(2);
+
+        doAnswer(invocationOnMock -> {
+            Consumer<List<Map<String, Object>>> rowsConsumer = invocationOnMock.getArgument(4);
+            rowsConsumer.accept(List.of(Map.of("column", "value-one"), Map.of("column", "value-two")));
+            rowsConsumer.accept(List.of(Map.of("column", "value-three")));
+            return null;
+        }).when(connectorMock).queryStreaming(any(JobExecution.class), isNull(), eq("sql-statement"), eq(2), any(Consumer.class));
+
+        List<List<Map<String, Object>>> chunks = new ArrayList<>();
+        action.processBatch(List.of(data), JobExecution.builder().build(), chunks::add);
+
+        assertEquals(2, chunks.size());
+        assertEquals(2, chunks.getFirst().size());
+        assertEquals(Map.of("column", "value-one"), chunks.getFirst().getFirst().get("query-result"));
+        assertEquals(Map.of("column", "value-two"), chunks.getFirst().get(1).get("query-result"));
+        assertEquals(Map.of("column", "value-three"), chunks.get(1).getFirst().get("query-result"));
+        assertEquals("sql-statement", chunks.get(1).getFirst().get("sqlStatement"));
+
+        // Without a consumer, e.g. during simulation, all rows are returned at once:
+        List<Map<String, Object>> result = action.process(data, JobExecution.builder().build());
+        assertEquals(3, result.size());
+        assertEquals(3, action.processBatch(List.of(data), JobExecution.builder().build()).size());
+    }
+
 }
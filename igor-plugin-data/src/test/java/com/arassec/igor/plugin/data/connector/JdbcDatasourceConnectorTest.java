@@ -5,6 +5,7 @@ import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.execution.JobExecutionState;
 import com.arassec.igor.core.util.IgorException;
 import com.arassec.igor.plugin.data.connector.util.JdbcDatasourceUtil;
+import com.arassec.igor.plugin.data.connector.util.JdbcPoolSettings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -74,10 +75,17 @@ class JdbcDatasourceConnectorTest {
 
         datasourceConnector.initialize(jobExecution);
 
+        datasourceConnector.setMaxConnections(5);
+        datasourceConnector.initialize(jobExecution);
+
         ArgumentCaptor<JobExecution> argCap = ArgumentCaptor.forClass(JobExecution.class);
-        verify(datasourceUtilMock, times(1)).initializeDatasource(argCap.capture(), eq("datasourceConnectorId"),
-            eq("jdbc:h2:mem:testdb"), isNull(), isNull(), eq("org.h2.Driver"));
+        ArgumentCaptor<JdbcPoolSettings> settingsCap = ArgumentCaptor.forClass(JdbcPoolSettings.class);
+        verify(datasourceUtilMock, times(2)).initializeDatasource(argCap.capture(), eq("datasourceConnectorId"),
+            settingsCap.capture());
         assertEquals(jobExecution, argCap.getValue());
+        assertEquals(JdbcPoolSettings.builder().url("jdbc:h2:mem:testdb").driverClassName("org.h2.Driver").build(),
+            settingsCap.getAllValues().getFirst());
+        assertEquals(5, settingsCap.getValue().getMaxPoolSize());
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.arassec.igor.plugin.data.connector.util;
 
 import com.arassec.igor.core.model.job.execution.JobExecution;
+import com.arassec.igor.core.util.IgorException;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,14 +9,23 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,6 +36,12 @@ import static org.mockito.Mockito.*;
 @DisplayName("JDBC-Datasource-Util tests.")
 class JdbcDatasourceUtilTest {
 
+    /**
+     * Pool settings for an embedded H2 database.
+     */
+    private static final JdbcPoolSettings POOL_SETTINGS = JdbcPoolSettings.builder().url("jdbc:h2:mem:testdb")
+        .driverClassName("org.h2.Driver").build();
+
     /**
      * A {@link JobExecution} for testing.
      */
@@ -39,11 +55,162 @@ class JdbcDatasourceUtilTest {
     void testInitializeDatasource() {
         JdbcDatasourceUtil datasourceUtil = new JdbcDatasourceUtil();
 
-        datasourceUtil.initializeDatasource(jobExecution, "datasourceConnectorId", "jdbc:h2:mem:testdb", null, null, "org.h2.Driver");
+        datasourceUtil.initializeDatasource(jobExecution, "datasourceConnectorId", POOL_SETTINGS);
 
         assertNotNull(datasourceUtil.getDataSources().get(1L).get("datasourceConnectorId"));
     }
 
+    /**
+     * Tests that job executions share the connection pool of a connector, and that pools are replaced if the connector's
+     * configuration changes.
+     */
+    @SuppressWarnings("SqlDialectInspection")
+    @Test
+    @DisplayName("Tests sharing connection pools between job executions.")
+    void testSharedConnectionPool() {
+        JdbcDatasourceUtil datasourceUtil = new JdbcDatasourceUtil();
+        JobExecution otherJobExecution = JobExecution.builder().id(2L).build();
+
+        datasourceUtil.initializeDatasource(jobExecution, "datasourceConnectorId", POOL_SETTINGS);
+        datasourceUtil.initializeDatasource(otherJobExecution, "datasourceConnectorId", POOL_SETTINGS);
+
+        JdbcConnectionPool pool = datasourceUtil.getPools().get("datasourceConnectorId");
+        assertSame(pool, datasourceUtil.getDataSources().get(1L).get("datasourceConnectorId"));
+        assertSame(pool, datasourceUtil.getDataSources().get(2L).get("datasourceConnectorId"));
+
+        for (var i = 0; i < 3; i++) {
+            assertEquals(1, datasourceUtil.query(jobExecution, "datasourceConnectorId", null, "SELECT 1 AS one").size());
+        }
+
+        // All connections have been returned to the pool:
+        JdbcPoolMetrics poolMetrics = datasourceUtil.getPoolMetrics("datasourceConnectorId");
+        assertEquals(3, poolMetrics.connectionsObtained());
+        assertEquals(0, poolMetrics.activeConnections());
+        assertEquals(1, poolMetrics.idleConnections());
+
+        // A changed configuration results in a new pool, the old one is closed after the last job execution using it:
+        JobExecution changedJobExecution = JobExecution.builder().id(3L).build();
+        datasourceUtil.initializeDatasource(changedJobExecution, "datasourceConnectorId",
+            JdbcPoolSettings.builder().url("jdbc:h2:mem:testdb").driverClassName("org.h2.Driver").maxPoolSize(2).build());
+        assertNotSame(pool, datasourceUtil.getPools().get("datasourceConnectorId"));
+
+        datasourceUtil.cleanupDatasource(jobExecution);
+        assertFalse(pool.isClosed());
+        datasourceUtil.cleanupDatasource(otherJobExecution);
+        assertTrue(pool.isClosed());
+
+        datasourceUtil.destroy();
+        assertTrue(datasourceUtil.getPools().isEmpty());
+        assertNull(datasourceUtil.getPoolMetrics("datasourceConnectorId"));
+    }
+
+    /**
+     * Tests streaming query results in chunks.
+     */
+    @SuppressWarnings("SqlDialectInspection")
+    @Test
+    @DisplayName("Tests streaming query results in chunks.")
+    void testQueryStreaming() {
+        JdbcDatasourceUtil datasourceUtil = new JdbcDatasourceUtil();
+        datasourceUtil.initializeDatasource(jobExecution, "datasourceConnectorId", JdbcPoolSettings.builder()
+            .url("jdbc:h2:mem:streamingdb;DB_CLOSE_DELAY=-1").driverClassName("org.h2.Driver").build());
+
+        datasourceUtil.execute(jobExecution, "datasourceConnectorId", null, "CREATE TABLE numbers (num INT)");
+        datasourceUtil.execute(jobExecution, "datasourceConnectorId", null, "INSERT INTO numbers VALUES (1), (2), (3), (4), (5)");
+
+        List<List<Map<String, Object>>> chunks = new ArrayList<>();
+        datasourceUtil.queryStreaming(jobExecution, "datasourceConnectorId", null, "SELECT num AS number_value FROM numbers ORDER BY num",
+            2, chunks::add);
+
+        assertEquals(List.of(2, 2, 1), chunks.stream().map(List::size).toList());
+        assertEquals(Map.of("NUMBER_VALUE", 1), chunks.getFirst().getFirst());
+        assertEquals(Map.of("NUMBER_VALUE", 5), chunks.getLast().getFirst());
+
+        // The connection has been returned to the pool:
+        assertEquals(0, datasourceUtil.getPoolMetrics("datasourceConnectorId").activeConnections());
+
+        datasourceUtil.destroy();
+    }
+
+    /**
+     * Tests executing prepared statements in batches, with and without transaction.
+     */
+    @Test
+    @DisplayName("Tests executing prepared statements in batches, with and without transaction.")
+    void testExecutePrepared() {
+        JdbcDatasourceUtil datasourceUtil = new JdbcDatasourceUtil();
+        datasourceUtil.initializeDatasource(jobExecution, "datasourceConnectorId", JdbcPoolSettings.builder()
+            .url("jdbc:h2:mem:prepareddb;DB_CLOSE_DELAY=-1").driverClassName("org.h2.Driver").build());
+
+        datasourceUtil.execute(jobExecution, "datasourceConnectorId", null, "CREATE TABLE names (id INT, name VARCHAR(16))");
+
+        String sql = "INSERT INTO names VALUES (?, ?)";
+        String countSql = "SELECT COUNT(*) AS total FROM names";
+
+        datasourceUtil.executePrepared(jobExecution, "datasourceConnectorId", null, sql,
+            List.of(List.of(1, "a"), List.of(2, "b"), Arrays.asList(3, null)), 2);
+
+        // Only the full batch has been executed:
+        assertEquals(2L, datasourceUtil.query(jobExecution, "datasourceConnectorId", null, countSql).getFirst().get("TOTAL"));
+
+        datasourceUtil.flushStatements(jobExecution, "datasourceConnectorId");
+
+        assertEquals(3L, datasourceUtil.query(jobExecution, "datasourceConnectorId", null, countSql).getFirst().get("TOTAL"));
+        assertEquals(0, datasourceUtil.getPoolMetrics("datasourceConnectorId").activeConnections());
+
+        UUID transactionId = UUID.randomUUID();
+        datasourceUtil.startTransaction(jobExecution, "datasourceConnectorId", transactionId);
+
+        datasourceUtil.executePrepared(jobExecution, "datasourceConnectorId", transactionId, sql, List.of(List.of(4, "d")), 2);
+
+        assertEquals(3L, datasourceUtil.query(jobExecution, "datasourceConnectorId", null, countSql).getFirst().get("TOTAL"));
+
+        datasourceUtil.commitTransaction(jobExecution, transactionId);
+
+        assertEquals(4L, datasourceUtil.query(jobExecution, "datasourceConnectorId", null, countSql).getFirst().get("TOTAL"));
+
+        datasourceUtil.destroy();
+    }
+
+    /**
+     * Tests that concurrent threads obtain connections for prepared statements without blocking each other.
+     */
+    @Test
+    @DisplayName("Tests that concurrent threads obtain connections for prepared statements without blocking each other.")
+    @SneakyThrows
+    void testExecutePreparedConcurrently() {
+        List<Connection> connectionMocks = new CopyOnWriteArrayList<>();
+        var bothWaiting = new CyclicBarrier(2);
+
+        // Both threads must wait for a connection at the same time to continue:
+        DataSource dataSourceMock = mock(DataSource.class);
+        when(dataSourceMock.getConnection()).thenAnswer(invocation -> {
+            bothWaiting.await(5, TimeUnit.SECONDS);
+            Connection connectionMock = mock(Connection.class);
+            when(connectionMock.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+            connectionMocks.add(connectionMock);
+            return connectionMock;
+        });
+
+        JdbcDatasourceUtil datasourceUtil = new JdbcDatasourceUtil();
+        datasourceUtil.getDataSources().put(1L, new ConcurrentHashMap<>(Map.of("datasourceConnectorId", dataSourceMock)));
+
+        Runnable executePrepared = () -> datasourceUtil.executePrepared(jobExecution, "datasourceConnectorId", null,
+            "INSERT INTO names VALUES (?)", List.of(List.of(1)), 10);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(executePrepared);
+        CompletableFuture<Void> second = CompletableFuture.runAsync(executePrepared);
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        // Only one batch is kept, the connection of the other one is released immediately:
+        assertEquals(2, connectionMocks.size());
+        long closedConnections = 0;
+        for (Connection connectionMock : connectionMocks) {
+            closedConnections += mockingDetails(connectionMock).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("close")).count();
+        }
+        assertEquals(1, closedConnections);
+    }
+
     /**
      * Tests rolling back a transaction.
      */
@@ -89,6 +256,29 @@ class JdbcDatasourceUtilTest {
         assertTrue(datasourceUtil.getDataSources().isEmpty());
     }
 
+    /**
+     * Tests that the cleanup of a datasource fails, if pending prepared statements can't be executed.
+     */
+    @Test
+    @DisplayName("Tests that the cleanup of a datasource fails, if pending prepared statements can't be executed.")
+    void testCleanupWithFailingStatements() {
+        JdbcDatasourceUtil datasourceUtil = new JdbcDatasourceUtil();
+        datasourceUtil.initializeDatasource(jobExecution, "datasourceConnectorId", JdbcPoolSettings.builder()
+            .url("jdbc:h2:mem:cleanupdb;DB_CLOSE_DELAY=-1").driverClassName("org.h2.Driver").build());
+
+        datasourceUtil.execute(jobExecution, "datasourceConnectorId", null, "CREATE TABLE ids (id INT PRIMARY KEY)");
+        datasourceUtil.executePrepared(jobExecution, "datasourceConnectorId", null, "INSERT INTO ids VALUES (?)",
+            List.of(List.of(1), List.of(1)), 10);
+
+        assertThrows(IgorException.class, () -> datasourceUtil.cleanupDatasource(jobExecution));
+
+        // The connection has been returned to the pool nevertheless:
+        assertEquals(0, datasourceUtil.getPoolMetrics("datasourceConnectorId").activeConnections());
+        assertTrue(datasourceUtil.getDataSources().isEmpty());
+
+        datasourceUtil.destroy();
+    }
+
     /**
      * Tests starting a transaction without parameters to fail-safe.
      */
@@ -113,7 +303,7 @@ class JdbcDatasourceUtilTest {
     @DisplayName("Tests starting a transaction.")
     void testStartTransaction() {
         JdbcDatasourceUtil datasourceUtil = new JdbcDatasourceUtil();
-        datasourceUtil.initializeDatasource(jobExecution, "datasourceConnectorId", "jdbc:h2:mem:testdb", null, null, "org.h2.Driver");
+        datasourceUtil.initializeDatasource(jobExecution, "datasourceConnectorId", POOL_SETTINGS);
 
         UUID transactionId = UUID.randomUUID();
 
@@ -145,7 +335,7 @@ class JdbcDatasourceUtilTest {
         UUID transactionId = UUID.randomUUID();
 
         JdbcDatasourceUtil datasourceUtil = new JdbcDatasourceUtil();
-        datasourceUtil.initializeDatasource(jobExecution, "datasourceConnectorId", "jdbc:h2:mem:testdb", null, null, "org.h2.Driver");
+        datasourceUtil.initializeDatasource(jobExecution, "datasourceConnectorId", POOL_SETTINGS);
         datasourceUtil.startTransaction(jobExecution, "datasourceConnectorId", transactionId);
 
         assertNotNull(datasourceUtil.getConnections().get(1L).get(transactionId));
@@ -227,4 +417,32 @@ class JdbcDatasourceUtilTest {
         verify(statementMock, times(1)).execute("statement");
     }
 
+    /**
+     * Tests executing multiple statements as JDBC batch.
+     */
+    @SuppressWarnings("SqlDialectInspection")
+    @Test
+    @DisplayName("Tests executing multiple statements as JDBC batch.")
+    @SneakyThrows
+    void testExecuteBatch() {
+        Statement statementMock = mock(Statement.class);
+
+        Connection connectionMock = mock(Connection.class);
+        when(connectionMock.createStatement()).thenReturn(statementMock);
+
+        DriverManagerDataSource datasourceMock = mock(DriverManagerDataSource.class);
+        when(datasourceMock.getConnection()).thenReturn(connectionMock);
+
+        JdbcDatasourceUtil datasourceUtil = new JdbcDatasourceUtil();
+        datasourceUtil.getDataSources().put(1L, new HashMap<>());
+        datasourceUtil.getDataSources().get(1L).put("datasourceConnectorId", datasourceMock);
+
+        datasourceUtil.executeBatch(jobExecution, "datasourceConnectorId", null, List.of("first", "second"));
+
+        verify(statementMock, times(1)).addBatch("first");
+        verify(statementMock, times(1)).addBatch("second");
+        verify(statementMock, times(1)).executeBatch();
+        verify(connectionMock, times(1)).close();
+    }
+
 }
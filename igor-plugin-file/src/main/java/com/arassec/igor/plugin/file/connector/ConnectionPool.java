@@ -0,0 +1,239 @@
+package com.arassec.igor.plugin.file.connector;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Pool of connections of a single connector. Threads borrow a connection exclusively, and return it after use, so that
+ * following operations don't need to connect again.
+ * <p>
+ * The pool doesn't limit the number of borrowed connections. It only keeps as many connections as have been used concurrently,
+ * which is bounded by the job's number of threads. Idle connections are validated before they are handed out, and connections
+ * that have been idle longer than the idle timeout are disconnected. The connector closes the pool, when the job execution is
+ * shut down.
+ * <p>
+ * Subclasses connect, validate and disconnect the connections. These hooks are never called while holding the pool's lock,
+ * since they block on network I/O.
+ *
+ * @param <C> The type of the pooled connections.
+ */
+public abstract class ConnectionPool<C> {
+
+    /**
+     * Supplies the time in milliseconds a connection may be idle before it is disconnected.
+     */
+    private final LongSupplier idleTimeoutMillis;
+
+    /**
+     * The idle connections. The most recently used connection is at the head.
+     */
+    private final Deque<C> idleConnections = new ArrayDeque<>();
+
+    /**
+     * All open connections, idle or borrowed, with the time in milliseconds they have been returned to the pool.
+     */
+    private final Map<C, Long> openConnections = new IdentityHashMap<>();
+
+    /**
+     * The number of connections created by this pool.
+     */
+    private final LongAdder connectionsCreated = new LongAdder();
+
+    /**
+     * Guards the pool's state.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param idleTimeoutMillis Supplies the time in milliseconds a connection may be idle before it is disconnected.
+     */
+    protected ConnectionPool(LongSupplier idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * Borrows a connection from the pool. A new connection is created, if no valid idle connection is available.
+     *
+     * @return A connection, exclusively used by the caller until it is released.
+     */
+    public C borrow() {
+        while (true) {
+            C connection;
+            long lastUsed;
+            List<C> evictedConnections;
+            lock.lock();
+            try {
+                evictedConnections = evictIdleConnections();
+                connection = idleConnections.pollFirst();
+                lastUsed = (connection != null) ? openConnections.get(connection) : 0;
+            } finally {
+                lock.unlock();
+            }
+            disconnectAll(evictedConnections);
+            if (connection == null) {
+                break;
+            }
+            if (validate(connection, System.currentTimeMillis() - lastUsed)) {
+                return connection;
+            }
+            invalidate(connection);
+        }
+
+        // Connect outside the lock, so that other threads can borrow and release connections in the meantime:
+        C connection = connect();
+        connectionsCreated.increment();
+
+        lock.lock();
+        try {
+            openConnections.put(connection, System.currentTimeMillis());
+        } finally {
+            lock.unlock();
+        }
+
+        return connection;
+    }
+
+    /**
+     * Returns a borrowed connection to the pool.
+     *
+     * @param connection The connection to return.
+     * @return {@code true}, if the connection has been returned to the pool, {@code false}, if the connection isn't managed by
+     * this pool, e.g. because the pool has been closed in the meantime.
+     */
+    public boolean release(C connection) {
+        List<C> evictedConnections;
+        lock.lock();
+        try {
+            if (!openConnections.containsKey(connection)) {
+                return false;
+            }
+            openConnections.put(connection, System.currentTimeMillis());
+            idleConnections.addFirst(connection);
+            evictedConnections = evictIdleConnections();
+        } finally {
+            lock.unlock();
+        }
+        disconnectAll(evictedConnections);
+        return true;
+    }
+
+    /**
+     * Removes a borrowed connection from the pool and disconnects it, e.g. after an error left it in an unknown state.
+     *
+     * @param connection The connection to disconnect.
+     */
+    public void invalidate(C connection) {
+        lock.lock();
+        try {
+            openConnections.remove(connection);
+            idleConnections.remove(connection);
+        } finally {
+            lock.unlock();
+        }
+        disconnect(connection);
+    }
+
+    /**
+     * Disconnects all connections, idle and borrowed. The pool can be used afterward and creates new connections on demand.
+     */
+    public void close() {
+        List<C> connections;
+        lock.lock();
+        try {
+            connections = List.copyOf(openConnections.keySet());
+            openConnections.clear();
+            idleConnections.clear();
+        } finally {
+            lock.unlock();
+        }
+        disconnectAll(connections);
+    }
+
+    /**
+     * Returns the number of connections created by this pool.
+     *
+     * @return The number of connections.
+     */
+    public long getConnectionsCreated() {
+        return connectionsCreated.sum();
+    }
+
+    /**
+     * Returns the number of currently open connections, idle or borrowed.
+     *
+     * @return The number of open connections.
+     */
+    public int getOpenConnections() {
+        lock.lock();
+        try {
+            return openConnections.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates a new connection.
+     *
+     * @return The connected connection.
+     */
+    protected abstract C connect();
+
+    /**
+     * Checks whether an idle connection can be reused.
+     *
+     * @param connection The connection to check.
+     * @param idleMillis The time in milliseconds since the connection has been returned to the pool.
+     * @return {@code true}, if the connection can be reused, {@code false}, if it must be disconnected.
+     */
+    protected abstract boolean validate(C connection, long idleMillis);
+
+    /**
+     * Disconnects a connection, ignoring errors.
+     *
+     * @param connection The connection to disconnect.
+     */
+    protected abstract void disconnect(C connection);
+
+    /**
+     * Removes connections from the pool that have been idle longer than the idle timeout. Must be called while holding the lock.
+     *
+     * @return The removed connections, which must be disconnected after the lock has been released.
+     */
+    private List<C> evictIdleConnections() {
+        List<C> evictedConnections = new ArrayList<>();
+        long evictBefore = System.currentTimeMillis() - idleTimeoutMillis.getAsLong();
+        Iterator<C> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext()) {
+            C connection = iterator.next();
+            if (openConnections.get(connection) >= evictBefore) {
+                // Connections are ordered by their last usage, all remaining connections have been used more recently:
+                break;
+            }
+            iterator.remove();
+            openConnections.remove(connection);
+            evictedConnections.add(connection);
+        }
+        return evictedConnections;
+    }
+
+    /**
+     * Disconnects the supplied connections. Must be called without holding the lock.
+     *
+     * @param connections The connections to disconnect.
+     */
+    private void disconnectAll(List<C> connections) {
+        connections.forEach(this::disconnect);
+    }
+
+}
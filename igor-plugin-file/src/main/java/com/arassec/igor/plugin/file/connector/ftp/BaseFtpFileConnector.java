@@ -9,8 +9,10 @@ import com.arassec.igor.plugin.core.file.connector.FileInfo;
 import com.arassec.igor.plugin.core.file.connector.FileStreamData;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.net.ftp.FTP;
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPClientConfig;
@@ -20,16 +22,21 @@ import org.springframework.util.StringUtils;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 /**
  * Base class for FTP based file connectors.
+ * <p>
+ * Logged-in FTP clients are pooled and reused by all operations of the connector, until the job execution is shut down.
  */
+@Slf4j
 @Getter
 @Setter
 public abstract class BaseFtpFileConnector extends BaseFileConnector {
@@ -95,30 +102,39 @@ public abstract class BaseFtpFileConnector extends BaseFileConnector {
     @IgorParam(advanced = true)
     private boolean windowsFtp = false;
 
+    /**
+     * The time <strong>in seconds</strong> a logged-in connection may be idle before it is closed. Connections are reused by
+     * following operations in the meantime.
+     */
+    @Positive
+    @IgorParam(advanced = true)
+    private int connectionIdleTimeout = 60;
+
+    /**
+     * The connector's pool of logged-in FTP clients.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.NONE)
+    private final FtpClientPool clientPool = new FtpClientPool(this::connect,
+        () -> TimeUnit.SECONDS.toMillis(connectionIdleTimeout));
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<FileInfo> listFiles(String directory, String fileEnding) {
         try {
-            var ftpClient = connect();
-
-            List<FileInfo> result;
-
-            FTPFile[] ftpFiles = ftpClient.listFiles(directory,
-                ftpFile -> !StringUtils.hasText(fileEnding) || ftpFile.getName().endsWith(fileEnding));
-            if (ftpFiles != null && ftpFiles.length > 0) {
-                result = Stream.of(ftpFiles).filter(Objects::nonNull).filter(FTPFile::isFile).map(ftpFile -> {
-                    var mTime = Instant.ofEpochMilli(ftpFile.getTimestamp().getTime().getTime());
-                    return new FileInfo(ftpFile.getName(), formatInstant(mTime));
-                }).toList();
-            } else {
-                result = new LinkedList<>();
-            }
-
-            disconnect(ftpClient);
-
-            return result;
+            return withFtpClient(ftpClient -> {
+                FTPFile[] ftpFiles = ftpClient.listFiles(directory,
+                    ftpFile -> !StringUtils.hasText(fileEnding) || ftpFile.getName().endsWith(fileEnding));
+                if (ftpFiles != null && ftpFiles.length > 0) {
+                    return Stream.of(ftpFiles).filter(Objects::nonNull).filter(FTPFile::isFile).map(ftpFile -> {
+                        var mTime = Instant.ofEpochMilli(ftpFile.getTimestamp().getTime().getTime());
+                        return new FileInfo(ftpFile.getName(), formatInstant(mTime));
+                    }).toList();
+                }
+                return new LinkedList<>();
+            });
         } catch (IOException e) {
             throw new IgorException("Could not list files in directory: " + directory, e);
         }
@@ -129,14 +145,11 @@ public abstract class BaseFtpFileConnector extends BaseFileConnector {
      */
     @Override
     public String read(String file) {
-        var ftpClient = connect();
         try (var outputStream = new ByteArrayOutputStream()) {
-            ftpClient.retrieveFile(file, outputStream);
+            withFtpClient(ftpClient -> ftpClient.retrieveFile(file, outputStream));
             return outputStream.toString();
         } catch (IOException e) {
             throw new IgorException("Could not read FTP file!", e);
-        } finally {
-            disconnect(ftpClient);
         }
     }
 
@@ -145,20 +158,28 @@ public abstract class BaseFtpFileConnector extends BaseFileConnector {
      */
     @Override
     public FileStreamData readStream(String file) {
-        try {
-            var ftpClient = connect();
-            var result = new FileStreamData();
-            FTPFile[] list = ftpClient.listFiles(file);
-            if (list.length == 0) {
-                throw new IgorException("Could not retrieve file: " + file);
-            }
-            result.setFileSize(list[0].getSize());
-            result.setData(ftpClient.retrieveFileStream(file));
-            result.setSourceConnectionData(ftpClient);
-            return result;
-        } catch (IOException e) {
-            throw new IgorException("Could not retrieve file: " + file, e);
-        }
+        return retrieveStream(file, 0, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsSegmentedRead() {
+        return true;
+    }
+
+    /**
+     * Reads the file starting at the supplied offset, using the REST command.
+     *
+     * @param file   The name of the file to read.
+     * @param offset The offset of the first byte to read.
+     *
+     * @return The content of the file, starting at the offset, as stream of data.
+     */
+    @Override
+    public FileStreamData readStream(String file, long offset) {
+        return retrieveStream(file, offset, true);
     }
 
     /**
@@ -167,13 +188,44 @@ public abstract class BaseFtpFileConnector extends BaseFileConnector {
     @Override
     public void writeStream(String file, FileStreamData fileStreamData, WorkInProgressMonitor workInProgressMonitor,
                             JobExecution jobExecution) {
-        var ftpClient = connect();
-        try (var outputStream = new BufferedOutputStream(ftpClient.storeFileStream(file))) {
-            copyStream(fileStreamData.getData(), outputStream, fileStreamData.getFileSize(), workInProgressMonitor, jobExecution);
+        var ftpClient = clientPool.borrow();
+
+        OutputStream ftpOutputStream;
+        try {
+            ftpOutputStream = ftpClient.storeFileStream(file);
         } catch (IOException e) {
+            clientPool.invalidate(ftpClient);
             throw new IgorException("Could not store file: " + file, e);
-        } finally {
-            disconnect(ftpClient);
+        }
+        if (ftpOutputStream == null) {
+            // The server rejected the command, the client can still be used:
+            clientPool.release(ftpClient);
+            throw new IgorException("Could not store file: " + file);
+        }
+
+        boolean completed;
+        try {
+            try (var outputStream = new BufferedOutputStream(ftpOutputStream)) {
+                copyStream(fileStreamData.getData(), outputStream, fileStreamData.getFileSize(), workInProgressMonitor,
+                    jobExecution);
+            }
+            // The server's reply to the transfer must be read, before the client can be used again:
+            completed = ftpClient.completePendingCommand();
+        } catch (IOException e) {
+            clientPool.invalidate(ftpClient);
+            throw new IgorException("Could not store file: " + file, e);
+        } catch (RuntimeException e) {
+            clientPool.invalidate(ftpClient);
+            throw e;
+        }
+
+        if (completed) {
+            clientPool.release(ftpClient);
+        } else {
+            clientPool.invalidate(ftpClient);
+            if (jobExecution.isRunningOrActive()) {
+                throw new IgorException("Could not store file: " + file);
+            }
         }
     }
 
@@ -185,15 +237,17 @@ public abstract class BaseFtpFileConnector extends BaseFileConnector {
         if (fileStreamData.getSourceConnectionData() instanceof FTPClient ftpClient) {
             try {
                 if (!ftpClient.completePendingCommand()) {
-                    ftpClient.logout();
-                    ftpClient.disconnect();
+                    clientPool.invalidate(ftpClient);
                     throw new IgorException("FTP stream handling was not finished successful!");
-                } else {
+                } else if (!clientPool.release(ftpClient)) {
                     disconnect(ftpClient);
                 }
             } catch (IOException e) {
+                clientPool.invalidate(ftpClient);
                 throw new IgorException("FTP stream handling was not successful!", e);
             }
+        } else if (fileStreamData.getSourceConnectionData() instanceof FtpSegment ftpSegment) {
+            finalizeSegment(fileStreamData, ftpSegment.ftpClient());
         }
     }
 
@@ -203,11 +257,9 @@ public abstract class BaseFtpFileConnector extends BaseFileConnector {
     @Override
     public void delete(String file) {
         try {
-            var ftpClient = connect();
-            if (!ftpClient.deleteFile(file)) {
+            if (!withFtpClient(ftpClient -> ftpClient.deleteFile(file))) {
                 throw new IgorException("Could not delete remote FTP file " + file);
             }
-            disconnect(ftpClient);
         } catch (IOException e) {
             throw new IgorException("Could not delete FTP file!", e);
         }
@@ -219,9 +271,7 @@ public abstract class BaseFtpFileConnector extends BaseFileConnector {
     @Override
     public void move(String source, String target) {
         try {
-            var ftpClient = connect();
-            ftpClient.rename(source, target);
-            disconnect(ftpClient);
+            withFtpClient(ftpClient -> ftpClient.rename(source, target));
         } catch (IOException e) {
             throw new IgorException("Could not move FTP file " + source + " to " + target, e);
         }
@@ -236,6 +286,17 @@ public abstract class BaseFtpFileConnector extends BaseFileConnector {
         disconnect(ftpClient);
     }
 
+    /**
+     * Logs out and disconnects all pooled FTP clients.
+     *
+     * @param jobExecution Contains the state of the job execution.
+     */
+    @Override
+    public void shutdown(JobExecution jobExecution) {
+        super.shutdown(jobExecution);
+        clientPool.close();
+    }
+
     /**
      * Connects to the FTP(S)-Server. Must be implemented by subclasses.
      *
@@ -287,6 +348,106 @@ public abstract class BaseFtpFileConnector extends BaseFileConnector {
         ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
     }
 
+    /**
+     * Retrieves the file as stream with a pooled FTP client, which is returned to the pool by
+     * {@link #finalizeStream(FileStreamData)}.
+     *
+     * @param file    The name of the file to read.
+     * @param offset  The offset of the first byte to read.
+     * @param segment {@code true}, if the caller may stop reading before the end of the file, {@code false} otherwise.
+     *
+     * @return The content of the file as stream of data.
+     */
+    private FileStreamData retrieveStream(String file, long offset, boolean segment) {
+        var ftpClient = clientPool.borrow();
+        try {
+            var result = new FileStreamData();
+            result.setFileSize(getFileSize(ftpClient, file));
+            ftpClient.setRestartOffset(offset);
+            result.setData(ftpClient.retrieveFileStream(file));
+            if (result.getData() == null) {
+                throw new IgorException("Could not retrieve file: " + file);
+            }
+            result.setSourceConnectionData(segment ? new FtpSegment(ftpClient) : ftpClient);
+            return result;
+        } catch (IgorException e) {
+            // The server rejected the command, the client can still be used:
+            clientPool.release(ftpClient);
+            throw e;
+        } catch (IOException e) {
+            clientPool.invalidate(ftpClient);
+            throw new IgorException("Could not retrieve file: " + file, e);
+        }
+    }
+
+    /**
+     * Finalizes the stream of a file segment. If the segment ended before the end of the file, closing the data connection aborts
+     * the transfer. The server's reply to an aborted transfer isn't standardized, so the client is only reused if the server
+     * reports a completed transfer.
+     *
+     * @param fileStreamData The segment's data.
+     * @param ftpClient      The client the segment has been retrieved with.
+     */
+    private void finalizeSegment(FileStreamData fileStreamData, FTPClient ftpClient) {
+        try {
+            fileStreamData.getData().close();
+            if (ftpClient.completePendingCommand()) {
+                clientPool.release(ftpClient);
+            } else {
+                clientPool.invalidate(ftpClient);
+            }
+        } catch (IOException e) {
+            log.debug("Could not complete aborted FTP transfer.", e);
+            clientPool.invalidate(ftpClient);
+        }
+    }
+
+    /**
+     * Executes an operation with a pooled FTP client. The client is returned to the pool afterward, unless the operation failed
+     * with an I/O error.
+     *
+     * @param operation The operation to execute.
+     * @param <T>       The operation's result type.
+     * @return The operation's result.
+     * @throws IOException In case of communication errors with the server.
+     */
+    private <T> T withFtpClient(FtpOperation<T> operation) throws IOException {
+        var ftpClient = clientPool.borrow();
+        try {
+            T result = operation.execute(ftpClient);
+            clientPool.release(ftpClient);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            clientPool.invalidate(ftpClient);
+            throw e;
+        }
+    }
+
+    /**
+     * Determines the size of a remote file. Uses the MLST command, and the SIZE command if the server doesn't support MLST, to
+     * avoid a directory listing.
+     *
+     * @param ftpClient The FTP client to use.
+     * @param file      The file.
+     * @return The file's size in bytes.
+     * @throws IOException In case of communication errors with the server.
+     */
+    private long getFileSize(FTPClient ftpClient, String file) throws IOException {
+        FTPFile ftpFile = ftpClient.mlistFile(file);
+        if (ftpFile != null && ftpFile.getSize() >= 0) {
+            return ftpFile.getSize();
+        }
+        String size = ftpClient.getSize(file);
+        if (size != null && size.trim().matches("\\d+")) {
+            return Long.parseLong(size.trim());
+        }
+        FTPFile[] list = ftpClient.listFiles(file);
+        if (list.length == 0) {
+            throw new IgorException("Could not retrieve file: " + file);
+        }
+        return list[0].getSize();
+    }
+
     /**
      * Shuts the FTP client down.
      */
@@ -303,4 +464,31 @@ public abstract class BaseFtpFileConnector extends BaseFileConnector {
         }
     }
 
+    /**
+     * An operation using a logged-in FTP client.
+     *
+     * @param <T> The operation's result type.
+     */
+    @FunctionalInterface
+    private interface FtpOperation<T> {
+
+        /**
+         * Executes the operation.
+         *
+         * @param ftpClient The FTP client.
+         * @return The operation's result.
+         * @throws IOException In case of communication errors with the server.
+         */
+        T execute(FTPClient ftpClient) throws IOException;
+
+    }
+
+    /**
+     * Connection data of a segment read from a file, see {@link #readStream(String, long)}.
+     *
+     * @param ftpClient The client the segment is read with.
+     */
+    private record FtpSegment(FTPClient ftpClient) {
+    }
+
 }
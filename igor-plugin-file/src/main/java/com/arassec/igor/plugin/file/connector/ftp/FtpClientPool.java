@@ -0,0 +1,86 @@
+package com.arassec.igor.plugin.file.connector.ftp;
+
+import com.arassec.igor.plugin.file.connector.ConnectionPool;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.net.ftp.FTPClient;
+
+import java.io.IOException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Pool of logged-in FTP(S) clients of a single connector, so that following operations don't need to connect and log in again.
+ * With FTPS, this also saves the TLS handshake of the control connection. Clients that have been idle for a while are checked
+ * with a NOOP command before they are handed out.
+ */
+@Slf4j
+class FtpClientPool extends ConnectionPool<FTPClient> {
+
+    /**
+     * Clients idle longer than this number of milliseconds are checked with a NOOP command before they are reused.
+     */
+    private static final long NOOP_INTERVAL_MILLIS = 5000;
+
+    /**
+     * Creates new, logged-in FTP clients.
+     */
+    private final Supplier<FTPClient> clientFactory;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param clientFactory     Creates new, logged-in FTP clients.
+     * @param idleTimeoutMillis Supplies the time in milliseconds a client may be idle before it is disconnected.
+     */
+    FtpClientPool(Supplier<FTPClient> clientFactory, LongSupplier idleTimeoutMillis) {
+        super(idleTimeoutMillis);
+        this.clientFactory = clientFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected FTPClient connect() {
+        return clientFactory.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean validate(FTPClient ftpClient, long idleMillis) {
+        if (!ftpClient.isConnected()) {
+            return false;
+        }
+        if (idleMillis < NOOP_INTERVAL_MILLIS) {
+            return true;
+        }
+        try {
+            return ftpClient.sendNoOp();
+        } catch (IOException e) {
+            log.debug("Pooled FTP client didn't answer NOOP command.", e);
+            return false;
+        }
+    }
+
+    /**
+     * Logs the client out and disconnects it, ignoring errors.
+     *
+     * @param ftpClient The client to disconnect.
+     */
+    @Override
+    protected void disconnect(FTPClient ftpClient) {
+        try {
+            ftpClient.logout();
+        } catch (IOException e) {
+            log.debug("Could not logout pooled FTP client.", e);
+        }
+        try {
+            ftpClient.disconnect();
+        } catch (IOException e) {
+            log.debug("Could not disconnect pooled FTP client.", e);
+        }
+    }
+
+}
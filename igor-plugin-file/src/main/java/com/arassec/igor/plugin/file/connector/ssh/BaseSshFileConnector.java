@@ -1,6 +1,7 @@
 package com.arassec.igor.plugin.file.connector.ssh;
 
 import com.arassec.igor.core.model.annotation.IgorParam;
+import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.util.IgorException;
 import com.arassec.igor.plugin.core.file.connector.BaseFileConnector;
 import com.jcraft.jsch.JSch;
@@ -8,12 +9,17 @@ import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.util.StringUtils;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Base for SSH based file-connectors (like SFTP and SCP).
+ * <p>
+ * SSH sessions are pooled and reused by all operations of the connector, until the job execution is shut down.
  */
 @Getter
 @Setter
@@ -66,6 +72,42 @@ public abstract class BaseSshFileConnector extends BaseFileConnector {
     @IgorParam(advanced = true)
     private int timeout = 30000;
 
+    /**
+     * The time <strong>in seconds</strong> an SSH session may be idle before it is disconnected. Sessions are reused by
+     * following operations in the meantime.
+     */
+    @Positive
+    @IgorParam(advanced = true)
+    private int sessionIdleTimeout = 60;
+
+    /**
+     * The connector's pool of SSH sessions.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.NONE)
+    private final SshSessionPool sessionPool = new SshSessionPool(this::connect,
+        () -> TimeUnit.SECONDS.toMillis(sessionIdleTimeout));
+
+    /**
+     * Disconnects all pooled SSH sessions.
+     *
+     * @param jobExecution Contains the state of the job execution.
+     */
+    @Override
+    public void shutdown(JobExecution jobExecution) {
+        super.shutdown(jobExecution);
+        sessionPool.close();
+    }
+
+    /**
+     * Initializes a new SSH session with the connector's configuration.
+     *
+     * @return A new SSH session.
+     */
+    Session connect() {
+        return connect(host, port, username, password);
+    }
+
     /**
      * Initializes the SSH session.
      *
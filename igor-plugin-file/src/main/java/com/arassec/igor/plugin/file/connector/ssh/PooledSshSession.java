@@ -0,0 +1,78 @@
+package com.arassec.igor.plugin.file.connector.ssh;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import lombok.Getter;
+
+/**
+ * An SSH session managed by an {@link SshSessionPool}. The session's SFTP channel is kept open and reused by all operations
+ * that borrow the session.
+ */
+class PooledSshSession {
+
+    /**
+     * The SSH session.
+     */
+    @Getter
+    private final Session session;
+
+    /**
+     * The SFTP channel of the session, opened on first use.
+     */
+    private ChannelSftp sftpChannel;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param session The connected SSH session.
+     */
+    PooledSshSession(Session session) {
+        this.session = session;
+    }
+
+    /**
+     * Returns the session's SFTP channel, which is opened if required.
+     *
+     * @return The connected SFTP channel.
+     * @throws JSchException If the channel could not be opened.
+     */
+    ChannelSftp getSftpChannel() throws JSchException {
+        if (sftpChannel == null || !sftpChannel.isConnected()) {
+            sftpChannel = (ChannelSftp) session.openChannel("sftp");
+            sftpChannel.connect();
+        }
+        return sftpChannel;
+    }
+
+    /**
+     * Opens a new exec channel on the session. Exec channels execute a single command and can't be reused.
+     *
+     * @return A new, not yet connected exec channel.
+     * @throws JSchException If the channel could not be opened.
+     */
+    ChannelExec openExecChannel() throws JSchException {
+        return (ChannelExec) session.openChannel("exec");
+    }
+
+    /**
+     * Checks whether the session can be used for further operations.
+     *
+     * @return {@code true}, if the session and its SFTP channel, if any, are still connected, {@code false} otherwise.
+     */
+    boolean isHealthy() {
+        return session.isConnected() && (sftpChannel == null || sftpChannel.isConnected());
+    }
+
+    /**
+     * Disconnects the SFTP channel, if any, and the session.
+     */
+    void disconnect() {
+        if (sftpChannel != null) {
+            sftpChannel.disconnect();
+        }
+        session.disconnect();
+    }
+
+}
@@ -12,7 +12,6 @@ import com.arassec.igor.plugin.file.FileType;
 import com.jcraft.jsch.Channel;
 import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.JSchException;
-import com.jcraft.jsch.Session;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StringUtils;
 
@@ -111,14 +110,15 @@ public class ScpFileConnector extends BaseSshFileConnector {
      */
     @Override
     public FileStreamData readStream(String file) {
+        PooledSshSession pooledSession = getSessionPool().borrow();
+        ChannelExec channel = null;
         try {
             var result = new FileStreamData();
 
             // exec 'scp -f rfile' remotely
             String command = "scp -f " + file;
-            var session = connect(getHost(), getPort(), getUsername(), getPassword());
 
-            ChannelExec channel = (ChannelExec) session.openChannel("exec");
+            channel = pooledSession.openExecChannel();
             channel.setCommand(command);
 
             // get I/O streams for remote scp
@@ -176,15 +176,20 @@ public class ScpFileConnector extends BaseSshFileConnector {
             result.setFileSize(fileSize);
 
             var sshConnectionData = new SshConnectionData();
-            sshConnectionData.setSession(session);
+            sshConnectionData.setSession(pooledSession.getSession());
             sshConnectionData.setChannel(channel);
             sshConnectionData.setSshOutputStream(sshOutputStream);
             sshConnectionData.setSshInputStream(sshInputStreamWrapper);
+            sshConnectionData.setPooledSession(pooledSession);
             result.setSourceConnectionData(sshConnectionData);
 
             return result;
 
+        } catch (IgorException e) {
+            releaseAfterError(pooledSession, channel);
+            throw e;
         } catch (IOException | JSchException e) {
+            getSessionPool().invalidate(pooledSession);
             throw new IgorException("Could not read file stream via SSH!", e);
         }
     }
@@ -195,10 +200,11 @@ public class ScpFileConnector extends BaseSshFileConnector {
     @Override
     public void writeStream(String file, FileStreamData fileStreamData, WorkInProgressMonitor workInProgressMonitor,
                             JobExecution jobExecution) {
+        PooledSshSession pooledSession = getSessionPool().borrow();
+        ChannelExec channel = null;
         try {
             String command = "scp -t " + file;
-            var session = connect(getHost(), getPort(), getUsername(), getPassword());
-            ChannelExec channel = (ChannelExec) session.openChannel("exec");
+            channel = pooledSession.openExecChannel();
             channel.setCommand(command);
 
             var sshOutputStream = channel.getOutputStream();
@@ -230,8 +236,12 @@ public class ScpFileConnector extends BaseSshFileConnector {
 
             copyStream(fileStreamData.getData(), sshOutputStream, fileStreamData.getFileSize(), workInProgressMonitor, jobExecution);
 
-            finalizeStreams(session, channel, sshOutputStream, sshInputStream);
+            finalizeStreams(pooledSession, channel, sshOutputStream, sshInputStream);
+        } catch (IgorException e) {
+            releaseAfterError(pooledSession, channel);
+            throw e;
         } catch (IOException | JSchException e) {
+            getSessionPool().invalidate(pooledSession);
             throw new IgorException("Could not write file stream via SSH!", e);
         }
     }
@@ -242,8 +252,14 @@ public class ScpFileConnector extends BaseSshFileConnector {
     @Override
     public void finalizeStream(FileStreamData fileStreamData) {
         if (fileStreamData.getSourceConnectionData() instanceof SshConnectionData sshConnectionData) {
-            finalizeStreams(sshConnectionData.getSession(), sshConnectionData.getChannel(), sshConnectionData.getSshOutputStream(),
-                sshConnectionData.getSshInputStream());
+            PooledSshSession pooledSession = sshConnectionData.getPooledSession();
+            try {
+                finalizeStreams(pooledSession, sshConnectionData.getChannel(), sshConnectionData.getSshOutputStream(),
+                    sshConnectionData.getSshInputStream());
+            } catch (IgorException e) {
+                releaseAfterError(pooledSession, sshConnectionData.getChannel());
+                throw e;
+            }
         }
     }
 
@@ -268,7 +284,7 @@ public class ScpFileConnector extends BaseSshFileConnector {
      */
     @Override
     public void testConfiguration() {
-        var session = connect(getHost(), getPort(), getUsername(), getPassword());
+        var session = connect();
         session.disconnect();
     }
 
@@ -323,14 +339,15 @@ public class ScpFileConnector extends BaseSshFileConnector {
     }
 
     /**
-     * Finalizes the supplied streams and closes the SSH session and channel.
+     * Finalizes the supplied streams, closes the SSH channel and returns the SSH session to the pool.
      *
-     * @param session         The SSH session.
+     * @param pooledSession   The pooled SSH session.
      * @param channel         The SSH channel.
      * @param sshOutputStream The SSH output stream.
      * @param sshInputStream  The SSH input stream.
      */
-    private void finalizeStreams(Session session, Channel channel, OutputStream sshOutputStream, InputStream sshInputStream) {
+    private void finalizeStreams(PooledSshSession pooledSession, Channel channel, OutputStream sshOutputStream,
+                                 InputStream sshInputStream) {
         try {
             // send '\0'
             byte[] buf = {0}; //NOSONAR - var is not applicable here...
@@ -344,12 +361,26 @@ public class ScpFileConnector extends BaseSshFileConnector {
             sshOutputStream.close();
             sshInputStream.close();
             channel.disconnect();
-            session.disconnect();
+            getSessionPool().release(pooledSession);
         } catch (IOException e) {
+            getSessionPool().invalidate(pooledSession);
             throw new IgorException("Could not complete SSH streams!", e);
         }
     }
 
+    /**
+     * Closes the channel of a failed SCP transfer and returns the SSH session, which is still usable, to the pool.
+     *
+     * @param pooledSession The pooled SSH session.
+     * @param channel       The SSH channel, if it has already been opened.
+     */
+    private void releaseAfterError(PooledSshSession pooledSession, Channel channel) {
+        if (channel != null) {
+            channel.disconnect();
+        }
+        getSessionPool().release(pooledSession);
+    }
+
     /**
      * Executes the supplied shell command on the remote SSH server and returns the output as StringBuffer.
      *
@@ -359,11 +390,12 @@ public class ScpFileConnector extends BaseSshFileConnector {
     private StringBuilder execute(String command) {
         var result = new StringBuilder();
 
-        var session = connect(getHost(), getPort(), getUsername(), getPassword());
+        PooledSshSession pooledSession = getSessionPool().borrow();
         ChannelExec channel;
         try {
-            channel = (ChannelExec) session.openChannel("exec");
+            channel = pooledSession.openExecChannel();
         } catch (JSchException e) {
+            getSessionPool().invalidate(pooledSession);
             throw new IgorException("Could not open channel to SSH server!", e);
         }
         channel.setCommand(command);
@@ -388,14 +420,20 @@ public class ScpFileConnector extends BaseSshFileConnector {
                 }
                 idle();
             }
-
-            channel.disconnect();
-            session.disconnect();
-
-            return result;
+        } catch (IgorException e) {
+            // The command failed, but the session is still usable:
+            releaseAfterError(pooledSession, channel);
+            throw e;
         } catch (IOException | JSchException e) {
+            channel.disconnect();
+            getSessionPool().invalidate(pooledSession);
             throw new IgorException("Could not execute command on SSH server!", e);
         }
+
+        channel.disconnect();
+        getSessionPool().release(pooledSession);
+
+        return result;
     }
 
     /**
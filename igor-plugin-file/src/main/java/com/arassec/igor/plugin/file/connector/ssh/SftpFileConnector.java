@@ -37,18 +37,16 @@ public class SftpFileConnector extends BaseSshFileConnector {
     @Override
     public List<FileInfo> listFiles(String directory, String fileEnding) {
         try {
-            var session = connect(getHost(), getPort(), getUsername(), getPassword());
-            ChannelSftp channel = (ChannelSftp) session.openChannel("sftp");
-            channel.connect();
             List<ChannelSftp.LsEntry> files = new LinkedList<>();
-            channel.ls(directory, entry -> {
-                if ((!StringUtils.hasText(fileEnding) || entry.getFilename().endsWith(fileEnding)) && !entry.getAttrs().isDir()) {
-                    files.add(entry);
-                }
-                return ChannelSftp.LsEntrySelector.CONTINUE;
+            withSftpChannel(channel -> {
+                channel.ls(directory, entry -> {
+                    if ((!StringUtils.hasText(fileEnding) || entry.getFilename().endsWith(fileEnding)) && !entry.getAttrs().isDir()) {
+                        files.add(entry);
+                    }
+                    return ChannelSftp.LsEntrySelector.CONTINUE;
+                });
+                return files;
             });
-            channel.disconnect();
-            session.disconnect();
             return files.stream().map(lsEntry -> new FileInfo(lsEntry.getFilename(),
                 formatInstant(Instant.ofEpochMilli(lsEntry.getAttrs().getMTime() * 1000L)))).toList();
         } catch (JSchException | SftpException e) {
@@ -62,12 +60,10 @@ public class SftpFileConnector extends BaseSshFileConnector {
     @Override
     public String read(String file) {
         try (var outputStream = new ByteArrayOutputStream()) {
-            var session = connect(getHost(), getPort(), getUsername(), getPassword());
-            ChannelSftp channel = (ChannelSftp) session.openChannel("sftp");
-            channel.connect();
-            channel.get(file, outputStream);
-            channel.disconnect();
-            session.disconnect();
+            withSftpChannel(channel -> {
+                channel.get(file, outputStream);
+                return outputStream;
+            });
             return outputStream.toString();
         } catch (IOException | JSchException | SftpException e) {
             throw new IgorException("Could not read file via SFTP!", e);
@@ -79,10 +75,25 @@ public class SftpFileConnector extends BaseSshFileConnector {
      */
     @Override
     public FileStreamData readStream(String file) {
+        return readStream(file, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsSegmentedRead() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FileStreamData readStream(String file, long offset) {
+        PooledSshSession pooledSession = getSessionPool().borrow();
         try {
-            var session = connect(getHost(), getPort(), getUsername(), getPassword());
-            ChannelSftp channel = (ChannelSftp) session.openChannel("sftp");
-            channel.connect();
+            ChannelSftp channel = pooledSession.getSftpChannel();
 
             // Unmodifiable JSCH code.
             // noinspection rawtypes
@@ -92,20 +103,26 @@ public class SftpFileConnector extends BaseSshFileConnector {
             if (lsEntries != null && !lsEntries.isEmpty() && lsEntries.firstElement() instanceof ChannelSftp.LsEntry lsEntry) {
                 var result = new FileStreamData();
                 result.setFileSize(lsEntry.getAttrs().getSize());
-                result.setData(channel.get(file));
+                result.setData(channel.get(file, null, offset));
 
                 var sshConnectionData = new SshConnectionData();
-                sshConnectionData.setSession(session);
+                sshConnectionData.setSession(pooledSession.getSession());
                 sshConnectionData.setChannel(channel);
+                sshConnectionData.setPooledSession(pooledSession);
                 result.setSourceConnectionData(sshConnectionData);
 
-                // No need to disconnect. finalizeStream() will handle that...
+                // No need to release the session. finalizeStream() will handle that...
 
                 return result;
             } else {
+                getSessionPool().release(pooledSession);
                 throw new IgorException("File " + file + " found at the server!");
             }
-        } catch (SftpException | JSchException e) {
+        } catch (SftpException e) {
+            getSessionPool().release(pooledSession);
+            throw new IgorException("Could not read file (sftp/stream)!", e);
+        } catch (JSchException e) {
+            getSessionPool().invalidate(pooledSession);
             throw new IgorException("Could not read file (sftp/stream)!", e);
         }
     }
@@ -117,13 +134,12 @@ public class SftpFileConnector extends BaseSshFileConnector {
     public void writeStream(String file, FileStreamData fileStreamData, WorkInProgressMonitor workInProgressMonitor,
                             JobExecution jobExecution) {
         try {
-            var session = connect(getHost(), getPort(), getUsername(), getPassword());
-            ChannelSftp channel = (ChannelSftp) session.openChannel("sftp");
-            channel.connect();
-            channel.put(fileStreamData.getData(), file,
-                new IgorSftpProgressMonitor(fileStreamData.getFileSize(), workInProgressMonitor, jobExecution), ChannelSftp.OVERWRITE);
-            channel.disconnect();
-            session.disconnect();
+            withSftpChannel(channel -> {
+                channel.put(fileStreamData.getData(), file,
+                    new IgorSftpProgressMonitor(fileStreamData.getFileSize(), workInProgressMonitor, jobExecution),
+                    ChannelSftp.OVERWRITE);
+                return file;
+            });
         } catch (JobCancelledException e) {
             // No need to log error or warning, the job has simply been cancelled by the user.
             log.debug("SFTP PUT aborted due to job cancellation.", e);
@@ -138,8 +154,17 @@ public class SftpFileConnector extends BaseSshFileConnector {
     @Override
     public void finalizeStream(FileStreamData fileStreamData) {
         if (fileStreamData.getSourceConnectionData() instanceof SshConnectionData sshConnectionData) {
-            sshConnectionData.getChannel().disconnect();
-            sshConnectionData.getSession().disconnect();
+            PooledSshSession pooledSession = sshConnectionData.getPooledSession();
+            // The SFTP channel can only be reused after the file's input stream has been closed:
+            try {
+                if (fileStreamData.getData() != null) {
+                    fileStreamData.getData().close();
+                }
+                getSessionPool().release(pooledSession);
+            } catch (IOException e) {
+                log.debug("Could not close SFTP input stream.", e);
+                getSessionPool().invalidate(pooledSession);
+            }
         }
     }
 
@@ -149,12 +174,10 @@ public class SftpFileConnector extends BaseSshFileConnector {
     @Override
     public void delete(String file) {
         try {
-            var session = connect(getHost(), getPort(), getUsername(), getPassword());
-            ChannelSftp channel = (ChannelSftp) session.openChannel("sftp");
-            channel.connect();
-            channel.rm(file);
-            channel.disconnect();
-            session.disconnect();
+            withSftpChannel(channel -> {
+                channel.rm(file);
+                return file;
+            });
         } catch (SftpException | JSchException e) {
             throw new IgorException("Could not delete file: " + file);
         }
@@ -187,7 +210,7 @@ public class SftpFileConnector extends BaseSshFileConnector {
      */
     @Override
     public void testConfiguration() {
-        var session = connect(getHost(), getPort(), getUsername(), getPassword());
+        var session = connect();
         session.disconnect();
     }
 
@@ -200,12 +223,55 @@ public class SftpFileConnector extends BaseSshFileConnector {
      * @throws SftpException In case of SFTP errors.
      */
     private void moveInternal(String source, String target) throws JSchException, SftpException {
-        var session = connect(getHost(), getPort(), getUsername(), getPassword());
-        ChannelSftp channel = (ChannelSftp) session.openChannel("sftp");
-        channel.connect();
-        channel.rename(source, target);
-        channel.disconnect();
-        session.disconnect();
+        withSftpChannel(channel -> {
+            channel.rename(source, target);
+            return target;
+        });
+    }
+
+    /**
+     * Executes an operation with the SFTP channel of a pooled session. The session is returned to the pool afterward, unless
+     * the operation failed on the SSH level.
+     *
+     * @param operation The operation to execute.
+     * @param <T>       The operation's result type.
+     * @return The operation's result.
+     * @throws JSchException In case of SSH protocol errors.
+     * @throws SftpException In case of SFTP errors.
+     */
+    private <T> T withSftpChannel(SftpOperation<T> operation) throws JSchException, SftpException {
+        PooledSshSession pooledSession = getSessionPool().borrow();
+        try {
+            T result = operation.execute(pooledSession.getSftpChannel());
+            getSessionPool().release(pooledSession);
+            return result;
+        } catch (SftpException e) {
+            // The SFTP server rejected the operation, but the channel is still usable:
+            getSessionPool().release(pooledSession);
+            throw e;
+        } catch (JSchException | RuntimeException e) {
+            getSessionPool().invalidate(pooledSession);
+            throw e;
+        }
+    }
+
+    /**
+     * An operation using an SFTP channel.
+     *
+     * @param <T> The operation's result type.
+     */
+    @FunctionalInterface
+    private interface SftpOperation<T> {
+
+        /**
+         * Executes the operation.
+         *
+         * @param channel The connected SFTP channel.
+         * @return The operation's result.
+         * @throws SftpException In case of SFTP errors.
+         */
+        T execute(ChannelSftp channel) throws SftpException;
+
     }
 
 }
@@ -2,7 +2,10 @@ package com.arassec.igor.plugin.file.connector.ssh;
 
 import com.jcraft.jsch.Channel;
 import com.jcraft.jsch.Session;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -33,4 +36,11 @@ public class SshConnectionData {
      */
     private InputStream sshInputStream;
 
+    /**
+     * The pooled SSH session, which is returned to its pool when the stream is finalized.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private PooledSshSession pooledSession;
+
 }
@@ -0,0 +1,58 @@
+package com.arassec.igor.plugin.file.connector.ssh;
+
+import com.arassec.igor.plugin.file.connector.ConnectionPool;
+import com.jcraft.jsch.Session;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Pool of SSH sessions of a single connector, so that following operations don't need a new SSH handshake. Sessions are checked
+ * to be still connected before they are handed out.
+ */
+@Slf4j
+class SshSessionPool extends ConnectionPool<PooledSshSession> {
+
+    /**
+     * Creates new, connected SSH sessions.
+     */
+    private final Supplier<Session> sessionFactory;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param sessionFactory    Creates new, connected SSH sessions.
+     * @param idleTimeoutMillis Supplies the time in milliseconds a session may be idle before it is disconnected.
+     */
+    SshSessionPool(Supplier<Session> sessionFactory, LongSupplier idleTimeoutMillis) {
+        super(idleTimeoutMillis);
+        this.sessionFactory = sessionFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected PooledSshSession connect() {
+        return new PooledSshSession(sessionFactory.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean validate(PooledSshSession pooledSession, long idleMillis) {
+        return pooledSession.isHealthy();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void disconnect(PooledSshSession pooledSession) {
+        pooledSession.disconnect();
+        log.debug("Disconnected pooled SSH session.");
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.arassec.igor.plugin.file.connector.ftp;
+
+import lombok.SneakyThrows;
+import org.apache.commons.net.ftp.FTPClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link FtpClientPool}.
+ */
+@DisplayName("FTP client pool tests.")
+class FtpClientPoolTest {
+
+    /**
+     * Tests reusing released clients.
+     */
+    @Test
+    @DisplayName("Tests reusing released clients.")
+    @SneakyThrows
+    void testReuse() {
+        FtpClientPool pool = new FtpClientPool(() -> {
+            FTPClient ftpClientMock = mock(FTPClient.class);
+            when(ftpClientMock.isConnected()).thenReturn(true);
+            return ftpClientMock;
+        }, () -> 60_000);
+
+        FTPClient first = pool.borrow();
+        assertTrue(pool.release(first));
+        FTPClient second = pool.borrow();
+
+        assertSame(first, second);
+        assertEquals(1, pool.getConnectionsCreated());
+
+        // A concurrently borrowed client requires a new one:
+        FTPClient third = pool.borrow();
+        assertNotSame(second, third);
+        assertEquals(2, pool.getOpenConnections());
+
+        // Clients not created by the pool aren't accepted:
+        assertFalse(pool.release(mock(FTPClient.class)));
+
+        pool.close();
+
+        assertEquals(0, pool.getOpenConnections());
+        verify(first, times(1)).logout();
+        verify(third, times(1)).disconnect();
+    }
+
+    /**
+     * Tests checking idle clients with NOOP commands.
+     */
+    @Test
+    @DisplayName("Tests checking idle clients with NOOP commands.")
+    @SneakyThrows
+    void testHealthCheck() {
+        FTPClient ftpClientMock = mock(FTPClient.class);
+        when(ftpClientMock.isConnected()).thenReturn(true);
+
+        FtpClientPool pool = new FtpClientPool(() -> ftpClientMock, () -> 60_000);
+
+        // A recently used client is reused without NOOP:
+        pool.release(pool.borrow());
+        pool.release(pool.borrow());
+        verify(ftpClientMock, never()).sendNoOp();
+
+        // A disconnected client is replaced:
+        when(ftpClientMock.isConnected()).thenReturn(false);
+        pool.release(pool.borrow());
+        assertEquals(2, pool.getConnectionsCreated());
+        assertEquals(1, pool.getOpenConnections());
+
+        // A client that fails is disconnected:
+        when(ftpClientMock.isConnected()).thenReturn(true);
+        pool.invalidate(pool.borrow());
+        assertEquals(0, pool.getOpenConnections());
+    }
+
+    /**
+     * Tests disconnecting idle clients.
+     */
+    @Test
+    @DisplayName("Tests disconnecting idle clients.")
+    @SneakyThrows
+    void testIdleEviction() {
+        FTPClient ftpClientMock = mock(FTPClient.class);
+
+        FtpClientPool pool = new FtpClientPool(() -> ftpClientMock, () -> -1);
+
+        pool.release(pool.borrow());
+        pool.borrow();
+
+        assertEquals(2, pool.getConnectionsCreated());
+        verify(ftpClientMock, times(1)).logout();
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.arassec.igor.plugin.file.connector.ftp;
 
+import com.arassec.igor.core.model.job.execution.JobExecution;
 import org.apache.ftpserver.FtpServer;
 import org.apache.ftpserver.FtpServerFactory;
 import org.apache.ftpserver.ftplet.Authority;
@@ -54,6 +55,11 @@ public abstract class FtpFileConnectorBaseTest {
      */
     protected static String ftpRoot;
 
+    /**
+     * The port the FTP server is listening on.
+     */
+    protected static int ftpPort;
+
     /**
      * Starts an FTP server and configures the file connector.
      *
@@ -107,7 +113,8 @@ public abstract class FtpFileConnectorBaseTest {
 
         connector = baseFtpFileConnector;
         connector.setHost(FTP_HOST);
-        connector.setPort(listenerFactory.getPort());
+        ftpPort = listenerFactory.getPort();
+        connector.setPort(ftpPort);
         connector.setUsername(FTP_USER);
         connector.setPassword(FTP_PASS);
     }
@@ -118,6 +125,7 @@ public abstract class FtpFileConnectorBaseTest {
      * @throws IOException In case of filesystem problems.
      */
     public static void teardownTestEnvironment() throws IOException {
+        connector.shutdown(JobExecution.builder().build());
         ftpServer.stop();
         FileSystemUtils.deleteRecursively(Paths.get(ftpRoot));
     }
@@ -108,6 +108,26 @@ class FtpFileConnectorTest extends FtpFileConnectorBaseTest {
         assertEquals(30, fileStreamData.getFileSize());
     }
 
+    /**
+     * Tests reading a file as stream, starting at an offset.
+     */
+    @Test
+    @DisplayName("Tests reading a file as stream, starting at an offset.")
+    @SneakyThrows
+    void testReadStreamWithOffset() {
+        assertTrue(connector.supportsSegmentedRead());
+
+        FileStreamData fileStreamData = connector.readStream("alpha.txt", 6);
+
+        assertEquals(30, fileStreamData.getFileSize());
+        // Segments may be finalized before the end of the file:
+        assertEquals("igor", new String(fileStreamData.getData().readNBytes(4), Charset.defaultCharset()));
+        connector.finalizeStream(fileStreamData);
+
+        // The connector can be used afterward:
+        assertEquals("ALPHA-igor-ftp-connector-tests", connector.read("alpha.txt"));
+    }
+
     /**
      * "Tests reading a file that doesn't exist. An {@link IgorException} must be thrown to indicate the missing file.
      */
@@ -198,6 +218,47 @@ class FtpFileConnectorTest extends FtpFileConnectorBaseTest {
         verify(ftpClientMock, times(0)).disconnect();
     }
 
+    /**
+     * Tests that logged-in FTP clients are reused by following operations and disconnected on shutdown.
+     */
+    @Test
+    @DisplayName("Tests that logged-in FTP clients are reused by following operations and disconnected on shutdown.")
+    @SneakyThrows
+    void testConnectionPooling() {
+        FtpFileConnector pooledConnector = new FtpFileConnector();
+        pooledConnector.setHost("localhost");
+        pooledConnector.setPort(ftpPort);
+        pooledConnector.setUsername("igor");
+        pooledConnector.setPassword("password");
+
+        String content = "ftp-pooling-test";
+        JobExecution jobExecution = JobExecution.builder().executionState(JobExecutionState.RUNNING).build();
+
+        for (var i = 0; i < 3; i++) {
+            FileStreamData writeData = new FileStreamData();
+            writeData.setData(new ByteArrayInputStream(content.getBytes()));
+            writeData.setFileSize(content.length());
+            pooledConnector.writeStream("pooling-test.txt", writeData, new WorkInProgressMonitor(), jobExecution);
+
+            FileStreamData readData = pooledConnector.readStream("pooling-test.txt");
+            assertEquals(content.length(), readData.getFileSize());
+            assertEquals(content, new String(readData.getData().readAllBytes(), Charset.defaultCharset()));
+            pooledConnector.finalizeStream(readData);
+
+            assertEquals(content, pooledConnector.read("pooling-test.txt"));
+            assertEquals(4, pooledConnector.listFiles(".", null).size());
+        }
+
+        assertThrows(IgorException.class, () -> pooledConnector.readStream("not-existing.file"));
+        pooledConnector.delete("pooling-test.txt");
+
+        assertEquals(1, pooledConnector.getClientPool().getConnectionsCreated());
+
+        pooledConnector.shutdown(jobExecution);
+
+        assertEquals(0, pooledConnector.getClientPool().getOpenConnections());
+    }
+
     /**
      * Tests deleting a file.
      */
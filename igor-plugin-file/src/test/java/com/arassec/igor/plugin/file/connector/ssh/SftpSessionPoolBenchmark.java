@@ -0,0 +1,102 @@
+package com.arassec.igor.plugin.file.connector.ssh;
+
+import com.arassec.igor.core.model.job.execution.JobExecution;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.apache.sshd.sftp.server.SftpSubsystemFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of reading small files with the {@link SftpFileConnector} from an embedded SSH server, with pooled
+ * SSH sessions and with a new SSH session per file, as without the session pool.
+ * <p>
+ * Run with: {@code mvn -pl igor-plugin-file test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.arassec.igor.plugin.file.connector.ssh.SftpSessionPoolBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class SftpSessionPoolBenchmark {
+
+    /**
+     * If {@code true}, sessions are reused. If {@code false}, all sessions are disconnected after each file.
+     */
+    @Param({"true", "false"})
+    private boolean pooled;
+
+    /**
+     * The embedded SSH server.
+     */
+    private SshServer sshd;
+
+    /**
+     * The connector under test.
+     */
+    private SftpFileConnector connector;
+
+    /**
+     * Starts the SSH server and configures the connector.
+     *
+     * @throws IOException In case of SSH server errors.
+     */
+    @Setup
+    public void setup() throws IOException {
+        sshd = SshServer.setUpDefaultServer();
+        sshd.setKeyPairProvider(new SimpleGeneratorHostKeyProvider());
+        sshd.setPasswordAuthenticator((user, pass, serverSession) -> "igor".equals(user) && "password".equals(pass));
+        sshd.setSubsystemFactories(List.of(new SftpSubsystemFactory.Builder().build()));
+        sshd.start();
+
+        connector = new SftpFileConnector();
+        connector.setHost("localhost");
+        connector.setPort(sshd.getPort());
+        connector.setUsername("igor");
+        connector.setPassword("password");
+    }
+
+    /**
+     * Disconnects all sessions and stops the SSH server.
+     *
+     * @throws IOException In case of SSH server errors.
+     */
+    @TearDown
+    public void teardown() throws IOException {
+        connector.shutdown(JobExecution.builder().build());
+        sshd.stop(true);
+    }
+
+    /**
+     * Reads a small file.
+     *
+     * @return The file's content.
+     */
+    @Benchmark
+    public String readFile() {
+        String content = connector.read("src/test/resources/ssh/alpha.txt");
+        if (!pooled) {
+            connector.shutdown(JobExecution.builder().build());
+        }
+        return content;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Not used.
+     * @throws RunnerException In case of errors during the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SftpSessionPoolBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
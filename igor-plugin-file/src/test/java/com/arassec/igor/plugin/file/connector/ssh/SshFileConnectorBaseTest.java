@@ -91,6 +91,7 @@ abstract class SshFileConnectorBaseTest {
      * @throws IOException In case of filesystem errors.
      */
     public static void teardownTestEnvironment() throws IOException {
+        connector.shutdown(JobExecution.builder().build());
         sshd.stop(true);
         FileSystemUtils.deleteRecursively(Paths.get(SSHD_ROOT));
     }
@@ -148,6 +149,27 @@ abstract class SshFileConnectorBaseTest {
         connector.finalizeStream(fileStreamData);
     }
 
+    /**
+     * Tests reading a file as stream, starting at an offset.
+     */
+    @Test
+    @DisplayName("Tests reading a file as stream, starting at an offset.")
+    @SneakyThrows
+    void testReadStreamWithOffset() {
+        if (!connector.supportsSegmentedRead()) {
+            assertThrows(IgorException.class, () -> connector.readStream("src/test/resources/ssh/alpha.txt", 6));
+            return;
+        }
+
+        FileStreamData fileStreamData = connector.readStream("src/test/resources/ssh/alpha.txt", 6);
+
+        assertEquals(30, fileStreamData.getFileSize());
+        // Segments may be finalized before the end of the file:
+        assertEquals("igor", new String(fileStreamData.getData().readNBytes(4), Charset.defaultCharset()));
+
+        connector.finalizeStream(fileStreamData);
+    }
+
     /**
      * Tests writing a file from a stream.
      */
@@ -224,4 +246,26 @@ abstract class SshFileConnectorBaseTest {
         assertDoesNotThrow(() -> connector.testConfiguration());
     }
 
+    /**
+     * Tests that SSH sessions are reused by following operations and disconnected on shutdown.
+     */
+    @Test
+    @DisplayName("Tests that SSH sessions are reused by following operations and disconnected on shutdown.")
+    void testSessionPooling() {
+        long sessionsCreated = connector.getSessionPool().getConnectionsCreated();
+
+        for (var i = 0; i < 5; i++) {
+            assertEquals("ALPHA-igor-ssh-connector-tests", connector.read("src/test/resources/ssh/alpha.txt"));
+            assertEquals(2, connector.listFiles("src/test/resources/ssh", null).size());
+        }
+        assertThrows(IgorException.class, () -> connector.read("non-existing-file"));
+        assertEquals("ALPHA-igor-ssh-connector-tests", connector.read("src/test/resources/ssh/alpha.txt"));
+
+        assertTrue(connector.getSessionPool().getConnectionsCreated() - sessionsCreated <= 1);
+
+        connector.shutdown(JobExecution.builder().build());
+
+        assertEquals(0, connector.getSessionPool().getOpenConnections());
+    }
+
 }
@@ -0,0 +1,119 @@
+package com.arassec.igor.plugin.file.connector.ssh;
+
+import com.jcraft.jsch.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link SshSessionPool}.
+ */
+@DisplayName("SSH session pool tests.")
+class SshSessionPoolTest {
+
+    /**
+     * Tests reusing released sessions.
+     */
+    @Test
+    @DisplayName("Tests reusing released sessions.")
+    void testReuse() {
+        Session sessionMock = mock(Session.class);
+        when(sessionMock.isConnected()).thenReturn(true);
+
+        SshSessionPool pool = new SshSessionPool(() -> sessionMock, () -> 60_000);
+
+        PooledSshSession first = pool.borrow();
+        pool.release(first);
+        PooledSshSession second = pool.borrow();
+
+        assertSame(first, second);
+        assertEquals(1, pool.getConnectionsCreated());
+
+        // A concurrently borrowed session requires a new one:
+        PooledSshSession third = pool.borrow();
+        assertNotSame(second, third);
+        assertEquals(2, pool.getConnectionsCreated());
+        assertEquals(2, pool.getOpenConnections());
+
+        pool.close();
+
+        assertEquals(0, pool.getOpenConnections());
+        verify(sessionMock, times(2)).disconnect();
+    }
+
+    /**
+     * Tests discarding disconnected and invalidated sessions.
+     */
+    @Test
+    @DisplayName("Tests discarding disconnected and invalidated sessions.")
+    void testHealthCheck() {
+        Session sessionMock = mock(Session.class);
+        when(sessionMock.isConnected()).thenReturn(true);
+
+        SshSessionPool pool = new SshSessionPool(() -> sessionMock, () -> 60_000);
+
+        PooledSshSession pooledSession = pool.borrow();
+        pool.release(pooledSession);
+
+        // The server closed the session in the meantime:
+        when(sessionMock.isConnected()).thenReturn(false);
+
+        assertNotSame(pooledSession, pool.borrow());
+        assertEquals(2, pool.getConnectionsCreated());
+        assertEquals(1, pool.getOpenConnections());
+
+        when(sessionMock.isConnected()).thenReturn(true);
+
+        PooledSshSession failedSession = pool.borrow();
+        pool.invalidate(failedSession);
+
+        assertEquals(1, pool.getOpenConnections());
+    }
+
+    /**
+     * Tests disconnecting idle sessions.
+     */
+    @Test
+    @DisplayName("Tests disconnecting idle sessions.")
+    void testIdleEviction() {
+        Session sessionMock = mock(Session.class);
+        when(sessionMock.isConnected()).thenReturn(true);
+
+        SshSessionPool pool = new SshSessionPool(() -> sessionMock, () -> -1);
+
+        pool.release(pool.borrow());
+
+        assertEquals(0, pool.getOpenConnections());
+        verify(sessionMock, times(1)).disconnect();
+    }
+
+    /**
+     * Tests that sessions are disconnected after the pool's lock has been released, so that other threads can use the pool in
+     * the meantime.
+     */
+    @Test
+    @DisplayName("Tests disconnecting sessions without holding the pool's lock.")
+    void testDisconnectWithoutLock() {
+        Session sessionMock = mock(Session.class);
+        when(sessionMock.isConnected()).thenReturn(true);
+
+        SshSessionPool pool = new SshSessionPool(() -> sessionMock, () -> -1);
+
+        doAnswer(invocation -> {
+            // Another thread can access the pool while the session is disconnected:
+            assertEquals(0, CompletableFuture.supplyAsync(pool::getOpenConnections).get(5, TimeUnit.SECONDS));
+            return null;
+        }).when(sessionMock).disconnect();
+
+        pool.release(pool.borrow());
+        pool.invalidate(pool.borrow());
+
+        verify(sessionMock, times(2)).disconnect();
+    }
+
+}
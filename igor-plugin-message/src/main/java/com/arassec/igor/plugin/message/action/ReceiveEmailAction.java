@@ -15,7 +15,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -109,8 +109,6 @@ public class ReceiveEmailAction extends BaseAction {
      */
     @Override
     public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
-        List<Map<String, Object>> result = new LinkedList<>();
-
         var folder = CorePluginUtils.evaluateTemplate(data, folderName);
         var attachmentTargetDirectory = CorePluginUtils.evaluateTemplate(data, attachmentDirectory);
 
@@ -122,16 +120,13 @@ public class ReceiveEmailAction extends BaseAction {
         try {
             List<Map<String, Object>> messageJsons = emailConnector.retrieveEmails(folder, onlyNew, deleteProcessed,
                 markReadAfterProcessing, saveAttachments, attachmentTargetDirectory);
-            messageJsons.forEach(messageJson -> {
-                Map<String, Object> dataClone = CorePluginUtils.clone(data);
-                dataClone.put("message", messageJson);
-                result.add(dataClone);
-            });
+            List<Map<String, Object>> result = CorePluginUtils.clone(data, messageJsons.size());
+            Iterator<Map<String, Object>> resultIterator = result.iterator();
+            messageJsons.forEach(messageJson -> resultIterator.next().put("message", messageJson));
+            return result;
         } catch (MessagingException e) {
             throw new IgorException("Could not retrieve E-Mails from server!", e);
         }
-
-        return result;
     }
 
 }
@@ -17,6 +17,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -137,12 +138,53 @@ public class SendRabbitMqMessageAction extends BaseAction {
     @Override
     public List<Map<String, Object>> process(Map<String, Object> data, JobExecution jobExecution) {
 
-        var content = CorePluginUtils.evaluateTemplate(data, messageTemplate);
+        var message = createMessage(data);
 
+        if (!isSimulation(data) || !simulationSafe) {
+            messageConnector.sendMessage(exchange, routingKey, message);
+        }
+
+        log.trace("RabbitMqMessage sent:\n{}", message.getContent());
+
+        return List.of(data);
+    }
+
+    /**
+     * Creates the messages for all supplied data items and sends them to RabbitMQ at once.
+     *
+     * @param data         The data items the action will work with.
+     * @param jobExecution The job execution log.
+     * @return The unchanged data items.
+     */
+    @Override
+    public List<Map<String, Object>> processBatch(List<Map<String, Object>> data, JobExecution jobExecution) {
+        List<RabbitMqMessage> messages = new ArrayList<>(data.size());
+
+        for (Map<String, Object> dataItem : data) {
+            var message = createMessage(dataItem);
+            if (!isSimulation(dataItem) || !simulationSafe) {
+                messages.add(message);
+            }
+        }
+
+        messageConnector.sendMessages(exchange, routingKey, messages);
+
+        log.trace("{} RabbitMqMessages sent.", messages.size());
+
+        return data;
+    }
+
+    /**
+     * Creates a message from the message template and the supplied data item.
+     *
+     * @param data The data item to fill the message template with.
+     * @return The newly created message.
+     */
+    private RabbitMqMessage createMessage(Map<String, Object> data) {
         var message = new RabbitMqMessage();
         message.setContentType(contentType);
         message.setContentEncoding(contentEncoding);
-        message.setContent(content);
+        message.setContent(CorePluginUtils.evaluateTemplate(data, messageTemplate));
 
         if (StringUtils.hasText(headers)) {
             String[] separatedHeaders = headers.split("\n");
@@ -154,13 +196,7 @@ public class SendRabbitMqMessageAction extends BaseAction {
             }
         }
 
-        if (!isSimulation(data) || !simulationSafe) {
-            messageConnector.sendMessage(exchange, routingKey, message);
-        }
-
-        log.trace("RabbitMqMessage sent:\n{}", content);
-
-        return List.of(data);
+        return message;
     }
 
 }
@@ -34,6 +34,7 @@ import org.springframework.util.StringUtils;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
@@ -168,22 +169,28 @@ public class RabbitMqMessageConnector extends BaseConnector implements ChannelAw
      * {@inheritDoc}
      */
     public void sendMessage(String exchange, String routingKey, RabbitMqMessage message) {
-        if (!StringUtils.hasText(exchange)) {
-            throw new IgorException("No RabbitMQ exchange configured to send messages to!");
-        }
+        var rabbitMessage = createRabbitMessage(exchange, message);
+        rabbitTemplate.send(exchange, routingKey, rabbitMessage);
+    }
 
-        if (message == null || !StringUtils.hasText(message.getContent())) {
-            throw new IgorException("Empty content provided for message sending!");
+    /**
+     * Sends all supplied messages over a single channel.
+     *
+     * @param exchange   The exchange to send the messages to.
+     * @param routingKey An optional routing key.
+     * @param messages   The messages to send.
+     */
+    public void sendMessages(String exchange, String routingKey, List<RabbitMqMessage> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
         }
-
-        var messageProperties = new MessageProperties();
-        messageProperties.setContentEncoding(message.getContentEncoding());
-        messageProperties.setContentType(message.getContentType());
-
-        message.getHeaders().forEach((key, value) -> messageProperties.getHeaders().put(key, value));
-
-        var rabbitMessage = new org.springframework.amqp.core.Message(message.getContent().getBytes(), messageProperties);
-        rabbitTemplate.send(exchange, routingKey, rabbitMessage);
+        List<org.springframework.amqp.core.Message> rabbitMessages = messages.stream()
+                .map(message -> createRabbitMessage(exchange, message))
+                .toList();
+        rabbitTemplate.invoke(operations -> {
+            rabbitMessages.forEach(rabbitMessage -> operations.send(exchange, routingKey, rabbitMessage));
+            return null;
+        });
     }
 
     /**
@@ -307,6 +314,32 @@ public class RabbitMqMessageConnector extends BaseConnector implements ChannelAw
         }
     }
 
+    /**
+     * Converts the supplied message into a RabbitMQ message.
+     *
+     * @param exchange The exchange the message is sent to.
+     * @param message  The message to convert.
+     *
+     * @return The RabbitMQ message.
+     */
+    private org.springframework.amqp.core.Message createRabbitMessage(String exchange, RabbitMqMessage message) {
+        if (!StringUtils.hasText(exchange)) {
+            throw new IgorException("No RabbitMQ exchange configured to send messages to!");
+        }
+
+        if (message == null || !StringUtils.hasText(message.getContent())) {
+            throw new IgorException("Empty content provided for message sending!");
+        }
+
+        var messageProperties = new MessageProperties();
+        messageProperties.setContentEncoding(message.getContentEncoding());
+        messageProperties.setContentType(message.getContentType());
+
+        message.getHeaders().forEach((key, value) -> messageProperties.getHeaders().put(key, value));
+
+        return new org.springframework.amqp.core.Message(message.getContent().getBytes(), messageProperties);
+    }
+
     /**
      * Creates a connection factory to the RabbitMQ server.
      *
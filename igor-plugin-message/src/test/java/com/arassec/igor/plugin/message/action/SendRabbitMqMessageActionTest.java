@@ -72,4 +72,30 @@ class SendRabbitMqMessageActionTest extends MessageActionBaseTest {
         assertEquals("d", sentMessage.getHeaders().get("c"));
     }
 
+    /**
+     * Tests processing multiple data items at once.
+     */
+    @Test
+    @DisplayName("Tests processing multiple data items at once.")
+    @SuppressWarnings("unchecked")
+    void testProcessBatch() {
+        RabbitMqMessageConnector messageConnectorMock = mock(RabbitMqMessageConnector.class);
+
+        SendRabbitMqMessageAction action = new SendRabbitMqMessageAction();
+        action.setMessageConnector(messageConnectorMock);
+        action.setExchange("test-exchange");
+        action.setMessageTemplate("{{data." + PARAM_KEY + "}}");
+
+        ArgumentCaptor<List<RabbitMqMessage>> argCap = ArgumentCaptor.forClass(List.class);
+
+        List<Map<String, Object>> result = action.processBatch(List.of(createData(), createData()), new JobExecution());
+
+        verify(messageConnectorMock, times(1)).sendMessages(eq("test-exchange"), isNull(), argCap.capture());
+        verify(messageConnectorMock, never()).sendMessage(any(), any(), any());
+
+        assertEquals(2, result.size());
+        assertEquals(2, argCap.getValue().size());
+        assertEquals(PARAM_VALUE, argCap.getValue().getFirst().getContent());
+    }
+
 }
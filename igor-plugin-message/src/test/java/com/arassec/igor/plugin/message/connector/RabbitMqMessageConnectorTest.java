@@ -15,11 +15,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.util.MimeTypeUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -101,6 +103,46 @@ class RabbitMqMessageConnectorTest {
         assertEquals(MimeTypeUtils.APPLICATION_JSON_VALUE, messageProperties.getContentType());
     }
 
+    /**
+     * Tests sending multiple messages at once.
+     */
+    @Test
+    @DisplayName("Tests sending multiple messages at once.")
+    @SuppressWarnings("unchecked")
+    void testSendMessages() {
+        RabbitMqMessageConnector rabbitMqMessageConnector = new RabbitMqMessageConnector(applicationEventPublisher);
+
+        RabbitTemplate rabbitTemplateMock = mock(RabbitTemplate.class);
+        rabbitMqMessageConnector.setRabbitTemplate(rabbitTemplateMock);
+
+        rabbitMqMessageConnector.sendMessages("test-exchange", null, List.of());
+        verify(rabbitTemplateMock, never()).invoke(any());
+
+        RabbitMqMessage emptyMessage = new RabbitMqMessage();
+        List<RabbitMqMessage> invalidMessages = List.of(emptyMessage);
+        assertThrows(IgorException.class, () -> rabbitMqMessageConnector.sendMessages("test-exchange", null, invalidMessages));
+
+        RabbitMqMessage first = new RabbitMqMessage();
+        first.setContent("first");
+        RabbitMqMessage second = new RabbitMqMessage();
+        second.setContent("second");
+
+        RabbitOperations rabbitOperationsMock = mock(RabbitOperations.class);
+        when(rabbitTemplateMock.invoke(any())).thenAnswer(invocationOnMock ->
+                ((RabbitOperations.OperationsCallback<Object>) invocationOnMock.getArgument(0)).doInRabbit(rabbitOperationsMock));
+
+        rabbitMqMessageConnector.sendMessages("test-exchange", "test-routing-key", List.of(first, second));
+
+        ArgumentCaptor<org.springframework.amqp.core.Message> argCap =
+                ArgumentCaptor.forClass(org.springframework.amqp.core.Message.class);
+
+        verify(rabbitTemplateMock, times(1)).invoke(any());
+        verify(rabbitOperationsMock, times(2)).send(eq("test-exchange"), eq("test-routing-key"), argCap.capture());
+
+        assertEquals("first", new String(argCap.getAllValues().get(0).getBody()));
+        assertEquals("second", new String(argCap.getAllValues().get(1).getBody()));
+    }
+
     /**
      * Tests enabling message retrieval.
      */
@@ -14,6 +14,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -62,6 +63,23 @@ public class PersistenceConfiguration {
         return result;
     }
 
+    /**
+     * Creates the {@link JobTemplateMapper} to parse persisted jobs into cacheable templates.
+     *
+     * @param persistenceJobMapper  The {@link ObjectMapper} for jobs.
+     * @param igorComponentRegistry The igor component registry.
+     * @param connectorRepository   The repository for connectors.
+     * @param securityProvider      The security provider for decrypting secured parameter values.
+     *
+     * @return A newly created {@link JobTemplateMapper} instance.
+     */
+    @Bean
+    public JobTemplateMapper jobTemplateMapper(@Qualifier("persistenceJobMapper") ObjectMapper persistenceJobMapper,
+                                               IgorComponentRegistry igorComponentRegistry,
+                                               ConnectorRepository connectorRepository, SecurityProvider securityProvider) {
+        return new JobTemplateMapper(persistenceJobMapper, igorComponentRegistry, connectorRepository, securityProvider);
+    }
+
     /**
      * Creates an {@link ObjectMapper} for igor {@link Connector}s. A special mapper is required for connectors to avoid circular
      * dependencies with the {@link ConnectorRepository}, which is normally needed for parameter processing.
@@ -3,11 +3,13 @@ package com.arassec.igor.persistence.dao;
 import com.arassec.igor.persistence.entity.JobExecutionEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -48,13 +50,21 @@ public interface JobExecutionDao extends PagingAndSortingRepository<JobExecution
         Page<JobExecutionEntity> findByState (String state, Pageable pageable);
 
         /**
-         * Deletes all entries of the given job that are older than the specified execution.
+         * Deletes all executions of the given job except the most recent ones. Executions in the ignored state are neither
+         * deleted nor counted. The persistence context is cleared afterward, so that deleted executions aren't returned as
+         * managed entities.
          *
-         * @param jobId       The job's ID.
-         * @param state       The job execution state that should be ignored by the deletion.
-         * @param executionId The ID of the oldest job-execution to keep.
+         * @param jobId        The job's ID.
+         * @param ignoredState The job execution state that should be ignored by the deletion.
+         * @param numToKeep    The number of most recent executions to keep. Must be positive.
+         *
+         * @return The number of deleted executions.
          */
-        void deleteByJobIdAndStateNotAndIdBefore (String jobId, String state, Long executionId);
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query(value = "DELETE FROM job_execution WHERE job_id = :jobId AND state <> :ignoredState AND id < ("
+            + "SELECT MIN(newest.id) FROM (SELECT id FROM job_execution WHERE job_id = :jobId AND state <> :ignoredState "
+            + "ORDER BY id DESC LIMIT :numToKeep) newest)", nativeQuery = true)
+        int deleteAllButMostRecent (String jobId, String ignoredState, int numToKeep);
 
         /**
          * Deletes all entries of the specified job.
@@ -84,4 +94,47 @@ public interface JobExecutionDao extends PagingAndSortingRepository<JobExecution
         @Query(value = "SELECT COUNT(job_id) FROM job_execution WHERE job_id = :jobId AND state = :state", nativeQuery = true)
         int countAllOfJobInState (String jobId, String state);
 
+        /**
+         * Updates the mutable properties of an existing job execution.
+         *
+         * @param id              The job execution's ID.
+         * @param state           The new state.
+         * @param started         The start time of the job.
+         * @param finished        The finish time of the job.
+         * @param processedEvents The number of processed events.
+         * @param errorCause      The error cause, if the job failed.
+         *
+         * @return The number of updated job executions, {@code 0} if the job execution doesn't exist anymore.
+         */
+        @Modifying
+        @Query(value = "UPDATE job_execution SET state = :state, started = :started, finished = :finished, "
+            + "processed_events = :processedEvents, error_cause = :errorCause WHERE id = :id", nativeQuery = true)
+        int updateExecution (Long id, String state, Instant started, Instant finished, Integer processedEvents, String errorCause);
+
+        /**
+         * Updates the state of all executions of the given job in the old state. The persistence context is cleared afterward,
+         * so that managed entities don't keep their old state.
+         *
+         * @param jobId    The job's ID.
+         * @param oldState The state of the executions to update.
+         * @param newState The new state.
+         *
+         * @return The number of updated job executions.
+         */
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query(value = "UPDATE job_execution SET state = :newState WHERE job_id = :jobId AND state = :oldState", nativeQuery = true)
+        int updateStateOfJob (String jobId, String oldState, String newState);
+
+        /**
+         * Updates the state of an existing job execution.
+         *
+         * @param id    The job execution's ID.
+         * @param state The new state.
+         *
+         * @return The number of updated job executions.
+         */
+        @Modifying
+        @Query(value = "UPDATE job_execution SET state = :state WHERE id = :id", nativeQuery = true)
+        int updateState (Long id, String state);
+
     }
@@ -1,13 +1,18 @@
 package com.arassec.igor.persistence.dao;
 
 import com.arassec.igor.persistence.entity.PersistentValueEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Defines access to {@link PersistentValueEntity}s in the database.
@@ -26,22 +31,45 @@ public interface PersistentValueDao extends PagingAndSortingRepository<Persisten
     PersistentValueEntity findByJobIdAndContent(String jobId, String content);
 
     /**
-     * Returns all persistent-value-IDs for the given job until the given limit.
+     * Returns all persisted values of the given job with one of the supplied contents.
+     *
+     * @param jobId    The job's ID.
+     * @param contents The contents of the values.
+     * @return List of {@link PersistentValueEntity}s with matching content.
+     */
+    List<PersistentValueEntity> findByJobIdAndContentIn(String jobId, Collection<String> contents);
+
+    /**
+     * Returns the number of persisted values of the given job.
+     *
+     * @param jobId The job's ID.
+     * @return The number of values.
+     */
+    long countByJobId(String jobId);
+
+    /**
+     * Returns the contents of all persisted values of the given job, oldest first. The stream must be consumed within a
+     * transaction and closed afterward.
      *
      * @param jobId The job's ID.
-     * @param limit The limit.
-     * @return List of IDs.
+     * @return Stream of contents.
      */
-    @Query(value = "SELECT id FROM persistent_value WHERE job_id = :jobId ORDER BY id DESC LIMIT :limit", nativeQuery = true)
-    List<Integer> findMostRecentIds(@Param("jobId") String jobId, @Param("limit") int limit);
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT p.content FROM PersistentValueEntity p WHERE p.jobId = :jobId ORDER BY p.id")
+    Stream<String> streamContentsByJobId(@Param("jobId") String jobId);
 
     /**
-     * Deletes all entries of the given job that are older than the specified persistent-value.
+     * Deletes all values of the given job except the most recent ones. The persistence context is cleared afterward, so that
+     * deleted values aren't returned as managed entities.
      *
-     * @param jobId       The job's ID.
-     * @param executionId The ID of the oldest persistent-value to keep.
+     * @param jobId     The job's ID.
+     * @param numToKeep The number of most recent values to keep. Must be positive.
+     * @return The number of deleted values.
      */
-    void deleteByJobIdAndIdBefore(String jobId, Long executionId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM persistent_value WHERE job_id = :jobId AND id < (SELECT MIN(newest.id) FROM "
+        + "(SELECT id FROM persistent_value WHERE job_id = :jobId ORDER BY id DESC LIMIT :numToKeep) newest)", nativeQuery = true)
+    int deleteAllButMostRecent(@Param("jobId") String jobId, @Param("numToKeep") int numToKeep);
 
     /**
      * Deletes all values of the given job.
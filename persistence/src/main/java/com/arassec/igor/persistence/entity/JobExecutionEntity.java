@@ -3,6 +3,8 @@ package com.arassec.igor.persistence.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.time.Instant;
+
 /**
  * JPA Entity for {@link com.arassec.igor.core.model.job.execution.JobExecution}s.
  */
@@ -36,7 +38,34 @@ public class JobExecutionEntity {
     private String state;
 
     /**
-     * The job-execution as JSON-string.
+     * The timestamp of the creation of the job-execution.
+     */
+    private Instant created;
+
+    /**
+     * The start time of the job.
+     */
+    private Instant started;
+
+    /**
+     * The finish time of the job.
+     */
+    private Instant finished;
+
+    /**
+     * The number of processed events.
+     */
+    @Column(name = "processed_events")
+    private Integer processedEvents;
+
+    /**
+     * The error cause, if the job finished abnormally.
+     */
+    @Column(name = "error_cause")
+    private String errorCause;
+
+    /**
+     * The job-execution as JSON-string. Only set for job-executions persisted before the typed columns existed.
      */
     private String content;
 
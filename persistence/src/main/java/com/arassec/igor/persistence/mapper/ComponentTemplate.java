@@ -0,0 +1,71 @@
+package com.arassec.igor.persistence.mapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A parsed igor component, from which new component instances can be created without parsing and decrypting the component's
+ * JSON again.
+ * <p>
+ * Templates are shared between all instances created from them and must not be modified.
+ *
+ * @param typeId        The component's type ID.
+ * @param componentJson The component in JSON form.
+ * @param parameters    The component's parameters, with secured values already decrypted. Doesn't contain connectors.
+ * @param connectorIds  The IDs of connectors, that are used as parameter values, by parameter name.
+ */
+public record ComponentTemplate(String typeId, Map<String, Object> componentJson, Map<String, Object> parameters,
+                                Map<String, String> connectorIds) {
+
+    /**
+     * Creates a new template.
+     *
+     * @param typeId        The component's type ID.
+     * @param componentJson The component in JSON form.
+     * @param parameters    The component's parameters, with secured values already decrypted. Doesn't contain connectors.
+     * @param connectorIds  The IDs of connectors, that are used as parameter values, by parameter name.
+     */
+    public ComponentTemplate {
+        componentJson = Collections.unmodifiableMap(componentJson);
+        parameters = Collections.unmodifiableMap(parameters);
+        connectorIds = Collections.unmodifiableMap(connectorIds);
+    }
+
+    /**
+     * Creates a copy of the parameters, that can be handed over to a new component instance. Lists and maps are copied, so that
+     * the instance can't modify the template.
+     *
+     * @return A modifiable copy of the parameters.
+     */
+    Map<String, Object> copyParameters() {
+        Map<String, Object> result = HashMap.newHashMap(parameters.size() + connectorIds.size());
+        parameters.forEach((name, value) -> result.put(name, copyValue(value)));
+        return result;
+    }
+
+    /**
+     * Copies lists and maps recursively. All other values are immutable JSON values and returned as they are.
+     *
+     * @param value The value to copy.
+     *
+     * @return The copied value.
+     */
+    private static Object copyValue(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> result = LinkedHashMap.newLinkedHashMap(map.size());
+            map.forEach((key, mapValue) -> result.put(key, copyValue(mapValue)));
+            return result;
+        } else if (value instanceof Collection<?> collection) {
+            List<Object> result = new ArrayList<>(collection.size());
+            collection.forEach(element -> result.add(copyValue(element)));
+            return result;
+        }
+        return value;
+    }
+
+}
@@ -2,6 +2,7 @@ package com.arassec.igor.persistence.mapper;
 
 import com.arassec.igor.application.registry.IgorComponentRegistry;
 import com.arassec.igor.core.model.IgorComponent;
+import com.arassec.igor.core.model.connector.Connector;
 import com.arassec.igor.core.repository.ConnectorRepository;
 import com.arassec.igor.persistence.security.SecurityProvider;
 import com.fasterxml.jackson.core.JsonParser;
@@ -61,16 +62,62 @@ public abstract class IgorComponentPersistenceDeserializer<T extends IgorCompone
         @SuppressWarnings("unchecked")
         Map<String, Object> map = deserializationContext.readValue(jsonParser, Map.class);
 
-        String typeId = getTypeId(map);
+        return instantiate(parseTemplate(map));
+    }
+
+    /**
+     * Parses the component in JSON form into a template, from which component instances can be created. Secured parameter
+     * values are decrypted, connectors are referenced by their IDs.
+     *
+     * @param componentJson The component in JSON form.
+     *
+     * @return The component's template.
+     */
+    ComponentTemplate parseTemplate(Map<String, Object> componentJson) {
+        String typeId = getTypeId(componentJson);
 
         @SuppressWarnings("unchecked")
-        List<Map<String, Object>> rawParameters = (List<Map<String, Object>>) map.get(PersistenceMapperKey.PARAMETERS.getKey());
+        List<Map<String, Object>> rawParameters = (List<Map<String, Object>>) componentJson.get(PersistenceMapperKey.PARAMETERS.getKey());
 
-        Map<String, Object> parameters = deserializeParameters(rawParameters, typeId);
+        Map<String, Object> parameters = new HashMap<>();
+        Map<String, String> connectorIds = new HashMap<>();
+        deserializeParameters(rawParameters, typeId, parameters, connectorIds);
 
-        var instance = createInstance(typeId, parameters);
+        return new ComponentTemplate(typeId, componentJson, parameters, connectorIds);
+    }
 
-        setComponentSpecifica(instance, map);
+    /**
+     * Creates a new component instance from the supplied template. All connectors of the component are loaded from the
+     * {@link ConnectorRepository} at once.
+     *
+     * @param template The component's template.
+     *
+     * @return A newly created component instance.
+     */
+    T instantiate(ComponentTemplate template) {
+        Map<String, Connector> connectors = Map.of();
+        if (!template.connectorIds().isEmpty()) {
+            connectors = connectorRepository.findAllById(template.connectorIds().values());
+        }
+        return instantiate(template, connectors);
+    }
+
+    /**
+     * Creates a new component instance from the supplied template, using already loaded connectors as parameter values.
+     *
+     * @param template   The component's template.
+     * @param connectors The loaded connectors by their IDs. Must contain all connectors referenced by the template.
+     *
+     * @return A newly created component instance.
+     */
+    T instantiate(ComponentTemplate template, Map<String, Connector> connectors) {
+        Map<String, Object> parameters = template.copyParameters();
+        template.connectorIds().forEach((parameterName, connectorId) ->
+                parameters.put(parameterName, connectors.get(connectorId)));
+
+        var instance = createInstance(template.typeId(), parameters);
+
+        setComponentSpecifica(instance, template.componentJson());
 
         return instance;
     }
@@ -90,29 +137,27 @@ public abstract class IgorComponentPersistenceDeserializer<T extends IgorCompone
     /**
      * Deserializes the JSON parameters.
      *
-     * @param parameters The parameters in JSON form.
-     * @param typeId     The component's type ID.
-     *
-     * @return The parameters as Map of objects.
+     * @param rawParameters The parameters in JSON form.
+     * @param typeId        The component's type ID.
+     * @param parameters    Target for the parameters as Map of objects.
+     * @param connectorIds  Target for the IDs of connectors, that are used as parameter values, by parameter name.
      */
-    private Map<String, Object> deserializeParameters(List<Map<String, Object>> parameters, String typeId) {
-        if (parameters == null || parameters.isEmpty()) {
-            return Map.of();
+    private void deserializeParameters(List<Map<String, Object>> rawParameters, String typeId, Map<String, Object> parameters,
+                                       Map<String, String> connectorIds) {
+        if (rawParameters == null || rawParameters.isEmpty()) {
+            return;
         }
-        Map<String, Object> result = new HashMap<>();
-        parameters.forEach(jsonParameter -> {
+        rawParameters.forEach(jsonParameter -> {
             var parameterName = String.valueOf(jsonParameter.get(PersistenceMapperKey.NAME.getKey()));
             if (jsonParameter.containsKey(PersistenceMapperKey.CONNECTOR.getKey()) && (boolean) jsonParameter.get(PersistenceMapperKey.CONNECTOR.getKey()) && connectorRepository != null) {
-                result.put(parameterName,
-                        connectorRepository.findById(String.valueOf(jsonParameter.get(PersistenceMapperKey.VALUE.getKey()))));
+                connectorIds.put(parameterName, String.valueOf(jsonParameter.get(PersistenceMapperKey.VALUE.getKey())));
             } else if (jsonParameter.containsKey(PersistenceMapperKey.SECURED.getKey()) && (boolean) jsonParameter.get(PersistenceMapperKey.SECURED.getKey())) {
-                result.put(parameterName, securityProvider.decrypt(typeId, parameterName,
+                parameters.put(parameterName, securityProvider.decrypt(typeId, parameterName,
                         String.valueOf(jsonParameter.get(PersistenceMapperKey.VALUE.getKey()))));
             } else {
-                result.put(parameterName, jsonParameter.get(PersistenceMapperKey.VALUE.getKey()));
+                parameters.put(parameterName, jsonParameter.get(PersistenceMapperKey.VALUE.getKey()));
             }
         });
-        return result;
     }
 
     /**
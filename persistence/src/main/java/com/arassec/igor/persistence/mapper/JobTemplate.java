@@ -0,0 +1,18 @@
+package com.arassec.igor.persistence.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * A parsed job, from which new {@link com.arassec.igor.core.model.job.Job} instances can be created by the
+ * {@link JobTemplateMapper}.
+ * <p>
+ * Templates are shared between all jobs created from them and must not be modified.
+ *
+ * @param properties The job's properties in JSON form, without trigger and actions.
+ * @param trigger    The template of the job's trigger. Can be {@code null}.
+ * @param actions    The templates of the job's actions.
+ */
+public record JobTemplate(JsonNode properties, ComponentTemplate trigger, List<ComponentTemplate> actions) {
+}
@@ -0,0 +1,160 @@
+package com.arassec.igor.persistence.mapper;
+
+import com.arassec.igor.application.registry.IgorComponentRegistry;
+import com.arassec.igor.core.model.action.Action;
+import com.arassec.igor.core.model.connector.Connector;
+import com.arassec.igor.core.model.job.Job;
+import com.arassec.igor.core.repository.ConnectorRepository;
+import com.arassec.igor.persistence.security.SecurityProvider;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.*;
+
+/**
+ * Parses persisted jobs into {@link JobTemplate}s and creates new {@link Job} instances from them.
+ * <p>
+ * Parsing a job is expensive: its JSON has to be read, and secured parameter values have to be decrypted. Templates can be
+ * cached, and new instances with fresh components can be created from them as often as required. Connectors are loaded from
+ * the {@link ConnectorRepository} for every new instance, so that changes of connectors are always reflected. All connectors of
+ * a job are loaded with a single query, and components referencing the same connector share its instance.
+ */
+public class JobTemplateMapper {
+
+    /**
+     * The JSON property containing the job's trigger.
+     */
+    private static final String TRIGGER = "trigger";
+
+    /**
+     * The JSON property containing the job's actions.
+     */
+    private static final String ACTIONS = "actions";
+
+    /**
+     * ObjectMapper for jobs.
+     */
+    private final ObjectMapper persistenceJobMapper;
+
+    /**
+     * The repository to load the jobs' connectors.
+     */
+    private final ConnectorRepository connectorRepository;
+
+    /**
+     * Parses and instantiates triggers.
+     */
+    private final TriggerPersistenceDeserializer triggerDeserializer;
+
+    /**
+     * Parses and instantiates actions.
+     */
+    private final ActionPersistenceDeserializer actionDeserializer;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param persistenceJobMapper  ObjectMapper for jobs.
+     * @param igorComponentRegistry The component registry.
+     * @param connectorRepository   The repository for connectors.
+     * @param securityProvider      The security provider to decrypt secured parameter values.
+     */
+    public JobTemplateMapper(ObjectMapper persistenceJobMapper, IgorComponentRegistry igorComponentRegistry,
+                             ConnectorRepository connectorRepository, SecurityProvider securityProvider) {
+        this.persistenceJobMapper = persistenceJobMapper;
+        this.connectorRepository = connectorRepository;
+        this.triggerDeserializer = new TriggerPersistenceDeserializer(igorComponentRegistry, connectorRepository, securityProvider);
+        this.actionDeserializer = new ActionPersistenceDeserializer(igorComponentRegistry, connectorRepository, securityProvider);
+    }
+
+    /**
+     * Parses a job into a template.
+     *
+     * @param jobJson The job in JSON form.
+     *
+     * @return The job's template.
+     *
+     * @throws JsonProcessingException If the JSON could not be parsed.
+     */
+    public JobTemplate parse(String jobJson) throws JsonProcessingException {
+        var properties = (ObjectNode) persistenceJobMapper.readTree(jobJson);
+
+        JsonNode triggerJson = properties.remove(TRIGGER);
+        JsonNode actionsJson = properties.remove(ACTIONS);
+
+        ComponentTemplate trigger = null;
+        if (triggerJson != null && triggerJson.isObject()) {
+            trigger = triggerDeserializer.parseTemplate(toMap(triggerJson));
+        }
+
+        List<ComponentTemplate> actions = new ArrayList<>();
+        if (actionsJson != null) {
+            for (JsonNode actionJson : actionsJson) {
+                actions.add(actionDeserializer.parseTemplate(toMap(actionJson)));
+            }
+        }
+
+        return new JobTemplate(properties, trigger, List.copyOf(actions));
+    }
+
+    /**
+     * Creates a new job instance from the supplied template.
+     *
+     * @param template The job's template.
+     *
+     * @return A newly created job.
+     *
+     * @throws JsonProcessingException If the job's properties could not be converted.
+     */
+    public Job instantiate(JobTemplate template) throws JsonProcessingException {
+        Job job = persistenceJobMapper.treeToValue(template.properties(), Job.class);
+
+        Map<String, Connector> connectors = loadConnectors(template);
+
+        if (template.trigger() != null) {
+            job.setTrigger(triggerDeserializer.instantiate(template.trigger(), connectors));
+        }
+
+        List<Action> actions = new LinkedList<>();
+        template.actions().forEach(actionTemplate -> actions.add(actionDeserializer.instantiate(actionTemplate, connectors)));
+        job.setActions(actions);
+
+        return job;
+    }
+
+    /**
+     * Loads all connectors referenced by the job's components with a single query.
+     *
+     * @param template The job's template.
+     *
+     * @return The connectors by their IDs.
+     */
+    private Map<String, Connector> loadConnectors(JobTemplate template) {
+        Set<String> connectorIds = new HashSet<>();
+        if (template.trigger() != null) {
+            connectorIds.addAll(template.trigger().connectorIds().values());
+        }
+        template.actions().forEach(actionTemplate -> connectorIds.addAll(actionTemplate.connectorIds().values()));
+
+        if (connectorIds.isEmpty()) {
+            return Map.of();
+        }
+        return connectorRepository.findAllById(connectorIds);
+    }
+
+    /**
+     * Converts a JSON object into a map.
+     *
+     * @param json The JSON object.
+     *
+     * @return The object as map.
+     */
+    private Map<String, Object> toMap(JsonNode json) {
+        return persistenceJobMapper.convertValue(json, new TypeReference<>() {
+        });
+    }
+
+}
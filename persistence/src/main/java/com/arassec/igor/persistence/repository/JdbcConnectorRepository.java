@@ -20,10 +20,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * {@link ConnectorRepository} implementation that uses JDBC to persist {@link Connector}s.
@@ -108,6 +105,29 @@ public class JdbcConnectorRepository implements ConnectorRepository {
         return null;
     }
 
+    /**
+     * Finds all {@link Connector}s with the supplied IDs with a single query.
+     *
+     * @param ids The connectors' IDs.
+     *
+     * @return The connectors by their IDs.
+     */
+    @Override
+    public Map<String, Connector> findAllById(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Connector> result = new HashMap<>();
+        for (var connectorEntity : connectorDao.findAllById(new HashSet<>(ids))) {
+            try {
+                result.put(connectorEntity.getId(), persistenceConnectorMapper.readValue(connectorEntity.getContent(), Connector.class));
+            } catch (IOException e) {
+                throw new IllegalStateException(READ_CONNECTOR_ERROR, e);
+            }
+        }
+        return result;
+    }
+
     /**
      * Finds a {@link Connector} by its name.
      *
@@ -6,7 +6,6 @@ import com.arassec.igor.core.repository.JobExecutionRepository;
 import com.arassec.igor.core.util.ModelPage;
 import com.arassec.igor.persistence.dao.JobExecutionDao;
 import com.arassec.igor.persistence.entity.JobExecutionEntity;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,11 +17,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * {@link com.arassec.igor.core.repository.JobExecutionRepository} implementation that uses JDBC to persist {@link
  * com.arassec.igor.core.model.job.execution.JobExecution}s.
+ * <p>
+ * Job-executions are stored in typed columns, so that existing executions can be updated without reading them first. Executions
+ * persisted by earlier versions of igor are stored as JSON, which is still read for properties without column value.
  */
 @Component
 @Transactional
@@ -47,25 +48,24 @@ public class JdbcJobExecutionRepository implements JobExecutionRepository {
         if (jobExecution == null) {
             return null;
         }
-        JobExecutionEntity entity;
         if (jobExecution.getId() != null) {
-            Optional<JobExecutionEntity> jobExecutionEntityOptional = jobExecutionDao.findById(jobExecution.getId());
-            if (jobExecutionEntityOptional.isPresent()) {
-                entity = jobExecutionEntityOptional.get();
-            } else {
+            int updated = jobExecutionDao.updateExecution(jobExecution.getId(), jobExecution.getExecutionState().name(),
+                jobExecution.getStarted(), jobExecution.getFinished(), jobExecution.getProcessedEvents(),
+                jobExecution.getErrorCause());
+            if (updated == 0) {
                 // This can happen if a job is deleted while running.
                 return null;
             }
-        } else {
-            entity = new JobExecutionEntity();
-            entity.setJobId(jobExecution.getJobId());
+            return jobExecution;
         }
+        var entity = new JobExecutionEntity();
+        entity.setJobId(jobExecution.getJobId());
         entity.setState(jobExecution.getExecutionState().name());
-        try {
-            entity.setContent(persistenceJobMapper.writeValueAsString(jobExecution));
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException("Could not convert job execution to JSON!", e);
-        }
+        entity.setCreated(jobExecution.getCreated());
+        entity.setStarted(jobExecution.getStarted());
+        entity.setFinished(jobExecution.getFinished());
+        entity.setProcessedEvents(jobExecution.getProcessedEvents());
+        entity.setErrorCause(jobExecution.getErrorCause());
         JobExecutionEntity persistedEntity = jobExecutionDao.save(entity);
         jobExecution.setId(persistedEntity.getId());
         return jobExecution;
@@ -129,20 +129,9 @@ public class JdbcJobExecutionRepository implements JobExecutionRepository {
      */
     @Override
     public void cleanup(String jobId, int numToKeep) {
-        Pageable pageable = PageRequest.of(0, Integer.MAX_VALUE, Sort.by("id").descending());
-        Page<JobExecutionEntity> page = jobExecutionDao.findByJobId(jobId, pageable);
-        if (page != null && page.hasContent() && page.getTotalElements() > numToKeep) {
-
-            var i = 0;
-            for (JobExecutionEntity entity : page.getContent()) {
-                if (!JobExecutionState.FAILED.name().equals(entity.getState())) {
-                    i++;
-                }
-                if (i == numToKeep) {
-                    jobExecutionDao.deleteByJobIdAndStateNotAndIdBefore(jobId, JobExecutionState.FAILED.name(), entity.getId());
-                    break;
-                }
-            }
+        // Failed executions are kept until they are resolved by the user:
+        if (jobId != null && numToKeep > 0) {
+            jobExecutionDao.deleteAllButMostRecent(jobId, JobExecutionState.FAILED.name(), numToKeep);
         }
     }
 
@@ -161,7 +150,7 @@ public class JdbcJobExecutionRepository implements JobExecutionRepository {
      */
     public void updateJobExecutionState(Long id, JobExecutionState newState) {
         if (id != null && newState != null) {
-            jobExecutionDao.findById(id).ifPresent(jobExecutionEntity -> jobExecutionEntity.setState(newState.name()));
+            jobExecutionDao.updateState(id, newState.name());
         }
     }
 
@@ -170,10 +159,7 @@ public class JdbcJobExecutionRepository implements JobExecutionRepository {
      */
     public void updateAllJobExecutionsOfJob(String jobId, JobExecutionState oldState, JobExecutionState newState) {
         if (jobId != null && oldState != null && newState != null) {
-            List<JobExecutionEntity> executionEntities = jobExecutionDao.findByJobIdAndStateOrderByIdDesc(jobId, oldState.name());
-            if (executionEntities != null) {
-                executionEntities.forEach(executionEntity -> executionEntity.setState(newState.name()));
-            }
+            jobExecutionDao.updateStateOfJob(jobId, oldState.name(), newState.name());
         }
     }
 
@@ -211,12 +197,33 @@ public class JdbcJobExecutionRepository implements JobExecutionRepository {
      */
     private JobExecution convert(JobExecutionEntity entity) {
         JobExecution result;
-        try {
-            result = persistenceJobMapper.readValue(entity.getContent(), JobExecution.class);
-            result.setId(entity.getId());
-            result.setExecutionState(JobExecutionState.valueOf(entity.getState()));
-        } catch (IOException e) {
-            throw new IllegalStateException("Could not read job execution!", e);
+        if (entity.getContent() != null) {
+            try {
+                result = persistenceJobMapper.readValue(entity.getContent(), JobExecution.class);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read job execution!", e);
+            }
+        } else {
+            result = new JobExecution();
+        }
+        result.setId(entity.getId());
+        result.setJobId(entity.getJobId());
+        result.setExecutionState(JobExecutionState.valueOf(entity.getState()));
+        // Columns of legacy job-executions are only filled after they have been updated:
+        if (entity.getCreated() != null) {
+            result.setCreated(entity.getCreated());
+        }
+        if (entity.getStarted() != null) {
+            result.setStarted(entity.getStarted());
+        }
+        if (entity.getFinished() != null) {
+            result.setFinished(entity.getFinished());
+        }
+        if (entity.getProcessedEvents() != null) {
+            result.setProcessedEvents(entity.getProcessedEvents());
+        }
+        if (entity.getErrorCause() != null) {
+            result.setErrorCause(entity.getErrorCause());
         }
         return result;
     }
@@ -1,7 +1,7 @@
 package com.arassec.igor.persistence.repository;
 
+import com.arassec.igor.application.registry.IgorComponentMetadata;
 import com.arassec.igor.core.model.IgorComponent;
-import com.arassec.igor.core.model.annotation.IgorParam;
 import com.arassec.igor.core.model.connector.Connector;
 import com.arassec.igor.core.model.job.Job;
 import com.arassec.igor.core.repository.JobRepository;
@@ -12,6 +12,8 @@ import com.arassec.igor.persistence.dao.JobDao;
 import com.arassec.igor.persistence.entity.JobConnectorReferenceEntity;
 import com.arassec.igor.persistence.entity.JobConnectorReferenceView;
 import com.arassec.igor.persistence.entity.JobEntity;
+import com.arassec.igor.persistence.mapper.JobTemplate;
+import com.arassec.igor.persistence.mapper.JobTemplateMapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -21,13 +23,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.ReflectionUtils;
 
-import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link JobRepository} implementation that uses JDBC to persist {@link Job}s.
+ * <p>
+ * Parsed jobs are cached as {@link JobTemplate}s together with the version of their entity. Jobs are only parsed again, if
+ * their entity's version changed. Every returned job is a new instance with new components, created from the cached template.
  */
 @Component
 @Transactional
@@ -54,6 +58,16 @@ public class JdbcJobRepository implements JobRepository {
      */
     private final ObjectMapper persistenceJobMapper;
 
+    /**
+     * Parses jobs into templates and creates job instances from them.
+     */
+    private final JobTemplateMapper jobTemplateMapper;
+
+    /**
+     * The cached job templates by job ID.
+     */
+    private final Map<String, CachedJobTemplate> jobTemplates = new ConcurrentHashMap<>();
+
     /**
      * Persists jobs using JDBC. Either creates a new entry in the database or updates an existing one.
      *
@@ -94,6 +108,7 @@ public class JdbcJobRepository implements JobRepository {
         }
 
         jobDao.save(jobEntity);
+        jobTemplates.remove(job.getId());
 
         // Now update the connector references:
         jobConnectorReferenceDao.deleteByJobId(job.getId());
@@ -116,15 +131,7 @@ public class JdbcJobRepository implements JobRepository {
      */
     @Override
     public Job findById(String jobId) {
-        Optional<JobEntity> jobEntityOptional = jobDao.findById(jobId);
-        if (jobEntityOptional.isPresent()) {
-            try {
-                return persistenceJobMapper.readValue(jobEntityOptional.get().getContent(), Job.class);
-            } catch (IOException e) {
-                throw new IllegalStateException(READ_JOB_ERROR, e);
-            }
-        }
-        return null;
+        return jobDao.findById(jobId).map(this::toJob).orElse(null);
     }
 
     /**
@@ -138,30 +145,25 @@ public class JdbcJobRepository implements JobRepository {
     public Job findByName(String name) {
         JobEntity entity = jobDao.findByName(name);
         if (entity != null) {
-            try {
-                return persistenceJobMapper.readValue(entity.getContent(), Job.class);
-            } catch (IOException e) {
-                throw new IllegalStateException(READ_JOB_ERROR, e);
-            }
+            return toJob(entity);
         }
         return null;
     }
 
     /**
-     * Finds all jobs in the database.
+     * Finds all jobs in the database. Cached templates of jobs, that don't exist anymore, are removed.
      *
      * @return List of all {@link Job}s.
      */
     @Override
     public List<Job> findAll() {
         List<Job> result = new LinkedList<>();
+        Set<String> jobIds = new HashSet<>();
         for (JobEntity jobEntity : jobDao.findAll()) {
-            try {
-                result.add(persistenceJobMapper.readValue(jobEntity.getContent(), Job.class));
-            } catch (IOException e) {
-                throw new IllegalStateException(READ_JOB_ERROR, e);
-            }
+            result.add(toJob(jobEntity));
+            jobIds.add(jobEntity.getId());
         }
+        jobTemplates.keySet().retainAll(jobIds);
         return result;
     }
 
@@ -188,13 +190,7 @@ public class JdbcJobRepository implements JobRepository {
 
         if (page != null && page.hasContent()) {
             ModelPage<Job> result = new ModelPage<>(page.getNumber(), page.getSize(), page.getTotalPages(), null);
-            result.setItems(page.getContent().stream().map(jobEntity -> {
-                try {
-                    return persistenceJobMapper.readValue(jobEntity.getContent(), Job.class);
-                } catch (IOException e) {
-                    throw new IllegalStateException(READ_JOB_ERROR, e);
-                }
-            }).toList());
+            result.setItems(page.getContent().stream().map(this::toJob).toList());
             return result;
         }
 
@@ -210,6 +206,7 @@ public class JdbcJobRepository implements JobRepository {
     public void deleteById(String id) {
         jobDao.deleteById(id);
         jobConnectorReferenceDao.deleteByJobId(id);
+        jobTemplates.remove(id);
     }
 
     /**
@@ -228,6 +225,31 @@ public class JdbcJobRepository implements JobRepository {
         return result;
     }
 
+    /**
+     * Creates a new job instance from the supplied entity. The entity's content is only parsed, if there is no cached template
+     * for the entity's version.
+     *
+     * @param jobEntity The job's entity.
+     *
+     * @return A newly created job.
+     */
+    private Job toJob(JobEntity jobEntity) {
+        try {
+            // Without ID and version, a changed job couldn't be detected:
+            if (jobEntity.getId() == null || jobEntity.getVersion() == null) {
+                return jobTemplateMapper.instantiate(jobTemplateMapper.parse(jobEntity.getContent()));
+            }
+            CachedJobTemplate cachedJobTemplate = jobTemplates.get(jobEntity.getId());
+            if (cachedJobTemplate == null || !jobEntity.getVersion().equals(cachedJobTemplate.version())) {
+                cachedJobTemplate = new CachedJobTemplate(jobEntity.getVersion(), jobTemplateMapper.parse(jobEntity.getContent()));
+                jobTemplates.put(jobEntity.getId(), cachedJobTemplate);
+            }
+            return jobTemplateMapper.instantiate(cachedJobTemplate.template());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(READ_JOB_ERROR, e);
+        }
+    }
+
     /**
      * Extracts connector IDs from the parameters of the supplied class.
      *
@@ -242,21 +264,22 @@ public class JdbcJobRepository implements JobRepository {
             return result;
         }
 
-        ReflectionUtils.doWithFields(instance.getClass(), field -> {
-            if (field.isAnnotationPresent(IgorParam.class)) {
-                try {
-                    ReflectionUtils.makeAccessible(field);
-                    Object value = field.get(instance);
-                    if (value instanceof Connector connector) {
-                        result.add(connector.getId());
-                    }
-                } catch (IllegalAccessException e) {
-                    throw new IllegalStateException("Could not read connector ID!", e);
-                }
+        IgorComponentMetadata.of(instance.getClass()).getParameterFields().forEach(field -> {
+            if (field.get(instance) instanceof Connector connector) {
+                result.add(connector.getId());
             }
         });
 
         return result;
     }
 
+    /**
+     * A cached job template.
+     *
+     * @param version  The version of the job's entity, the template has been parsed from.
+     * @param template The job's template.
+     */
+    private record CachedJobTemplate(Integer version, JobTemplate template) {
+    }
+
 }
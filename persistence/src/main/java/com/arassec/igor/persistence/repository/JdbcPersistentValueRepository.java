@@ -5,25 +5,80 @@ import com.arassec.igor.core.repository.PersistentValueRepository;
 import com.arassec.igor.persistence.dao.PersistentValueDao;
 import com.arassec.igor.persistence.entity.PersistentValueEntity;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * JDBC repository for persistent values.
+ * <p>
+ * Lookups are answered from a {@link PersistentValueIndex} per job where possible, which is loaded on first use. The index
+ * relies on igor being the only application writing persistent values into its database.
  */
+@Slf4j
 @Component
 @Transactional
 @RequiredArgsConstructor
 public class JdbcPersistentValueRepository implements PersistentValueRepository {
 
+    /**
+     * The maximum number of jobs with an in-memory index. The index of the least recently used job is dropped first.
+     */
+    private static final int MAX_INDEXED_JOBS = 32;
+
+    /**
+     * The maximum number of recently used contents, that are remembered per job.
+     */
+    private static final int RECENT_CONTENTS_SIZE = 10_000;
+
+    /**
+     * Inserts a new persistent value.
+     */
+    private static final String INSERT_SQL =
+        "INSERT INTO persistent_value (version, job_id, created, content) VALUES (0, ?, ?, ?)";
+
     /**
      * DAO for Access to persistent values.
      */
     private final PersistentValueDao persistentValueDao;
 
+    /**
+     * Executes batched inserts.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The in-memory indexes of persisted values per job ID, in the order they were last used.
+     */
+    private final Map<String, PersistentValueIndex> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PersistentValueIndex> eldest) {
+            return size() > MAX_INDEXED_JOBS;
+        }
+    };
+
+    /**
+     * Number of value lookups answered by the in-memory indexes.
+     */
+    private final LongAdder cacheHits = new LongAdder();
+
+    /**
+     * Number of statements sent to the database.
+     */
+    private final LongAdder databaseRoundtrips = new LongAdder();
+
     /**
      * Saves the supplied value in igor's own database.
      *
@@ -44,17 +99,75 @@ public class JdbcPersistentValueRepository implements PersistentValueRepository
         }
         entity.setContent(value.getContent());
 
+        databaseRoundtrips.increment();
         PersistentValueEntity persistedEntity = persistentValueDao.save(entity);
         if (value.getId() == null) {
             value.setId(persistedEntity.getId());
             value.setCreated(entity.getCreated());
+            afterCommit(() -> addToIndex(jobId, List.of(value)));
+        } else {
+            // The index can't forget the previous content:
+            var entityJobId = entity.getJobId();
+            afterCommit(() -> invalidateIndex(entityJobId));
         }
 
         return value;
     }
 
     /**
-     * Checks in igor's database if the value is already persisted.
+     * Saves the supplied values in igor's own database. New values are inserted with a single JDBC batch.
+     *
+     * @param jobId  The job's ID.
+     * @param values The values to save.
+     *
+     * @return The persisted values. IDs are added if required.
+     */
+    @Override
+    public List<PersistentValue> upsertAll(String jobId, List<PersistentValue> values) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        if (values.stream().anyMatch(value -> value.getId() != null)) {
+            values.forEach(value -> upsert(jobId, value));
+            return values;
+        }
+
+        var created = Instant.now();
+        var keyHolder = new GeneratedKeyHolder();
+
+        databaseRoundtrips.increment();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+                    preparedStatement.setString(1, jobId);
+                    preparedStatement.setTimestamp(2, Timestamp.from(created));
+                    preparedStatement.setString(3, values.get(i).getContent());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return values.size();
+                }
+            }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (var i = 0; i < values.size(); i++) {
+            PersistentValue value = values.get(i);
+            if (keys.size() == values.size()) {
+                value.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            }
+            value.setCreated(created);
+        }
+
+        afterCommit(() -> addToIndex(jobId, values));
+
+        return values;
+    }
+
+    /**
+     * Checks if the value is already persisted. The job's index is checked first, igor's database is only queried if the index
+     * can't answer the lookup.
      *
      * @param jobId  The job's ID.
      * @param value  The value to check.
@@ -63,24 +176,98 @@ public class JdbcPersistentValueRepository implements PersistentValueRepository
      */
     @Override
     public boolean isPersisted(String jobId, PersistentValue value) {
-        if (value == null) {
+        if (jobId == null || value == null || value.getContent() == null) {
             return false;
         }
-        return (persistentValueDao.findByJobIdAndContent(jobId, value.getContent()) != null);
+
+        var index = getIndex(jobId);
+        var lookup = index.lookup(value.getContent());
+        if (lookup != PersistentValueIndex.Lookup.UNKNOWN) {
+            cacheHits.increment();
+            return lookup == PersistentValueIndex.Lookup.PERSISTED;
+        }
+
+        databaseRoundtrips.increment();
+        boolean persisted = (persistentValueDao.findByJobIdAndContent(jobId, value.getContent()) != null);
+        if (persisted) {
+            index.confirm(value.getContent());
+        }
+        return persisted;
+    }
+
+    /**
+     * Checks which of the supplied values are already persisted. The job's index is checked first, all values it can't answer
+     * are queried from igor's database at once.
+     *
+     * @param jobId  The job's ID.
+     * @param values The values to check.
+     *
+     * @return The contents of all values that are already persisted.
+     */
+    @Override
+    public Set<String> findPersistedContents(String jobId, Collection<PersistentValue> values) {
+        if (jobId == null || values == null || values.isEmpty()) {
+            return Set.of();
+        }
+
+        var index = getIndex(jobId);
+
+        Set<String> result = new HashSet<>();
+        Set<String> unknownContents = new HashSet<>();
+        for (PersistentValue value : values) {
+            var content = value.getContent();
+            if (content == null || result.contains(content) || unknownContents.contains(content)) {
+                continue;
+            }
+            var lookup = index.lookup(content);
+            if (lookup == PersistentValueIndex.Lookup.UNKNOWN) {
+                unknownContents.add(content);
+            } else {
+                cacheHits.increment();
+                if (lookup == PersistentValueIndex.Lookup.PERSISTED) {
+                    result.add(content);
+                }
+            }
+        }
+
+        if (!unknownContents.isEmpty()) {
+            databaseRoundtrips.increment();
+            persistentValueDao.findByJobIdAndContentIn(jobId, unknownContents).forEach(entity -> {
+                index.confirm(entity.getContent());
+                result.add(entity.getContent());
+            });
+        }
+
+        return result;
     }
 
     /**
-     * Deletes old entries from the database.
+     * Deletes old entries from the database with a single statement. If the job's index is loaded and the job has no more values
+     * than should be kept, the database isn't queried at all.
      *
      * @param jobId            The job's ID.
      * @param numEntriesToKeep Number of entries to keep.
      */
     @Override
     public void cleanup(String jobId, int numEntriesToKeep) {
-        List<Integer> ids = persistentValueDao.findMostRecentIds(jobId, numEntriesToKeep);
-        if (ids != null && ids.size() == numEntriesToKeep) {
-            Integer oldestIdToKeep = ids.get(numEntriesToKeep - 1);
-            persistentValueDao.deleteByJobIdAndIdBefore(jobId, Long.valueOf(oldestIdToKeep));
+        if (numEntriesToKeep <= 0) {
+            return;
+        }
+
+        PersistentValueIndex index;
+        synchronized (indexes) {
+            index = indexes.get(jobId);
+        }
+        if (index != null) {
+            long size = index.size();
+            if (size >= 0 && size <= numEntriesToKeep) {
+                return;
+            }
+        }
+
+        databaseRoundtrips.increment();
+        if (persistentValueDao.deleteAllButMostRecent(jobId, numEntriesToKeep) > 0) {
+            afterCommit(() -> invalidateIndex(jobId));
         }
     }
 
@@ -90,7 +277,106 @@ public class JdbcPersistentValueRepository implements PersistentValueRepository
     @Override
     public void deleteByJobId(String jobId) {
         if (jobId != null) {
+            databaseRoundtrips.increment();
             persistentValueDao.deleteByJobId(jobId);
+            afterCommit(() -> invalidateIndex(jobId));
+        }
+    }
+
+    /**
+     * Returns the number of value lookups answered by the in-memory indexes, without querying the database.
+     *
+     * @return The number of cache hits.
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Returns the number of statements sent to the database, including those required to load the in-memory indexes.
+     *
+     * @return The number of database roundtrips.
+     */
+    public long getDatabaseRoundtrips() {
+        return databaseRoundtrips.sum();
+    }
+
+    /**
+     * Returns the index of the given job, which is loaded from the database if required.
+     *
+     * @param jobId The job's ID.
+     * @return The loaded index.
+     */
+    private PersistentValueIndex getIndex(String jobId) {
+        PersistentValueIndex index;
+        synchronized (indexes) {
+            index = indexes.computeIfAbsent(jobId, id -> new PersistentValueIndex(RECENT_CONTENTS_SIZE));
+        }
+        try {
+            index.loadIfRequired(() -> {
+                databaseRoundtrips.increment();
+                return persistentValueDao.countByJobId(jobId);
+            }, contentConsumer -> {
+                databaseRoundtrips.increment();
+                try (var contents = persistentValueDao.streamContentsByJobId(jobId)) {
+                    contents.forEach(contentConsumer);
+                }
+                log.debug("Loaded persistent value index of job '{}' with {} values.", jobId, index.size());
+            });
+        } catch (RuntimeException e) {
+            invalidateIndex(jobId);
+            throw e;
+        }
+        return index;
+    }
+
+    /**
+     * Adds newly persisted values to the job's index, if it exists. Indexes that exceed their capacity are dropped, and reloaded
+     * with a larger capacity on their next use.
+     *
+     * @param jobId  The job's ID.
+     * @param values The persisted values.
+     */
+    private void addToIndex(String jobId, List<PersistentValue> values) {
+        PersistentValueIndex index;
+        synchronized (indexes) {
+            index = indexes.get(jobId);
+        }
+        if (index != null) {
+            values.forEach(value -> index.add(value.getContent()));
+            if (index.isOverfilled()) {
+                invalidateIndex(jobId);
+            }
+        }
+    }
+
+    /**
+     * Drops the job's index. It is reloaded from the database on its next use.
+     *
+     * @param jobId The job's ID.
+     */
+    private void invalidateIndex(String jobId) {
+        synchronized (indexes) {
+            indexes.remove(jobId);
+        }
+    }
+
+    /**
+     * Runs the supplied task after the current transaction has been committed, or immediately, if there is no transaction. Thus,
+     * the indexes never contain values of transactions that have been rolled back.
+     *
+     * @param task The task to run.
+     */
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
         }
     }
 
@@ -0,0 +1,274 @@
+package com.arassec.igor.persistence.repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory index of the persisted values of a single job.
+ * <p>
+ * A Bloom filter over all persisted contents answers most lookups of new values without a database query. Recently persisted or
+ * confirmed contents are additionally kept in an LRU set, which answers lookups of known values. Only contents the Bloom filter
+ * reports as possibly persisted, that are not in the LRU set, have to be checked in the database.
+ * <p>
+ * The index must contain every persisted content of the job, otherwise values would be reported as new by mistake. It is
+ * therefore loaded completely from the database before its first use, and every committed insert must be added to it.
+ */
+class PersistentValueIndex {
+
+    /**
+     * The result of a lookup in the index.
+     */
+    enum Lookup {
+
+        /**
+         * The content is definitely persisted.
+         */
+        PERSISTED,
+
+        /**
+         * The content is definitely not persisted.
+         */
+        NOT_PERSISTED,
+
+        /**
+         * The content might be persisted and must be checked in the database.
+         */
+        UNKNOWN
+
+    }
+
+    /**
+     * The targeted probability of the Bloom filter to report a new content as possibly persisted.
+     */
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    /**
+     * The minimum number of contents the Bloom filter is sized for.
+     */
+    private static final long MIN_CAPACITY = 1024;
+
+    /**
+     * The maximum number of contents in the LRU set of recently used contents.
+     */
+    private final int recentContentsSize;
+
+    /**
+     * Contents that are known to be persisted, in the order they were last used.
+     */
+    private final Map<String, Boolean> recentContents;
+
+    /**
+     * Guards the index. The lock is held while the index is loaded, so that the index isn't used before it is complete.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The bits of the Bloom filter. {@code null} until the index is loaded.
+     */
+    private long[] bits;
+
+    /**
+     * The number of bits of the Bloom filter.
+     */
+    private long numBits;
+
+    /**
+     * The number of hash functions of the Bloom filter.
+     */
+    private int numHashFunctions;
+
+    /**
+     * The number of contents the Bloom filter is sized for.
+     */
+    private long capacity;
+
+    /**
+     * The number of contents added to the index.
+     */
+    private long size;
+
+    /**
+     * Creates a new, not yet loaded index.
+     *
+     * @param recentContentsSize The maximum number of contents in the LRU set of recently used contents.
+     */
+    PersistentValueIndex(int recentContentsSize) {
+        this.recentContentsSize = recentContentsSize;
+        this.recentContents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > PersistentValueIndex.this.recentContentsSize;
+            }
+        };
+    }
+
+    /**
+     * Loads the index, if it hasn't been loaded before. Concurrent callers wait until the index is loaded.
+     *
+     * @param countSupplier   Supplies the number of persisted contents.
+     * @param contentsLoader  Hands all persisted contents to the supplied consumer, oldest first.
+     */
+    void loadIfRequired(LongSupplier countSupplier, Consumer<Consumer<String>> contentsLoader) {
+        lock.lock();
+        try {
+            if (bits != null) {
+                return;
+            }
+            // Leaves room for the values persisted after loading, before the index has to be reloaded with a larger size:
+            capacity = Math.max(MIN_CAPACITY, 2 * countSupplier.getAsLong());
+            numBits = Math.max(64, (long) (-capacity * Math.log(FALSE_POSITIVE_PROBABILITY) / (Math.log(2) * Math.log(2))));
+            numHashFunctions = Math.max(1, (int) Math.round((double) numBits / capacity * Math.log(2)));
+            bits = new long[(int) ((numBits + 63) / 64)];
+            contentsLoader.accept(this::add);
+        } catch (RuntimeException e) {
+            bits = null;
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Looks up a content in the index.
+     *
+     * @param content The content to look up.
+     * @return The result of the lookup.
+     */
+    Lookup lookup(String content) {
+        lock.lock();
+        try {
+            if (bits == null) {
+                return Lookup.UNKNOWN;
+            }
+            // The lookup also refreshes the content's position in the LRU set:
+            if (recentContents.get(content) != null) {
+                return Lookup.PERSISTED;
+            }
+            return mightContain(content) ? Lookup.UNKNOWN : Lookup.NOT_PERSISTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a newly persisted content to the index. Contents added before the index is loaded are ignored, because they are read
+     * from the database while loading.
+     *
+     * @param content The persisted content.
+     */
+    void add(String content) {
+        lock.lock();
+        try {
+            if (bits == null) {
+                return;
+            }
+            long[] hashes = hash(content);
+            for (var i = 0; i < numHashFunctions; i++) {
+                long bit = Math.floorMod(hashes[0] + i * hashes[1], numBits);
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+            recentContents.put(content, Boolean.TRUE);
+            size++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a content, that has been found in the database, to the LRU set of recently used contents.
+     *
+     * @param content The persisted content.
+     */
+    void confirm(String content) {
+        lock.lock();
+        try {
+            if (bits != null) {
+                recentContents.put(content, Boolean.TRUE);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of persisted contents, if the index is loaded.
+     *
+     * @return The number of contents, or {@code -1}, if the index isn't loaded.
+     */
+    long size() {
+        lock.lock();
+        try {
+            return (bits != null) ? size : -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether more contents have been added than the Bloom filter has been sized for. The filter's false positive
+     * probability rises beyond the targeted value in this case, and the index should be reloaded.
+     *
+     * @return {@code true}, if the index is overfilled, {@code false} otherwise.
+     */
+    boolean isOverfilled() {
+        lock.lock();
+        try {
+            return bits != null && size > capacity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks the Bloom filter for the content. Must be called while holding the lock.
+     *
+     * @param content The content to check.
+     * @return {@code true}, if the content might be persisted, {@code false}, if it definitely isn't.
+     */
+    private boolean mightContain(String content) {
+        long[] hashes = hash(content);
+        for (var i = 0; i < numHashFunctions; i++) {
+            long bit = Math.floorMod(hashes[0] + i * hashes[1], numBits);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes two independent 64-bit hashes of the content, which are combined into the Bloom filter's hash functions.
+     *
+     * @param content The content to hash.
+     * @return The two hashes.
+     */
+    private static long[] hash(String content) {
+        // FNV-1a over the content's characters:
+        long hash = 0xcbf29ce484222325L;
+        for (var i = 0; i < content.length(); i++) {
+            hash ^= content.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        long first = mix(hash);
+        return new long[]{first, mix(first ^ 0x9e3779b97f4a7c15L) | 1};
+    }
+
+    /**
+     * Spreads the bits of a hash with the finalizer of MurmurHash3.
+     *
+     * @param hash The hash.
+     * @return The mixed hash.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -6,20 +6,41 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * {@link SecurityProvider} that provides symmetrical encryption and decryption of secured parameters. The encrypted parameter
  * values are stored in igor's database.
+ * <p>
+ * Decryption is deliberately slow, since the key is derived from the security token for every value. Recently decrypted values
+ * are therefore remembered, because the same connectors are loaded again and again.
  */
 @Component
 @ConditionalOnClass(StrongTextEncryptor.class)
 @ConditionalOnProperty("igor.persistence.local-security-token")
 public class LocalSecurityProvider extends BaseSecurityProvider {
 
+    /**
+     * The maximum number of remembered decrypted values.
+     */
+    private static final int MAX_DECRYPTED_VALUES = 1000;
+
     /**
      * Provides encryption for secured properties.
      */
     private final StrongTextEncryptor textEncryptor = new StrongTextEncryptor();
 
+    /**
+     * Recently decrypted values by their encrypted form, in the order they were last used.
+     */
+    private final Map<String, String> decryptedValues = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_DECRYPTED_VALUES;
+        }
+    };
+
     /**
      * Prepares the property encryption.
      *
@@ -42,7 +63,23 @@ public class LocalSecurityProvider extends BaseSecurityProvider {
      */
     @Override
     public String decrypt(String id, String paramName, String paramValue) {
-        return textEncryptor.decrypt(paramValue);
+        if (paramValue == null) {
+            return null;
+        }
+        synchronized (decryptedValues) {
+            var decryptedValue = decryptedValues.get(paramValue);
+            if (decryptedValue != null) {
+                return decryptedValue;
+            }
+        }
+        // The encrypted value contains its random salt, so it always decrypts to the same value:
+        var decryptedValue = textEncryptor.decrypt(paramValue);
+        if (decryptedValue != null) {
+            synchronized (decryptedValues) {
+                decryptedValues.put(paramValue, decryptedValue);
+            }
+        }
+        return decryptedValue;
     }
 
 }
@@ -0,0 +1,9 @@
+ALTER TABLE job_execution ADD COLUMN created TIMESTAMP;
+ALTER TABLE job_execution ADD COLUMN started TIMESTAMP;
+ALTER TABLE job_execution ADD COLUMN finished TIMESTAMP;
+ALTER TABLE job_execution ADD COLUMN processed_events INTEGER;
+ALTER TABLE job_execution ADD COLUMN error_cause TEXT;
+
+CREATE INDEX job_execution_job_id ON job_execution (job_id, id);
+CREATE INDEX job_execution_state ON job_execution (state, id);
+CREATE INDEX job_execution_job_id_state ON job_execution (job_id, state, id);
@@ -0,0 +1,191 @@
+package com.arassec.igor.persistence.dao;
+
+import com.arassec.igor.persistence.entity.JobExecutionEntity;
+import com.arassec.igor.persistence.test.DaoTestConfiguration;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link JobExecutionDao} against an in-memory H2 database, created with igor's Flyway migrations.
+ */
+@DataJpaTest(properties = "spring.flyway.locations=classpath:/db/migration/{vendor}")
+@ContextConfiguration(classes = DaoTestConfiguration.class)
+@DisplayName("Job-Execution-DAO tests.")
+class JobExecutionDaoTest {
+
+    /**
+     * The DAO under test.
+     */
+    @Autowired
+    private JobExecutionDao jobExecutionDao;
+
+    /**
+     * Flyway, which migrated the database.
+     */
+    @Autowired
+    private Flyway flyway;
+
+    /**
+     * Entity manager to flush and clear the persistence context.
+     */
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    /**
+     * Tests that the migration adding the typed job-execution columns has been applied, and that the columns are mapped.
+     */
+    @Test
+    @DisplayName("Tests the migration of the job-execution columns.")
+    void testMigration() {
+        assertEquals("1.1.0", flyway.info().current().getVersion().getVersion());
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        JobExecutionEntity entity = createEntity("job-id", "RUNNING");
+        entity.setCreated(now);
+        entity.setStarted(now);
+        entity.setProcessedEvents(5);
+        entity.setErrorCause("error");
+        Long id = jobExecutionDao.save(entity).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        JobExecutionEntity loaded = jobExecutionDao.findById(id).orElseThrow();
+        assertEquals(now, loaded.getCreated());
+        assertEquals(now, loaded.getStarted());
+        assertNull(loaded.getFinished());
+        assertEquals(5, loaded.getProcessedEvents());
+        assertEquals("error", loaded.getErrorCause());
+        assertNull(loaded.getContent());
+    }
+
+    /**
+     * Tests updating the mutable columns of a job-execution.
+     */
+    @Test
+    @DisplayName("Tests updating a job-execution.")
+    void testUpdateExecution() {
+        Long id = jobExecutionDao.save(createEntity("job-id", "RUNNING")).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Instant started = Instant.now().minusSeconds(60).truncatedTo(ChronoUnit.MILLIS);
+        Instant finished = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        assertEquals(1, jobExecutionDao.updateExecution(id, "FAILED", started, finished, 23, "cause"));
+        assertEquals(0, jobExecutionDao.updateExecution(id + 1, "FAILED", started, finished, 23, "cause"));
+        testEntityManager.clear();
+
+        JobExecutionEntity loaded = jobExecutionDao.findById(id).orElseThrow();
+        assertEquals("FAILED", loaded.getState());
+        assertEquals(started, loaded.getStarted());
+        assertEquals(finished, loaded.getFinished());
+        assertEquals(23, loaded.getProcessedEvents());
+        assertEquals("cause", loaded.getErrorCause());
+        assertEquals("job-id", loaded.getJobId());
+    }
+
+    /**
+     * Tests updating the state of a job-execution.
+     */
+    @Test
+    @DisplayName("Tests updating the state of a job-execution.")
+    void testUpdateState() {
+        Long id = jobExecutionDao.save(createEntity("job-id", "FAILED")).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertEquals(1, jobExecutionDao.updateState(id, "RESOLVED"));
+        testEntityManager.clear();
+
+        assertEquals("RESOLVED", jobExecutionDao.findById(id).orElseThrow().getState());
+        assertEquals(1, jobExecutionDao.countAllOfJobInState("job-id", "RESOLVED"));
+    }
+
+    /**
+     * Tests that nothing is deleted, if a job has fewer executions than should be kept.
+     */
+    @Test
+    @DisplayName("Tests deleting job-executions if fewer than the limit exist.")
+    void testDeleteAllButMostRecentWithFewerExecutions() {
+        jobExecutionDao.save(createEntity("job-id", "FINISHED"));
+        jobExecutionDao.save(createEntity("job-id", "FINISHED"));
+
+        assertEquals(0, jobExecutionDao.deleteAllButMostRecent("job-id", "FAILED", 5));
+        assertEquals(0, jobExecutionDao.deleteAllButMostRecent("unknown-job-id", "FAILED", 5));
+
+        assertEquals(2, jobExecutionDao.countAllOfJobInState("job-id", "FINISHED"));
+    }
+
+    /**
+     * Tests that failed job-executions are neither deleted nor counted, and that executions of other jobs are kept.
+     */
+    @Test
+    @DisplayName("Tests deleting job-executions with failed executions in between.")
+    void testDeleteAllButMostRecent() {
+        List<Long> ids = Stream.of("FINISHED", "FAILED", "FINISHED", "FAILED", "FINISHED", "CANCELLED")
+            .map(state -> jobExecutionDao.save(createEntity("job-id", state)).getId())
+            .toList();
+        Long otherJobExecutionId = jobExecutionDao.save(createEntity("other-job-id", "FINISHED")).getId();
+
+        assertEquals(2, jobExecutionDao.deleteAllButMostRecent("job-id", "FAILED", 2));
+
+        // The persistence context has been cleared, deleted executions aren't found as managed entities:
+        assertTrue(jobExecutionDao.findById(ids.get(0)).isEmpty());
+        assertTrue(jobExecutionDao.findById(ids.get(2)).isEmpty());
+
+        List<Long> remainingIds = jobExecutionDao.findByJobId("job-id", PageRequest.of(0, 10, Sort.by("id"))).stream()
+            .map(JobExecutionEntity::getId).toList();
+        assertEquals(List.of(ids.get(1), ids.get(3), ids.get(4), ids.get(5)), remainingIds);
+        assertTrue(jobExecutionDao.findById(otherJobExecutionId).isPresent());
+    }
+
+    /**
+     * Tests updating the state of all executions of a job in a certain state.
+     */
+    @Test
+    @DisplayName("Tests updating the state of all executions of a job.")
+    void testUpdateStateOfJob() {
+        Long firstId = jobExecutionDao.save(createEntity("job-id", "FAILED")).getId();
+        Long secondId = jobExecutionDao.save(createEntity("job-id", "FAILED")).getId();
+        Long finishedId = jobExecutionDao.save(createEntity("job-id", "FINISHED")).getId();
+        Long otherJobExecutionId = jobExecutionDao.save(createEntity("other-job-id", "FAILED")).getId();
+
+        assertEquals(2, jobExecutionDao.updateStateOfJob("job-id", "FAILED", "RESOLVED"));
+
+        // The persistence context has been cleared, entities are loaded with their new state:
+        assertEquals("RESOLVED", jobExecutionDao.findById(firstId).orElseThrow().getState());
+        assertEquals("RESOLVED", jobExecutionDao.findById(secondId).orElseThrow().getState());
+        assertEquals("FINISHED", jobExecutionDao.findById(finishedId).orElseThrow().getState());
+        assertEquals("FAILED", jobExecutionDao.findById(otherJobExecutionId).orElseThrow().getState());
+    }
+
+    /**
+     * Creates a job-execution entity.
+     *
+     * @param jobId The job's ID.
+     * @param state The execution's state.
+     *
+     * @return A new, unsaved entity.
+     */
+    private JobExecutionEntity createEntity(String jobId, String state) {
+        JobExecutionEntity entity = new JobExecutionEntity();
+        entity.setJobId(jobId);
+        entity.setState(state);
+        return entity;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.arassec.igor.persistence.dao;
+
+import com.arassec.igor.persistence.entity.PersistentValueEntity;
+import com.arassec.igor.persistence.test.DaoTestConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link PersistentValueDao} against an in-memory H2 database, created with igor's Flyway migrations.
+ */
+@DataJpaTest(properties = "spring.flyway.locations=classpath:/db/migration/{vendor}")
+@ContextConfiguration(classes = DaoTestConfiguration.class)
+@DisplayName("Persistent-Value-DAO tests.")
+class PersistentValueDaoTest {
+
+    /**
+     * The DAO under test.
+     */
+    @Autowired
+    private PersistentValueDao persistentValueDao;
+
+    /**
+     * Tests that nothing is deleted, if a job has fewer values than should be kept.
+     */
+    @Test
+    @DisplayName("Tests deleting persistent values if fewer than the limit exist.")
+    void testDeleteAllButMostRecentWithFewerValues() {
+        persistentValueDao.save(createEntity("job-id", "a"));
+        persistentValueDao.save(createEntity("job-id", "b"));
+
+        assertEquals(0, persistentValueDao.deleteAllButMostRecent("job-id", 5));
+        assertEquals(0, persistentValueDao.deleteAllButMostRecent("unknown-job-id", 5));
+
+        assertEquals(2, persistentValueDao.countByJobId("job-id"));
+    }
+
+    /**
+     * Tests deleting all values of a job except the most recent ones. Values of other jobs are kept.
+     */
+    @Test
+    @DisplayName("Tests deleting all but the most recent persistent values.")
+    void testDeleteAllButMostRecent() {
+        List<Long> ids = IntStream.range(0, 5)
+            .mapToObj(i -> persistentValueDao.save(createEntity("job-id", "value-" + i)).getId())
+            .toList();
+        Long otherJobValueId = persistentValueDao.save(createEntity("other-job-id", "value-0")).getId();
+
+        assertEquals(3, persistentValueDao.deleteAllButMostRecent("job-id", 2));
+
+        // The persistence context has been cleared, deleted values aren't found as managed entities:
+        assertTrue(persistentValueDao.findById(ids.get(0)).isEmpty());
+        assertTrue(persistentValueDao.findById(ids.get(2)).isEmpty());
+        assertNull(persistentValueDao.findByJobIdAndContent("job-id", "value-1"));
+
+        assertEquals(2, persistentValueDao.countByJobId("job-id"));
+        assertTrue(persistentValueDao.findById(ids.get(3)).isPresent());
+        assertTrue(persistentValueDao.findById(ids.get(4)).isPresent());
+        assertTrue(persistentValueDao.findById(otherJobValueId).isPresent());
+    }
+
+    /**
+     * Creates a persistent-value entity.
+     *
+     * @param jobId   The job's ID.
+     * @param content The value's content.
+     *
+     * @return A new, unsaved entity.
+     */
+    private PersistentValueEntity createEntity(String jobId, String content) {
+        PersistentValueEntity entity = new PersistentValueEntity();
+        entity.setJobId(jobId);
+        entity.setContent(content);
+        entity.setCreated(Instant.now());
+        return entity;
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.arassec.igor.persistence.mapper;
+
+import com.arassec.igor.core.model.job.Job;
+import com.arassec.igor.persistence.test.TestAction;
+import com.arassec.igor.persistence.test.TestConnector;
+import com.arassec.igor.persistence.test.TestTrigger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link JobTemplateMapper}.
+ */
+@DisplayName("Tests mapping a job with templates.")
+class JobTemplateMapperTest extends MapperBaseTest {
+
+    /**
+     * Tests creating jobs from a parsed template.
+     */
+    @Test
+    @DisplayName("Tests creating jobs from a parsed template.")
+    @SneakyThrows(IOException.class)
+    void testParseAndInstantiate() {
+        String jobJson = Files.readString(Paths.get("src/test/resources/job-reference.json"));
+
+        JobTemplate jobTemplate = jobTemplateMapper.parse(jobJson);
+
+        assertFalse(jobTemplate.properties().has("trigger"));
+        assertEquals("trigger-type-id", jobTemplate.trigger().typeId());
+        assertEquals(1, jobTemplate.actions().size());
+        assertEquals(TestConnector.CONNECTOR_ID, jobTemplate.actions().getFirst().connectorIds().get("testConnector"));
+
+        Job firstJob = jobTemplateMapper.instantiate(jobTemplate);
+        Job secondJob = jobTemplateMapper.instantiate(jobTemplate);
+
+        assertNotSame(firstJob, secondJob);
+        assertNotSame(firstJob.getActions(), secondJob.getActions());
+
+        for (Job job : new Job[]{firstJob, secondJob}) {
+            assertEquals("job-id", job.getId());
+            assertEquals("job-name", job.getName());
+            assertEquals(666, job.getHistoryLimit());
+            assertEquals("trigger-id", ((TestTrigger) job.getTrigger()).getId());
+            TestAction testAction = (TestAction) job.getActions().getFirst();
+            assertEquals("action-id", testAction.getId());
+            assertEquals("action-name", testAction.getName());
+            assertInstanceOf(TestConnector.class, testAction.getTestConnector());
+        }
+    }
+
+}
@@ -15,8 +15,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.context.ApplicationContext;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -35,6 +38,16 @@ public abstract class MapperBaseTest {
      */
     protected ObjectMapper jobObjectMapper;
 
+    /**
+     * {@link JobTemplateMapper} for {@link com.arassec.igor.core.model.job.Job}s.
+     */
+    protected JobTemplateMapper jobTemplateMapper;
+
+    /**
+     * Repository for connectors used by the job mappers.
+     */
+    protected ConnectorRepository connectorRepositoryMock;
+
     /**
      * Initializes the test environment.
      */
@@ -57,11 +70,18 @@ public abstract class MapperBaseTest {
         connectorObjectMapper = persistenceConfiguration.persistenceConnectorMapper(igorComponentRegistry,
             new TestSecurityProvider(), igorComponentUtil);
 
-        ConnectorRepository connectorRepositoryMock = mock(ConnectorRepository.class);
+        connectorRepositoryMock = mock(ConnectorRepository.class);
         when(connectorRepositoryMock.findById(TestConnector.CONNECTOR_ID)).thenReturn(new TestConnector());
+        when(connectorRepositoryMock.findAllById(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.contains(TestConnector.CONNECTOR_ID) ? Map.of(TestConnector.CONNECTOR_ID, new TestConnector()) : Map.of();
+        });
 
         jobObjectMapper = persistenceConfiguration.persistenceJobMapper(igorComponentRegistry, connectorRepositoryMock,
             new TestSecurityProvider(), igorComponentUtil);
+
+        jobTemplateMapper = persistenceConfiguration.jobTemplateMapper(jobObjectMapper, igorComponentRegistry,
+            connectorRepositoryMock, new TestSecurityProvider());
     }
 
     /**
@@ -20,7 +20,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -144,6 +146,30 @@ class JdbcConnectorRepositoryTest {
         assertEquals(connector, repository.findById("connector-id"));
     }
 
+    /**
+     * Tests finding multiple connectors by their IDs.
+     */
+    @Test
+    @DisplayName("Tests finding multiple connectors by their IDs.")
+    @SneakyThrows(JsonProcessingException.class)
+    void testFindAllById() {
+        assertTrue(repository.findAllById(List.of()).isEmpty());
+
+        ConnectorEntity connectorEntity = new ConnectorEntity();
+        connectorEntity.setId("connector-id");
+        connectorEntity.setContent("connector-json");
+        when(connectorDao.findAllById(Set.of("connector-id", "unknown-id"))).thenReturn(List.of(connectorEntity));
+
+        Connector connector = new TestConnector();
+        when(persistenceConnectorMapper.readValue("connector-json", Connector.class)).thenReturn(connector);
+
+        Map<String, Connector> result = repository.findAllById(List.of("connector-id", "unknown-id", "connector-id"));
+
+        assertEquals(Map.of("connector-id", connector), result);
+        verify(connectorDao, times(1)).findAllById(anyIterable());
+        verify(connectorDao, never()).findById(anyString());
+    }
+
     /**
      * Tests finding a connector by its name.
      */
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,9 +61,12 @@ class JdbcJobExecutionRepositoryTest {
     @Test
     @DisplayName("Tests saving a new job-execution.")
     void testUpsertNew() {
+        Instant created = Instant.now();
+
         JobExecution jobExecution = new JobExecution();
         jobExecution.setJobId("job-id");
         jobExecution.setExecutionState(JobExecutionState.RUNNING);
+        jobExecution.setCreated(created);
 
         JobExecutionEntity entity = new JobExecutionEntity();
         entity.setId(123L);
@@ -78,6 +82,9 @@ class JdbcJobExecutionRepositoryTest {
         JobExecutionEntity value = argCap.getValue();
         assertEquals("job-id", value.getJobId());
         assertEquals(JobExecutionState.RUNNING.name(), value.getState());
+        assertEquals(created, value.getCreated());
+        assertEquals(0, value.getProcessedEvents());
+        assertNull(value.getContent());
     }
 
     /**
@@ -86,20 +93,23 @@ class JdbcJobExecutionRepositoryTest {
     @Test
     @DisplayName("Tests updating an existing job-execution.")
     void testUpsertExisting() {
+        Instant started = Instant.now();
+
         JobExecution jobExecution = new JobExecution();
         jobExecution.setId(123L);
         jobExecution.setJobId("job-id");
-        jobExecution.setExecutionState(JobExecutionState.RUNNING);
+        jobExecution.setExecutionState(JobExecutionState.FAILED);
+        jobExecution.setStarted(started);
+        jobExecution.setProcessedEvents(42);
+        jobExecution.setErrorCause("error");
 
-        JobExecutionEntity entity = new JobExecutionEntity();
-        entity.setId(123L);
-        when(jobExecutionDao.save(any(JobExecutionEntity.class))).thenReturn(entity);
+        when(jobExecutionDao.updateExecution(123L, "FAILED", started, null, 42, "error")).thenReturn(1);
 
-        when(jobExecutionDao.findById(123L)).thenReturn(Optional.of(entity));
-
-        repository.upsert(jobExecution);
+        assertEquals(jobExecution, repository.upsert(jobExecution));
 
-        verify(jobExecutionDao, times(1)).save(entity);
+        verify(jobExecutionDao, never()).findById(anyLong());
+        verify(jobExecutionDao, never()).save(any(JobExecutionEntity.class));
+        verifyNoInteractions(persistenceJobMapper);
     }
 
     /**
@@ -107,24 +117,17 @@ class JdbcJobExecutionRepositoryTest {
      */
     @Test
     @DisplayName("Tests error handling during job-execution upserts.")
-    @SneakyThrows(JsonProcessingException.class)
     void testUpsertErrorHandling() {
         // null input -> null output
         assertNull(repository.upsert(null));
 
-        // Error during JSON parsing:
+        // Job is deleted during upsert:
         JobExecution jobExecution = new JobExecution();
+        jobExecution.setId(123L);
         jobExecution.setJobId("job-id");
         jobExecution.setExecutionState(JobExecutionState.RUNNING);
 
-        when(persistenceJobMapper.writeValueAsString(jobExecution)).thenThrow(mock(JsonProcessingException.class));
-
-        assertThrows(IllegalStateException.class, () -> repository.upsert(jobExecution));
-
-        // Job is deleted during upsert:
-        when(jobExecutionDao.findById(anyLong())).thenReturn(Optional.empty());
-
-        jobExecution.setId(123L);
+        when(jobExecutionDao.updateExecution(eq(123L), anyString(), any(), any(), anyInt(), any())).thenReturn(0);
 
         assertNull(repository.upsert(jobExecution));
     }
@@ -153,6 +156,39 @@ class JdbcJobExecutionRepositoryTest {
         assertEquals(jobExecution, foundJobExecution);
     }
 
+    /**
+     * Tests finding a job-execution that is stored in typed columns only.
+     */
+    @Test
+    @DisplayName("Tests finding a job-execution that is stored in typed columns only.")
+    void testFindByIdWithoutContent() {
+        Instant created = Instant.now();
+
+        JobExecutionEntity entity = new JobExecutionEntity();
+        entity.setId(123L);
+        entity.setJobId("job-id");
+        entity.setState(JobExecutionState.FAILED.name());
+        entity.setCreated(created);
+        entity.setStarted(created.plusSeconds(1));
+        entity.setFinished(created.plusSeconds(2));
+        entity.setProcessedEvents(42);
+        entity.setErrorCause("error");
+
+        when(jobExecutionDao.findById(123L)).thenReturn(Optional.of(entity));
+
+        JobExecution jobExecution = repository.findById(123L);
+
+        assertEquals(123L, jobExecution.getId());
+        assertEquals("job-id", jobExecution.getJobId());
+        assertEquals(JobExecutionState.FAILED, jobExecution.getExecutionState());
+        assertEquals(created, jobExecution.getCreated());
+        assertEquals(created.plusSeconds(1), jobExecution.getStarted());
+        assertEquals(created.plusSeconds(2), jobExecution.getFinished());
+        assertEquals(42, jobExecution.getProcessedEvents());
+        assertEquals("error", jobExecution.getErrorCause());
+        verifyNoInteractions(persistenceJobMapper);
+    }
+
     /**
      * Tests finding all job-executions of a job.
      */
@@ -277,30 +313,14 @@ class JdbcJobExecutionRepositoryTest {
     @Test
     @DisplayName("Tests cleaning up old job-executions of a job.")
     void testCleanup() {
-        JobExecutionEntity first = new JobExecutionEntity();
-        first.setId(4L);
-        first.setState(JobExecutionState.WAITING.name());
-
-        JobExecutionEntity second = new JobExecutionEntity();
-        second.setId(3L);
-        second.setState(JobExecutionState.FAILED.name());
-
-        JobExecutionEntity third = new JobExecutionEntity();
-        third.setId(2L);
-        third.setState(JobExecutionState.FINISHED.name());
-
-        @SuppressWarnings("unchecked")
-        Page<JobExecutionEntity> page = mock(Page.class);
-        when(page.hasContent()).thenReturn(true);
-        when(page.getTotalElements()).thenReturn(3L);
-        when(page.getContent()).thenReturn(List.of(first, second, third));
-
-        when(jobExecutionDao.findByJobId(eq("job-id"), any(Pageable.class))).thenReturn(page);
+        repository.cleanup(null, 1);
+        repository.cleanup("job-id", 0);
+        verify(jobExecutionDao, times(0)).deleteAllButMostRecent(anyString(), anyString(), anyInt());
 
         repository.cleanup("job-id", 1);
 
-        verify(jobExecutionDao, times(1)).deleteByJobIdAndStateNotAndIdBefore("job-id",
-                JobExecutionState.FAILED.name(), 4L);
+        verify(jobExecutionDao, times(1)).deleteAllButMostRecent("job-id", JobExecutionState.FAILED.name(), 1);
+        verify(jobExecutionDao, never()).findByJobId(anyString(), any(Pageable.class));
     }
 
     /**
@@ -323,22 +343,18 @@ class JdbcJobExecutionRepositoryTest {
     @DisplayName("Tests updating all job-executions in a certain state.")
     void testUpdateJobExecutionState() {
         repository.updateJobExecutionState(null, null);
-        verify(jobExecutionDao, times(0)).findById(anyLong());
+        verify(jobExecutionDao, times(0)).updateState(anyLong(), anyString());
 
         repository.updateJobExecutionState(null, JobExecutionState.RESOLVED);
-        verify(jobExecutionDao, times(0)).findById(anyLong());
+        verify(jobExecutionDao, times(0)).updateState(anyLong(), anyString());
 
         repository.updateJobExecutionState(123L, null);
-        verify(jobExecutionDao, times(0)).findById(anyLong());
-
-        JobExecutionEntity entity = new JobExecutionEntity();
-        entity.setState(JobExecutionState.FAILED.name());
-
-        when(jobExecutionDao.findById(123L)).thenReturn(Optional.of(entity));
+        verify(jobExecutionDao, times(0)).updateState(anyLong(), anyString());
 
         repository.updateJobExecutionState(123L, JobExecutionState.RESOLVED);
 
-        assertEquals(JobExecutionState.RESOLVED.name(), entity.getState());
+        verify(jobExecutionDao, times(1)).updateState(123L, JobExecutionState.RESOLVED.name());
+        verify(jobExecutionDao, never()).findById(anyLong());
     }
 
     /**
@@ -348,21 +364,16 @@ class JdbcJobExecutionRepositoryTest {
     @DisplayName("Tests updating all job-executions of a certain job.")
     void testUpdateAllJobExecutionsOfJob() {
         repository.updateAllJobExecutionsOfJob(null, null, null);
-        verify(jobExecutionDao, times(0)).findByJobIdAndStateOrderByIdDesc(anyString(), anyString());
         repository.updateAllJobExecutionsOfJob("job-id", null, null);
-        verify(jobExecutionDao, times(0)).findByJobIdAndStateOrderByIdDesc(anyString(), anyString());
         repository.updateAllJobExecutionsOfJob(null, JobExecutionState.FAILED, null);
-        verify(jobExecutionDao, times(0)).findByJobIdAndStateOrderByIdDesc(anyString(), anyString());
         repository.updateAllJobExecutionsOfJob(null, null, JobExecutionState.RESOLVED);
-        verify(jobExecutionDao, times(0)).findByJobIdAndStateOrderByIdDesc(anyString(), anyString());
-
-        List<JobExecutionEntity> entities = List.of(new JobExecutionEntity(), new JobExecutionEntity());
-
-        when(jobExecutionDao.findByJobIdAndStateOrderByIdDesc("job-id", JobExecutionState.FAILED.name())).thenReturn(entities);
+        verify(jobExecutionDao, times(0)).updateStateOfJob(anyString(), anyString(), anyString());
 
         repository.updateAllJobExecutionsOfJob("job-id", JobExecutionState.FAILED, JobExecutionState.RESOLVED);
 
-        entities.forEach(entity -> assertEquals(JobExecutionState.RESOLVED.name(), entity.getState()));
+        verify(jobExecutionDao, times(1)).updateStateOfJob("job-id", JobExecutionState.FAILED.name(),
+            JobExecutionState.RESOLVED.name());
+        verify(jobExecutionDao, never()).findByJobIdAndStateOrderByIdDesc(anyString(), anyString());
     }
 
     /**
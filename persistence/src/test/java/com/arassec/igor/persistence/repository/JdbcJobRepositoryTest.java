@@ -8,6 +8,8 @@ import com.arassec.igor.persistence.dao.JobDao;
 import com.arassec.igor.persistence.entity.JobConnectorReferenceEntity;
 import com.arassec.igor.persistence.entity.JobConnectorReferenceView;
 import com.arassec.igor.persistence.entity.JobEntity;
+import com.arassec.igor.persistence.mapper.JobTemplate;
+import com.arassec.igor.persistence.mapper.JobTemplateMapper;
 import com.arassec.igor.persistence.test.TestAction;
 import com.arassec.igor.persistence.test.TestConnector;
 import com.arassec.igor.persistence.test.TestTrigger;
@@ -55,6 +57,11 @@ class JdbcJobRepositoryTest {
      */
     private ObjectMapper persistenceJobMapper;
 
+    /**
+     * Parses jobs into templates and creates job instances from them.
+     */
+    private JobTemplateMapper jobTemplateMapper;
+
     /**
      * Initializes the test environment.
      */
@@ -63,7 +70,8 @@ class JdbcJobRepositoryTest {
         jobDao = mock(JobDao.class);
         jobConnectorReferenceDao = mock(JobConnectorReferenceDao.class);
         persistenceJobMapper = mock(ObjectMapper.class);
-        repository = new JdbcJobRepository(jobDao, jobConnectorReferenceDao, persistenceJobMapper);
+        jobTemplateMapper = mock(JobTemplateMapper.class);
+        repository = new JdbcJobRepository(jobDao, jobConnectorReferenceDao, persistenceJobMapper, jobTemplateMapper);
     }
 
     /**
@@ -215,12 +223,53 @@ class JdbcJobRepositoryTest {
         when(jobDao.findById("job-id")).thenReturn(Optional.of(jobEntity));
 
         Job job = new Job();
-        when(persistenceJobMapper.readValue("job-json", Job.class)).thenReturn(job);
+        JobTemplate jobTemplate = new JobTemplate(null, null, List.of());
+        when(jobTemplateMapper.parse("job-json")).thenReturn(jobTemplate);
+        when(jobTemplateMapper.instantiate(jobTemplate)).thenReturn(job);
 
         Job foundJob = repository.findById("job-id");
         assertEquals(job, foundJob);
     }
 
+    /**
+     * Tests caching parsed jobs by their entity's version.
+     */
+    @Test
+    @DisplayName("Tests caching parsed jobs by their entity's version.")
+    @SneakyThrows(JsonProcessingException.class)
+    void testFindByIdCached() {
+        JobEntity jobEntity = new JobEntity();
+        jobEntity.setId("job-id");
+        jobEntity.setVersion(1);
+        jobEntity.setContent("job-json");
+
+        when(jobDao.findById("job-id")).thenReturn(Optional.of(jobEntity));
+
+        JobTemplate jobTemplate = new JobTemplate(null, null, List.of());
+        when(jobTemplateMapper.parse("job-json")).thenReturn(jobTemplate);
+        when(jobTemplateMapper.instantiate(jobTemplate)).thenAnswer(invocation -> new Job());
+
+        Job firstJob = repository.findById("job-id");
+        Job secondJob = repository.findById("job-id");
+
+        // Every call returns a new instance, but the job is only parsed once:
+        assertNotSame(firstJob, secondJob);
+        verify(jobTemplateMapper, times(1)).parse("job-json");
+        verify(jobTemplateMapper, times(2)).instantiate(jobTemplate);
+
+        // A new version of the job is parsed again:
+        jobEntity.setVersion(2);
+        repository.findById("job-id");
+        verify(jobTemplateMapper, times(2)).parse("job-json");
+
+        // Deleting the job removes it from the cache, jobs without version are not cached at all:
+        repository.deleteById("job-id");
+        jobEntity.setVersion(null);
+        repository.findById("job-id");
+        repository.findById("job-id");
+        verify(jobTemplateMapper, times(4)).parse("job-json");
+    }
+
     /**
      * Tests finding a job by its name.
      */
@@ -236,7 +285,9 @@ class JdbcJobRepositoryTest {
         when(jobDao.findByName("job-name")).thenReturn(jobEntity);
 
         Job job = new Job();
-        when(persistenceJobMapper.readValue("job-json", Job.class)).thenReturn(job);
+        JobTemplate jobTemplate = new JobTemplate(null, null, List.of());
+        when(jobTemplateMapper.parse("job-json")).thenReturn(jobTemplate);
+        when(jobTemplateMapper.instantiate(jobTemplate)).thenReturn(job);
 
         Job foundJob = repository.findByName("job-name");
         assertEquals(job, foundJob);
@@ -254,7 +305,9 @@ class JdbcJobRepositoryTest {
         List<JobEntity> entityList = List.of(new JobEntity(), new JobEntity());
         entityList.forEach(entity -> entity.setContent("job-json"));
         when(jobDao.findAll()).thenReturn(entityList);
-        when(persistenceJobMapper.readValue("job-json", Job.class)).thenReturn(new Job());
+        JobTemplate jobTemplate = new JobTemplate(null, null, List.of());
+        when(jobTemplateMapper.parse("job-json")).thenReturn(jobTemplate);
+        when(jobTemplateMapper.instantiate(jobTemplate)).thenReturn(new Job());
 
         List<Job> allJobs = repository.findAll();
         assertEquals(2, allJobs.size());
@@ -284,7 +337,9 @@ class JdbcJobRepositoryTest {
         entityList.forEach(entity -> entity.setContent("job-json"));
         when(entityPage.getContent()).thenReturn(entityList);
 
-        when(persistenceJobMapper.readValue("job-json", Job.class)).thenReturn(new Job());
+        JobTemplate jobTemplate = new JobTemplate(null, null, List.of());
+        when(jobTemplateMapper.parse("job-json")).thenReturn(jobTemplate);
+        when(jobTemplateMapper.instantiate(jobTemplate)).thenReturn(new Job());
 
         when(jobDao.findAll(any(Pageable.class))).thenReturn(entityPage);
 
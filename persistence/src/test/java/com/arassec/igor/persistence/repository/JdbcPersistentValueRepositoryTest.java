@@ -7,10 +7,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
 
+import java.sql.PreparedStatement;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,13 +39,19 @@ class JdbcPersistentValueRepositoryTest {
      */
     private PersistentValueDao persistentValueDao;
 
+    /**
+     * JdbcTemplate for batched inserts.
+     */
+    private JdbcTemplate jdbcTemplate;
+
     /**
      * Initializes the test environment.
      */
     @BeforeEach
     void initialize() {
         persistentValueDao = mock(PersistentValueDao.class);
-        repository = new JdbcPersistentValueRepository(persistentValueDao);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        repository = new JdbcPersistentValueRepository(persistentValueDao, jdbcTemplate);
     }
 
     /**
@@ -95,6 +109,69 @@ class JdbcPersistentValueRepositoryTest {
         assertEquals(value.getContent(), argCap.getValue().getContent());
     }
 
+    /**
+     * Tests upserting multiple new entities at once.
+     */
+    @Test
+    @DisplayName("Tests upserting multiple new entities at once.")
+    void testUpsertAll() throws Exception {
+        assertTrue(repository.upsertAll("job-id", List.of()).isEmpty());
+
+        PersistentValue first = new PersistentValue("first");
+        PersistentValue second = new PersistentValue("second");
+
+        PreparedStatement preparedStatementMock = mock(PreparedStatement.class);
+
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+            any(KeyHolder.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            for (var i = 0; i < setter.getBatchSize(); i++) {
+                setter.setValues(preparedStatementMock, i);
+            }
+            KeyHolder keyHolder = invocation.getArgument(2);
+            keyHolder.getKeyList().add(Map.of("id", 1));
+            keyHolder.getKeyList().add(Map.of("id", 2));
+            return new int[]{1, 1};
+        });
+
+        List<PersistentValue> persistedValues = repository.upsertAll("job-id", List.of(first, second));
+
+        assertEquals(1L, persistedValues.get(0).getId());
+        assertEquals(2L, persistedValues.get(1).getId());
+        assertNotNull(persistedValues.get(0).getCreated());
+
+        verify(preparedStatementMock, times(2)).setString(1, "job-id");
+        verify(preparedStatementMock, times(1)).setString(3, "second");
+        verify(jdbcTemplate, times(1)).batchUpdate(any(PreparedStatementCreator.class),
+            any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        verify(persistentValueDao, never()).save(any(PersistentValueEntity.class));
+        verify(persistentValueDao, never()).saveAll(anyList());
+    }
+
+    /**
+     * Tests finding the contents of already persisted entities.
+     */
+    @Test
+    @DisplayName("Tests finding the contents of already persisted entities.")
+    void testFindPersistedContents() {
+        assertTrue(repository.findPersistedContents("job-id", null).isEmpty());
+
+        PersistentValueEntity entity = new PersistentValueEntity();
+        entity.setContent("persisted");
+
+        when(persistentValueDao.countByJobId("job-id")).thenReturn(1L);
+        when(persistentValueDao.streamContentsByJobId("job-id")).thenReturn(Stream.of("persisted"));
+        when(persistentValueDao.findByJobIdAndContentIn(eq("job-id"), anyCollection())).thenReturn(List.of(entity));
+
+        assertEquals(Set.of("persisted"), repository.findPersistedContents("job-id",
+                List.of(new PersistentValue("persisted"), new PersistentValue("new"))));
+
+        // Loaded contents are known to the index and new contents are excluded by the Bloom filter:
+        verify(persistentValueDao, never()).findByJobIdAndContentIn(eq("job-id"), anyCollection());
+        assertEquals(2, repository.getCacheHits());
+        assertEquals(2, repository.getDatabaseRoundtrips());
+    }
+
     /**
      * Tests checking an entity for its persistence state.
      */
@@ -107,9 +184,40 @@ class JdbcPersistentValueRepositoryTest {
         PersistentValue value = new PersistentValue();
         value.setContent("content");
 
-        when(persistentValueDao.findByJobIdAndContent("job-id", "content")).thenReturn(new PersistentValueEntity());
+        when(persistentValueDao.streamContentsByJobId("job-id")).thenReturn(Stream.of("content"));
 
         assertTrue(repository.isPersisted("job-id", value));
+        assertTrue(repository.isPersisted("job-id", value));
+        assertFalse(repository.isPersisted("job-id", new PersistentValue("new-content")));
+
+        // The index of the job is loaded once:
+        verify(persistentValueDao, times(1)).streamContentsByJobId("job-id");
+        verify(persistentValueDao, never()).findByJobIdAndContent(anyString(), anyString());
+        assertEquals(3, repository.getCacheHits());
+    }
+
+    /**
+     * Tests keeping the index consistent with persisted values.
+     */
+    @Test
+    @DisplayName("Tests keeping the index consistent with persisted values.")
+    void testIndexConsistency() {
+        when(persistentValueDao.streamContentsByJobId("job-id")).thenReturn(Stream.empty());
+        when(persistentValueDao.save(any(PersistentValueEntity.class))).thenReturn(new PersistentValueEntity());
+
+        assertFalse(repository.isPersisted("job-id", new PersistentValue("content")));
+
+        repository.upsert("job-id", new PersistentValue("content"));
+
+        assertTrue(repository.isPersisted("job-id", new PersistentValue("content")));
+        verify(persistentValueDao, never()).findByJobIdAndContent(anyString(), anyString());
+
+        // Deleting values drops the index, which is reloaded on its next use:
+        when(persistentValueDao.streamContentsByJobId("job-id")).thenReturn(Stream.empty());
+        repository.deleteByJobId("job-id");
+
+        assertFalse(repository.isPersisted("job-id", new PersistentValue("content")));
+        verify(persistentValueDao, times(2)).streamContentsByJobId("job-id");
     }
 
     /**
@@ -118,12 +226,19 @@ class JdbcPersistentValueRepositoryTest {
     @Test
     @DisplayName("Tests cleaning up old entities.")
     void testCleanup() {
+        // Nothing to keep is not a valid configuration:
+        repository.cleanup("job-id", 0);
+        verify(persistentValueDao, times(0)).deleteAllButMostRecent(anyString(), anyInt());
+
+        when(persistentValueDao.deleteAllButMostRecent("job-id", 3)).thenReturn(2);
         repository.cleanup("job-id", 3);
-        verify(persistentValueDao, times(0)).deleteByJobIdAndIdBefore(eq("job-id"), anyLong());
+        verify(persistentValueDao, times(1)).deleteAllButMostRecent("job-id", 3);
 
-        when(persistentValueDao.findMostRecentIds("job-id", 3)).thenReturn(List.of(123, 456, 789));
+        // With a loaded index, jobs with few values don't need a cleanup:
+        when(persistentValueDao.streamContentsByJobId("job-id")).thenReturn(Stream.of("a", "b"));
+        repository.isPersisted("job-id", new PersistentValue("a"));
         repository.cleanup("job-id", 3);
-        verify(persistentValueDao, times(1)).deleteByJobIdAndIdBefore("job-id", 789L);
+        verify(persistentValueDao, times(1)).deleteAllButMostRecent("job-id", 3);
     }
 
     /**
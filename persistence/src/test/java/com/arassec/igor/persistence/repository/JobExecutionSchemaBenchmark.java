@@ -0,0 +1,206 @@
+package com.arassec.igor.persistence.repository;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.*;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the queries of the {@link JdbcJobExecutionRepository} on the initial 'job_execution' schema, without indexes and
+ * typed columns, with the current schema. Uses an in-memory H2 database, created with igor's Flyway migrations.
+ * <p>
+ * Run with: {@code mvn -pl persistence test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.arassec.igor.persistence.repository.JobExecutionSchemaBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class JobExecutionSchemaBenchmark {
+
+    /**
+     * The number of job executions in the table.
+     */
+    @Param({"2000000"})
+    private int numExecutions;
+
+    /**
+     * The number of jobs the executions belong to.
+     */
+    @Param({"1000"})
+    private int numJobs;
+
+    /**
+     * The schema version to migrate to. '1.0.0' is the initial schema.
+     */
+    @Param({"1.0.0", "1.1.0"})
+    private String schemaVersion;
+
+    /**
+     * Connection to the in-memory database.
+     */
+    private Connection connection;
+
+    /**
+     * Creates and fills the database.
+     *
+     * @throws SQLException In case of database errors.
+     */
+    @Setup
+    public void setup() throws SQLException {
+        var url = "jdbc:h2:mem:job-execution-benchmark-" + schemaVersion;
+        connection = DriverManager.getConnection(url, "sa", "");
+
+        Flyway.configure()
+            .dataSource(url, "sa", "")
+            .locations("classpath:db/migration/h2")
+            .target(schemaVersion)
+            .load()
+            .migrate();
+
+        // One percent of the executions failed, every job has one running execution:
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO job_execution (version, job_id, state, content) "
+            + "SELECT 0, 'job-' || MOD(X, ?), CASE WHEN MOD(X, 100) = 0 THEN 'FAILED' ELSE 'FINISHED' END, "
+            + "'{\"created\":1700000000000,\"started\":1700000000000,\"finished\":1700000001000,\"processedEvents\":23}' "
+            + "FROM SYSTEM_RANGE(1, ?)")) {
+            statement.setInt(1, numJobs);
+            statement.setInt(2, numExecutions);
+            statement.executeUpdate();
+        }
+        try (PreparedStatement statement = connection.prepareStatement("UPDATE job_execution SET state = 'RUNNING' WHERE id > ?")) {
+            statement.setInt(1, numExecutions - numJobs);
+            statement.executeUpdate();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    /**
+     * Closes the database.
+     *
+     * @throws SQLException In case of database errors.
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    /**
+     * Counts the jobs with running executions, as done for the UI's status bar.
+     *
+     * @return The number of jobs.
+     * @throws SQLException In case of database errors.
+     */
+    @Benchmark
+    public int countJobsWithState() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+            "SELECT COUNT(DISTINCT (job_id)) FROM job_execution WHERE state = ?")) {
+            statement.setString(1, "RUNNING");
+            return count(statement);
+        }
+    }
+
+    /**
+     * Finds the failed executions of a job.
+     *
+     * @return The number of found executions.
+     * @throws SQLException In case of database errors.
+     */
+    @Benchmark
+    public int findAllOfJobInState() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+            "SELECT * FROM job_execution WHERE job_id = ? AND state = ? ORDER BY id DESC")) {
+            statement.setString(1, randomJobId());
+            statement.setString(2, "FAILED");
+            var result = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result++;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Updates an existing execution. The initial schema requires reading the entity and writing its JSON. The current schema
+     * updates the typed columns directly.
+     *
+     * @return The number of updated rows.
+     * @throws SQLException In case of database errors.
+     */
+    @Benchmark
+    public int upsertExisting() throws SQLException {
+        long id = ThreadLocalRandom.current().nextLong(1, numExecutions + 1L);
+        if ("1.0.0".equals(schemaVersion)) {
+            try (PreparedStatement select = connection.prepareStatement("SELECT * FROM job_execution WHERE id = ?")) {
+                select.setLong(1, id);
+                select.executeQuery().close();
+            }
+            try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE job_execution SET version = version + 1, state = ?, content = ? WHERE id = ?")) {
+                update.setString(1, "FINISHED");
+                update.setString(2, "{\"created\":1700000000000,\"started\":1700000000000,\"finished\":"
+                    + Instant.now().toEpochMilli() + ",\"processedEvents\":42}");
+                update.setLong(3, id);
+                return update.executeUpdate();
+            }
+        }
+        try (PreparedStatement update = connection.prepareStatement("UPDATE job_execution SET state = ?, started = ?, "
+            + "finished = ?, processed_events = ?, error_cause = ? WHERE id = ?")) {
+            update.setString(1, "FINISHED");
+            update.setTimestamp(2, Timestamp.from(Instant.ofEpochMilli(1700000000000L)));
+            update.setTimestamp(3, Timestamp.from(Instant.now()));
+            update.setInt(4, 42);
+            update.setString(5, null);
+            update.setLong(6, id);
+            return update.executeUpdate();
+        }
+    }
+
+    /**
+     * Returns a random job ID of the generated data.
+     *
+     * @return A job ID.
+     */
+    private String randomJobId() {
+        return "job-" + ThreadLocalRandom.current().nextInt(numJobs);
+    }
+
+    /**
+     * Executes a counting query.
+     *
+     * @param statement The statement to execute.
+     *
+     * @return The count.
+     * @throws SQLException In case of database errors.
+     */
+    private int count(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Not used.
+     * @throws RunnerException In case of errors during the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JobExecutionSchemaBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
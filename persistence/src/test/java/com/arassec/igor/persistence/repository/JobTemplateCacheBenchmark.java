@@ -0,0 +1,170 @@
+package com.arassec.igor.persistence.repository;
+
+import com.arassec.igor.application.registry.IgorComponentRegistry;
+import com.arassec.igor.application.util.IgorComponentUtil;
+import com.arassec.igor.core.model.job.Job;
+import com.arassec.igor.core.repository.ConnectorRepository;
+import com.arassec.igor.persistence.PersistenceConfiguration;
+import com.arassec.igor.persistence.dao.JobConnectorReferenceDao;
+import com.arassec.igor.persistence.dao.JobDao;
+import com.arassec.igor.persistence.entity.JobEntity;
+import com.arassec.igor.persistence.test.TestAction;
+import com.arassec.igor.persistence.test.TestConnector;
+import com.arassec.igor.persistence.test.TestSecurityProvider;
+import com.arassec.igor.persistence.test.TestTrigger;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Compares parsing every job on every call of {@link JdbcJobRepository#findAll()}, as done before, with creating the jobs from
+ * cached templates.
+ * <p>
+ * Run with: {@code mvn -pl persistence test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.arassec.igor.persistence.repository.JobTemplateCacheBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobTemplateCacheBenchmark {
+
+    /**
+     * The number of jobs in the installation.
+     */
+    @Param({"1000"})
+    private int numJobs;
+
+    /**
+     * The number of actions per job.
+     */
+    @Param({"5"})
+    private int numActions;
+
+    /**
+     * ObjectMapper for jobs.
+     */
+    private ObjectMapper persistenceJobMapper;
+
+    /**
+     * The job entities in the database.
+     */
+    private List<JobEntity> jobEntities;
+
+    /**
+     * The repository under test.
+     */
+    private JdbcJobRepository repository;
+
+    /**
+     * Creates the job entities and the repository. The mocks don't record their invocations, which would fill the heap during
+     * the benchmark.
+     *
+     * @throws JsonProcessingException In case the jobs could not be serialized.
+     */
+    @Setup
+    public void setup() throws JsonProcessingException {
+        ApplicationContext applicationContextMock = mock(ApplicationContext.class, withSettings().stubOnly());
+        when(applicationContextMock.getBean(TestTrigger.class)).thenAnswer(invocation -> new TestTrigger());
+        when(applicationContextMock.getBean(TestAction.class)).thenAnswer(invocation -> new TestAction());
+
+        IgorComponentUtil igorComponentUtil = new IgorComponentUtil();
+        IgorComponentRegistry igorComponentRegistry = new IgorComponentRegistry(List.of(new TestAction()),
+            List.of(new TestTrigger()), List.of(new TestConnector()), null, igorComponentUtil);
+        igorComponentRegistry.setApplicationContext(applicationContextMock);
+        igorComponentRegistry.afterPropertiesSet();
+
+        TestConnector testConnector = new TestConnector();
+        testConnector.setId(TestConnector.CONNECTOR_ID);
+        ConnectorRepository connectorRepositoryMock = mock(ConnectorRepository.class, withSettings().stubOnly());
+        when(connectorRepositoryMock.findById(TestConnector.CONNECTOR_ID)).thenReturn(testConnector);
+
+        PersistenceConfiguration persistenceConfiguration = new PersistenceConfiguration();
+        persistenceJobMapper = persistenceConfiguration.persistenceJobMapper(igorComponentRegistry, connectorRepositoryMock,
+            new TestSecurityProvider(), igorComponentUtil);
+
+        jobEntities = new ArrayList<>(numJobs);
+        for (var i = 0; i < numJobs; i++) {
+            Job job = new Job();
+            job.setId("job-" + i);
+            job.setName("Job " + i);
+            job.setDescription("Description of job " + i);
+            TestTrigger testTrigger = new TestTrigger();
+            testTrigger.setId("trigger-" + i);
+            job.setTrigger(testTrigger);
+            for (var j = 0; j < numActions; j++) {
+                TestAction testAction = new TestAction();
+                testAction.setId("action-" + i + "-" + j);
+                testAction.setName("Action " + j);
+                testAction.setTestConnector(testConnector);
+                job.getActions().add(testAction);
+            }
+
+            JobEntity jobEntity = new JobEntity();
+            jobEntity.setId(job.getId());
+            jobEntity.setVersion(0);
+            jobEntity.setName(job.getName());
+            jobEntity.setContent(persistenceJobMapper.writeValueAsString(job));
+            jobEntities.add(jobEntity);
+        }
+
+        JobDao jobDaoMock = mock(JobDao.class, withSettings().stubOnly());
+        when(jobDaoMock.findAll()).thenReturn(jobEntities);
+
+        repository = new JdbcJobRepository(jobDaoMock, mock(JobConnectorReferenceDao.class, withSettings().stubOnly()),
+            persistenceJobMapper, persistenceConfiguration.jobTemplateMapper(persistenceJobMapper, igorComponentRegistry,
+            connectorRepositoryMock, new TestSecurityProvider()));
+        // Fills the cache:
+        repository.findAll();
+    }
+
+    /**
+     * Parses every job, as done before jobs were cached.
+     *
+     * @return The jobs.
+     * @throws JsonProcessingException In case a job could not be parsed.
+     */
+    @Benchmark
+    public List<Job> parseEveryJob() throws JsonProcessingException {
+        List<Job> result = new ArrayList<>(jobEntities.size());
+        for (JobEntity jobEntity : jobEntities) {
+            result.add(persistenceJobMapper.readValue(jobEntity.getContent(), Job.class));
+        }
+        return result;
+    }
+
+    /**
+     * Creates the jobs from cached templates.
+     *
+     * @return The jobs.
+     */
+    @Benchmark
+    public List<Job> cachedTemplates() {
+        return repository.findAll();
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Not used.
+     * @throws RunnerException In case of errors during the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JobTemplateCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.arassec.igor.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link PersistentValueIndex}.
+ */
+@DisplayName("Persistent-Value-Index tests.")
+class PersistentValueIndexTest {
+
+    /**
+     * Tests looking up contents in the index.
+     */
+    @Test
+    @DisplayName("Tests looking up contents in the index.")
+    void testLookup() {
+        PersistentValueIndex index = new PersistentValueIndex(10);
+
+        assertEquals(PersistentValueIndex.Lookup.UNKNOWN, index.lookup("content"));
+        assertEquals(-1, index.size());
+
+        index.loadIfRequired(() -> 1000, consumer -> IntStream.range(0, 1000).forEach(i -> consumer.accept("value-" + i)));
+
+        assertEquals(1000, index.size());
+
+        // Only the most recent contents are known exactly, the others might be persisted:
+        assertEquals(PersistentValueIndex.Lookup.PERSISTED, index.lookup("value-999"));
+        assertEquals(PersistentValueIndex.Lookup.UNKNOWN, index.lookup("value-0"));
+
+        index.confirm("value-0");
+        assertEquals(PersistentValueIndex.Lookup.PERSISTED, index.lookup("value-0"));
+
+        // The Bloom filter has no false negatives and few false positives:
+        IntStream.range(0, 1000).forEach(i -> assertNotEquals(PersistentValueIndex.Lookup.NOT_PERSISTED,
+            index.lookup("value-" + i)));
+        long falsePositives = IntStream.range(0, 10_000)
+            .filter(i -> index.lookup("new-value-" + i) != PersistentValueIndex.Lookup.NOT_PERSISTED)
+            .count();
+        assertTrue(falsePositives < 300, "Too many false positives: " + falsePositives);
+    }
+
+    /**
+     * Tests detecting an overfilled index.
+     */
+    @Test
+    @DisplayName("Tests detecting an overfilled index.")
+    void testOverfilled() {
+        PersistentValueIndex index = new PersistentValueIndex(10);
+
+        index.add("ignored");
+        assertEquals(-1, index.size());
+
+        index.loadIfRequired(() -> 0, consumer -> {
+        });
+
+        IntStream.range(0, 1024).forEach(i -> index.add("value-" + i));
+        assertFalse(index.isOverfilled());
+
+        index.add("value-1024");
+        assertTrue(index.isOverfilled());
+    }
+
+}
@@ -4,7 +4,7 @@ import com.arassec.igor.persistence.IgorPersistenceProperties;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests the {@link LocalSecurityProvider}.
@@ -33,4 +33,25 @@ class LocalSecurityProviderTest {
         assertEquals(CLEARTEXT_TEST_STRING, localSecurityProvider.decrypt("id", "paramName", encryptedTestString));
     }
 
+    /**
+     * Tests that decrypted values are remembered.
+     */
+    @Test
+    @DisplayName("Tests that decrypted values are remembered.")
+    void testDecryptionCached() {
+        IgorPersistenceProperties igorPersistenceProperties = new IgorPersistenceProperties();
+        igorPersistenceProperties.setLocalSecurityToken("local-security-test-token");
+
+        LocalSecurityProvider localSecurityProvider = new LocalSecurityProvider(igorPersistenceProperties);
+
+        String encryptedTestString = localSecurityProvider.encrypt("id", "paramName", CLEARTEXT_TEST_STRING);
+
+        String decryptedTestString = localSecurityProvider.decrypt("id", "paramName", encryptedTestString);
+        assertEquals(CLEARTEXT_TEST_STRING, decryptedTestString);
+        // A second decryption would create a new String instance:
+        assertSame(decryptedTestString, localSecurityProvider.decrypt("id", "paramName", encryptedTestString));
+
+        assertNull(localSecurityProvider.decrypt("id", "paramName", null));
+    }
+
 }
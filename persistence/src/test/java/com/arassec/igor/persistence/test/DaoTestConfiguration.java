@@ -0,0 +1,16 @@
+package com.arassec.igor.persistence.test;
+
+import com.arassec.igor.persistence.dao.JobExecutionDao;
+import com.arassec.igor.persistence.entity.JobExecutionEntity;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Configures igor's DAOs and entities for tests against an in-memory database, without the rest of the persistence layer.
+ */
+@Configuration
+@EnableJpaRepositories(basePackageClasses = JobExecutionDao.class)
+@EntityScan(basePackageClasses = JobExecutionEntity.class)
+public class DaoTestConfiguration {
+}
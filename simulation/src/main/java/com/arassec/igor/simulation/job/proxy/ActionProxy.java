@@ -2,6 +2,7 @@ package com.arassec.igor.simulation.job.proxy;
 
 import com.arassec.igor.core.model.DataKey;
 import com.arassec.igor.core.model.action.Action;
+import com.arassec.igor.core.model.action.ExecutionOrder;
 import com.arassec.igor.core.model.job.execution.JobExecution;
 import com.arassec.igor.core.model.job.misc.ProcessingFinishedCallback;
 import com.arassec.igor.core.util.IgorException;
@@ -147,6 +148,22 @@ public class ActionProxy extends BaseProxy<Action> implements Action {
         return delegate.enforceSingleThread();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutionOrder requiredOrder() {
+        return delegate.requiredOrder();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object partitionKey(Map<String, Object> data) {
+        return delegate.partitionKey(data);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -141,6 +141,20 @@ class ActionProxyTest {
         verify(actionMock, times(1)).enforceSingleThread();
     }
 
+    /**
+     * Tests getting the execution order and partition keys from the proxy.
+     */
+    @Test
+    @DisplayName("Tests getting the execution order and partition keys from the proxy.")
+    void testRequiredOrder() {
+        Action actionMock = mock(Action.class);
+        ActionProxy actionProxy = new ActionProxy(actionMock, 10);
+        actionProxy.requiredOrder();
+        verify(actionMock, times(1)).requiredOrder();
+        actionProxy.partitionKey(Map.of());
+        verify(actionMock, times(1)).partitionKey(Map.of());
+    }
+
     /**
      * Tests checking the action activity through the proxy.
      */
@@ -57,7 +57,7 @@ class ExecutionRestControllerTest extends RestControllerBaseTest {
 
         String streamContent = mvcResult.getResponse().getContentAsString();
         assertEquals("""
-            data:{"executionState":"RUNNING","processedEvents":0,"workInProgress":[],\
+            data:{"executionState":"RUNNING","processedEvents":0,"workInProgress":[],"queueMetrics":{},\
             "runningOrActive":true}
 
             """, streamContent);
@@ -63,6 +63,7 @@ class TransferControllerTest extends RestControllerBaseTest {
 
         assertEquals(1, transferData.getJobJsons().size());
         assertEquals("{\"id\":\"job-id\",\"active\":false,\"historyLimit\":5,\"simulationLimit\":25,\"numThreads\":1,"
+            + "\"batchSize\":1,\"queueCapacity\":0,\"queueCapacities\":{},\"queueType\":\"LINKED\","
             + "\"actions\":[],\"running\":false,\"faultTolerant\":true}",
             objectMapper.writeValueAsString(transferData.getJobJsons().getFirst()));
 